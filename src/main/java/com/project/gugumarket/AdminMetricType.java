@@ -0,0 +1,26 @@
+package com.project.gugumarket;
+
+/**
+ * 관리자 대시보드 누적 지표
+ * 이벤트마다 ADMIN_METRICS의 해당 행을 원자적으로 증감하고, 주기적으로 실제 값으로 다시 맞춤
+ */
+public enum AdminMetricType {
+    TOTAL_USERS("전체 회원 수"),
+    TOTAL_PRODUCTS("전체 상품 수"),
+    DELETED_PRODUCTS("삭제된 상품 수"),
+    TOTAL_QNA("전체 Q&A 수"),
+    UNANSWERED_QNA("미답변 Q&A 수"),
+    COMPLETED_TRADES("완료 거래 수"),
+    TOTAL_GMV("누적 거래액"),
+    TOTAL_REPORTS("전체 신고 수");
+
+    private final String description;
+
+    AdminMetricType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.gugumarket;
+
+/**
+ * 관리자 일괄 작업 진행 상태
+ * 묶음(chunk) 단위로 커밋하므로 CANCELLED / FAILED 작업도 처리된 묶음까지는 반영된 상태
+ */
+public enum BulkJobStatus {
+    RUNNING("진행중"),
+    COMPLETED("완료"),
+    CANCELLED("취소됨"),
+    FAILED("실패");
+
+    private final String description;
+
+    BulkJobStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
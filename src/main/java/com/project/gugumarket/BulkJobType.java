@@ -0,0 +1,32 @@
+package com.project.gugumarket;
+
+/**
+ * 관리자 일괄 작업 종류
+ */
+public enum BulkJobType {
+    DELETE_PRODUCTS("상품 일괄 삭제"),
+    SUSPEND_USERS("회원 일괄 정지"),
+    RESOLVE_REPORTS("신고 일괄 처리");
+
+    private final String description;
+
+    BulkJobType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 요청 경로 값 → 작업 종류 (delete-products / DELETE_PRODUCTS 모두 허용)
+     */
+    public static BulkJobType fromParam(String value) {
+        for (BulkJobType type : values()) {
+            if (type.name().equalsIgnoreCase(value == null ? null : value.replace('-', '_'))) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 일괄 작업입니다: " + value);
+    }
+}
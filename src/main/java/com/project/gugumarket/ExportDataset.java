@@ -0,0 +1,42 @@
+package com.project.gugumarket;
+
+import java.util.List;
+
+/**
+ * 관리자 내보내기 대상
+ * columns는 각 Repository의 streamForExport() SELECT 순서와 같아야 함
+ */
+public enum ExportDataset {
+    USERS("회원", List.of("userId", "userName", "nickname", "email", "role", "isActive",
+            "userLevel", "transactionCount", "createdDate")),
+    PRODUCTS("상품", List.of("productId", "title", "price", "status", "category", "sellerId",
+            "viewCount", "isDeleted", "createdDate", "updatedDate")),
+    TRANSACTIONS("거래", List.of("transactionId", "productId", "sellerId", "buyerId", "status",
+            "paymentMethod", "paidAmount", "transactionDate", "completedAt", "cancelledAt", "settled")),
+    REPORTS("신고", List.of("reportId", "productId", "reporterId", "reason", "status", "createdDate"));
+
+    private final String description;
+    private final List<String> columns;
+
+    ExportDataset(String description, List<String> columns) {
+        this.description = description;
+        this.columns = columns;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public static ExportDataset fromParam(String value) {
+        for (ExportDataset dataset : values()) {
+            if (dataset.name().equalsIgnoreCase(value)) {
+                return dataset;
+            }
+        }
+        throw new IllegalArgumentException("내보낼 수 없는 대상입니다: " + value);
+    }
+}
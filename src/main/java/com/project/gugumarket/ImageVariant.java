@@ -0,0 +1,60 @@
+package com.project.gugumarket;
+
+/**
+ * 업로드 이미지의 축소본 종류
+ * 원본 파일명 "abc.png" 기준으로 "abc_card.jpg" 처럼 같은 디렉토리에 저장됨
+ */
+public enum ImageVariant {
+    CARD("목록 카드", "card", 320),
+    DETAIL("상세 화면", "detail", 1080),
+    MARKER("지도 마커", "marker", 96);
+
+    private final String description;
+    private final String suffix;
+    private final int maxWidth;
+
+    ImageVariant(String description, String suffix, int maxWidth) {
+        this.description = description;
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * 원본 파일명(또는 URL)으로부터 축소본 파일명(또는 URL) 생성
+     * 예: "/uploads/products/abc.png" → "/uploads/products/abc_card.jpg"
+     */
+    public String nameFor(String original) {
+        int slash = original.lastIndexOf('/');
+        int dot = original.lastIndexOf('.');
+        String base = (dot > slash) ? original.substring(0, dot) : original;
+        return base + "_" + suffix + ".jpg";
+    }
+
+    /**
+     * 요청 파라미터 값으로 축소본 종류 찾기 (예: "card", "CARD")
+     * @return 일치하는 종류, 없으면 null (원본 요청으로 처리)
+     */
+    public static ImageVariant fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (ImageVariant variant : values()) {
+            if (variant.suffix.equalsIgnoreCase(name) || variant.name().equalsIgnoreCase(name)) {
+                return variant;
+            }
+        }
+        return null;
+    }
+}
@@ -8,7 +8,10 @@ public enum NotificationType {
     PURCHASE("구매"),
     COMMENT("댓글"),
     QNA_ANSWER("문의 답변"),
-    TRANSACTION("거래 완료");
+    TRANSACTION("거래 완료"),
+    TRANSACTION_EXPIRED("거래 자동 취소"),
+    SAVED_SEARCH("관심 검색어"),
+    PRICE_DROP("가격 인하");
 
     private final String description;
 
@@ -0,0 +1,49 @@
+package com.project.gugumarket;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 카카오페이 결제 진행 상태 (거래 상태와 별도로 저장)
+ *
+ * READY → APPROVING → APPROVED
+ *   ↘        ↘
+ *    FAILED ← ┘
+ *
+ * - 승인 콜백은 READY → APPROVING 전환에 성공한 한 건만 실제 승인 API를 호출 (중복 콜백 무시)
+ * - 승인 응답을 잃어버려도 APPROVING으로 남아 있으므로 PaymentReconciler가 결제 상태를 조회해서 마무리
+ */
+public enum PaymentStatus {
+    READY("결제대기"),          // 결제 준비 완료 (tid 발급), 사용자가 결제 중
+    APPROVING("승인중"),        // 승인 콜백 수신, 승인 API 호출 중 또는 결과 확인 대기
+    APPROVED("승인완료"),       // 승인 + 거래 완료 처리 끝
+    FAILED("결제실패");         // 사용자 취소 / 결제 실패 / 만료
+
+    private final String description;
+
+    PaymentStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 아직 결과가 정해지지 않은 상태 (대사 대상)
+     */
+    public boolean isInProgress() {
+        return this == READY || this == APPROVING;
+    }
+
+    /**
+     * 이 상태에서 넘어갈 수 있는 상태
+     */
+    public Set<PaymentStatus> nextStates() {
+        return switch (this) {
+            case READY -> EnumSet.of(APPROVING, APPROVED, FAILED);
+            case APPROVING -> EnumSet.of(APPROVED, FAILED);
+            case APPROVED, FAILED -> EnumSet.noneOf(PaymentStatus.class);
+        };
+    }
+}
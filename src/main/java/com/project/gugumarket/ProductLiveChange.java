@@ -0,0 +1,21 @@
+package com.project.gugumarket;
+
+/**
+ * 상품 상세 실시간 채널로 알리는 변경 종류
+ */
+public enum ProductLiveChange {
+    COMMENT_ADDED("댓글 작성"),
+    COMMENT_DELETED("댓글 삭제"),
+    STATUS_CHANGED("판매 상태 변경"),
+    LIKE_CHANGED("찜 수 변경");
+
+    private final String description;
+
+    ProductLiveChange(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
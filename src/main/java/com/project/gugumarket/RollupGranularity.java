@@ -0,0 +1,54 @@
+package com.project.gugumarket;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 통계 집계 단위 (METRIC_ROLLUPS 구간 크기)
+ */
+public enum RollupGranularity {
+    HOUR("시간별", ChronoUnit.HOURS, "%Y-%m-%d %H:00:00"),
+    DAY("일별", ChronoUnit.DAYS, "%Y-%m-%d 00:00:00");
+
+    private final String description;
+    private final ChronoUnit unit;
+    private final String bucketFormat;    // MySQL DATE_FORMAT 형식 (구간 시작 시각)
+
+    RollupGranularity(String description, ChronoUnit unit, String bucketFormat) {
+        this.description = description;
+        this.unit = unit;
+        this.bucketFormat = bucketFormat;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+
+    public String getBucketFormat() {
+        return bucketFormat;
+    }
+
+    /**
+     * 시각이 속한 구간의 시작 시각
+     */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * 요청 파라미터 → 집계 단위 (대소문자 무시)
+     * @throws IllegalArgumentException 알 수 없는 값
+     */
+    public static RollupGranularity fromParam(String value) {
+        for (RollupGranularity granularity : values()) {
+            if (granularity.name().equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new IllegalArgumentException("집계 단위는 HOUR 또는 DAY만 가능합니다.");
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.gugumarket;
+
+/**
+ * 정산 배치 진행 상태
+ * RUNNING 배치는 체크포인트부터 이어서 처리 (서버가 중간에 내려가도 재시작 시 이어감)
+ */
+public enum SettlementBatchStatus {
+    RUNNING("정산중"),
+    COMPLETED("정산완료");
+
+    private final String description;
+
+    SettlementBatchStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -14,4 +14,19 @@ public enum TransactionStatus {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 요청 파라미터 변환 (비어 있으면 null = 전체)
+     * @throws IllegalArgumentException 없는 상태 이름인 경우
+     */
+    public static TransactionStatus fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return TransactionStatus.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 거래 상태입니다: " + value);
+        }
+    }
 }
\ No newline at end of file
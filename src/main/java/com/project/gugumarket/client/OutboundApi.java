@@ -0,0 +1,66 @@
+package com.project.gugumarket.client;
+
+/**
+ * 외부 API 종류별 기본 설정
+ *
+ * 종류마다 연결 풀은 공유하지만 타임아웃 / 동시 호출 수(벌크헤드) / 서킷 브레이커는 따로 둠
+ * → 지도 API가 느려져도 결제 API 호출에는 영향 없음
+ *
+ * 기본값은 application.properties의 outbound.{종류}.* 로 덮어쓸 수 있음
+ * 예: outbound.kakao-map.read-timeout-ms=2000
+ */
+public enum OutboundApi {
+    // 인가 코드는 한 번만 쓸 수 있으므로 재시도하지 않음
+    KAKAO_AUTH("카카오 로그인 토큰", "https://kauth.kakao.com", false, 3000, 20),
+    KAKAO_USER("카카오 사용자 정보", "https://kapi.kakao.com", true, 3000, 20),
+    KAKAO_MAP("카카오 주소 검색", "https://dapi.kakao.com", true, 2000, 10),
+    // 결제 준비/승인은 중복 호출 시 이중 처리 위험이 있어 재시도하지 않음
+    KAKAO_PAY("카카오페이", "https://open-api.kakaopay.com", false, 10000, 20),
+    // 결제 상태 조회는 읽기 전용이라 재시도 가능, 대사 작업용으로 벌크헤드 분리
+    KAKAO_PAY_STATUS("카카오페이 결제 조회", "https://open-api.kakaopay.com", true, 5000, 5);
+
+    private final String description;
+    private final String defaultBaseUrl;
+    private final boolean idempotent;
+    private final int defaultReadTimeoutMs;
+    private final int defaultMaxConcurrent;
+
+    OutboundApi(String description, String defaultBaseUrl, boolean idempotent,
+                int defaultReadTimeoutMs, int defaultMaxConcurrent) {
+        this.description = description;
+        this.defaultBaseUrl = defaultBaseUrl;
+        this.idempotent = idempotent;
+        this.defaultReadTimeoutMs = defaultReadTimeoutMs;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getDefaultBaseUrl() {
+        return defaultBaseUrl;
+    }
+
+    /**
+     * 같은 요청을 여러 번 보내도 결과가 같은지 (true인 API만 재시도)
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    public int getDefaultReadTimeoutMs() {
+        return defaultReadTimeoutMs;
+    }
+
+    public int getDefaultMaxConcurrent() {
+        return defaultMaxConcurrent;
+    }
+
+    /**
+     * 설정 키 접두사 (예: KAKAO_MAP → "outbound.kakao-map")
+     */
+    public String getPropertyPrefix() {
+        return "outbound." + name().toLowerCase().replace('_', '-');
+    }
+}
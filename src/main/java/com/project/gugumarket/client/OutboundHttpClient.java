@@ -0,0 +1,260 @@
+package com.project.gugumarket.client;
+
+import com.project.gugumarket.dto.OutboundMetricsDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 외부 API(카카오 로그인/지도/결제) 공용 HTTP 클라이언트
+ *
+ * - 연결 풀: JDK HttpClient 하나를 공유 → keep-alive 연결 재사용 (호출마다 새 연결 X)
+ * - 타임아웃: 연결 타임아웃은 공통, 응답 타임아웃은 API 종류별
+ * - 벌크헤드: 종류별 동시 호출 수 제한, 초과하면 기다리지 않고 바로 실패
+ * - 재시도: 멱등 API만, 타임아웃/5xx/429일 때 지수 백오프 + 지터
+ * - 서킷 브레이커: 연속 실패 시 일정 시간 호출 차단
+ *
+ * 사용 예:
+ * <pre>
+ * outboundHttpClient.execute(OutboundApi.KAKAO_MAP,
+ *         rest -> rest.exchange("/v2/local/search/address.json?query={q}", HttpMethod.GET, entity, String.class, address));
+ * </pre>
+ * 경로는 API별 base-url 기준 상대 경로 (테스트에서는 로컬 스텁 서버 주소로 바꿔서 사용)
+ */
+@Slf4j
+@Component
+public class OutboundHttpClient {
+
+    // 재시도 대기: 100ms, 200ms, 400ms ... 중 랜덤 (최대 1초)
+    private static final long BACKOFF_BASE_MS = 100;
+    private static final long BACKOFF_MAX_MS = 1000;
+
+    /**
+     * API 종류별 설정
+     * @param baseUrl 기본 주소 (예: https://dapi.kakao.com)
+     * @param readTimeout 응답 타임아웃
+     * @param maxConcurrent 동시 호출 최대 수
+     * @param maxAttempts 최대 시도 횟수 (멱등 API만 1보다 큰 값 의미 있음)
+     */
+    public record Settings(String baseUrl, Duration readTimeout, int maxConcurrent, int maxAttempts) {
+    }
+
+    private final HttpClient httpClient;
+    private final Map<OutboundApi, Channel> channels = new EnumMap<>(OutboundApi.class);
+
+    @Autowired
+    public OutboundHttpClient(Environment env) {
+        this(settingsFrom(env),
+                Duration.ofMillis(env.getProperty("outbound.connect-timeout-ms", Long.class, 2000L)),
+                env.getProperty("outbound.circuit.failure-threshold", Integer.class, 5),
+                Duration.ofMillis(env.getProperty("outbound.circuit.open-ms", Long.class, 30000L)));
+    }
+
+    public OutboundHttpClient(Map<OutboundApi, Settings> settings, Duration connectTimeout,
+                              int failureThreshold, Duration openDuration) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        for (OutboundApi api : OutboundApi.values()) {
+            Settings s = settings.getOrDefault(api, defaults(api));
+
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+            requestFactory.setReadTimeout(s.readTimeout());
+
+            RestTemplate restTemplate = new RestTemplate(requestFactory);
+            restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(s.baseUrl()));
+
+            channels.put(api, new Channel(api, s, restTemplate,
+                    new Semaphore(Math.max(1, s.maxConcurrent())),
+                    new CircuitBreaker(failureThreshold, openDuration.toMillis())));
+        }
+    }
+
+    /**
+     * 외부 API 호출
+     * @param api 호출할 API 종류 (타임아웃/벌크헤드/서킷 브레이커 선택)
+     * @param call RestTemplate으로 실제 요청을 보내는 함수 (재시도 시 다시 호출됨)
+     * @return call의 반환값
+     * @throws OutboundUnavailableException 서킷 OPEN 또는 동시 호출 수 초과로 호출하지 않은 경우
+     */
+    public <T> T execute(OutboundApi api, Function<RestTemplate, T> call) {
+        Channel channel = channels.get(api);
+        channel.calls.increment();
+
+        // 1. 벌크헤드: 자리가 없으면 기다리지 않고 바로 실패 (요청 스레드가 쌓이지 않도록)
+        if (!channel.bulkhead.tryAcquire()) {
+            channel.rejected.increment();
+            throw new OutboundUnavailableException(api, "동시 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            // 2. 서킷 브레이커
+            if (!channel.breaker.tryAcquirePermission()) {
+                channel.shortCircuited.increment();
+                throw new OutboundUnavailableException(api, "일시적으로 응답이 없어 호출을 중단했습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            long start = System.nanoTime();
+            try {
+                T result = invokeWithRetry(channel, call);
+                channel.breaker.onSuccess();
+                return result;
+
+            } catch (RuntimeException e) {
+                if (isServerSideFailure(e)) {
+                    channel.failures.increment();
+                    channel.breaker.onFailure();
+                    log.warn("⚠️ 외부 API 호출 실패 - {}: {}", api.getDescription(), e.getMessage());
+                } else {
+                    channel.breaker.onSuccess();    // 4xx 등은 상대 서버가 정상 응답한 것
+                }
+                throw e;
+
+            } finally {
+                channel.latencyNanos.add(System.nanoTime() - start);
+                channel.completed.increment();
+            }
+        } finally {
+            channel.bulkhead.release();
+        }
+    }
+
+    private <T> T invokeWithRetry(Channel channel, Function<RestTemplate, T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.apply(channel.restTemplate);
+            } catch (RuntimeException e) {
+                if (!channel.api.isIdempotent() || attempt >= channel.settings.maxAttempts()
+                        || !isServerSideFailure(e)) {
+                    throw e;
+                }
+
+                channel.retries.increment();
+                long delay = backoffMillis(attempt);
+                log.info("🔁 외부 API 재시도 - {} ({}회차, {}ms 후): {}",
+                        channel.api.getDescription(), attempt + 1, delay, e.getMessage());
+
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 지수 백오프 + 전체 지터 (여러 요청이 같은 시각에 몰려서 재시도하지 않도록)
+     */
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(BACKOFF_MAX_MS, BACKOFF_BASE_MS << Math.min(attempt - 1, 10));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    /**
+     * 상대 서버 문제로 볼 실패인지 (타임아웃/연결 실패, 5xx, 429)
+     * → 재시도 및 서킷 브레이커 집계 대상
+     */
+    private boolean isServerSideFailure(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    /**
+     * API별 호출 현황
+     */
+    public List<OutboundMetricsDto> getMetrics() {
+        List<OutboundMetricsDto> metrics = new ArrayList<>();
+        for (Channel channel : channels.values()) {
+            long completed = channel.completed.sum();
+            metrics.add(OutboundMetricsDto.builder()
+                    .api(channel.api.name())
+                    .description(channel.api.getDescription())
+                    .circuitState(channel.breaker.getState().name())
+                    .calls(channel.calls.sum())
+                    .failures(channel.failures.sum())
+                    .retries(channel.retries.sum())
+                    .rejected(channel.rejected.sum())
+                    .shortCircuited(channel.shortCircuited.sum())
+                    .inFlight(channel.settings.maxConcurrent() - channel.bulkhead.availablePermits())
+                    .avgLatencyMs(completed == 0 ? 0 : channel.latencyNanos.sum() / 1_000_000.0 / completed)
+                    .build());
+        }
+        return metrics;
+    }
+
+    private static Map<OutboundApi, Settings> settingsFrom(Environment env) {
+        Map<OutboundApi, Settings> settings = new EnumMap<>(OutboundApi.class);
+        for (OutboundApi api : OutboundApi.values()) {
+            String prefix = api.getPropertyPrefix();
+            settings.put(api, new Settings(
+                    env.getProperty(prefix + ".base-url", api.getDefaultBaseUrl()),
+                    Duration.ofMillis(env.getProperty(prefix + ".read-timeout-ms", Long.class,
+                            (long) api.getDefaultReadTimeoutMs())),
+                    env.getProperty(prefix + ".max-concurrent", Integer.class, api.getDefaultMaxConcurrent()),
+                    env.getProperty(prefix + ".max-attempts", Integer.class, api.isIdempotent() ? 3 : 1)));
+        }
+        return settings;
+    }
+
+    private static Settings defaults(OutboundApi api) {
+        return new Settings(api.getDefaultBaseUrl(), Duration.ofMillis(api.getDefaultReadTimeoutMs()),
+                api.getDefaultMaxConcurrent(), api.isIdempotent() ? 3 : 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.close();
+    }
+
+    /**
+     * API 종류 하나에 대한 클라이언트 + 보호 장치 + 집계
+     */
+    private static final class Channel {
+        private final OutboundApi api;
+        private final Settings settings;
+        private final RestTemplate restTemplate;
+        private final Semaphore bulkhead;
+        private final CircuitBreaker breaker;
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder shortCircuited = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+
+        private Channel(OutboundApi api, Settings settings, RestTemplate restTemplate,
+                        Semaphore bulkhead, CircuitBreaker breaker) {
+            this.api = api;
+            this.settings = settings;
+            this.restTemplate = restTemplate;
+            this.bulkhead = bulkhead;
+            this.breaker = breaker;
+        }
+    }
+}
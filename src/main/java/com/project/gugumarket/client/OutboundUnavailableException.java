@@ -0,0 +1,19 @@
+package com.project.gugumarket.client;
+
+/**
+ * 외부 API를 호출하지 않고 바로 실패시킨 경우
+ * (서킷 브레이커 OPEN 또는 동시 호출 수 초과) → 호출 측은 503 등으로 응답
+ */
+public class OutboundUnavailableException extends RuntimeException {
+
+    private final OutboundApi api;
+
+    public OutboundUnavailableException(OutboundApi api, String message) {
+        super(api.getDescription() + " - " + message);
+        this.api = api;
+    }
+
+    public OutboundApi getApi() {
+        return api;
+    }
+}
@@ -41,6 +41,10 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
 
+    // BCrypt 해싱 강도 (값을 올리면 기존 사용자는 다음 로그인 시 자동으로 재해싱됨)
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
     /**
      * Spring Security 필터 체인 설정
      * 인증/인가 규칙, CORS, CSRF, 세션 정책 등을 구성합니다.
@@ -95,6 +99,7 @@ public class SecurityConfig {
                                 "/api/products/list",  // 상품 목록 조회
                                 "/api/products/*",  // 상품 상세 조회
                                 "/api/products/*/comments",  // 상품 댓글 조회 (읽기만 가능)
+                                "/api/comments/*/replies",  // 댓글 답글 더 보기
                                 "/api/categories",  // 카테고리 목록
                                 "/api/districts",  // 지역 목록
                                 "/api/products/map",  // 지도 기반 상품 조회
@@ -177,10 +182,12 @@ public class SecurityConfig {
     /**
      * 비밀번호 암호화를 위한 BCrypt 인코더 Bean 등록
      * 회원가입 시 비밀번호를 암호화하고, 로그인 시 비밀번호를 검증하는 데 사용
+     * 저장된 해시의 강도가 설정값보다 낮으면 upgradeEncoding()이 true를 반환하고,
+     * 로그인 성공 시 CustomUserDetailService.updatePassword()로 재해싱됨
      */
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     /**
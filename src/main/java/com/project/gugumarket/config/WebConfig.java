@@ -2,11 +2,14 @@ package com.project.gugumarket.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Spring MVC 웹 설정 클래스
@@ -50,7 +53,7 @@ public class WebConfig implements WebMvcConfigurer {
      * 업로드된 이미지 파일들을 URL로 접근할 수 있도록 경로를 매핑합니다.
      *
      * 예시:
-     * - /uploads/products/image.jpg -> 실제 파일 시스템의 uploads/products/image.jpg
+     * - /uploads/products/ab/cd/abcd...jpg -> UploadImageController (캐시/ETag/Range/zero-copy 전송)
      * - /uploads/profile.jpg -> 실제 파일 시스템의 uploads/profile.jpg
      */
     @Override
@@ -68,10 +71,8 @@ public class WebConfig implements WebMvcConfigurer {
         }
         System.out.println("📂 제품 리소스 경로: " + absolutePath);
 
-        // URL 패턴 /uploads/products/**를 실제 파일 시스템 경로로 매핑
-        // 예: GET /uploads/products/phone.jpg -> 실제 파일: C:/project/uploads/products/phone.jpg
-        registry.addResourceHandler("/uploads/products/**")
-                .addResourceLocations("file:" + absolutePath);
+        // /uploads/products/** 는 UploadImageController가 처리
+        // (컨트롤러 매핑이 리소스 핸들러보다 우선순위가 높음)
 
         // ========== 프로필 이미지 및 기타 파일 경로 설정 ==========
 
@@ -91,15 +92,21 @@ public class WebConfig implements WebMvcConfigurer {
 
         // URL 패턴 /uploads/**를 실제 파일 시스템 경로로 매핑
         // /uploads/products/** 보다 더 넓은 범위이므로,
-        // 제품 이미지를 제외한 모든 업로드 파일(프로필 이미지 등)을 처리
+        // 제품 이미지를 제외한 모든 업로드 파일(기존 프로필 이미지 등)을 처리
+        // 파일명이 바뀌지 않고 덮어써질 수 있으므로 1시간 캐시 + ETag 재검증
+        // (Range 요청과 Last-Modified는 ResourceHttpRequestHandler가 기본 지원)
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + profileAbsolutePath);
+                .addResourceLocations("file:" + profileAbsolutePath)
+                .setCacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+                .setEtagGenerator(resource -> {
+                    try {
+                        return Long.toHexString(resource.contentLength()) + "-" + Long.toHexString(resource.lastModified());
+                    } catch (IOException e) {
+                        return null;    // ETag 없이 Last-Modified만 사용
+                    }
+                });
 
         // 디버깅을 위한 로그 출력
         System.out.println("✅ 프로필 리소스 경로: /uploads/** -> " + profileAbsolutePath);
-
-        // 특정 파일 존재 여부 확인 (디버깅용)
-        // 실제 운영 환경에서는 제거하는 것이 좋음
-        System.out.println("✅ 파일 확인: " + new File(profileAbsolutePath + "jlan1234_1761185348206.jpg").exists());
     }
-}
\ No newline at end of file
+}
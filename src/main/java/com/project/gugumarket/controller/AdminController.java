@@ -1,22 +1,42 @@
 package com.project.gugumarket.controller;
 
+import com.project.gugumarket.BulkJobType;
+import com.project.gugumarket.ExportDataset;
+import com.project.gugumarket.ExportFormat;
+import com.project.gugumarket.RollupGranularity;
+import com.project.gugumarket.client.OutboundHttpClient;
 import com.project.gugumarket.dto.*;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.QnaPost;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.entity.UserLevel;
+import com.project.gugumarket.service.AdminExportService;
 import com.project.gugumarket.service.AdminService;
+import com.project.gugumarket.service.AdminStatsService;
+import com.project.gugumarket.service.BulkAdminService;
+import com.project.gugumarket.service.ReportCounterService;
+import com.project.gugumarket.service.SettlementService;
+import com.project.gugumarket.service.UserLevelService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.io.IOException;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 관리자 기능을 처리하는 REST API 컨트롤러
@@ -24,6 +44,9 @@ import java.util.stream.Collectors;
  * - 상품 관리 (조회, 검색, 삭제)
  * - Q&A 관리 (조회, 답변 등록)
  * - 통계 데이터 제공
+ * - 일괄 작업 (상품 삭제, 회원 정지, 신고 처리)
+ * - 데이터 내보내기 (CSV / NDJSON)
+ * - 신고 큐 (심각도 순), 자동 격리 해제
  */
 @Slf4j
 @RestController
@@ -33,24 +56,23 @@ import java.util.stream.Collectors;
 public class AdminController {
 
     private final AdminService adminService;
+    private final OutboundHttpClient outboundHttpClient;   // 외부 API 호출 현황
+    private final SettlementService settlementService;
+    private final UserLevelService userLevelService;
+    private final AdminStatsService adminStatsService;
+    private final BulkAdminService bulkAdminService;
+    private final AdminExportService adminExportService;
+    private final ReportCounterService reportCounterService;
 
     /**
      * 관리자 대시보드 통계 조회
      *
-     * @return 통계 데이터 (총 회원 수, 상품 수, 미답변 Q&A 수)
+     * @return 통계 데이터 (총 회원 수, 상품 수, 미답변 Q&A 수, 거래/신고 누적, 시간별/일별 추이)
      */
     @GetMapping("/dashboard")
     public ResponseEntity<ResponseDto<AdminDashboardDto>> getDashboard() {
         try {
-            long totalUsers = adminService.getTotalUsersCount();
-            long totalProducts = adminService.getTotalProductsCount();
-            long unansweredQna = adminService.getUnansweredQnaCount();
-
-            AdminDashboardDto dashboard = AdminDashboardDto.builder()
-                    .totalUsers(totalUsers)
-                    .totalProducts(totalProducts)
-                    .unansweredQna(unansweredQna)
-                    .build();
+            AdminDashboardDto dashboard = adminStatsService.getDashboard();
 
             return ResponseEntity.ok(ResponseDto.success("통계 조회 성공", dashboard));
         } catch (Exception e) {
@@ -61,25 +83,127 @@ public class AdminController {
     }
 
     /**
-     * 회원 목록 조회
+     * 외부 API(카카오 로그인/지도/결제) 호출 현황 조회
      *
-     * @param search 검색 키워드 (선택)
-     * @return 회원 목록
+     * @return API별 호출/실패/재시도/거절 수, 서킷 상태, 평균 응답 시간
      */
-    @GetMapping("/users")
-    public ResponseEntity<ResponseDto<List<UserListDto>>> getUsers(
-            @RequestParam(required = false) String search) {
+    @GetMapping("/outbound-metrics")
+    public ResponseEntity<ResponseDto<List<OutboundMetricsDto>>> getOutboundMetrics() {
+        return ResponseEntity.ok(ResponseDto.success("외부 API 현황 조회 성공", outboundHttpClient.getMetrics()));
+    }
+
+    /**
+     * 최근 정산 배치 목록 조회
+     *
+     * @return 배치별 상태, 처리 위치, 판매자 수 / 거래 수 / 정산 금액
+     */
+    @GetMapping("/settlements")
+    public ResponseEntity<ResponseDto<List<SettlementBatchDto>>> getSettlements() {
+        return ResponseEntity.ok(ResponseDto.success("정산 배치 조회 성공", settlementService.getRecentBatches()));
+    }
+
+    /**
+     * 정산 배치 수동 실행 (중단된 배치가 있으면 이어서 처리)
+     *
+     * @return 처리한 배치 (정산할 거래가 없으면 null)
+     */
+    @PostMapping("/settlements/run")
+    public ResponseEntity<ResponseDto<SettlementBatchDto>> runSettlement() {
         try {
-            List<User> users = search != null && !search.trim().isEmpty()
-                    ? adminService.searchUsers(search)
-                    : adminService.getAllUsers();
+            SettlementBatchDto batch = settlementService.runBatch();
+            String message = batch == null ? "정산할 거래가 없습니다." : "정산 배치 실행 완료";
+            return ResponseEntity.ok(ResponseDto.success(message, batch));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("정산 배치 실행 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("정산 배치 실행에 실패했습니다."));
+        }
+    }
 
-            // ✅ Entity → DTO 변환
-            List<UserListDto> userDtos = users.stream()
-                    .map(UserListDto::fromEntity)
-                    .toList();
+    /**
+     * 전체 회원 거래 횟수/등급 재계산 (완료 거래 기준)
+     *
+     * @return 갱신된 회원 수
+     */
+    @PostMapping("/users/level-recalculation")
+    public ResponseEntity<ResponseDto<Integer>> recalculateUserLevels() {
+        try {
+            return ResponseEntity.ok(ResponseDto.success("등급 재계산 완료", userLevelService.recalculateAll()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("등급 재계산 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("등급 재계산에 실패했습니다."));
+        }
+    }
 
-            return ResponseEntity.ok(ResponseDto.success("회원 목록 조회 성공", userDtos));
+    /**
+     * 시간별/일별 통계 추이 조회
+     *
+     * @param granularity HOUR / DAY
+     * @param size 최근 구간 수 (최대 500)
+     * @return 구간별 가입/등록/거래/거래액/신고 수 (시간순)
+     */
+    @GetMapping("/stats/series")
+    public ResponseEntity<ResponseDto<List<MetricRollupDto>>> getStatsSeries(
+            @RequestParam(defaultValue = "DAY") String granularity,
+            @RequestParam(defaultValue = "30") int size) {
+        try {
+            List<MetricRollupDto> series = adminStatsService.getSeries(RollupGranularity.fromParam(granularity), size);
+            return ResponseEntity.ok(ResponseDto.success("통계 추이 조회 성공", series));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("통계 추이 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("통계 추이 조회에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 과거 통계 백필 + 누적 지표 보정
+     *
+     * @param days 오늘 포함 최근 일수
+     * @return 처리한 일수
+     */
+    @PostMapping("/stats/backfill")
+    public ResponseEntity<ResponseDto<Integer>> backfillStats(@RequestParam(defaultValue = "30") int days) {
+        try {
+            return ResponseEntity.ok(ResponseDto.success("통계 백필 완료", adminStatsService.backfill(days)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ResponseDto.fail(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("통계 백필 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("통계 백필에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 회원 목록 조회 (페이지)
+     *
+     * @param search 아이디/닉네임/이메일 접두사 (선택)
+     * @param active 활성 여부 필터 (선택)
+     * @param level 등급 필터 (선택, EGG / BABY_BIRD / TEEN_BIRD / ADULT_BIRD)
+     * @param sort 정렬 "필드,방향" (createdDate / userName / nickname)
+     * @return 회원 목록 페이지 + 필터별 회원 수
+     */
+    @GetMapping("/users")
+    public ResponseEntity<ResponseDto<AdminPageDto<UserListDto>>> getUsers(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) UserLevel level,
+            @RequestParam(defaultValue = "createdDate,desc") String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            AdminPageDto<UserListDto> users = adminService.getUsersPage(search, active, level, sort, page, size);
+            return ResponseEntity.ok(ResponseDto.success("회원 목록 조회 성공", users));
         } catch (Exception e) {
             log.error("회원 목록 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -154,33 +278,23 @@ public class AdminController {
     }
 
     /**
-     * 상품 목록 조회
+     * 상품 목록 조회 (페이지)
      *
      * @param search 검색 키워드 (선택)
      * @param isDeleted 삭제 상태 필터 (선택)
-     * @return 상품 목록
+     * @param sort 정렬 "필드,방향" (createdDate / price / viewCount)
+     * @return 상품 목록 페이지 + 삭제 여부별 상품 수
      */
     @GetMapping("/products")
-    public ResponseEntity<ResponseDto<List<ProductSimpleDto>>> getProducts(
+    public ResponseEntity<ResponseDto<AdminPageDto<ProductSimpleDto>>> getProducts(
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) Boolean isDeleted) {
+            @RequestParam(required = false) Boolean isDeleted,
+            @RequestParam(defaultValue = "createdDate,desc") String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<Product> products;
-
-            if (search != null && !search.trim().isEmpty()) {
-                products = adminService.searchProducts(search);
-            } else if (isDeleted != null) {
-                products = adminService.getProductsByDeletedStatus(isDeleted);
-            } else {
-                products = adminService.getAllProducts();
-            }
-
-            // ✅ Entity → DTO 변환
-            List<ProductSimpleDto> productDtos = products.stream()
-                    .map(ProductSimpleDto::fromEntity)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(ResponseDto.success("상품 목록 조회 성공", productDtos));
+            AdminPageDto<ProductSimpleDto> products = adminService.getProductsPage(search, isDeleted, sort, page, size);
+            return ResponseEntity.ok(ResponseDto.success("상품 목록 조회 성공", products));
         } catch (Exception e) {
             log.error("상품 목록 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -207,21 +321,19 @@ public class AdminController {
     }
 
     /**
-     * Q&A 목록 조회 (미답변 우선 정렬)
+     * Q&A 목록 조회 (페이지, 필터 없으면 미답변 우선 정렬)
      *
-     * @return Q&A 목록
+     * @param answered 답변 상태 필터 (선택)
+     * @return Q&A 목록 페이지 + 답변 상태별 Q&A 수
      */
     @GetMapping("/qna")
-    public ResponseEntity<ResponseDto<List<QnaSimpleDto>>> getQnaPosts() {
+    public ResponseEntity<ResponseDto<AdminPageDto<QnaSimpleDto>>> getQnaPosts(
+            @RequestParam(required = false) Boolean answered,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<QnaPost> qnaPosts = adminService.getAllQnaPostsSortedByAnswered();
-
-            // ✅ Entity → DTO 변환
-            List<QnaSimpleDto> qnaDtos = qnaPosts.stream()
-                    .map(QnaSimpleDto::fromEntity)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(ResponseDto.success("Q&A 목록 조회 성공", qnaDtos));
+            AdminPageDto<QnaSimpleDto> qnaPosts = adminService.getQnaPage(answered, page, size);
+            return ResponseEntity.ok(ResponseDto.success("Q&A 목록 조회 성공", qnaPosts));
         } catch (Exception e) {
             log.error("Q&A 목록 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -259,4 +371,174 @@ public class AdminController {
                     .body(ResponseDto.fail("답변 등록에 실패했습니다."));
         }
     }
-}
\ No newline at end of file
+
+    // ===== 일괄 작업 =====
+
+    /**
+     * 일괄 작업 시작 (바로 작업 ID를 반환하고 백그라운드에서 묶음 단위로 처리)
+     *
+     * @param type delete-products / suspend-users / resolve-reports
+     * @param request 선택한 ID 목록 또는 필터 조건
+     * @return 생성된 작업 (대상 수 포함)
+     */
+    @PostMapping("/bulk/{type}")
+    public ResponseEntity<ResponseDto<BulkJobDto>> startBulkJob(
+            @PathVariable String type,
+            @RequestBody BulkActionRequest request,
+            Principal principal) {
+        try {
+            BulkJobDto job = bulkAdminService.start(BulkJobType.fromParam(type), request, principal.getName());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ResponseDto.success("일괄 작업이 시작되었습니다.", job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ResponseDto.fail(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("일괄 작업 시작 실패: type={}", type, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("일괄 작업 시작에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 최근 일괄 작업 목록 (20건)
+     */
+    @GetMapping("/bulk-jobs")
+    public ResponseEntity<ResponseDto<List<BulkJobDto>>> getBulkJobs() {
+        return ResponseEntity.ok(ResponseDto.success("일괄 작업 목록 조회 성공", bulkAdminService.getRecent()));
+    }
+
+    /**
+     * 일괄 작업 진행 상황 조회
+     */
+    @GetMapping("/bulk-jobs/{jobId}")
+    public ResponseEntity<ResponseDto<BulkJobDto>> getBulkJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(ResponseDto.success("일괄 작업 조회 성공", bulkAdminService.get(jobId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseDto.fail(e.getMessage()));
+        }
+    }
+
+    /**
+     * 일괄 작업 취소 (처리 중인 묶음까지 반영하고 멈춤)
+     */
+    @PostMapping("/bulk-jobs/{jobId}/cancel")
+    public ResponseEntity<ResponseDto<BulkJobDto>> cancelBulkJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(ResponseDto.success("취소를 요청했습니다.", bulkAdminService.cancel(jobId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseDto.fail(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ResponseDto.fail(e.getMessage()));
+        }
+    }
+
+    // ===== 내보내기 =====
+
+    /**
+     * 관리자 데이터 내보내기 (한 행씩 읽어서 바로 내려보냄, 전체를 메모리에 올리지 않음)
+     *
+     * @param dataset users / products / transactions / reports
+     * @param format csv / ndjson
+     * @param from 생성 시각 시작 (포함, 선택, 예: 2025-01-01T00:00:00)
+     * @param to 생성 시각 끝 (미포함, 선택)
+     * @return 첨부 파일 응답
+     */
+    @GetMapping("/export/{dataset}")
+    public ResponseEntity<ResponseBodyEmitter> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            ExportDataset target = ExportDataset.fromParam(dataset);
+            ExportFormat exportFormat = ExportFormat.fromParam(format);
+            ResponseBodyEmitter body = adminExportService.export(target, exportFormat, from, to);
+
+            String fileName = target.name().toLowerCase() + "-"
+                    + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                    + "." + exportFormat.getExtension();
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(fileName).build().toString())
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(failBody(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .contentType(MediaType.APPLICATION_JSON).body(failBody(e.getMessage()));
+        }
+    }
+
+    /**
+     * 내보내기 실패 응답 (응답 타입이 emitter라서 ResponseDto를 한 번 보내고 바로 끝냄)
+     */
+    private ResponseBodyEmitter failBody(String message) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        try {
+            emitter.send(ResponseDto.fail(message), MediaType.APPLICATION_JSON);
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    // ===== 신고 큐 / 격리 =====
+
+    /**
+     * 신고 큐 조회 (처리 대기 신고가 있는 상품, 심각도 순)
+     *
+     * @return 상품별 전체/대기/최근 신고 수, 심각도, 격리 여부
+     */
+    @GetMapping("/reports/queue")
+    public ResponseEntity<ResponseDto<AdminPageDto<ReportQueueItemDto>>> getReportQueue(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(ResponseDto.success("신고 큐 조회 성공", reportCounterService.getQueue(page, size)));
+        } catch (Exception e) {
+            log.error("신고 큐 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("신고 큐 조회에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 자동 격리된 상품 공개 복구
+     */
+    @PostMapping("/products/{productId}/release-quarantine")
+    public ResponseEntity<ResponseDto<Void>> releaseQuarantine(@PathVariable Long productId) {
+        try {
+            reportCounterService.releaseQuarantine(productId);
+            return ResponseEntity.ok(ResponseDto.success("격리가 해제되었습니다."));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("격리 해제 실패: productId={}", productId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("격리 해제에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 상품별 신고 누적 보정 (REPORTS 기준)
+     *
+     * @return 갱신된 상품 수
+     */
+    @PostMapping("/reports/stats/recount")
+    public ResponseEntity<ResponseDto<Integer>> recountReportStats() {
+        try {
+            return ResponseEntity.ok(ResponseDto.success("신고 누적 보정 완료", reportCounterService.recount()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("신고 누적 보정 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("신고 누적 보정에 실패했습니다."));
+        }
+    }
+}
@@ -7,11 +7,15 @@ import com.project.gugumarket.dto.UserResponseDto;
 import com.project.gugumarket.entity.User;
 import com.project.gugumarket.repository.UserRepository;
 import com.project.gugumarket.security.JwtTokenProvider;
+import com.project.gugumarket.security.PasswordHashingExecutor;
 import com.project.gugumarket.service.CustomUserDetailService;
+import com.project.gugumarket.service.LoginAttemptService;
 import com.project.gugumarket.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -37,22 +42,43 @@ public class AuthController {
     private final UserRepository userRepository;
     private final CustomUserDetailService customUserDetailService;  // ✅ 추가
     private final UserService userService;
+    private final PasswordHashingExecutor passwordHashingExecutor;  // BCrypt 전용 스레드 풀
+    private final LoginAttemptService loginAttemptService;          // 실패 횟수 기반 지연
 
     /**
      * 로그인 API
+     * - 실패가 누적된 계정/IP는 지연 시간 동안 비밀번호 검증 없이 429 반환
+     * - 비밀번호 검증은 전용 실행기에서 수행하고, 대기열이 가득 차면 503 반환
      */
     @PostMapping("/login")
-    public ResponseEntity<ResponseDto<LoginResponse>> login(@Valid @RequestBody LoginDto loginDto) {
+    public ResponseEntity<ResponseDto<LoginResponse>> login(@Valid @RequestBody LoginDto loginDto,
+                                                            HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+
+        // 0. 무차별 대입 방어 - 지연 시간 중이면 해싱 비용을 쓰지 않고 바로 거절
+        long delayMillis = loginAttemptService.getRemainingDelayMillis(loginDto.getUserName(), clientIp);
+        if (delayMillis > 0) {
+            long retryAfterSeconds = (delayMillis + 999) / 1000;
+            log.warn("⏳ 로그인 지연 중: {} (IP: {}, {}초 남음)", loginDto.getUserName(), clientIp, retryAfterSeconds);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(ResponseDto.fail("로그인 시도가 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.",
+                            "LOGIN_THROTTLED"));
+        }
+
         try {
             log.info("🔐 로그인 시도: {}", loginDto.getUserName());
 
-            // 1. 사용자 인증
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginDto.getUserName(),
-                            loginDto.getPassword()
+            // 1. 사용자 인증 (BCrypt 매칭은 요청 스레드가 아닌 전용 실행기에서 수행)
+            Authentication authentication = passwordHashingExecutor.execute(() ->
+                    authenticationManager.authenticate(
+                            new UsernamePasswordAuthenticationToken(
+                                    loginDto.getUserName(),
+                                    loginDto.getPassword()
+                            )
                     )
             );
+            loginAttemptService.loginSucceeded(loginDto.getUserName());
 
             // 2. SecurityContext에 인증 정보 설정
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -82,8 +108,15 @@ public class AuthController {
 
         } catch (AuthenticationException e) {
             log.error("❌ 로그인 실패: {}", e.getMessage());
+            loginAttemptService.loginFailed(loginDto.getUserName(), clientIp);
             return ResponseEntity.badRequest()
                     .body(ResponseDto.fail("아이디 또는 비밀번호가 올바르지 않습니다."));
+
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 로그인 부하 차단 - 대기열: {}", passwordHashingExecutor.getQueueDepth());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ResponseDto.fail("로그인 요청이 많아 잠시 후 다시 시도해주세요.", "LOGIN_OVERLOADED"));
         }
     }
 
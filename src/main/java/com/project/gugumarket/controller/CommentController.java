@@ -2,6 +2,7 @@
 package com.project.gugumarket.controller;
 
 import com.project.gugumarket.dto.CommentDto;
+import com.project.gugumarket.dto.CursorPageDto;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.User;
 import com.project.gugumarket.service.CommentService;
@@ -13,7 +14,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -62,38 +62,71 @@ public class CommentController {
     }
 
     /**
-     * 특정 상품의 댓글 목록 조회
-     * - 해당 상품에 작성된 모든 댓글 반환
+     * 특정 상품의 댓글 목록 조회 (스레드 단위 페이지)
+     * - 최상위 댓글 size개 + 스레드마다 앞쪽 답글 몇 개 (평면 목록, parentId/rootId로 트리 구성)
+     * - 답글이 더 있는 최상위 댓글에는 repliesNextCursor → /api/comments/{id}/replies
      * - 현재 사용자가 작성한 댓글인지 여부 포함
-     * - 댓글 총 개수 포함
+     * - 댓글 총 개수는 첫 페이지에만 포함
      *
      * @param productId 댓글을 조회할 상품 ID
+     * @param cursor 이전 응답의 nextCursor (없으면 처음부터)
+     * @param size 최상위 댓글 수 (선택)
      * @param auth 현재 로그인한 사용자 정보
-     * @return JSON 응답 { success: true, comments: [...], count: n }
+     * @return JSON 응답 { success: true, comments: [...], count: n, nextCursor: id, hasNext: bool }
      */
     @GetMapping("/products/{id}/comments") //  GET 요청 매핑
     public ResponseEntity<?> list(@PathVariable("id") 
                     Long productId, //   URL 경로의 {id}를 productId 변수로
+                    @RequestParam(required = false) Long cursor,
+                    @RequestParam(required = false) Integer size,
                     Authentication auth // 로그인 정보 없으면 NULL
         ) {
-        Product product = em.getReference(Product.class, productId); //  상품 참조 가져오기    
-        //  getReference : 실제 DB 조회 없이 프록시 객체만 가져옴 ( 성능 최적화 )
-    
         User me = currentUser(auth);    //  현재 로그인한 사용자 정보 가져오기
         Long currentUserId = (me == null) ? null : me.getUserId();  
         //  현재 사용자 ID 추출 ( 로그인 안했으면 NULL )
 
-        List<CommentDto> list = commentService.list(product, currentUserId);    //  댓글 목록 조회
+        CursorPageDto<CommentDto> page = commentService.list(productId, currentUserId, cursor, size);
         //  commentService가 비즈니스 로직 처리
         //  currentUserId를 전달해서 각 댓글의 mine 필드 설정
 
         Map<String, Object> body = new HashMap<>(); //  응답 JSON 생성  HashMap으로 JSON 구조 만들기
         body.put("success", true);  //  성공 여부
-        body.put("comments", list); //  댓글 배열
-        body.put("count", list.size()); //  댓글 개수  
+        body.put("comments", page.items()); //  댓글 배열
+        body.put("nextCursor", page.nextCursor());  //  다음 페이지 커서 (마지막이면 null)
+        body.put("hasNext", page.hasNext());
+        if (cursor == null) {
+            body.put("count", commentService.countByProductId(productId)); //  댓글 개수 (첫 페이지만)
+        }
         return ResponseEntity.ok(body);
         //  ResponseEntity.ok() : HTTP 200 OK 상태코드와 함께 응답
-        //  결과 : { "success": true, "comments": [...], "count": 3 }
+        //  결과 : { "success": true, "comments": [...], "count": 3, "nextCursor": null, "hasNext": false }
+    }
+
+    /**
+     * 스레드 답글 더 보기
+     *
+     * @param rootId 최상위 댓글 ID
+     * @param cursor 이전 응답의 repliesNextCursor / nextCursor
+     * @param size 답글 수 (선택)
+     * @param auth 현재 로그인한 사용자 정보
+     * @return JSON 응답 { success: true, comments: [...], nextCursor: id, hasNext: bool }
+     */
+    @GetMapping("/comments/{id}/replies")
+    public ResponseEntity<?> replies(@PathVariable("id") Long rootId,
+                                     @RequestParam(required = false) Long cursor,
+                                     @RequestParam(required = false) Integer size,
+                                     Authentication auth) {
+        User me = currentUser(auth);
+        Long currentUserId = (me == null) ? null : me.getUserId();
+
+        CursorPageDto<CommentDto> page = commentService.replies(rootId, currentUserId, cursor, size);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true);
+        body.put("comments", page.items());
+        body.put("nextCursor", page.nextCursor());
+        body.put("hasNext", page.hasNext());
+        return ResponseEntity.ok(body);
     }
 
     /**
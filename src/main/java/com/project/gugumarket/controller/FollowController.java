@@ -0,0 +1,123 @@
+package com.project.gugumarket.controller;
+
+import com.project.gugumarket.dto.CursorPageDto;
+import com.project.gugumarket.dto.FollowStatusDto;
+import com.project.gugumarket.dto.ProductDto;
+import com.project.gugumarket.dto.ResponseDto;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.service.FeedService;
+import com.project.gugumarket.service.FollowService;
+import com.project.gugumarket.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 판매자 팔로우 / 팔로우 피드 API
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+public class FollowController {
+
+    private final FollowService followService;
+    private final FeedService feedService;
+    private final UserService userService;
+
+    /**
+     * 판매자 팔로우 상태 (팔로우 여부, 팔로워 수)
+     */
+    @GetMapping("/sellers/{sellerId}/follow")
+    public ResponseEntity<ResponseDto<FollowStatusDto>> getStatus(@PathVariable Long sellerId,
+                                                                  Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ResponseDto.fail("로그인이 필요합니다."));
+        }
+
+        try {
+            User user = userService.getUser(authentication.getName());
+            return ResponseEntity.ok(ResponseDto.success("조회 성공", followService.getStatus(user, sellerId)));
+        } catch (Exception e) {
+            log.error("팔로우 상태 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("팔로우 상태 조회에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 판매자 팔로우
+     */
+    @PostMapping("/sellers/{sellerId}/follow")
+    public ResponseEntity<ResponseDto<FollowStatusDto>> follow(@PathVariable Long sellerId,
+                                                               Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ResponseDto.fail("로그인이 필요합니다."));
+        }
+
+        try {
+            User user = userService.getUser(authentication.getName());
+            return ResponseEntity.ok(ResponseDto.success("판매자를 팔로우했습니다.", followService.follow(user, sellerId)));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("팔로우 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("팔로우에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 판매자 언팔로우
+     */
+    @DeleteMapping("/sellers/{sellerId}/follow")
+    public ResponseEntity<ResponseDto<FollowStatusDto>> unfollow(@PathVariable Long sellerId,
+                                                                 Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ResponseDto.fail("로그인이 필요합니다."));
+        }
+
+        try {
+            User user = userService.getUser(authentication.getName());
+            return ResponseEntity.ok(ResponseDto.success("팔로우를 취소했습니다.", followService.unfollow(user, sellerId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("언팔로우 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("팔로우 취소에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 팔로우 피드 (팔로우한 판매자의 새 상품, 최신순)
+     * 다음 페이지는 nextCursor를 cursor로 넘겨서 조회
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<ResponseDto<CursorPageDto<ProductDto>>> getFeed(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ResponseDto.fail("로그인이 필요합니다."));
+        }
+
+        try {
+            User user = userService.getUser(authentication.getName());
+            return ResponseEntity.ok(ResponseDto.success("피드 조회 성공",
+                    feedService.getFeed(user.getUserId(), cursor, size)));
+        } catch (Exception e) {
+            log.error("피드 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("피드 조회에 실패했습니다."));
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.project.gugumarket.controller;
 
 import com.project.gugumarket.service.FileService;
+import com.project.gugumarket.dto.UploadResultDto;
+import com.project.gugumarket.service.ImageVariantService;
+import com.project.gugumarket.service.StreamingUploadService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +23,8 @@ import java.util.stream.Collectors;
 public class ImageController {
 
     private final FileService fileService;
+    private final ImageVariantService imageVariantService;     // 축소본(썸네일) 백그라운드 생성
+    private final StreamingUploadService streamingUploadService;   // multipart 스트리밍 업로드
 
     /**
      * 단일 이미지 업로드
@@ -48,12 +54,15 @@ public class ImageController {
             // 파일 업로드
             String savedFileName = fileService.uploadFile(uploadFile);
             //  실제 파일을 서버에 저장
-            //  반환값 : 서버에 저장된 파일명 ( UUID_원본파일명.jpg 형식 )
+            //  반환값 : 서버에 저장된 파일명 ( 내용 해시.jpg 형식, 같은 사진은 같은 이름 )
+
+            imageVariantService.generateAsync(savedFileName);
+            //  카드/상세/마커용 축소본은 백그라운드에서 생성 (응답을 기다리게 하지 않음)
 
             // 이미지 URL 생성
-            String imageUrl = "/uploads/products/" + savedFileName;
+            String imageUrl = fileService.toUrl(savedFileName);
             //  frontend 에서 접근할 수 있는 URL 경로 생성
-            //  ex) "/uploads/products/+ 파일명.jpg"
+            //  ex) "/uploads/products/9f/86/9f86...jpg" (해시 앞 4글자로 디렉토리 분산)
 
             System.out.println("✅ 파일 업로드 성공: " + imageUrl);
 
@@ -116,11 +125,13 @@ public class ImageController {
             List<String> savedFileNames = fileService.uploadFiles(files);
             //  여러 파일을 한 번에 저장 -> 반환값은 저장된 파일명들의 리스트
 
+            savedFileNames.forEach(imageVariantService::generateAsync);
+
             // 이미지 URL 리스트 생성
             List<String> imageUrls = savedFileNames.stream() // stream API를 사용해서 각 파일명을 URL로 변환
-                    .map(fileName -> "/uploads/products/" + fileName)   
+                    .map(fileService::toUrl)
                     // map : 각 요소를 변환
-                    // fileName -> "/uploads/products/" + fileName
+                    // fileName -> "/uploads/products/ab/cd/" + fileName
                     .collect(Collectors.toList());
                     // 결과를 리스트로 수집
 
@@ -157,6 +168,44 @@ public class ImageController {
         }
     }
 
+    /**
+     * 여러 이미지 스트리밍 업로드
+     * 요청 본문을 직접 읽으면서 파트가 도착하는 대로 저장 (파일 파라미터를 받지 않아야 미리 파싱되지 않음)
+     * 일부 파일이 실패해도 나머지는 저장하고 파일별 결과를 돌려줌
+     */
+    @PostMapping("/upload-stream")
+    public ResponseEntity<?> uploadStream(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType == null || !contentType.toLowerCase().startsWith("multipart/")) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of(
+                            "success", false,
+                            "message", "multipart/form-data 요청만 지원합니다."
+                    ));
+        }
+
+        List<UploadResultDto> results = streamingUploadService.upload(request);
+
+        List<String> imageUrls = results.stream()
+                .filter(UploadResultDto::isSuccess)
+                .map(UploadResultDto::getImageUrl)
+                .collect(Collectors.toList());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", !imageUrls.isEmpty());
+        response.put("results", results);               // 파일별 결과 (요청 순서)
+        response.put("imageUrls", imageUrls);           // 성공한 URL 리스트
+        response.put("count", imageUrls.size());
+        response.put("failedCount", results.size() - imageUrls.size());
+        response.put("message", results.isEmpty()
+                ? "업로드된 파일이 없습니다."
+                : results.size() + "개 중 " + imageUrls.size() + "개의 이미지 업로드 성공");
+
+        return imageUrls.isEmpty()
+                ? ResponseEntity.badRequest().body(response)
+                : ResponseEntity.ok(response);
+    }
+
     /**
      * 이미지 삭제
      */
@@ -164,7 +213,7 @@ public class ImageController {
     public ResponseEntity<?> delete(@PathVariable String fileName) {    // DELETE 요청 매핑
                                 // @PathVariable : URL 경로에서 값 추출
         try {
-            fileService.deleteFile(fileName);   // 서버 디스크에서 파일 삭제
+            fileService.deleteFile(fileName);   // 참조 해제 (마지막 참조면 원본과 축소본을 디스크에서 삭제)
 
             return ResponseEntity.ok(Map.of(
                     "success", true,
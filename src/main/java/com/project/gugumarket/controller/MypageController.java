@@ -1,5 +1,6 @@
 package com.project.gugumarket.controller;
 
+import com.project.gugumarket.TransactionStatus;
 import com.project.gugumarket.dto.*;
 import com.project.gugumarket.entity.*;
 import com.project.gugumarket.repository.NotificationRepository;
@@ -48,6 +49,8 @@ public class MypageController {
     // 상품 관련 비즈니스 로직 처리 서비스
     private final ProductService productService;
 
+    private final MypageDashboardService mypageDashboardService;  // 마이페이지 요약 (동시 조회 + 캐시)
+
     /**
      * 마이페이지 메인 화면 데이터 조회
      * @param principal 현재 로그인한 사용자 정보
@@ -76,44 +79,25 @@ public class MypageController {
         System.out.println("프로필 이미지: " + user.getProfileImage());
         System.out.println("프로필 이미지 (기본값 포함): " + user.getProfileImageOrDefault());
 
-        // 사용자 관련 데이터 조회
-        //List=인덱스(순서)를 가지며 이를 통해 객체에 접근 하거나 삽입/삭제를 한다
-        List<Like> likes = likeService.getUserLikes(user); // 찜한 상품 목록
-        List<Transaction> purchases = transactionService.findByBuyer(user); // 구매 내역
-        List<Transaction> sales = transactionService.findBySeller(user); // 판매 내역
-        List<Notification> recentNotifications = notificationService.getRecentNotifications(user, 5); // 최근 알림 5개
-        long unreadCount = notificationService.getUnreadCount(user); // 읽지 않은 알림 개수
-        List<Product> products = productService.getProductsBySeller(user); // 사용자가 등록한 모든 상품
-
-        // Entity를 DTO로 변환 (보안 및 필요한 데이터만 전송)
-        //Stream은 컬렉션의 요소를 함수형 스타일로 처리할 수 있도록 해주는 도구
-        //.map()은 Stream 내의 각 요소를 다른 형태의 요소로 변환하는 중간 연산자 (LikeResponseDto::fromEntity(dto에 해당하는 entity))
-        //map을 통해 모은 객체들을 모아서 List 객체화
-        List<LikeResponseDto> likeDtos = likes.stream()
-                .map(LikeResponseDto::fromEntity)
-                .collect(Collectors.toList());
-        List<TransactionResponseDto> purchaseDtos = purchases.stream()
-                .map(TransactionResponseDto::fromEntity)
-                .collect(Collectors.toList());
-        List<TransactionResponseDto> salesDtos = sales.stream()
-                .map(TransactionResponseDto::fromEntity)
-                .collect(Collectors.toList());
-        List<NotificationResponseDto> notificationDtos = recentNotifications.stream()
-                .map(NotificationResponseDto::fromEntity)
-                .collect(Collectors.toList());
-        List<ProductDetailResponse> productListDtos = products.stream()
-                .map(ProductDetailResponse::from)
-                .collect(Collectors.toList());
+        // 찜 / 구매 / 판매 / 알림 / 등록 상품 섹션을 동시에 조회한 요약 (사용자별 캐시, 변경 시 갱신)
+        MypageDashboardDto dashboard = mypageDashboardService.getDashboard(user);
 
         // 응답 데이터 구성
         response.put("success", true);
         response.put("user", UserResponseDto.fromEntity(user));
-        response.put("likes", likeDtos);
-        response.put("purchases", purchaseDtos);
-        response.put("sales", salesDtos);
-        response.put("recentNotifications", notificationDtos);
-        response.put("products", productListDtos);
-        response.put("unreadCount", unreadCount);
+        response.put("likes", dashboard.getLikes());
+        response.put("likeCount", dashboard.getLikeCount());
+        response.put("purchases", dashboard.getPurchases());
+        response.put("purchasesNextCursor", dashboard.getPurchasesNextCursor());    // 더 보기: /mypage/transactions?role=BUYER&cursor=
+        response.put("purchaseCount", dashboard.getPurchaseCount());
+        response.put("sales", dashboard.getSales());
+        response.put("salesNextCursor", dashboard.getSalesNextCursor());            // 더 보기: /mypage/transactions?role=SELLER&cursor=
+        response.put("saleCount", dashboard.getSaleCount());
+        response.put("recentNotifications", dashboard.getRecentNotifications());
+        response.put("products", dashboard.getProducts());
+        response.put("productCount", dashboard.getProductCount());
+        response.put("unreadCount", dashboard.getUnreadCount());
+        response.put("partial", dashboard.isPartial());                              // 일부 섹션 조회 시간 초과
 
         // 캐시 방지 헤더를 추가하여 항상 최신 데이터 조회
         return ResponseEntity.ok()
@@ -401,49 +385,54 @@ public class MypageController {
     }
 
     /**
-     * 구매 내역 조회
+     * 구매 내역 조회 (커서 페이지)
      * @param principal 현재 로그인한 사용자 정보
+     * @param status 거래 상태 필터 (PENDING / COMPLETED / CANCELLED, 없으면 전체)
+     * @param cursor 이전 응답의 nextCursor (없으면 처음부터)
+     * @param size 페이지 크기
      * @return 사용자의 구매 내역 목록
      */
     @GetMapping("/purchases")
-    public ResponseEntity<Map<String, Object>> purchaseList(Principal principal) {
-        Map<String, Object> response = new HashMap<>();
-
-        // 로그인 여부 확인
-        if (principal == null) {
-            response.put("success", false);
-            response.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-        }
-
-        // 사용자 정보 조회
-        String userName = principal.getName();
-        User user = userRepository.findByUserName(userName)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        // 구매 내역 조회
-        List<Transaction> purchases = transactionService.getPurchasesByBuyer(user);
-
-        // Entity를 DTO로 변환
-        List<TransactionResponseDto> purchaseDtos = purchases.stream()
-                .map(TransactionResponseDto::fromEntity)
-                .collect(Collectors.toList());
-
-        response.put("success", true);
-        response.put("user", UserResponseDto.fromEntity(user));
-        response.put("purchases", purchaseDtos);
-
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Map<String, Object>> purchaseList(Principal principal,
+                                                            @RequestParam(required = false) String status,
+                                                            @RequestParam(required = false) Long cursor,
+                                                            @RequestParam(defaultValue = "20") int size) {
+        return historyResponse(principal, "BUYER", "purchases", status, cursor, size);
     }
 
     /**
-     * 판매 내역 조회
+     * 판매 내역 조회 (커서 페이지)
      * @param principal 현재 로그인한 사용자 정보
+     * @param status 거래 상태 필터 (PENDING / COMPLETED / CANCELLED, 없으면 전체)
+     * @param cursor 이전 응답의 nextCursor (없으면 처음부터)
+     * @param size 페이지 크기
      * @return 사용자의 판매 내역 목록
      * ResponseEntity=응답 캡슐화 (200,400,500)
      */
     @GetMapping("/sales")
-    public ResponseEntity<Map<String, Object>> salesList(Principal principal) {
+    public ResponseEntity<Map<String, Object>> salesList(Principal principal,
+                                                         @RequestParam(required = false) String status,
+                                                         @RequestParam(required = false) Long cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        return historyResponse(principal, "SELLER", "sales", status, cursor, size);
+    }
+
+    /**
+     * 거래 내역 조회 (구매/판매 공통, 커서 페이지)
+     * @param role BUYER(구매 내역) / SELLER(판매 내역)
+     * @return items, nextCursor, hasNext
+     */
+    @GetMapping("/transactions")
+    public ResponseEntity<Map<String, Object>> transactionHistory(Principal principal,
+                                                                  @RequestParam(defaultValue = "BUYER") String role,
+                                                                  @RequestParam(required = false) String status,
+                                                                  @RequestParam(required = false) Long cursor,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        return historyResponse(principal, role.toUpperCase(), "items", status, cursor, size);
+    }
+
+    private ResponseEntity<Map<String, Object>> historyResponse(Principal principal, String role, String itemsKey,
+                                                                String status, Long cursor, int size) {
         Map<String, Object> response = new HashMap<>();
 
         // 로그인 여부 확인
@@ -454,24 +443,26 @@ public class MypageController {
         }
 
         // 사용자 정보 조회
-        String userName = principal.getName();
-        User user = userRepository.findByUserName(userName)
+        User user = userRepository.findByUserName(principal.getName())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // 판매 내역 조회
-        List<Transaction> sales = transactionService.getSalesBySeller(user);
-
-        // Entity를 DTO로 변환
-        //Stream 연산은 원본 데이터 소스를 직접 변경x 항상 새로운 결과를 생성 연속 작업에 용이 최종연산이 호출 될 때 한번에 처리 됨
-        List<TransactionResponseDto> salesDtos = sales.stream()
-                .map(TransactionResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        try {
+            // 표시할 컬럼만 조인 한 번으로 조회 (엔티티/지연 로딩 없음)
+            CursorPageDto<TransactionSummaryDto> page = transactionService.getTransactionHistory(
+                    user.getUserId(), role, TransactionStatus.fromParam(status), cursor, size);
 
-        response.put("success", true);
-        response.put("user", UserResponseDto.fromEntity(user));
-        response.put("sales", salesDtos);
+            response.put("success", true);
+            response.put("user", UserResponseDto.fromEntity(user));
+            response.put(itemsKey, page.items());
+            response.put("nextCursor", page.nextCursor());
+            response.put("hasNext", page.hasNext());
+            return ResponseEntity.ok(response);
 
-        return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
     }
 
     /**
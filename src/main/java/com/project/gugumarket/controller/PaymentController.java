@@ -1,8 +1,15 @@
 package com.project.gugumarket.controller;
 
-import com.project.gugumarket.dto.KakaoPayApproveResponse;
+import com.project.gugumarket.PaymentStatus;
+import com.project.gugumarket.TransactionStatus;
+import com.project.gugumarket.dto.CursorPageDto;
 import com.project.gugumarket.dto.KakaoPayReadyResponse;
+import com.project.gugumarket.dto.TransactionSummaryDto;
+import com.project.gugumarket.entity.Transaction;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.repository.UserRepository;
 import com.project.gugumarket.service.KakaoPayService;
+import com.project.gugumarket.service.TransactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +29,50 @@ import java.util.Map;
 public class PaymentController {
 
     private final KakaoPayService kakaoPayService;
+    private final TransactionService transactionService;
+    private final UserRepository userRepository;
+
+    /**
+     * 내 거래 목록 조회 (커서 페이지)
+     * @param role BUYER / SELLER
+     * @param status 거래 상태 필터 (없으면 전체)
+     * @param cursor 이전 응답의 nextCursor (없으면 처음부터)
+     * @param size 페이지 크기 (최대 100)
+     * @param authentication 인증 정보
+     * @return items, nextCursor, hasNext
+     */
+    @GetMapping("/transactions")
+    public ResponseEntity<?> getTransactions(
+            @RequestParam(defaultValue = "BUYER") String role,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication
+    ) {
+        try {
+            Long userId = currentUserId(authentication);
+
+            CursorPageDto<TransactionSummaryDto> page = transactionService.getTransactionHistory(
+                    userId, role.toUpperCase(), TransactionStatus.fromParam(status), cursor, size);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("items", page.items());
+            response.put("nextCursor", page.nextCursor());
+            response.put("hasNext", page.hasNext());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    Map.of("success", false, "message", e.getMessage())
+            );
+        } catch (Exception e) {
+            log.error("거래 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().body(
+                    Map.of("success", false, "message", "거래 목록 조회 중 오류가 발생했습니다.")
+            );
+        }
+    }
 
     /**
      * 카카오페이 결제 준비 (Step 1)
@@ -35,7 +86,7 @@ public class PaymentController {
             Authentication authentication
     ) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUserId(authentication);
             log.info("카카오페이 결제 준비 요청 - userId: {}, transactionId: {}", userId, transactionId);
 
             // 결제 준비 요청
@@ -66,67 +117,84 @@ public class PaymentController {
 
     /**
      * 카카오페이 결제 승인 (Step 2 - 콜백)
+     * 승인 요청만 접수하고 바로 리다이렉트 (실제 승인/정산은 백그라운드에서 진행)
+     * 프론트엔드는 payment_status=APPROVING 이면 /status/{transactionId}로 결과를 확인
      * @param pgToken 카카오페이 pg_token
      * @param transactionId 거래 ID
-     * @return 결제 승인 응답
+     * @param paymentKey 결제 준비 시 발급한 승인 멱등 키
+     * @return 프론트엔드 리다이렉트
      */
     @GetMapping("/kakaopay/success")
     public ResponseEntity<?> kakaoPaySuccess(
             @RequestParam("pg_token") String pgToken,
-            @RequestParam("transaction_id") Long transactionId
+            @RequestParam("transaction_id") Long transactionId,
+            @RequestParam(value = "payment_key", required = false) String paymentKey
     ) {
         try {
-            log.info("카카오페이 결제 승인 요청 - transactionId: {}, pgToken: {}", transactionId, pgToken);
-
-            // 결제 승인 요청
-            KakaoPayApproveResponse approveResponse = kakaoPayService.kakaoPayApprove(transactionId, pgToken);
+            log.info("카카오페이 결제 승인 요청 - transactionId: {}", transactionId);
 
-            log.info("카카오페이 결제 승인 완료 - tid: {}, aid: {}",
-                    approveResponse.getTid(), approveResponse.getAid());
+            // 승인 접수 (중복 콜백이면 현재 상태만 반환)
+            PaymentStatus paymentStatus = kakaoPayService.requestApproval(transactionId, paymentKey, pgToken);
 
-            // 프론트엔드 리다이렉트 URL
-            String redirectUrl = String.format(
-                    "http://localhost:5173/payment/success?transaction_id=%d&payment_method=KAKAOPAY",
-                    transactionId
-            );
+            if (paymentStatus == PaymentStatus.FAILED) {
+                return redirect(String.format(
+                        "http://localhost:5173/payment/fail?transaction_id=%d&message=%s",
+                        transactionId, "결제에 실패했습니다."
+                ));
+            }
 
-            // HTML 응답으로 리다이렉트
-            String html = String.format(
-                    "<html><body><script>window.location.href='%s';</script></body></html>",
-                    redirectUrl
-            );
+            log.info("카카오페이 결제 승인 접수 - transactionId: {}, 상태: {}", transactionId, paymentStatus);
 
-            return ResponseEntity.ok()
-                    .header("Content-Type", "text/html; charset=UTF-8")
-                    .body(html);
+            // 프론트엔드 리다이렉트 URL
+            return redirect(String.format(
+                    "http://localhost:5173/payment/success?transaction_id=%d&payment_method=KAKAOPAY&payment_status=%s",
+                    transactionId, paymentStatus
+            ));
 
         } catch (Exception e) {
             log.error("카카오페이 결제 승인 실패", e);
-            String errorUrl = String.format(
+            return redirect(String.format(
                     "http://localhost:5173/payment/fail?transaction_id=%d&message=%s",
                     transactionId, "결제 승인 중 오류가 발생했습니다."
-            );
+            ));
+        }
+    }
 
-            String html = String.format(
-                    "<html><body><script>window.location.href='%s';</script></body></html>",
-                    errorUrl
-            );
+    /**
+     * HTML 응답으로 리다이렉트
+     */
+    private ResponseEntity<String> redirect(String url) {
+        String html = String.format(
+                "<html><body><script>window.location.href='%s';</script></body></html>",
+                url
+        );
 
-            return ResponseEntity.ok()
-                    .header("Content-Type", "text/html; charset=UTF-8")
-                    .body(html);
-        }
+        return ResponseEntity.ok()
+                .header("Content-Type", "text/html; charset=UTF-8")
+                .body(html);
     }
 
     /**
      * 카카오페이 결제 취소 콜백
+     * 거래를 바로 취소하고 상품 예약을 풀어줌 (예약 만료 / 대사 작업을 기다리지 않음)
      * @param transactionId 거래 ID
+     * @param paymentKey 결제 준비 시 발급한 멱등 키
      * @return 리다이렉트
      */
     @GetMapping("/kakaopay/cancel")
-    public ResponseEntity<?> kakaoPayCancel(@RequestParam("transaction_id") Long transactionId) {
+    public ResponseEntity<?> kakaoPayCancel(
+            @RequestParam("transaction_id") Long transactionId,
+            @RequestParam(value = "payment_key", required = false) String paymentKey
+    ) {
         log.info("카카오페이 결제 취소 - transactionId: {}", transactionId);
 
+        try {
+            kakaoPayService.failByCallback(transactionId, paymentKey, "사용자 결제 취소");
+        } catch (Exception e) {
+            // 리다이렉트는 그대로 진행 (남은 결제는 대사 작업 / 예약 만료에서 정리)
+            log.warn("⚠️ 카카오페이 결제 취소 처리 실패 - transactionId: {}, {}", transactionId, e.getMessage());
+        }
+
         String redirectUrl = String.format(
                 "http://localhost:5173/payment/cancel?transaction_id=%d",
                 transactionId
@@ -144,13 +212,25 @@ public class PaymentController {
 
     /**
      * 카카오페이 결제 실패 콜백
+     * 거래를 바로 취소하고 상품 예약을 풀어줌 (예약 만료 / 대사 작업을 기다리지 않음)
      * @param transactionId 거래 ID
+     * @param paymentKey 결제 준비 시 발급한 멱등 키
      * @return 리다이렉트
      */
     @GetMapping("/kakaopay/fail")
-    public ResponseEntity<?> kakaoPayFail(@RequestParam("transaction_id") Long transactionId) {
+    public ResponseEntity<?> kakaoPayFail(
+            @RequestParam("transaction_id") Long transactionId,
+            @RequestParam(value = "payment_key", required = false) String paymentKey
+    ) {
         log.info("카카오페이 결제 실패 - transactionId: {}", transactionId);
 
+        try {
+            kakaoPayService.failByCallback(transactionId, paymentKey, "카카오페이 결제 실패");
+        } catch (Exception e) {
+            // 리다이렉트는 그대로 진행 (남은 결제는 대사 작업 / 예약 만료에서 정리)
+            log.warn("⚠️ 카카오페이 결제 실패 처리 실패 - transactionId: {}, {}", transactionId, e.getMessage());
+        }
+
         String redirectUrl = String.format(
                 "http://localhost:5173/payment/fail?transaction_id=%d&message=%s",
                 transactionId, "결제에 실패했습니다."
@@ -178,17 +258,17 @@ public class PaymentController {
             Authentication authentication
     ) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUserId(authentication);
             log.info("결제 상태 조회 - userId: {}, transactionId: {}", userId, transactionId);
 
-            // TODO: TransactionService에서 상태 조회
-            // Transaction transaction = transactionService.getTransaction(transactionId, userId);
+            Transaction transaction = transactionService.getTransaction(transactionId, userId);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("transactionId", transactionId);
-            // response.put("status", transaction.getStatus());
-            // response.put("paymentMethod", transaction.getPaymentMethod());
+            response.put("status", transaction.getStatus());
+            response.put("paymentMethod", transaction.getPaymentMethod());
+            response.put("paymentStatus", transaction.getPaymentStatus());     // APPROVING이면 승인 처리 중
 
             return ResponseEntity.ok(response);
 
@@ -199,4 +279,13 @@ public class PaymentController {
             );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그인한 사용자 ID (JWT subject는 아이디(userName)이므로 회원을 조회해서 변환)
+     */
+    private Long currentUserId(Authentication authentication) {
+        User user = userRepository.findByUserName(authentication.getName())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        return user.getUserId();
+    }
+}
@@ -206,16 +206,12 @@ public class QnaController {
             Pageable pageable = PageRequest.of(page, size);
 
             // 검색 실행
-            Page<QnaPost> qnaPosts = qnaService.searchQna(keyword, pageable);
+            Page<QnaResponseDto> qnaPosts = qnaService.searchQna(keyword, pageable);  // 이미 DTO (무한루프해결용)
 
             System.out.println("✅ QnA " + qnaPosts.getContent().size() + "개 조회");
             System.out.println("================================");
 
-
-            // DTO로 변환 (무한루프해결용)
-            List<QnaResponseDto> qnaPostDtos = qnaPosts.getContent().stream()
-                    .map(QnaResponseDto::fromEntity)
-                    .toList();
+            List<QnaResponseDto> qnaPostDtos = qnaPosts.getContent();
 
             // JSON 응답 데이터 구성
             Map<String, Object> response = new HashMap<>();
@@ -0,0 +1,98 @@
+package com.project.gugumarket.controller;
+
+import com.project.gugumarket.dto.ResponseDto;
+import com.project.gugumarket.dto.SavedSearchDto;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.service.SavedSearchService;
+import com.project.gugumarket.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 관심 검색어 API (조건에 맞는 새 상품이 등록되면 알림)
+ */
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@Slf4j
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+    private final UserService userService;
+
+    /**
+     * 내 관심 검색어 목록
+     */
+    @GetMapping
+    public ResponseEntity<ResponseDto<List<SavedSearchDto>>> getSavedSearches(Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ResponseDto.fail("로그인이 필요합니다."));
+        }
+
+        try {
+            User user = userService.getUser(authentication.getName());
+            return ResponseEntity.ok(ResponseDto.success("관심 검색어 조회 성공",
+                    savedSearchService.getSavedSearches(user)));
+        } catch (Exception e) {
+            log.error("관심 검색어 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("관심 검색어 조회에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 관심 검색어 등록 (keyword / categoryId / district 중 하나 이상, maxPrice는 선택)
+     */
+    @PostMapping
+    public ResponseEntity<ResponseDto<SavedSearchDto>> create(@RequestBody SavedSearchDto request,
+                                                              Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ResponseDto.fail("로그인이 필요합니다."));
+        }
+
+        try {
+            User user = userService.getUser(authentication.getName());
+            return ResponseEntity.ok(ResponseDto.success("관심 검색어를 저장했습니다.",
+                    savedSearchService.create(user, request)));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("관심 검색어 등록 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("관심 검색어 저장에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 관심 검색어 삭제
+     */
+    @DeleteMapping("/{searchId}")
+    public ResponseEntity<ResponseDto<Void>> delete(@PathVariable Long searchId,
+                                                    Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ResponseDto.fail("로그인이 필요합니다."));
+        }
+
+        try {
+            User user = userService.getUser(authentication.getName());
+            savedSearchService.delete(searchId, user);
+            return ResponseEntity.ok(ResponseDto.success("관심 검색어를 삭제했습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ResponseDto.fail(e.getMessage()));
+        } catch (Exception e) {
+            log.error("관심 검색어 삭제 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.fail("관심 검색어 삭제에 실패했습니다."));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.project.gugumarket.controller;
+
+import com.project.gugumarket.ImageVariant;
+import com.project.gugumarket.service.FileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드된 상품/프로필 이미지 전송 컨트롤러
+ *
+ * - 내용 기반 파일명(해시)은 내용이 절대 바뀌지 않으므로 1년 + immutable 캐시
+ * - 강한 ETag / Last-Modified → 조건부 요청은 304로 응답
+ * - Range 요청(단일 구간) 지원 → 206 Partial Content
+ * - Tomcat sendfile(커널 zero-copy)로 전송, 지원하지 않으면 FileChannel.transferTo 사용
+ * - ?variant=card|detail|marker 로 축소본 선택 (아직 없으면 원본을 짧은 캐시로 응답)
+ *
+ * 예: GET /uploads/products/9f/86/9f86...jpg?variant=card
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class UploadImageController {
+
+    // Tomcat sendfile 연동 요청 속성 (org.apache.catalina.Globals 와 동일한 값)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 이보다 작은 파일은 sendfile 준비 비용이 더 커서 그냥 복사 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    // 내용 기반 파일: 내용이 바뀌면 URL도 바뀌므로 영구 캐시
+    private static final String IMMUTABLE_CACHE = CacheControl.maxAge(365, TimeUnit.DAYS)
+            .cachePublic().immutable().getHeaderValue();
+
+    // 기존 UUID 파일 / 아직 축소본이 없어 원본으로 대체한 응답: 짧게 캐시 후 재검증
+    private static final String SHORT_CACHE = CacheControl.maxAge(1, TimeUnit.HOURS)
+            .cachePublic().getHeaderValue();
+    private static final String FALLBACK_CACHE = CacheControl.maxAge(60, TimeUnit.SECONDS)
+            .cachePublic().getHeaderValue();
+
+    private final FileService fileService;
+
+    @RequestMapping(value = "/uploads/products/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(@RequestParam(value = "variant", required = false) String variantName,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+
+        String requested = UriUtils.decode(fileService.extractFileName(request.getRequestURI()), StandardCharsets.UTF_8);
+
+        Path path;
+        try {
+            path = fileService.resolvePath(requested);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        // 1. 축소본 선택 (없으면 원본으로 대체)
+        String servedName = requested;
+        boolean fallback = false;
+        ImageVariant variant = ImageVariant.fromName(variantName);
+        if (variant != null) {
+            Path variantPath = fileService.resolvePath(variant.nameFor(requested));
+            if (Files.isRegularFile(variantPath)) {
+                path = variantPath;
+                servedName = variant.nameFor(requested);
+            } else {
+                fallback = true;
+            }
+        }
+
+        if (!Files.isRegularFile(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        boolean contentAddressed = fileService.isContentAddressed(servedName);
+
+        // 2. 강한 ETag: 내용 기반 파일은 파일명 자체가 해시, 기존 파일은 크기+수정시각
+        String etag = contentAddressed
+                ? "\"" + stripExtension(servedName) + "\""
+                : "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        // 3. 캐시 정책 (304 응답에도 포함되도록 먼저 설정)
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                fallback ? FALLBACK_CACHE : (contentAddressed ? IMMUTABLE_CACHE : SHORT_CACHE));
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 4. If-None-Match / If-Modified-Since → 304 (ETag, Last-Modified 헤더도 여기서 설정됨)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(servedName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+
+        // 5. Range 처리 (If-Range가 현재 ETag와 다르면 전체 전송)
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();     // 잘못된 형식 → 416
+            }
+
+            // 여러 구간 요청은 드물어서 전체 전송으로 처리 (RFC 9110상 허용)
+            if (ranges.size() <= 1) {
+                if (ranges.isEmpty() || !isSatisfiable(ranges.get(0), length)) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        transfer(path, start, count, request, response);
+    }
+
+    /**
+     * 파일 전송
+     * Tomcat이 sendfile을 지원하면 경로만 넘겨서 커널이 직접 소켓으로 복사하게 하고
+     * (요청 스레드는 바로 반환), 아니면 FileChannel.transferTo로 전송
+     */
+    private void transfer(Path path, long start, long count,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);     // end는 exclusive
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (IOException e) {
+            // 브라우저가 중간에 연결을 끊는 경우가 흔하므로 디버그 로그만 남김
+            log.debug("이미지 전송 중단: {} ({})", path.getFileName(), e.getMessage());
+        }
+    }
+
+    private boolean isSatisfiable(HttpRange range, long length) {
+        try {
+            return length > 0 && range.getRangeStart(length) < length;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String stripExtension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+}
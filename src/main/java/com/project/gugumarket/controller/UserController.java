@@ -2,6 +2,7 @@ package com.project.gugumarket.controller;
 
 import com.project.gugumarket.dto.*;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.service.UserLevelService;
 import com.project.gugumarket.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,9 @@ public class UserController {
     // 사용자 비즈니스 로직을 처리하는 서비스
     private final UserService userService;
 
+    // 회원 등급 조회 (캐시)
+    private final UserLevelService userLevelService;
+
     /**
      * 아이디 중복 체크
      * 회원가입 시 사용자 아이디가 이미 존재하는지 확인
@@ -312,11 +316,8 @@ public class UserController {
     @GetMapping("/{userId}/level")
     public ResponseEntity<?> getUserLevel(@PathVariable Long userId) {
         try {
-            // userId로 사용자 조회
-            User user = userService.getUserById(userId);
-
-            // 등급 정보 DTO로 변환
-            UserLevelDto levelInfo = UserLevelDto.from(user);
+            // 등급 정보 조회 (캐시, 거래 완료 시 갱신)
+            UserLevelDto levelInfo = userLevelService.getLevel(userId);
 
             return ResponseEntity.ok(Map.of(
                     "success", true,
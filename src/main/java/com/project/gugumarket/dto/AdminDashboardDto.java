@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -13,4 +15,13 @@ public class AdminDashboardDto {
     private long totalUsers;
     private long totalProducts;
     private long unansweredQna;
-}
\ No newline at end of file
+
+    // 누적 지표 (ADMIN_METRICS)
+    private long completedTrades;
+    private long totalGmv;
+    private long totalReports;
+
+    // 추이 차트 (METRIC_ROLLUPS, 시간순)
+    private List<MetricRollupDto> hourly;
+    private List<MetricRollupDto> daily;
+}
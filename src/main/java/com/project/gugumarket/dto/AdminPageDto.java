@@ -0,0 +1,23 @@
+package com.project.gugumarket.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 목록 페이지
+ * 전체 건수와 필터별 건수(facets)는 COUNT 쿼리 없이 누적 지표/메모리 인덱스에서 채움
+ *
+ * @param items 이번 페이지 항목
+ * @param page 페이지 번호 (0부터)
+ * @param size 페이지 크기
+ * @param totalElements 조건에 맞는 전체 건수 (알 수 없으면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param facets 필터 값별 건수 (예: active → 120, inactive → 3)
+ */
+public record AdminPageDto<T>(List<T> items,
+                              int page,
+                              int size,
+                              Long totalElements,
+                              boolean hasNext,
+                              Map<String, Long> facets) {
+}
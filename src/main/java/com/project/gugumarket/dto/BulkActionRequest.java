@@ -0,0 +1,31 @@
+package com.project.gugumarket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 일괄 작업 요청
+ * ids가 있으면 선택한 대상만, 없으면 필터 조건에 맞는 대상 전체 (조건은 하나 이상 필수)
+ *
+ * 필터 (작업 종류별로 쓰는 값만 사용):
+ * - 상품 삭제: sellerId, keyword(제목), createdFrom/createdTo
+ * - 회원 정지: createdFrom/createdTo (가입 시각)
+ * - 신고 처리: productId, createdFrom/createdTo (신고 시각)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkActionRequest {
+    private List<Long> ids;
+    private Long sellerId;
+    private Long productId;
+    private String keyword;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+}
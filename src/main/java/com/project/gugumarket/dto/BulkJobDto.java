@@ -0,0 +1,60 @@
+package com.project.gugumarket.dto;
+
+import com.project.gugumarket.entity.BulkJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 일괄 작업 진행 현황
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobDto {
+
+    private Long jobId;
+    private String jobType;
+    private String jobTypeDescription;
+    private String status;              // RUNNING / COMPLETED / CANCELLED / FAILED
+    private String statusDescription;
+    private String target;
+    private long totalCount;
+    private long processedCount;
+    private long affectedCount;
+    private int progressPercent;
+    private boolean cancelRequested;
+    private String requestedBy;
+    private String errorMessage;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+    private LocalDateTime finishedDate;
+
+    public static BulkJobDto fromEntity(BulkJob job) {
+        long total = job.getTotalCount();
+        long processed = job.getProcessedCount();
+
+        return BulkJobDto.builder()
+                .jobId(job.getJobId())
+                .jobType(job.getJobType().name())
+                .jobTypeDescription(job.getJobType().getDescription())
+                .status(job.getStatus().name())
+                .statusDescription(job.getStatus().getDescription())
+                .target(job.getTarget())
+                .totalCount(total)
+                .processedCount(processed)
+                .affectedCount(job.getAffectedCount())
+                .progressPercent(total == 0 ? 100 : (int) Math.min(100, processed * 100 / total))
+                .cancelRequested(Boolean.TRUE.equals(job.getCancelRequested()))
+                .requestedBy(job.getRequestedBy())
+                .errorMessage(job.getErrorMessage())
+                .createdDate(job.getCreatedDate())
+                .updatedDate(job.getUpdatedDate())
+                .finishedDate(job.getFinishedDate())
+                .build();
+    }
+}
@@ -4,11 +4,15 @@ package com.project.gugumarket.dto;
 import com.project.gugumarket.entity.Comment;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class CommentDto {
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private Long id;
     private Long userId;
     private String userNickname;
@@ -20,6 +24,12 @@ public class CommentDto {
     // ✅ 대댓글용: 부모 댓글 ID (최상위면 null)
     private Long parentId;
 
+    // 스레드 최상위 댓글 ID (최상위면 null)
+    private Long rootId;
+
+    // 최상위 댓글만: 아직 안 불러온 답글이 있으면 "답글 더 보기" 커서 (/api/comments/{id}/replies?cursor=)
+    private Long repliesNextCursor;
+
     public static CommentDto from(Comment c, Long currentUserId) {
         return CommentDto.builder()
                 .id(c.getCommentId())
@@ -27,10 +37,31 @@ public class CommentDto {
                 .userNickname(c.getUser().getNickname())
                 .profileImage(c.getUser().getProfileImage())
                 .content(c.getContent())
-                .createdAt(c.getCreatedDate() == null ? "" :
-                        c.getCreatedDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
+                .createdAt(format(c.getCreatedDate()))
                 .mine(currentUserId != null && currentUserId.equals(c.getUser().getUserId()))
                 .parentId(c.getParent() == null ? null : c.getParent().getCommentId()) // ✅ 추가
+                .rootId(c.getRootId())
+                .build();
+    }
+
+    /**
+     * 목록 조회 행 → DTO (엔티티 지연 로딩 없음)
+     */
+    public static CommentDto from(CommentRow row, Long currentUserId) {
+        return CommentDto.builder()
+                .id(row.commentId())
+                .userId(row.userId())
+                .userNickname(row.nickname())
+                .profileImage(row.profileImage())
+                .content(row.content())
+                .createdAt(format(row.createdDate()))
+                .mine(currentUserId != null && currentUserId.equals(row.userId()))
+                .parentId(row.parentId())
+                .rootId(row.rootId())
                 .build();
     }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? "" : dateTime.format(CREATED_AT_FORMAT);
+    }
 }
@@ -0,0 +1,19 @@
+package com.project.gugumarket.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 조회용 행 (작성자 정보까지 한 번에 조회 → Comment/User 엔티티를 만들지 않음)
+ *
+ * @param parentId 부모 댓글 ID (최상위 댓글이면 null)
+ * @param rootId 스레드 최상위 댓글 ID (최상위 댓글이면 null)
+ */
+public record CommentRow(Long commentId,
+                         Long parentId,
+                         Long rootId,
+                         Long userId,
+                         String nickname,
+                         String profileImage,
+                         String content,
+                         LocalDateTime createdDate) {
+}
@@ -0,0 +1,29 @@
+package com.project.gugumarket.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 (무한 스크롤)
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 조회 (OFFSET 없이 인덱스 위치에서 바로 시작)
+ *
+ * @param items 이번 페이지 항목
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record CursorPageDto<T>(List<T> items, Long nextCursor, boolean hasNext) {
+
+    /**
+     * size + 1건을 조회한 결과로 페이지 구성 (초과분이 있으면 다음 페이지 있음)
+     *
+     * @param fetched size + 1건까지 조회한 결과
+     * @param size 페이지 크기
+     * @param cursorOf 항목의 커서 값 (정렬 기준 ID)
+     */
+    public static <T> CursorPageDto<T> of(List<T> fetched, int size, Function<T, Long> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageDto<>(List.copyOf(items), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.gugumarket.dto;
+
+/**
+ * 판매자 팔로우 상태
+ *
+ * @param sellerId 판매자 ID
+ * @param following 현재 사용자가 팔로우 중인지
+ * @param followerCount 판매자의 팔로워 수
+ */
+public record FollowStatusDto(Long sellerId, boolean following, long followerCount) {
+}
@@ -0,0 +1,67 @@
+package com.project.gugumarket.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 카카오페이 주문 조회 응답 DTO (결제 상태 대사용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class KakaoPayOrderResponse {
+    private String tid;                          // 결제 고유 번호
+    private String cid;                          // 가맹점 코드
+
+    /**
+     * 결제 상태
+     * READY, SEND_TMS, OPEN_PAYMENT, SELECT_METHOD, ARS_WAITING, AUTH_PASSWORD, ISSUED_SID,
+     * SUCCESS_PAYMENT, PART_CANCEL_PAYMENT, CANCEL_PAYMENT, FAIL_AUTH_PASSWORD, QUIT_PAYMENT, FAIL_PAYMENT
+     */
+    private String status;
+
+    @JsonProperty("partner_order_id")
+    private String partnerOrderId;               // 가맹점 주문번호
+
+    @JsonProperty("payment_method_type")
+    private String paymentMethodType;            // 결제 수단 (CARD, MONEY 등)
+
+    @JsonProperty("payment_action_details")
+    private List<ActionDetail> paymentActionDetails;  // 결제/취소 이력
+
+    /**
+     * 승인 번호 (결제 이력 중 PAYMENT 건)
+     */
+    public String findPaymentAid() {
+        if (paymentActionDetails == null) {
+            return null;
+        }
+        return paymentActionDetails.stream()
+                .filter(detail -> "PAYMENT".equals(detail.getPaymentActionType()))
+                .map(ActionDetail::getAid)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 결제 이력 한 건
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ToString
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ActionDetail {
+        private String aid;                      // 요청 고유 번호
+
+        @JsonProperty("payment_action_type")
+        private String paymentActionType;        // PAYMENT, CANCEL, ISSUED_SID
+    }
+}
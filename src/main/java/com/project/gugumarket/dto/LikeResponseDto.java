@@ -1,5 +1,6 @@
 package com.project.gugumarket.dto;
 
+import com.project.gugumarket.ImageVariant;
 import com.project.gugumarket.entity.Like;
 import com.project.gugumarket.entity.Product;
 import lombok.AllArgsConstructor;
@@ -43,11 +44,11 @@ public class LikeResponseDto {
         // Like 엔티티에서 연관된 Product 엔티티 가져오기
         Product product = like.getProduct();
         // 상품의 메인 이미지 URL 가져오기
-        String imageUrl = product.getMainImage(); // ✅ getFirstImageUrl() → getMainImage()로 변경
+        String imageUrl = product.getMainImageUrl(ImageVariant.CARD); // ✅ 카드용 축소본 (없으면 원본)
 
         // 메인 이미지가 없는 경우, 첫 번째 productImages 사용
         if (product.getProductImages() != null && !product.getProductImages().isEmpty()) {
-            imageUrl = product.getProductImages().getFirst().getImageUrl();
+            imageUrl = product.getProductImages().getFirst().getVariantUrl(ImageVariant.CARD);
         }
 
         // 빌더 패턴을 사용하여 DTO 객체 생성 및 반환
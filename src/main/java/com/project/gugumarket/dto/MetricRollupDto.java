@@ -0,0 +1,39 @@
+package com.project.gugumarket.dto;
+
+import com.project.gugumarket.entity.MetricRollup;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별/일별 통계 한 구간 (관리자 차트)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricRollupDto {
+
+    private String granularity;         // HOUR / DAY
+    private LocalDateTime bucketStart;  // 구간 시작 시각
+    private long signups;
+    private long newListings;
+    private long completedTrades;
+    private long gmv;
+    private long reports;
+
+    public static MetricRollupDto fromEntity(MetricRollup rollup) {
+        return MetricRollupDto.builder()
+                .granularity(rollup.getGranularity().name())
+                .bucketStart(rollup.getBucketStart())
+                .signups(rollup.getSignups())
+                .newListings(rollup.getNewListings())
+                .completedTrades(rollup.getCompletedTrades())
+                .gmv(rollup.getGmv())
+                .reports(rollup.getReports())
+                .build();
+    }
+}
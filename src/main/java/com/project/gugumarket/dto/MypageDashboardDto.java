@@ -0,0 +1,38 @@
+package com.project.gugumarket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 마이페이지 메인 요약 (섹션별 최신 N개 + 전체 개수)
+ * MypageDashboardService가 섹션을 동시에 조회해서 조립하고 사용자별로 캐시
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MypageDashboardDto {
+
+    private List<LikeResponseDto> likes;                    // 찜 목록 (최신 N개)
+    private long likeCount;
+
+    private List<TransactionSummaryDto> purchases;          // 구매 내역 (첫 페이지)
+    private Long purchasesNextCursor;                       // 더 보기 커서 (/mypage/purchases?cursor=)
+    private long purchaseCount;
+
+    private List<TransactionSummaryDto> sales;              // 판매 내역 (첫 페이지)
+    private Long salesNextCursor;
+    private long saleCount;
+
+    private List<NotificationResponseDto> recentNotifications;  // 최근 알림
+    private long unreadCount;
+
+    private List<ProductDetailResponse> products;           // 등록 상품 (최신 N개)
+    private long productCount;
+
+    private boolean partial;                                // 제한 시간 안에 끝나지 않은 섹션이 있음 (빈 값으로 채움)
+}
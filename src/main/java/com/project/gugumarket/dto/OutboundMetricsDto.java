@@ -0,0 +1,27 @@
+package com.project.gugumarket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 API 호출 현황 (관리자 모니터링)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboundMetricsDto {
+
+    private String api;             // 종류 (KAKAO_MAP 등)
+    private String description;     // 설명
+    private String circuitState;    // CLOSED / OPEN / HALF_OPEN
+    private long calls;             // 전체 호출 요청 수
+    private long failures;          // 서버 오류 / 타임아웃으로 실패한 수
+    private long retries;           // 재시도 횟수
+    private long rejected;          // 동시 호출 수 초과로 거절한 수
+    private long shortCircuited;    // 서킷 OPEN으로 바로 실패한 수
+    private int inFlight;           // 현재 진행 중인 호출 수
+    private double avgLatencyMs;    // 평균 응답 시간 (재시도 포함)
+}
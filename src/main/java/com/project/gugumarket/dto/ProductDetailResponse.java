@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.project.gugumarket.ImageVariant;
 import com.project.gugumarket.entity.Product;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,6 +22,7 @@ public class ProductDetailResponse {
     private Integer price;
     private String content;
     private String mainImage;
+    private String mainImageDetail;     // 상세 화면용 축소본 (없으면 원본)
     private Integer viewCount;
     private String status;
     private LocalDateTime createdDate;
@@ -70,6 +72,7 @@ public class ProductDetailResponse {
         dto.price = product.getPrice();
         dto.content = product.getContent();
         dto.mainImage = product.getMainImage();
+        dto.mainImageDetail = product.getMainImageUrl(ImageVariant.DETAIL);
         dto.viewCount = product.getViewCount();
         dto.status = product.getStatus().name();
         dto.createdDate = product.getCreatedDate();
@@ -1,5 +1,6 @@
 package com.project.gugumarket.dto;
 
+import com.project.gugumarket.ImageVariant;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.ProductStatus;
 import lombok.AllArgsConstructor;
@@ -44,7 +45,8 @@ public class ProductDto {
     private Double longitude;
 
     // 이미지 정보
-    private String thumbnailImageUrl;  // 대표 이미지 (mainImage)
+    private String thumbnailImageUrl;  // 대표 이미지 카드용 축소본 (없으면 mainImage)
+    private String markerImageUrl;     // 🗺️ 지도 마커용 축소본 (없으면 mainImage)
     private List<String> imageUrls;    // 전체 이미지 목록 (productImages)
 
     // 상태 정보
@@ -101,7 +103,8 @@ public class ProductDto {
                 .longitude(product.getLongitude())
 
                 // 이미지 정보
-                .thumbnailImageUrl(product.getMainImage())  // mainImage를 썸네일로
+                .thumbnailImageUrl(product.getMainImageUrl(ImageVariant.CARD))  // 목록 카드용 축소본
+                .markerImageUrl(product.getMainImageUrl(ImageVariant.MARKER))   // 지도 마커용 축소본
                 .imageUrls(imageUrls)  // productImages 리스트
 
                 // 초기값 설정 (컨트롤러에서 업데이트 가능)
@@ -1,5 +1,6 @@
 package com.project.gugumarket.dto;
 
+import com.project.gugumarket.ImageVariant;
 import com.project.gugumarket.entity.ProductImage;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,12 +13,16 @@ public class ProductImageDto {
     private Long imageId;
     private String imageUrl;
     private Integer imageOrder;
+    private String thumbnailUrl;    // 카드용 축소본 (없으면 원본)
+    private String detailUrl;       // 상세 화면용 축소본 (없으면 원본)
 
     public static ProductImageDto from(ProductImage image) {
         return new ProductImageDto(
             image.getImageId(),
             image.getImageUrl(),
-            image.getImageOrder()
+            image.getImageOrder(),
+            image.getVariantUrl(ImageVariant.CARD),
+            image.getVariantUrl(ImageVariant.DETAIL)
         );
     }
 }
\ No newline at end of file
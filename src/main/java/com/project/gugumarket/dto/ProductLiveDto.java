@@ -0,0 +1,27 @@
+package com.project.gugumarket.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.project.gugumarket.ProductStatus;
+
+import java.util.List;
+
+/**
+ * 상품 실시간 채널 메시지 (/topic/product/live/{productId})
+ * 이번 주기에 바뀐 항목만 채워서 보냄 (바뀌지 않은 항목은 JSON에서 빠짐)
+ *
+ * @param status 바뀐 판매 상태
+ * @param likeCount 현재 찜 수
+ * @param commentCount 현재 댓글 수
+ * @param addedComments 새 댓글 (mine은 항상 false → 작성자 화면은 작성 응답으로 이미 반영)
+ * @param deletedCommentIds 삭제된 댓글 ID (답글도 같이 지워짐)
+ * @param reloadComments 변경이 너무 많아 댓글 목록을 다시 불러와야 하면 true
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProductLiveDto(Long productId,
+                             ProductStatus status,
+                             Long likeCount,
+                             Long commentCount,
+                             List<CommentDto> addedComments,
+                             List<Long> deletedCommentIds,
+                             Boolean reloadComments) {
+}
@@ -0,0 +1,12 @@
+package com.project.gugumarket.dto;
+
+/**
+ * 상품 알림(관심 검색어 매칭, 가격 인하)에 필요한 상품 정보 (JPQL 생성자 조회)
+ */
+public record ProductMatchRow(Long productId,
+                              Long sellerId,
+                              String title,
+                              Long categoryId,
+                              String sellerAddress,
+                              Integer price) {
+}
@@ -0,0 +1,9 @@
+package com.project.gugumarket.dto;
+
+/**
+ * Q&A 검색 인덱스 항목 (JPQL 생성자 조회 → QnaPost 엔티티와 연관관계를 만들지 않음)
+ */
+public record QnaIndexEntry(Long qnaId,
+                            String title,
+                            String content) {
+}
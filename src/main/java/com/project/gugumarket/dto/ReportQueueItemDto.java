@@ -0,0 +1,20 @@
+package com.project.gugumarket.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 신고 큐 항목 (상품 단위, 심각도 순)
+ *
+ * @param severity 처리 대기 신고 수 + 최근 신고 가중치
+ * @param quarantinedAt 격리 시각 (null이면 공개 중)
+ */
+public record ReportQueueItemDto(Long productId,
+                                 String title,
+                                 Long sellerId,
+                                 Long totalCount,
+                                 Long pendingCount,
+                                 Long recentCount,
+                                 Long severity,
+                                 LocalDateTime quarantinedAt,
+                                 LocalDateTime lastReportedAt) {
+}
@@ -0,0 +1,26 @@
+package com.project.gugumarket.dto;
+
+import com.project.gugumarket.entity.SavedSearch;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관심 검색어 조회/등록 DTO
+ */
+public record SavedSearchDto(Long searchId,
+                             String keyword,
+                             Long categoryId,
+                             String district,
+                             Integer maxPrice,
+                             LocalDateTime createdDate) {
+
+    public static SavedSearchDto fromEntity(SavedSearch search) {
+        return new SavedSearchDto(
+                search.getSearchId(),
+                search.getKeyword(),
+                search.getCategoryId(),
+                search.getDistrict(),
+                search.getMaxPrice(),
+                search.getCreatedDate());
+    }
+}
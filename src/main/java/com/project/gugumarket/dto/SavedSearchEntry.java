@@ -0,0 +1,12 @@
+package com.project.gugumarket.dto;
+
+/**
+ * 관심 검색어 매칭 인덱스 항목 (JPQL 생성자 조회 → SavedSearch 엔티티와 연관관계를 만들지 않음)
+ */
+public record SavedSearchEntry(Long searchId,
+                               Long userId,
+                               String keyword,
+                               Long categoryId,
+                               String district,
+                               Integer maxPrice) {
+}
@@ -0,0 +1,47 @@
+package com.project.gugumarket.dto;
+
+import com.project.gugumarket.entity.SettlementBatch;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정산 배치 현황 (관리자)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementBatchDto {
+
+    private Long batchId;
+    private String status;                  // RUNNING / COMPLETED
+    private String statusDescription;
+    private LocalDateTime cutoffAt;         // 이 시각까지 완료된 거래 대상
+    private Long lastTransactionId;         // 대상 거래 ID 상한
+    private Long checkpointTransactionId;   // 처리 완료 위치
+    private Integer sellerCount;
+    private Long settledCount;
+    private Long settledAmount;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static SettlementBatchDto fromEntity(SettlementBatch batch) {
+        return SettlementBatchDto.builder()
+                .batchId(batch.getBatchId())
+                .status(batch.getStatus().name())
+                .statusDescription(batch.getStatus().getDescription())
+                .cutoffAt(batch.getCutoffAt())
+                .lastTransactionId(batch.getLastTransactionId())
+                .checkpointTransactionId(batch.getCheckpointTransactionId())
+                .sellerCount(batch.getSellerCount())
+                .settledCount(batch.getSettledCount())
+                .settledAmount(batch.getSettledAmount())
+                .startedAt(batch.getStartedAt())
+                .finishedAt(batch.getFinishedAt())
+                .build();
+    }
+}
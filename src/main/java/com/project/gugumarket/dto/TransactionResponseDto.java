@@ -1,5 +1,6 @@
 package com.project.gugumarket.dto;
 
+import com.project.gugumarket.ImageVariant;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.Transaction;
 import lombok.AllArgsConstructor;
@@ -53,11 +54,11 @@ public class TransactionResponseDto {
         // Transaction 엔티티에서 연관된 Product 엔티티 가져오기
         Product product = transaction.getProduct();
         // 상품의 메인 이미지 URL 가져오기
-        String imageUrl = product.getMainImage(); // ✅ 수정
+        String imageUrl = product.getMainImageUrl(ImageVariant.CARD); // ✅ 카드용 축소본 (없으면 원본)
 
         // 메인 이미지가 없는 경우, 첫 번째 productImages 사용
         if (product.getProductImages() != null && !product.getProductImages().isEmpty()) {
-            imageUrl = product.getProductImages().getFirst().getImageUrl();
+            imageUrl = product.getProductImages().getFirst().getVariantUrl(ImageVariant.CARD);
         }
 
         // 빌더 패턴을 사용하여 DTO 객체 생성 및 반환
@@ -66,7 +67,7 @@ public class TransactionResponseDto {
                 .productId(transaction.getProduct().getProductId()) // 상품 ID 설정
                 .productTitle(transaction.getProduct().getTitle()) // 상품 제목 설정
                 .productPrice(transaction.getProduct().getPrice()) // 상품 가격 설정
-                .productImage(transaction.getProduct().getMainImage()) // 상품 이미지 URL 설정
+                .productImage(product.getMainImageUrl(ImageVariant.CARD)) // 상품 이미지 URL 설정 (카드용 축소본)
                 .buyerName(transaction.getBuyer().getNickname()) // 구매자 닉네임 설정
                 .sellerName(transaction.getSeller().getNickname()) // 판매자 닉네임 설정
                 .depositorName(transaction.getDepositorName())  // ✅ 입금자명 설정
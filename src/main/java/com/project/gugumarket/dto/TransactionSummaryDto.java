@@ -0,0 +1,29 @@
+package com.project.gugumarket.dto;
+
+import com.project.gugumarket.TransactionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 목록용 프로젝션 (JPQL 생성자 조회)
+ * 화면에 표시하는 컬럼만 거래/상품/구매자/판매자 조인 한 번으로 가져옴 → 엔티티 지연 로딩 없음
+ * 필드 이름은 TransactionResponseDto와 같게 유지 (프론트엔드 호환)
+ */
+public record TransactionSummaryDto(
+        Long transactionId,
+        Long productId,
+        String productTitle,
+        Integer productPrice,
+        String productImage,        // 카드용 축소본 (없으면 원본)
+        Long buyerId,
+        String buyerName,
+        Long sellerId,
+        String sellerName,
+        String depositorName,
+        TransactionStatus status,
+        String paymentMethod,
+        Integer paidAmount,
+        LocalDateTime transactionDate,
+        LocalDateTime createdDate
+) {
+}
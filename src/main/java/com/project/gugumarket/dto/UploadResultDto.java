@@ -0,0 +1,45 @@
+package com.project.gugumarket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파일별 업로드 결과
+ * 여러 장을 한 번에 올릴 때 일부가 실패해도 나머지 결과는 그대로 전달
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadResultDto {
+
+    private int index;              // 요청 내 순서 (0부터)
+    private String originalName;    // 클라이언트가 보낸 파일명
+    private boolean success;        // 저장 성공 여부
+    private String fileName;        // 저장된 파일명 (성공 시)
+    private String imageUrl;        // 이미지 URL (성공 시)
+    private Long size;              // 파일 크기 (byte)
+    private String message;         // 실패 사유
+
+    public static UploadResultDto success(int index, String originalName, String fileName, String imageUrl, long size) {
+        return UploadResultDto.builder()
+                .index(index)
+                .originalName(originalName)
+                .success(true)
+                .fileName(fileName)
+                .imageUrl(imageUrl)
+                .size(size)
+                .build();
+    }
+
+    public static UploadResultDto fail(int index, String originalName, String message) {
+        return UploadResultDto.builder()
+                .index(index)
+                .originalName(originalName)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
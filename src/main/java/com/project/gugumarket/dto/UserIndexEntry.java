@@ -0,0 +1,22 @@
+package com.project.gugumarket.dto;
+
+import com.project.gugumarket.entity.UserLevel;
+
+/**
+ * 관리자 회원 검색 인덱스 항목 (JPQL 생성자 조회 → User 엔티티를 만들지 않음)
+ */
+public record UserIndexEntry(Long userId,
+                             String userName,
+                             String nickname,
+                             String email,
+                             Boolean isActive,
+                             UserLevel userLevel) {
+
+    public boolean active() {
+        return !Boolean.FALSE.equals(isActive);
+    }
+
+    public UserLevel level() {
+        return userLevel != null ? userLevel : UserLevel.EGG;
+    }
+}
@@ -3,6 +3,7 @@
 // ========================================
 package com.project.gugumarket.dto.chat;
 
+import com.project.gugumarket.ImageVariant;
 import com.project.gugumarket.entity.ChatRoom;
 import lombok.*;
 import java.time.LocalDateTime;
@@ -52,7 +53,7 @@ public class ChatRoomDto {
                 .chatRoomId(chatRoom.getChatRoomId())
                 .productId(chatRoom.getProduct().getProductId())
                 .productTitle(chatRoom.getProduct().getTitle())
-                .productImage(chatRoom.getProduct().getMainImage())
+                .productImage(chatRoom.getProduct().getMainImageUrl(ImageVariant.CARD))
                 .productPrice(chatRoom.getProduct().getPrice())
                 .productStatus(chatRoom.getProduct().getStatus().name())
                 .sellerId(chatRoom.getSeller().getUserId())
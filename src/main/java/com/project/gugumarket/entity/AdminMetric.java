@@ -0,0 +1,30 @@
+package com.project.gugumarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 대시보드 누적 지표 (지표당 한 행)
+ * 값 변경은 AdminMetricRepository의 원자적 UPSERT로만 (읽고-더하고-저장 X)
+ */
+@Entity
+@Table(name = "ADMIN_METRICS")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminMetric {
+
+    @Id
+    @Column(name = "METRIC_NAME", length = 50)
+    private String metricName;  // AdminMetricType 이름
+
+    @Column(name = "METRIC_VALUE", nullable = false)
+    private Long metricValue;
+
+    @Column(name = "UPDATED_DATE")
+    private LocalDateTime updatedDate;
+}
@@ -0,0 +1,68 @@
+package com.project.gugumarket.entity;
+
+import com.project.gugumarket.BulkJobStatus;
+import com.project.gugumarket.BulkJobType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 일괄 작업 (상품 삭제 / 회원 정지 / 신고 처리)
+ * 묶음마다 진행 수를 갱신하고, 취소 요청은 다음 묶음 시작 전에 확인
+ */
+@Entity
+@Table(name = "BULK_JOBS",
+        indexes = {
+                @Index(name = "idx_bulk_job_status", columnList = "STATUS, UPDATED_DATE")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "JOB_ID")
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "JOB_TYPE", length = 30, nullable = false)
+    private BulkJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", length = 20, nullable = false)
+    private BulkJobStatus status;
+
+    @Column(name = "TARGET", length = 500)
+    private String target;  // 대상 설명 (선택 N건 / 필터 조건)
+
+    @Column(name = "TOTAL_COUNT", nullable = false)
+    private Long totalCount;  // 시작 시점 대상 수
+
+    @Column(name = "PROCESSED_COUNT", nullable = false)
+    private Long processedCount;  // 확인한 대상 수
+
+    @Column(name = "AFFECTED_COUNT", nullable = false)
+    private Long affectedCount;  // 실제로 바뀐 행 수 (이미 처리된 대상 제외)
+
+    @Column(name = "CANCEL_REQUESTED", nullable = false)
+    private Boolean cancelRequested;
+
+    @Column(name = "REQUESTED_BY", length = 50)
+    private String requestedBy;
+
+    @Column(name = "ERROR_MESSAGE", length = 500)
+    private String errorMessage;
+
+    @Column(name = "CREATED_DATE", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "UPDATED_DATE", nullable = false)
+    private LocalDateTime updatedDate;  // 마지막 진행 시각 (오래 멈춘 작업 판별)
+
+    @Column(name = "FINISHED_DATE")
+    private LocalDateTime finishedDate;
+}
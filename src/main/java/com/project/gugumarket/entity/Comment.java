@@ -8,7 +8,11 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 @Entity
-@Table(name = "COMMENTS")
+@Table(name = "COMMENTS",
+        indexes = {
+                @Index(name = "idx_comments_product_parent", columnList = "PRODUCT_ID, PARENT_ID, COMMENT_ID"),
+                @Index(name = "idx_comments_root", columnList = "ROOT_ID, COMMENT_ID")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,6 +37,10 @@ public class Comment {
     @JoinColumn(name = "PARENT_ID")
     private Comment parent;
 
+    // 스레드 최상위 댓글 ID (최상위 댓글 자신은 null) → 답글 전체를 깊이와 상관없이 인덱스 한 번으로 조회
+    @Column(name = "ROOT_ID")
+    private Long rootId;
+
     @Column(name = "CONTENT", columnDefinition = "TEXT", nullable = false)
     private String content;
 
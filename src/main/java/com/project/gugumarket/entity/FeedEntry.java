@@ -0,0 +1,38 @@
+package com.project.gugumarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로우 피드 항목 (팔로워가 적은 판매자의 새 상품을 팔로워마다 미리 복사)
+ * 피드는 PRODUCT_ID 내림차순으로 읽음 (상품 ID가 등록 순서이므로 커서로 사용)
+ */
+@Entity
+@Table(name = "FEED_ENTRIES",
+        uniqueConstraints = @UniqueConstraint(name = "uk_feed_user_product", columnNames = {"USER_ID", "PRODUCT_ID"}),
+        indexes = @Index(name = "idx_feed_created_date", columnList = "CREATED_DATE"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "FEED_ID")
+    private Long feedId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "USER_ID", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "PRODUCT_ID", nullable = false)
+    private Product product;
+
+    @Column(name = "CREATED_DATE", nullable = false)
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,40 @@
+package com.project.gugumarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 팔로우 (follower가 seller의 새 상품을 피드로 받음)
+ */
+@Entity
+@Table(name = "FOLLOWS",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follows_follower_seller",
+                columnNames = {"FOLLOWER_ID", "SELLER_ID"}),
+        indexes = @Index(name = "idx_follows_seller", columnList = "SELLER_ID, FOLLOWER_ID"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Follow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "FOLLOW_ID")
+    private Long followId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "FOLLOWER_ID", nullable = false)
+    private User follower;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "SELLER_ID", nullable = false)
+    private User seller;
+
+    @CreationTimestamp
+    @Column(name = "CREATED_DATE")
+    private LocalDateTime createdDate;
+}
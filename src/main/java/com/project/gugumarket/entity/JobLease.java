@@ -0,0 +1,30 @@
+package com.project.gugumarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 리스 (여러 서버 중 한 대만 실행)
+ * 리스 만료 시각이 지났거나 내가 가진 리스일 때만 조건부 UPDATE로 획득
+ */
+@Entity
+@Table(name = "JOB_LEASES")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLease {
+
+    @Id
+    @Column(name = "JOB_NAME", length = 50)
+    private String jobName;
+
+    @Column(name = "OWNER", length = 100)
+    private String owner;  // 리스를 가진 서버 (호스트명:랜덤값)
+
+    @Column(name = "LEASED_UNTIL", nullable = false)
+    private LocalDateTime leasedUntil;  // 이 시각이 지나면 다른 서버가 가져갈 수 있음
+}
@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "LIKES")
+@Table(name = "LIKES",
+        indexes = @Index(name = "idx_likes_product_like", columnList = "PRODUCT_ID, LIKE_ID"))
 @Getter
 @Setter
 @NoArgsConstructor
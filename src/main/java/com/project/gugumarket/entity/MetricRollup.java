@@ -0,0 +1,54 @@
+package com.project.gugumarket.entity;
+
+import com.project.gugumarket.RollupGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별/일별 통계 (구간당 한 행)
+ * AdminStatsService가 원본 테이블에서 구간을 통째로 다시 집계해서 덮어씀 → 여러 번 돌려도 같은 결과
+ */
+@Entity
+@Table(name = "METRIC_ROLLUPS",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_metric_rollup_bucket", columnNames = {"GRANULARITY", "BUCKET_START"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MetricRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ROLLUP_ID")
+    private Long rollupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "GRANULARITY", length = 10, nullable = false)
+    private RollupGranularity granularity;
+
+    @Column(name = "BUCKET_START", nullable = false)
+    private LocalDateTime bucketStart;  // 구간 시작 시각 (HOUR: 정각, DAY: 자정)
+
+    @Column(name = "SIGNUPS", nullable = false)
+    private Long signups;
+
+    @Column(name = "NEW_LISTINGS", nullable = false)
+    private Long newListings;
+
+    @Column(name = "COMPLETED_TRADES", nullable = false)
+    private Long completedTrades;
+
+    @Column(name = "GMV", nullable = false)
+    private Long gmv;  // 완료 거래 금액 합계
+
+    @Column(name = "REPORTS", nullable = false)
+    private Long reports;
+
+    @Column(name = "UPDATED_DATE")
+    private LocalDateTime updatedDate;
+}
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "NOTIFICATIONS", indexes = {
         @Index(name = "idx_receiver_read", columnList = "RECEIVER_ID, IS_READ"),
-        @Index(name = "idx_created_date", columnList = "CREATED_DATE DESC")
+        @Index(name = "idx_created_date", columnList = "CREATED_DATE DESC"),
+        @Index(name = "idx_receiver_type_created", columnList = "RECEIVER_ID, TYPE, CREATED_DATE")
 })
 @Getter
 @Setter
@@ -1,6 +1,7 @@
 package com.project.gugumarket.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.project.gugumarket.ImageVariant;
 import com.project.gugumarket.ProductStatus;
 import jakarta.persistence.*;
 import lombok.*;
@@ -12,7 +13,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "PRODUCTS")
+@Table(name = "PRODUCTS",
+        indexes = {
+                @Index(name = "idx_products_created_date", columnList = "CREATED_DATE"),
+                @Index(name = "idx_products_deleted_created", columnList = "IS_DELETED, CREATED_DATE")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,6 +50,16 @@ public class Product {
     @Column(name = "MAIN_IMAGE", length = 255)
     private String mainImage;
 
+    // 대표 이미지 축소본 URL (백그라운드 생성 완료 후 채워짐, 없으면 원본 사용)
+    @Column(name = "MAIN_IMAGE_CARD", length = 255)
+    private String mainImageCard;
+
+    @Column(name = "MAIN_IMAGE_DETAIL", length = 255)
+    private String mainImageDetail;
+
+    @Column(name = "MAIN_IMAGE_MARKER", length = 255)
+    private String mainImageMarker;
+
     @Column(name = "VIEW_COUNT")
     private Integer viewCount = 0;
 
@@ -59,6 +74,13 @@ public class Product {
     @Column(name = "IS_DELETED")
     private Boolean isDeleted = false;
 
+    // 신고 누적으로 격리된 시각 (null이면 정상, 격리 중에는 목록/검색/지도에서 제외)
+    @Column(name = "QUARANTINED_AT")
+    private LocalDateTime quarantinedAt;
+
+    @Column(name = "QUARANTINE_REASON", length = 200)
+    private String quarantineReason;
+
     // 무통장입금 계좌 정보
     @Column(name = "BANK_NAME", length = 50)
     private String bankName;
@@ -126,6 +148,24 @@ public class Product {
         this.mainImage = mainImage;
     }
 
+    /**
+     * 원하는 크기의 대표 이미지 URL 반환 (축소본이 아직 없으면 원본)
+     */
+    public String getMainImageUrl(ImageVariant variant) {
+        String url = switch (variant) {
+            case CARD -> mainImageCard;
+            case DETAIL -> mainImageDetail;
+            case MARKER -> mainImageMarker;
+        };
+        return url != null ? url : mainImage;
+    }
+
+    public void updateMainImageVariants(String cardUrl, String detailUrl, String markerUrl) {
+        this.mainImageCard = cardUrl;
+        this.mainImageDetail = detailUrl;
+        this.mainImageMarker = markerUrl;
+    }
+
     // 🗺️ 위도/경도 업데이트 메서드 추가
     public void updateCoordinates(Double latitude, Double longitude) {
         this.latitude = latitude;
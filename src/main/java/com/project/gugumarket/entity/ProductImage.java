@@ -1,6 +1,7 @@
 package com.project.gugumarket.entity;
 
 
+import com.project.gugumarket.ImageVariant;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -31,7 +32,35 @@ public class ProductImage {
     @Column(name = "IMAGE_ORDER")
     private Integer imageOrder = 0;
 
+    // 축소본 URL (백그라운드 생성 완료 후 채워짐, 없으면 원본 사용)
+    @Column(name = "CARD_URL", length = 255)
+    private String cardUrl;
+
+    @Column(name = "DETAIL_URL", length = 255)
+    private String detailUrl;
+
+    @Column(name = "MARKER_URL", length = 255)
+    private String markerUrl;
+
     @CreationTimestamp
     @Column(name = "CREATED_DATE")
     private LocalDateTime createdDate;
-}
\ No newline at end of file
+
+    /**
+     * 원하는 크기의 이미지 URL 반환 (축소본이 아직 없으면 원본)
+     */
+    public String getVariantUrl(ImageVariant variant) {
+        String url = switch (variant) {
+            case CARD -> cardUrl;
+            case DETAIL -> detailUrl;
+            case MARKER -> markerUrl;
+        };
+        return url != null ? url : imageUrl;
+    }
+
+    public void updateVariants(String cardUrl, String detailUrl, String markerUrl) {
+        this.cardUrl = cardUrl;
+        this.detailUrl = detailUrl;
+        this.markerUrl = markerUrl;
+    }
+}
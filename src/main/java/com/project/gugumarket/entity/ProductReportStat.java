@@ -0,0 +1,49 @@
+package com.project.gugumarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 신고 누적 (ReportCounterService가 메모리 카운터를 주기적으로 반영)
+ * 관리자 신고 큐는 이 테이블을 심각도 순으로 읽음 → REPORTS 전체를 집계하지 않음
+ */
+@Entity
+@Table(name = "PRODUCT_REPORT_STATS",
+        indexes = {
+                @Index(name = "idx_report_stats_severity", columnList = "SEVERITY"),
+                @Index(name = "idx_report_stats_seller", columnList = "SELLER_ID")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductReportStat {
+
+    @Id
+    @Column(name = "PRODUCT_ID")
+    private Long productId;
+
+    @Column(name = "SELLER_ID")
+    private Long sellerId;
+
+    @Column(name = "TOTAL_COUNT", nullable = false)
+    private Long totalCount;  // 전체 신고 수
+
+    @Column(name = "PENDING_COUNT", nullable = false)
+    private Long pendingCount;  // 처리 대기 신고 수
+
+    @Column(name = "RECENT_COUNT", nullable = false)
+    private Long recentCount;  // 최근 긴 구간(기본 24시간) 신고 수, 반영 시점 기준
+
+    @Column(name = "SEVERITY", nullable = false)
+    private Long severity;  // 처리 대기 수 + 최근 구간 가중치 (클수록 먼저 검토)
+
+    @Column(name = "LAST_REPORTED_AT")
+    private LocalDateTime lastReportedAt;
+
+    @Column(name = "UPDATED_DATE", nullable = false)
+    private LocalDateTime updatedDate;
+}
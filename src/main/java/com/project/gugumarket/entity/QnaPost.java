@@ -9,7 +9,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "QNA_POSTS")
+@Table(name = "QNA_POSTS",
+        indexes = @Index(name = "idx_qna_posts_answered_created", columnList = "IS_ANSWERED, CREATED_DATE"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -43,7 +43,8 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "REPORTS")
+@Table(name = "REPORTS",
+        indexes = @Index(name = "idx_reports_created_date", columnList = "CREATED_DATE"))
 // 🎯🔥 DB 레벨 중복 방지 추가 🔥🎯
 //@Table(name = "REPORTS", uniqueConstraints = {
 //        @UniqueConstraint(columnNames = {"PRODUCT_ID", "REPORTER_ID"})
@@ -0,0 +1,47 @@
+package com.project.gugumarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관심 검색어 (새 상품이 조건에 맞으면 알림)
+ * 조건은 모두 선택 항목이며, 들어 있는 조건을 전부 만족해야 일치
+ */
+@Entity
+@Table(name = "SAVED_SEARCHES",
+        indexes = @Index(name = "idx_saved_searches_user", columnList = "USER_ID"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "SEARCH_ID")
+    private Long searchId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "USER_ID", nullable = false)
+    private User user;
+
+    @Column(name = "KEYWORD", length = 100)
+    private String keyword;
+
+    @Column(name = "CATEGORY_ID")
+    private Long categoryId;
+
+    @Column(name = "DISTRICT", length = 50)
+    private String district;
+
+    @Column(name = "MAX_PRICE")
+    private Integer maxPrice;
+
+    @CreationTimestamp
+    @Column(name = "CREATED_DATE")
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,33 @@
+package com.project.gugumarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매자별 팔로워 수와 피드 전달 방식 (FeedService가 새 상품마다 확인)
+ * PULL_MODE가 켜진 판매자의 상품은 팔로워 피드에 복사하지 않고 읽을 때 합침
+ */
+@Entity
+@Table(name = "SELLER_FOLLOW_STATS")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SellerFollowStat {
+
+    @Id
+    @Column(name = "SELLER_ID")
+    private Long sellerId;
+
+    @Column(name = "FOLLOWER_COUNT", nullable = false)
+    private Long followerCount;
+
+    @Column(name = "PULL_MODE", nullable = false)
+    private Boolean pullMode;  // pull-threshold 이상에서 켜지고 push-threshold 미만에서 꺼짐 (꺼질 때 피드 다시 채움)
+
+    @Column(name = "UPDATED_DATE", nullable = false)
+    private LocalDateTime updatedDate;
+}
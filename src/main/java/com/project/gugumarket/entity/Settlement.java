@@ -0,0 +1,51 @@
+package com.project.gugumarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정산 원장 (배치 × 판매자당 한 행)
+ * 배치가 구간별로 처리되는 동안 같은 행에 거래 수/금액이 누적됨
+ */
+@Entity
+@Table(name = "SETTLEMENTS",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_settlement_batch_seller", columnNames = {"BATCH_ID", "SELLER_ID"})
+        },
+        indexes = {
+                @Index(name = "idx_settlement_seller", columnList = "SELLER_ID")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Settlement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "SETTLEMENT_ID")
+    private Long settlementId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "BATCH_ID", nullable = false)
+    private SettlementBatch batch;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "SELLER_ID", nullable = false)
+    private User seller;
+
+    @Column(name = "TRANSACTION_COUNT", nullable = false)
+    private Integer transactionCount;
+
+    @Column(name = "TOTAL_AMOUNT", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "CREATED_DATE")
+    private LocalDateTime createdDate;
+
+    @Column(name = "UPDATED_DATE")
+    private LocalDateTime updatedDate;
+}
@@ -0,0 +1,60 @@
+package com.project.gugumarket.entity;
+
+import com.project.gugumarket.SettlementBatchStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정산 배치 (주기적으로 한 번씩 생성)
+ *
+ * 시작 시점(cutoffAt)까지 완료된 거래 중 거래 ID가 lastTransactionId 이하인 것만 대상으로 하고,
+ * 거래 ID 구간 단위로 처리하면서 checkpointTransactionId를 앞으로 옮김
+ * → 중간에 실패해도 다음 실행 때 체크포인트 다음 구간부터 이어서 처리
+ */
+@Entity
+@Table(name = "SETTLEMENT_BATCHES",
+        indexes = {
+                @Index(name = "idx_settlement_batch_status", columnList = "STATUS")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "BATCH_ID")
+    private Long batchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", length = 20, nullable = false)
+    private SettlementBatchStatus status;
+
+    @Column(name = "CUTOFF_AT", nullable = false)
+    private LocalDateTime cutoffAt;  // 이 시각까지 완료된 거래만 정산
+
+    @Column(name = "LAST_TRANSACTION_ID", nullable = false)
+    private Long lastTransactionId;  // 대상 거래 ID 상한
+
+    @Column(name = "CHECKPOINT_TRANSACTION_ID", nullable = false)
+    private Long checkpointTransactionId;  // 여기까지 처리 완료
+
+    @Column(name = "SELLER_COUNT")
+    private Integer sellerCount;  // 정산 판매자 수 (완료 시 집계)
+
+    @Column(name = "SETTLED_COUNT")
+    private Long settledCount;  // 정산 거래 수 (완료 시 집계)
+
+    @Column(name = "SETTLED_AMOUNT")
+    private Long settledAmount;  // 정산 금액 합계 (완료 시 집계)
+
+    @Column(name = "STARTED_AT", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "FINISHED_AT")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,37 @@
+package com.project.gugumarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 기반(SHA-256) 저장 파일의 참조 카운트
+ * 같은 사진을 여러 번 올려도 디스크에는 한 번만 저장되고,
+ * 참조가 0이 될 때만 실제 파일을 삭제함
+ */
+@Entity
+@Table(name = "STORED_FILES")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredFile {
+
+    // 저장 파일명 = SHA-256 해시(hex) + 확장자 (예: "9f86d0...0a08.jpg")
+    @Id
+    @Column(name = "FILE_NAME", length = 80)
+    private String fileName;
+
+    @Column(name = "FILE_SIZE", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "REF_COUNT", nullable = false)
+    private Integer refCount;
+
+    @CreationTimestamp
+    @Column(name = "CREATED_DATE")
+    private LocalDateTime createdDate;
+}
@@ -1,5 +1,6 @@
 package com.project.gugumarket.entity;
 
+import com.project.gugumarket.PaymentStatus;
 import com.project.gugumarket.TransactionStatus;
 import jakarta.persistence.*;
 import lombok.*;
@@ -7,7 +8,15 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions",
+        indexes = {
+                @Index(name = "idx_transactions_settlement", columnList = "status, settled"),
+                @Index(name = "idx_transactions_pending", columnList = "status, created_date"),
+                @Index(name = "idx_transactions_seller_status", columnList = "seller_id, status"),
+                @Index(name = "idx_transactions_buyer_status", columnList = "buyer_id, status"),
+                @Index(name = "idx_transactions_completed_at", columnList = "completed_at"),
+                @Index(name = "idx_transactions_date", columnList = "transaction_date")
+        })
 @Getter
 @Setter  // ⭐ 이거 추가!
 @Builder
@@ -67,6 +76,20 @@ public class Transaction {
     @Column(name = "kakaopay_aid", length = 100)
     private String kakaoPayAid;  // 카카오페이 승인번호
 
+    // ========== 💳 결제 진행 상태 (카카오페이) ==========
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", length = 20)
+    private PaymentStatus paymentStatus;  // READY → APPROVING → APPROVED / FAILED
+
+    @Column(name = "payment_key", length = 36)
+    private String paymentKey;  // 승인 멱등 키 (결제 준비 시 발급, 승인 콜백 URL에 포함)
+
+    @Column(name = "pg_token", length = 100)
+    private String pgToken;  // 승인 콜백으로 받은 토큰 (대사 시 승인 재시도용)
+
+    @Column(name = "payment_updated_at")
+    private LocalDateTime paymentUpdatedAt;  // 결제 상태 마지막 변경/확인 시각
+
     // ========== 🆕 거래 관리 필드 ==========
     @Column(name = "completed_at")
     private LocalDateTime completedAt;  // 거래 완료 시각
@@ -77,7 +100,7 @@ public class Transaction {
     @Column(name = "cancel_reason", length = 200)
     private String cancelReason;  // 취소 사유
 
-    // ========== 🎬 정산 시뮬레이션 필드 ==========
+    // ========== 💰 정산 필드 (SettlementService가 배치로 채움) ==========
     @Column(name = "settled")
     private Boolean settled = false;  // 정산 완료 여부
 
@@ -87,6 +110,9 @@ public class Transaction {
     @Column(name = "settlement_amount")
     private Integer settlementAmount;  // 정산 금액
 
+    @Column(name = "settlement_batch_id")
+    private Long settlementBatchId;  // 정산된 배치 (SettlementBatch)
+
     // ========== 비즈니스 메서드 ==========
 
     /**
@@ -10,7 +10,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "USERS")
+@Table(name = "USERS",
+        indexes = {
+                @Index(name = "idx_users_created_date", columnList = "CREATED_DATE"),
+                @Index(name = "idx_users_active_created", columnList = "IS_ACTIVE, CREATED_DATE"),
+                @Index(name = "idx_users_level_created", columnList = "USER_LEVEL, CREATED_DATE")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
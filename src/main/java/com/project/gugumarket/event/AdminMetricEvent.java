@@ -0,0 +1,21 @@
+package com.project.gugumarket.event;
+
+import com.project.gugumarket.AdminMetricType;
+
+/**
+ * 관리자 누적 지표 변경 이벤트
+ * 원본 데이터를 바꾸는 트랜잭션 안에서 발행 → AdminStatsService가 커밋 후 지표 행에 반영
+ *
+ * @param type 지표
+ * @param delta 증감량
+ */
+public record AdminMetricEvent(AdminMetricType type, long delta) {
+
+    public static AdminMetricEvent increment(AdminMetricType type) {
+        return new AdminMetricEvent(type, 1);
+    }
+
+    public static AdminMetricEvent decrement(AdminMetricType type) {
+        return new AdminMetricEvent(type, -1);
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.gugumarket.event;
+
+/**
+ * 판매자 팔로우 / 언팔로우 이벤트
+ * 커밋 후 FeedService가 팔로워의 피드 캐시를 비움
+ *
+ * @param followerId 팔로우한 사용자 ID
+ * @param sellerId 판매자 ID
+ */
+public record FollowChangedEvent(Long followerId, Long sellerId) {
+}
@@ -0,0 +1,21 @@
+package com.project.gugumarket.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 마이페이지에 보이는 데이터(찜, 거래, 알림, 등록 상품)가 바뀌었다는 이벤트
+ * MypageDashboardService가 커밋 후 해당 사용자의 대시보드 캐시를 제거
+ *
+ * @param userIds 영향받은 사용자 ID
+ */
+public record MypageChangedEvent(Set<Long> userIds) {
+
+    public static MypageChangedEvent of(Long... userIds) {
+        return new MypageChangedEvent(Arrays.stream(userIds)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
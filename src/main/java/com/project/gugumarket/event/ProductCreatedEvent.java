@@ -0,0 +1,10 @@
+package com.project.gugumarket.event;
+
+/**
+ * 새 상품 등록 이벤트
+ * 커밋 후 SavedSearchService가 관심 검색어와 비동기로 매칭
+ *
+ * @param productId 등록된 상품 ID
+ */
+public record ProductCreatedEvent(Long productId) {
+}
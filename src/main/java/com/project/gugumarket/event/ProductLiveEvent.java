@@ -0,0 +1,32 @@
+package com.project.gugumarket.event;
+
+import com.project.gugumarket.ProductLiveChange;
+import com.project.gugumarket.ProductStatus;
+
+/**
+ * 상품 상세 화면에 실시간으로 보여줄 변경 (댓글, 판매 상태, 찜 수)
+ * ProductLiveService가 커밋 후 상품별로 모았다가 구독자가 있을 때만 짧은 주기로 한 번에 발행
+ *
+ * @param productId 상품 ID
+ * @param change 변경 종류
+ * @param commentId 작성/삭제된 댓글 ID (댓글 변경일 때만)
+ * @param status 바뀐 판매 상태 (상태 변경일 때만)
+ */
+public record ProductLiveEvent(Long productId, ProductLiveChange change, Long commentId, ProductStatus status) {
+
+    public static ProductLiveEvent commentAdded(Long productId, Long commentId) {
+        return new ProductLiveEvent(productId, ProductLiveChange.COMMENT_ADDED, commentId, null);
+    }
+
+    public static ProductLiveEvent commentDeleted(Long productId, Long commentId) {
+        return new ProductLiveEvent(productId, ProductLiveChange.COMMENT_DELETED, commentId, null);
+    }
+
+    public static ProductLiveEvent statusChanged(Long productId, ProductStatus status) {
+        return new ProductLiveEvent(productId, ProductLiveChange.STATUS_CHANGED, null, status);
+    }
+
+    public static ProductLiveEvent likeChanged(Long productId) {
+        return new ProductLiveEvent(productId, ProductLiveChange.LIKE_CHANGED, null, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.gugumarket.event;
+
+/**
+ * 판매자가 상품 가격을 내렸다는 이벤트
+ * 커밋 후 PriceDropAlertService가 찜한 사용자들에게 비동기로 알림
+ *
+ * @param productId 상품 ID
+ * @param oldPrice 수정 전 가격
+ * @param newPrice 수정 후 가격 (oldPrice보다 낮음)
+ */
+public record ProductPriceDroppedEvent(Long productId, Integer oldPrice, Integer newPrice) {
+}
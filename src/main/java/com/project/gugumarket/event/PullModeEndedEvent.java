@@ -0,0 +1,10 @@
+package com.project.gugumarket.event;
+
+/**
+ * 판매자 팔로워가 push-threshold 아래로 줄어 PULL_MODE가 꺼짐
+ * 커밋 후 FeedService가 보관 기간 안의 그 판매자 상품을 팔로워 피드에 다시 복사
+ *
+ * @param sellerId 판매자 ID
+ */
+public record PullModeEndedEvent(Long sellerId) {
+}
@@ -0,0 +1,10 @@
+package com.project.gugumarket.event;
+
+/**
+ * Q&A 글이 작성되거나 답변 상태가 바뀌었다는 이벤트
+ * 커밋 후 QnaSearchIndex가 해당 글을 다시 색인하고, QnaBoardService가 목록 캐시를 비움
+ *
+ * @param qnaId 바뀐 Q&A 글 ID
+ */
+public record QnaChangedEvent(Long qnaId) {
+}
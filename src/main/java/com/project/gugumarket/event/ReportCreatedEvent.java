@@ -0,0 +1,12 @@
+package com.project.gugumarket.event;
+
+/**
+ * 신고 등록 이벤트
+ * ReportCounterService가 커밋 후 상품/판매자 신고 카운터에 반영하고 격리 기준을 확인
+ *
+ * @param reportId 신고 ID
+ * @param productId 신고된 상품 ID
+ * @param sellerId 상품 판매자 ID
+ */
+public record ReportCreatedEvent(Long reportId, Long productId, Long sellerId) {
+}
@@ -0,0 +1,16 @@
+package com.project.gugumarket.event;
+
+import java.util.Map;
+
+/**
+ * 신고 처리 완료 이벤트 (단건 / 일괄)
+ * ReportCounterService가 커밋 후 상품별 처리 대기 신고 수를 줄임
+ *
+ * @param resolvedByProduct 상품 ID → 이번에 처리된 신고 수
+ */
+public record ReportsResolvedEvent(Map<Long, Long> resolvedByProduct) {
+
+    public static ReportsResolvedEvent of(Long productId) {
+        return new ReportsResolvedEvent(Map.of(productId, 1L));
+    }
+}
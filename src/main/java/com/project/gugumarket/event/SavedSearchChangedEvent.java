@@ -0,0 +1,10 @@
+package com.project.gugumarket.event;
+
+/**
+ * 관심 검색어가 등록되거나 삭제되었다는 이벤트
+ * 커밋 후 SavedSearchService가 매칭 인덱스에서 해당 검색어를 다시 읽음
+ *
+ * @param searchId 바뀐 관심 검색어 ID
+ */
+public record SavedSearchChangedEvent(Long searchId) {
+}
@@ -0,0 +1,13 @@
+package com.project.gugumarket.event;
+
+/**
+ * 거래 완료 이벤트
+ * 거래 완료 트랜잭션 안에서 발행 → 구독자는 @TransactionalEventListener로 커밋 단계에 맞춰 처리
+ *
+ * @param transactionId 완료된 거래 ID
+ * @param sellerId 판매자 ID
+ * @param buyerId 구매자 ID
+ * @param amount 거래 금액 (결제 금액, 없으면 상품 가격)
+ */
+public record TransactionCompletedEvent(Long transactionId, Long sellerId, Long buyerId, Long amount) {
+}
@@ -0,0 +1,26 @@
+package com.project.gugumarket.event;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 정보(아이디/닉네임/이메일/상태) 변경 이벤트
+ * 가입/수정/정지/삭제 트랜잭션 안에서 발행 → AdminUserIndex가 커밋 후 해당 회원만 다시 읽음
+ *
+ * @param userIds 변경된 회원 ID
+ */
+public record UserChangedEvent(Set<Long> userIds) {
+
+    public static UserChangedEvent of(Long... userIds) {
+        return of(Arrays.asList(userIds));
+    }
+
+    public static UserChangedEvent of(Collection<Long> userIds) {
+        return new UserChangedEvent(userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
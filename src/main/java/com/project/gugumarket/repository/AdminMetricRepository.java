@@ -0,0 +1,44 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.entity.AdminMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 누적 지표 Repository
+ * 증감은 원본 트랜잭션 커밋 후 호출되므로 자체 트랜잭션에서 바로 커밋
+ */
+public interface AdminMetricRepository extends JpaRepository<AdminMetric, String> {
+
+    /**
+     * 지표 증감 (행이 없으면 delta 값으로 생성)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO ADMIN_METRICS (METRIC_NAME, METRIC_VALUE, UPDATED_DATE) " +
+            "VALUES (:name, :delta, :now) " +
+            "ON DUPLICATE KEY UPDATE METRIC_VALUE = METRIC_VALUE + :delta, UPDATED_DATE = :now",
+            nativeQuery = true)
+    int increment(@Param("name") String name,
+                  @Param("delta") long delta,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 지표 값을 실제 집계 값으로 덮어쓰기 (누락/중복 보정)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO ADMIN_METRICS (METRIC_NAME, METRIC_VALUE, UPDATED_DATE) " +
+            "VALUES (:name, :value, :now) " +
+            "ON DUPLICATE KEY UPDATE METRIC_VALUE = :value, UPDATED_DATE = :now",
+            nativeQuery = true)
+    int overwrite(@Param("name") String name,
+                  @Param("value") long value,
+                  @Param("now") LocalDateTime now);
+}
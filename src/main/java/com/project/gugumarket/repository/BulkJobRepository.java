@@ -0,0 +1,71 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.BulkJobStatus;
+import com.project.gugumarket.entity.BulkJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 일괄 작업 Repository
+ * 진행 수 갱신은 BulkAdminService의 묶음 트랜잭션 안에서 (대상 변경과 함께 커밋)
+ */
+public interface BulkJobRepository extends JpaRepository<BulkJob, Long> {
+
+    /**
+     * 묶음 하나 처리 결과 누적
+     */
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.processedCount = j.processedCount + :processed, " +
+            "j.affectedCount = j.affectedCount + :affected, j.updatedDate = :now " +
+            "WHERE j.jobId = :jobId")
+    int addProgress(@Param("jobId") Long jobId,
+                    @Param("processed") long processed,
+                    @Param("affected") long affected,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 취소 요청 (진행 중인 작업만)
+     * @return 1이면 요청됨, 0이면 이미 끝난 작업
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.cancelRequested = true " +
+            "WHERE j.jobId = :jobId AND j.status = com.project.gugumarket.BulkJobStatus.RUNNING")
+    int requestCancel(@Param("jobId") Long jobId);
+
+    @Query("SELECT j.cancelRequested FROM BulkJob j WHERE j.jobId = :jobId")
+    Boolean isCancelRequested(@Param("jobId") Long jobId);
+
+    /**
+     * 작업 종료 (진행 중인 작업만)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = :status, j.errorMessage = :error, " +
+            "j.updatedDate = :now, j.finishedDate = :now " +
+            "WHERE j.jobId = :jobId AND j.status = com.project.gugumarket.BulkJobStatus.RUNNING")
+    int finish(@Param("jobId") Long jobId,
+               @Param("status") BulkJobStatus status,
+               @Param("error") String error,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 오래 진행이 없는 작업 실패 처리 (실행하던 서버가 내려간 경우)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = com.project.gugumarket.BulkJobStatus.FAILED, " +
+            "j.errorMessage = :error, j.finishedDate = :now " +
+            "WHERE j.status = com.project.gugumarket.BulkJobStatus.RUNNING AND j.updatedDate < :cutoff")
+    int failStale(@Param("cutoff") LocalDateTime cutoff,
+                  @Param("error") String error,
+                  @Param("now") LocalDateTime now);
+
+    List<BulkJob> findTop20ByOrderByJobIdDesc();
+}
@@ -1,13 +1,84 @@
 package com.project.gugumarket.repository;
 
+import com.project.gugumarket.dto.CommentRow;
 import com.project.gugumarket.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByProduct_ProductIdAndIsDeletedFalseOrderByCreatedDateAsc(Long productId);
-
     long countByProduct_ProductIdAndIsDeletedFalse(Long productId);
+
+    /**
+     * 상품별 댓글 수 (상품 ID, 개수) - 실시간 채널에서 여러 상품을 한 번에
+     */
+    @Query("SELECT c.product.productId, COUNT(c) FROM Comment c " +
+            "WHERE c.product.productId IN :productIds AND c.isDeleted = false GROUP BY c.product.productId")
+    List<Object[]> countByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 댓글 여러 개를 작성자 정보와 함께 (작성 순)
+     */
+    @Query("SELECT new com.project.gugumarket.dto.CommentRow(" +
+            "c.commentId, p.commentId, c.rootId, u.userId, u.nickname, u.profileImage, c.content, c.createdDate) " +
+            "FROM Comment c JOIN c.user u LEFT JOIN c.parent p " +
+            "WHERE c.commentId IN :commentIds AND c.isDeleted = false " +
+            "ORDER BY c.commentId")
+    List<CommentRow> findRowsByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * 댓글 스레드 한 페이지 (쿼리 한 번)
+     * - 최상위 댓글: (PRODUCT_ID, PARENT_ID, COMMENT_ID) 인덱스로 커서 다음 limit개
+     * - 스레드마다 앞쪽 답글 replyLimit개: LATERAL 조인 + (ROOT_ID, COMMENT_ID) 인덱스 → 답글이 아무리 많아도 replyLimit개만 읽음
+     *
+     * 한 행 = 최상위 댓글 + 답글 하나 (답글이 없으면 답글 칸은 null), 최상위 댓글 ID → 답글 ID 순
+     * 컬럼: 0~5 최상위 (ID, 작성자 ID, 닉네임, 프로필, 내용, 작성일), 6~12 답글 (ID, 부모 ID, 작성자 ID, 닉네임, 프로필, 내용, 작성일)
+     */
+    @Query(value = "SELECT r.COMMENT_ID AS R_ID, r.USER_ID AS R_USER_ID, ru.NICKNAME AS R_NICKNAME, " +
+            "ru.PROFILE_IMAGE AS R_PROFILE_IMAGE, r.CONTENT AS R_CONTENT, r.CREATED_DATE AS R_CREATED_DATE, " +
+            "y.COMMENT_ID AS Y_ID, y.PARENT_ID AS Y_PARENT_ID, y.USER_ID AS Y_USER_ID, y.NICKNAME AS Y_NICKNAME, " +
+            "y.PROFILE_IMAGE AS Y_PROFILE_IMAGE, y.CONTENT AS Y_CONTENT, y.CREATED_DATE AS Y_CREATED_DATE " +
+            "FROM (SELECT c.COMMENT_ID, c.USER_ID, c.CONTENT, c.CREATED_DATE FROM COMMENTS c " +
+            "      WHERE c.PRODUCT_ID = :productId AND c.PARENT_ID IS NULL AND c.IS_DELETED = false " +
+            "      AND c.COMMENT_ID > :cursor ORDER BY c.COMMENT_ID LIMIT :limit) r " +
+            "JOIN USERS ru ON ru.USER_ID = r.USER_ID " +
+            "LEFT JOIN LATERAL (SELECT x.COMMENT_ID, x.PARENT_ID, x.USER_ID, xu.NICKNAME, xu.PROFILE_IMAGE, " +
+            "      x.CONTENT, x.CREATED_DATE FROM COMMENTS x JOIN USERS xu ON xu.USER_ID = x.USER_ID " +
+            "      WHERE x.ROOT_ID = r.COMMENT_ID AND x.IS_DELETED = false " +
+            "      ORDER BY x.COMMENT_ID LIMIT :replyLimit) y ON TRUE " +
+            "ORDER BY r.COMMENT_ID, y.COMMENT_ID",
+            nativeQuery = true)
+    List<Object[]> findThreadRows(@Param("productId") Long productId,
+                                  @Param("cursor") Long cursor,
+                                  @Param("limit") int limit,
+                                  @Param("replyLimit") int replyLimit);
+
+    /**
+     * 스레드 답글 더 보기 (커서 다음부터, 작성 순)
+     */
+    @Query("SELECT new com.project.gugumarket.dto.CommentRow(" +
+            "c.commentId, p.commentId, c.rootId, u.userId, u.nickname, u.profileImage, c.content, c.createdDate) " +
+            "FROM Comment c JOIN c.user u LEFT JOIN c.parent p " +
+            "WHERE c.rootId = :rootId AND c.isDeleted = false AND c.commentId > :cursor " +
+            "ORDER BY c.commentId")
+    List<CommentRow> findReplies(@Param("rootId") Long rootId,
+                                 @Param("cursor") Long cursor,
+                                 Pageable pageable);
+
+    /**
+     * ROOT_ID가 비어 있는 기존 답글 채우기 (한 번에 한 단계씩 → 0건이 될 때까지 반복 호출)
+     */
+    @Modifying
+    @Query(value = "UPDATE COMMENTS c JOIN COMMENTS p ON p.COMMENT_ID = c.PARENT_ID " +
+            "SET c.ROOT_ID = COALESCE(p.ROOT_ID, p.COMMENT_ID) " +
+            "WHERE c.PARENT_ID IS NOT NULL AND c.ROOT_ID IS NULL " +
+            "AND (p.PARENT_ID IS NULL OR p.ROOT_ID IS NOT NULL)",
+            nativeQuery = true)
+    int fillMissingRootIds();
 }
@@ -0,0 +1,67 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.entity.FeedEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, Long> {
+
+    /**
+     * 사용자 피드의 상품 ID (cursor보다 작은 것부터 최신순)
+     */
+    @Query("SELECT fe.product.productId FROM FeedEntry fe " +
+            "WHERE fe.user.userId = :userId AND fe.product.productId < :cursor " +
+            "ORDER BY fe.product.productId DESC")
+    List<Long> findProductIds(@Param("userId") Long userId,
+                              @Param("cursor") Long cursor,
+                              Pageable pageable);
+
+    /**
+     * 새 상품을 판매자의 팔로워 전체 피드에 복사 (INSERT ... SELECT 한 번, 이미 있으면 무시)
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO FEED_ENTRIES (USER_ID, PRODUCT_ID, CREATED_DATE) " +
+            "SELECT f.FOLLOWER_ID, :productId, :now FROM FOLLOWS f WHERE f.SELLER_ID = :sellerId",
+            nativeQuery = true)
+    int fanOut(@Param("productId") Long productId,
+               @Param("sellerId") Long sellerId,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 팔로우 직후 판매자의 최근 상품을 피드에 채움
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO FEED_ENTRIES (USER_ID, PRODUCT_ID, CREATED_DATE) " +
+            "SELECT :followerId, p.PRODUCT_ID, :now FROM PRODUCTS p " +
+            "WHERE p.SELLER_ID = :sellerId AND p.IS_DELETED = false AND p.QUARANTINED_AT IS NULL " +
+            "AND p.CREATED_DATE >= :since " +
+            "ORDER BY p.PRODUCT_ID DESC LIMIT :limit",
+            nativeQuery = true)
+    int backfill(@Param("followerId") Long followerId,
+                 @Param("sellerId") Long sellerId,
+                 @Param("since") LocalDateTime since,
+                 @Param("now") LocalDateTime now,
+                 @Param("limit") int limit);
+
+    /**
+     * 언팔로우한 판매자의 상품을 피드에서 제거
+     */
+    @Modifying
+    @Query("DELETE FROM FeedEntry fe WHERE fe.user.userId = :followerId " +
+            "AND fe.product.productId IN (SELECT p.productId FROM Product p WHERE p.seller.userId = :sellerId)")
+    int deleteBySeller(@Param("followerId") Long followerId, @Param("sellerId") Long sellerId);
+
+    /**
+     * 보관 기간이 지난 항목 정리 (limit개씩)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM FEED_ENTRIES WHERE CREATED_DATE < :before LIMIT :limit", nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
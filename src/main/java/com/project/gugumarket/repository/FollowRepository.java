@@ -0,0 +1,25 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.entity.Follow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+
+    boolean existsByFollower_UserIdAndSeller_UserId(Long followerId, Long sellerId);
+
+    Optional<Follow> findByFollower_UserIdAndSeller_UserId(Long followerId, Long sellerId);
+
+    // 판매자의 팔로워 ID (피드 복사 후 캐시 비우기용, 복사 방식 판매자는 팔로워 수가 적음)
+    @Query("SELECT f.follower.userId FROM Follow f WHERE f.seller.userId = :sellerId")
+    List<Long> findFollowerIds(@Param("sellerId") Long sellerId);
+
+    // 사용자가 팔로우하는 판매자 중 읽을 때 합치는(PULL_MODE) 판매자 ID
+    @Query("SELECT f.seller.userId FROM Follow f, SellerFollowStat s " +
+            "WHERE s.sellerId = f.seller.userId AND f.follower.userId = :followerId AND s.pullMode = true")
+    List<Long> findPullSellerIds(@Param("followerId") Long followerId);
+}
@@ -0,0 +1,50 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스케줄 작업 리스 Repository
+ * 서버 간 시계 차이가 없도록 시각은 모두 DB 기준(NOW()), 호출자 트랜잭션과 무관하게 즉시 커밋
+ */
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * 리스 행이 없으면 만료된 상태로 생성
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO JOB_LEASES (JOB_NAME, OWNER, LEASED_UNTIL) " +
+            "VALUES (:jobName, NULL, '1970-01-01 00:00:01')",
+            nativeQuery = true)
+    int createIfAbsent(@Param("jobName") String jobName);
+
+    /**
+     * 리스 획득 / 연장 (만료됐거나 내가 가진 리스일 때만)
+     * @return 1이면 획득, 0이면 다른 서버가 실행 중
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "UPDATE JOB_LEASES SET OWNER = :owner, " +
+            "LEASED_UNTIL = DATE_ADD(NOW(3), INTERVAL :seconds SECOND) " +
+            "WHERE JOB_NAME = :jobName AND (LEASED_UNTIL < NOW(3) OR OWNER = :owner)",
+            nativeQuery = true)
+    int tryAcquire(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("seconds") long seconds);
+
+    /**
+     * 리스 반납 (내가 가진 리스만, 바로 만료 처리)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "UPDATE JOB_LEASES SET LEASED_UNTIL = NOW(3) " +
+            "WHERE JOB_NAME = :jobName AND OWNER = :owner",
+            nativeQuery = true)
+    int release(@Param("jobName") String jobName, @Param("owner") String owner);
+}
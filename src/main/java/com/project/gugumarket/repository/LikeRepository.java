@@ -3,8 +3,12 @@ package com.project.gugumarket.repository;
 import com.project.gugumarket.entity.Like;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +23,27 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     // 특정 사용자가 좋아요한 모든 목록
     List<Like> findByUserOrderByCreatedDateDesc(User user);
 
+    // 특정 사용자가 좋아요한 목록 (최신 N개, 마이페이지 미리보기)
+    List<Like> findByUserOrderByCreatedDateDesc(User user, Pageable pageable);
+
+    // 특정 사용자가 좋아요한 개수
+    long countByUser(User user);
+
     // 특정 상품의 좋아요 개수
     Long countByProduct(Product product);
 
+    // 상품별 좋아요 개수 (상품 ID, 개수) - 실시간 채널에서 여러 상품을 한 번에
+    @Query("SELECT l.product.productId, COUNT(l) FROM Like l " +
+            "WHERE l.product.productId IN :productIds GROUP BY l.product.productId")
+    List<Object[]> countByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    // 상품을 찜한 사용자 (찜 ID, 사용자 ID) - 찜 ID 순으로 afterLikeId 다음부터, 가격 인하 알림 분할 발송용
+    @Query("SELECT l.likeId, l.user.userId FROM Like l " +
+            "WHERE l.product.productId = :productId AND l.likeId > :afterLikeId ORDER BY l.likeId")
+    List<Object[]> findLikerChunk(@Param("productId") Long productId,
+                                  @Param("afterLikeId") Long afterLikeId,
+                                  Pageable pageable);
+
     // 사용자가 해당 상품을 좋아요 했는지 확인
     boolean existsByUserAndProduct(User user, Product product);
 }
\ No newline at end of file
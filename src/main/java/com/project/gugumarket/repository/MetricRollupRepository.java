@@ -0,0 +1,78 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.RollupGranularity;
+import com.project.gugumarket.entity.MetricRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시간별/일별 통계 Repository
+ * 변경 쿼리는 AdminStatsService의 구간 트랜잭션 안에서만 호출 (비우기 → 다시 집계를 한 트랜잭션으로)
+ */
+public interface MetricRollupRepository extends JpaRepository<MetricRollup, Long> {
+
+    /**
+     * 구간 값 0으로 초기화 (원본이 삭제돼서 다시 집계해도 행이 안 나오는 구간 대비)
+     */
+    @Modifying
+    @Query("UPDATE MetricRollup r SET r.signups = 0, r.newListings = 0, r.completedTrades = 0, " +
+            "r.gmv = 0, r.reports = 0, r.updatedDate = :now " +
+            "WHERE r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to")
+    int resetRange(@Param("granularity") RollupGranularity granularity,
+                   @Param("from") LocalDateTime from,
+                   @Param("to") LocalDateTime to,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * [from, to) 기간을 원본 테이블에서 구간별로 다시 집계해서 덮어쓰기
+     * - 가입: USERS.CREATED_DATE / 등록: PRODUCTS.CREATED_DATE / 신고: REPORTS.CREATED_DATE
+     * - 거래: 완료 시각(없으면 거래일) 기준 COMPLETED 거래 수와 금액 (결제 금액 없으면 상품 가격)
+     *
+     * @param bucketFormat 구간 시작 시각 DATE_FORMAT 형식 (RollupGranularity.getBucketFormat())
+     * @return 영향받은 행 수 (MySQL 기준: 새 행 1, 갱신된 행 2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO METRIC_ROLLUPS (GRANULARITY, BUCKET_START, SIGNUPS, NEW_LISTINGS, " +
+            "COMPLETED_TRADES, GMV, REPORTS, UPDATED_DATE) " +
+            "SELECT * FROM (" +
+            "  SELECT :granularity AS granularity, x.bucket, SUM(x.signups) AS signups, " +
+            "         SUM(x.listings) AS listings, SUM(x.trades) AS trades, SUM(x.gmv) AS gmv, " +
+            "         SUM(x.reports) AS reports, :now AS updated " +
+            "  FROM (" +
+            "    SELECT DATE_FORMAT(u.CREATED_DATE, :bucketFormat) AS bucket, " +
+            "           1 AS signups, 0 AS listings, 0 AS trades, 0 AS gmv, 0 AS reports " +
+            "    FROM USERS u WHERE u.CREATED_DATE >= :from AND u.CREATED_DATE < :to " +
+            "    UNION ALL " +
+            "    SELECT DATE_FORMAT(p.CREATED_DATE, :bucketFormat), 0, 1, 0, 0, 0 " +
+            "    FROM PRODUCTS p WHERE p.CREATED_DATE >= :from AND p.CREATED_DATE < :to " +
+            "    UNION ALL " +
+            "    SELECT DATE_FORMAT(COALESCE(t.completed_at, t.transaction_date), :bucketFormat), " +
+            "           0, 0, 1, COALESCE(t.paid_amount, tp.PRICE), 0 " +
+            "    FROM transactions t JOIN PRODUCTS tp ON tp.PRODUCT_ID = t.product_id " +
+            "    WHERE t.status = 'COMPLETED' " +
+            "      AND ((t.completed_at >= :from AND t.completed_at < :to) " +
+            "        OR (t.completed_at IS NULL AND t.transaction_date >= :from AND t.transaction_date < :to)) " +
+            "    UNION ALL " +
+            "    SELECT DATE_FORMAT(rp.CREATED_DATE, :bucketFormat), 0, 0, 0, 0, 1 " +
+            "    FROM REPORTS rp WHERE rp.CREATED_DATE >= :from AND rp.CREATED_DATE < :to" +
+            "  ) AS x " +
+            "  GROUP BY x.bucket" +
+            ") AS s " +
+            "ON DUPLICATE KEY UPDATE SIGNUPS = s.signups, NEW_LISTINGS = s.listings, " +
+            "COMPLETED_TRADES = s.trades, GMV = s.gmv, REPORTS = s.reports, UPDATED_DATE = s.updated",
+            nativeQuery = true)
+    int recompute(@Param("granularity") String granularity,
+                  @Param("bucketFormat") String bucketFormat,
+                  @Param("from") LocalDateTime from,
+                  @Param("to") LocalDateTime to,
+                  @Param("now") LocalDateTime now);
+
+    // 최근 구간부터 (차트는 서비스에서 시간순으로 뒤집어서 사용)
+    List<MetricRollup> findByGranularityOrderByBucketStartDesc(RollupGranularity granularity, Pageable pageable);
+}
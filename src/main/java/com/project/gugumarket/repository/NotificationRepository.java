@@ -3,12 +3,15 @@ package com.project.gugumarket.repository;
 import com.project.gugumarket.NotificationType;
 import com.project.gugumarket.entity.Notification;
 import com.project.gugumarket.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,6 +22,11 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     List<Notification> findByReceiverOrderByCreatedDateDesc(User receiver);
 
+    /**
+     * 사용자의 최근 알림 N개 (최신순)
+     */
+    List<Notification> findByReceiverOrderByCreatedDateDesc(User receiver, Pageable pageable);
+
     /**
      * 사용자의 읽지 않은/읽은 알림 조회
      */
@@ -41,6 +49,60 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("DELETE FROM Notification n WHERE n.receiver = :receiver")
     void deleteByReceiver(@Param("receiver") User receiver);
 
+    /**
+     * 여러 사용자의 읽지 않은 알림 개수 (사용자 ID, 개수) - 일괄 알림 후 뱃지 갱신용
+     */
+    @Query("SELECT n.receiver.userId, COUNT(n) FROM Notification n " +
+            "WHERE n.receiver.userId IN :receiverIds AND n.isRead = false GROUP BY n.receiver.userId")
+    List<Object[]> countUnreadByReceiverIds(@Param("receiverIds") Collection<Long> receiverIds);
+
+    /**
+     * since 이후 받은 특정 타입 알림 개수 (사용자 ID, 개수) - 사용자별 발송 상한 확인용
+     */
+    @Query("SELECT n.receiver.userId, COUNT(n) FROM Notification n " +
+            "WHERE n.receiver.userId IN :receiverIds AND n.type = :type AND n.createdDate >= :since " +
+            "GROUP BY n.receiver.userId")
+    List<Object[]> countRecentByReceiverIds(@Param("receiverIds") Collection<Long> receiverIds,
+                                            @Param("type") NotificationType type,
+                                            @Param("since") LocalDateTime since);
+
+    /**
+     * since 이후 같은 상품으로 특정 타입 알림을 이미 받은 사용자
+     */
+    @Query("SELECT DISTINCT n.receiver.userId FROM Notification n " +
+            "WHERE n.product.productId = :productId AND n.type = :type AND n.createdDate >= :since " +
+            "AND n.receiver.userId IN :receiverIds")
+    List<Long> findRecentReceiverIdsForProduct(@Param("productId") Long productId,
+                                               @Param("type") NotificationType type,
+                                               @Param("since") LocalDateTime since,
+                                               @Param("receiverIds") Collection<Long> receiverIds);
+
+    /**
+     * 같은 상품 알림 일괄 생성 (INSERT ... SELECT 한 번, 엔티티를 만들지 않음)
+     * @return 생성된 알림 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO NOTIFICATIONS (RECEIVER_ID, PRODUCT_ID, TYPE, MESSAGE, URL, IS_READ, CREATED_DATE) " +
+            "SELECT u.USER_ID, :productId, :type, :message, :url, false, :now " +
+            "FROM USERS u WHERE u.USER_ID IN :receiverIds", nativeQuery = true)
+    int insertForReceivers(@Param("productId") Long productId,
+                           @Param("type") String type,
+                           @Param("message") String message,
+                           @Param("url") String url,
+                           @Param("now") LocalDateTime now,
+                           @Param("receiverIds") Collection<Long> receiverIds);
+
+    /**
+     * insertForReceivers로 만든 알림 다시 읽기 (실시간 전송용)
+     */
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.product.productId = :productId AND n.type = :type AND n.createdDate >= :since " +
+            "AND n.receiver.userId IN :receiverIds")
+    List<Notification> findCreatedForReceivers(@Param("productId") Long productId,
+                                               @Param("type") NotificationType type,
+                                               @Param("since") LocalDateTime since,
+                                               @Param("receiverIds") Collection<Long> receiverIds);
+
     /**
      * 특정 상품에 대한 알림 조회
      */
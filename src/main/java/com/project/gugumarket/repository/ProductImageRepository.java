@@ -3,7 +3,12 @@ package com.project.gugumarket.repository;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
@@ -19,4 +24,19 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
     
         // ✅ 특정 상품의 이미지 삭제
         void deleteByProduct(Product product);
-}
\ No newline at end of file
+
+    // ✅ 축소본 URL 기록 (백그라운드 썸네일 생성 완료 시 호출)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImage pi SET pi.cardUrl = :cardUrl, pi.detailUrl = :detailUrl, pi.markerUrl = :markerUrl " +
+            "WHERE pi.imageUrl = :imageUrl")
+    int updateVariants(@Param("imageUrl") String imageUrl,
+                       @Param("cardUrl") String cardUrl,
+                       @Param("detailUrl") String detailUrl,
+                       @Param("markerUrl") String markerUrl);
+
+    // ✅ 사용 중인 추가 이미지 URL (저장소 GC, 삭제된 상품은 보관 기간이 지나지 않은 것만)
+    @Query("SELECT pi.imageUrl FROM ProductImage pi JOIN pi.product p WHERE pi.imageUrl LIKE '/uploads/%' " +
+            "AND (p.isDeleted = false OR p.updatedDate > :deletedAfter)")
+    List<String> findReferencedImageUrls(@Param("deletedAfter") LocalDateTime deletedAfter);
+}
@@ -0,0 +1,88 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.dto.ReportQueueItemDto;
+import com.project.gugumarket.entity.ProductReportStat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 신고 누적 Repository
+ * 반영은 ReportCounterService의 주기 작업 트랜잭션 안에서
+ */
+public interface ProductReportStatRepository extends JpaRepository<ProductReportStat, Long> {
+
+    /**
+     * 메모리 카운터 변화량 반영 (행이 없으면 생성)
+     * SEVERITY는 갱신 전 PENDING_COUNT 기준으로 계산하므로 PENDING_COUNT보다 먼저 할당
+     *
+     * @param total 전체 신고 증가량
+     * @param pending 처리 대기 신고 증감량
+     * @param recent 현재 긴 구간 신고 수
+     * @param windowScore 최근 구간 가중치 (SEVERITY = 처리 대기 수 + windowScore)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO PRODUCT_REPORT_STATS (PRODUCT_ID, SELLER_ID, TOTAL_COUNT, PENDING_COUNT, " +
+            "RECENT_COUNT, SEVERITY, LAST_REPORTED_AT, UPDATED_DATE) " +
+            "VALUES (:productId, :sellerId, :total, GREATEST(:pending, 0), :recent, " +
+            "GREATEST(:pending, 0) + :windowScore, :lastReportedAt, :now) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "SEVERITY = GREATEST(PENDING_COUNT + :pending, 0) + :windowScore, " +
+            "PENDING_COUNT = GREATEST(PENDING_COUNT + :pending, 0), " +
+            "TOTAL_COUNT = TOTAL_COUNT + :total, " +
+            "RECENT_COUNT = :recent, " +
+            "SELLER_ID = COALESCE(:sellerId, SELLER_ID), " +
+            "LAST_REPORTED_AT = COALESCE(:lastReportedAt, LAST_REPORTED_AT), " +
+            "UPDATED_DATE = :now",
+            nativeQuery = true)
+    int applyDelta(@Param("productId") Long productId,
+                   @Param("sellerId") Long sellerId,
+                   @Param("total") long total,
+                   @Param("pending") long pending,
+                   @Param("recent") long recent,
+                   @Param("windowScore") long windowScore,
+                   @Param("lastReportedAt") LocalDateTime lastReportedAt,
+                   @Param("now") LocalDateTime now);
+
+    @Query("SELECT s.totalCount FROM ProductReportStat s WHERE s.productId = :productId")
+    Long findTotalCount(@Param("productId") Long productId);
+
+    /**
+     * 관리자 신고 큐 (처리 대기 신고가 있는 상품, 심각도 순)
+     */
+    @Query("SELECT new com.project.gugumarket.dto.ReportQueueItemDto(" +
+            "s.productId, p.title, s.sellerId, s.totalCount, s.pendingCount, s.recentCount, " +
+            "s.severity, p.quarantinedAt, s.lastReportedAt) " +
+            "FROM ProductReportStat s JOIN Product p ON p.productId = s.productId " +
+            "WHERE s.pendingCount > 0 " +
+            "ORDER BY s.severity DESC, s.productId DESC")
+    Slice<ReportQueueItemDto> findQueue(Pageable pageable);
+
+    /**
+     * REPORTS 기준으로 전체/처리 대기 수 다시 계산 (누락/중복 보정, 최근 구간 값은 유지)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO PRODUCT_REPORT_STATS (PRODUCT_ID, SELLER_ID, TOTAL_COUNT, PENDING_COUNT, " +
+            "RECENT_COUNT, SEVERITY, LAST_REPORTED_AT, UPDATED_DATE) " +
+            "SELECT * FROM (" +
+            "  SELECT r.PRODUCT_ID AS product_id, p.SELLER_ID AS seller_id, COUNT(*) AS total, " +
+            "         SUM(CASE WHEN r.STATUS = 'PENDING' THEN 1 ELSE 0 END) AS pending, 0 AS recent, " +
+            "         SUM(CASE WHEN r.STATUS = 'PENDING' THEN 1 ELSE 0 END) AS severity, " +
+            "         MAX(r.CREATED_DATE) AS last_reported, :now AS updated " +
+            "  FROM REPORTS r JOIN PRODUCTS p ON p.PRODUCT_ID = r.PRODUCT_ID " +
+            "  GROUP BY r.PRODUCT_ID, p.SELLER_ID" +
+            ") AS s " +
+            "ON DUPLICATE KEY UPDATE " +
+            "SEVERITY = SEVERITY - PENDING_COUNT + s.pending, " +
+            "PENDING_COUNT = s.pending, TOTAL_COUNT = s.total, SELLER_ID = s.seller_id, " +
+            "LAST_REPORTED_AT = s.last_reported, UPDATED_DATE = s.updated",
+            nativeQuery = true)
+    int recount(@Param("now") LocalDateTime now);
+}
@@ -1,38 +1,58 @@
 // repository/ProductRepository.java
 package com.project.gugumarket.repository;
 
+import com.project.gugumarket.dto.ProductMatchRow;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // ========== 기존 메서드들 유지 ==========
-    Page<Product> findByIsDeletedFalse(Pageable pageable);
-    Page<Product> findByCategory_CategoryIdAndIsDeletedFalseOrderByCreatedDateDesc(Long categoryId, Pageable pageable);
-    Page<Product> findByTitleContainingAndIsDeletedFalseOrderByCreatedDateDesc(String keyword, Pageable pageable);
-    Page<Product> findByTitleContainingAndCategory_CategoryIdAndIsDeletedFalse(String keyword, Long categoryId, Pageable pageable);
-    Page<Product> findByCategory_CategoryIdAndIsDeletedFalse(Long categoryId, Pageable pageable);
-    Page<Product> findByCategory_CategoryIdAndTitleContainingAndIsDeletedFalse(Long categoryId, String title, Pageable pageable);
-    Page<Product> findByTitleContainingAndIsDeletedFalse(String title, Pageable pageable);
+    // 공개 목록/검색은 신고 누적으로 격리된 상품(quarantinedAt)을 제외
+    Page<Product> findByIsDeletedFalseAndQuarantinedAtIsNull(Pageable pageable);
+    Page<Product> findByTitleContainingAndCategory_CategoryIdAndIsDeletedFalseAndQuarantinedAtIsNull(String keyword, Long categoryId, Pageable pageable);
+    Page<Product> findByCategory_CategoryIdAndIsDeletedFalseAndQuarantinedAtIsNull(Long categoryId, Pageable pageable);
+    Page<Product> findByTitleContainingAndIsDeletedFalseAndQuarantinedAtIsNull(String title, Pageable pageable);
 
     @Query("SELECT COUNT(p) FROM Product p WHERE p.category.categoryId = :categoryId AND p.isDeleted = false")
     int countByCategoryCategoryId(@Param("categoryId") Long categoryId);
 
-    List<Product> findAllByOrderByCreatedDateDesc();
     List<Product> findBySellerUserId(Long userId);
     List<Product> findBySellerUserIdOrderByCreatedDateDesc(Long userId);
     Page<Product> findBySellerUserIdAndIsDeletedFalseOrderByCreatedDateDesc(Long userId, Pageable pageable);
-    List<Product> findByTitleContainingOrContentContaining(String title, String content);
-    List<Product> findByIsDeletedOrderByCreatedDateDesc(Boolean isDeleted);
+
+    // ========== 🛠️ 관리자 상품 목록 ==========
+    // Slice: 다음 페이지 여부만 확인 (전체 건수는 관리자 누적 지표에서, COUNT 쿼리 X)
+
+    @EntityGraph(attributePaths = {"seller", "category"})
+    Slice<Product> findAllBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"seller", "category"})
+    Slice<Product> findByIsDeleted(Boolean isDeleted, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"seller", "category"})
+    Slice<Product> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
 
     @Query("SELECT COUNT(p) FROM Product p WHERE p.isDeleted = false")
     long countActiveProducts();
@@ -43,33 +63,30 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT COUNT(p) FROM Product p WHERE p.status = :status AND p.isDeleted = false")
     long countByStatus(@Param("status") String status);
 
-    @Query("SELECT p FROM Product p WHERE (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND p.isDeleted = false ORDER BY p.createdDate DESC")
-    Page<Product> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
-
-    @Query("SELECT p FROM Product p WHERE p.category.categoryId = :categoryId AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND p.isDeleted = false ORDER BY p.createdDate DESC")
-    Page<Product> searchByCategoryAndKeyword(@Param("categoryId") Long categoryId, @Param("keyword") String keyword, Pageable pageable);
-
     List<Product> findBySellerAndIsDeletedFalseOrderByCreatedDateDesc(User seller);
 
-    @Query("SELECT p FROM Product p WHERE p.seller.address LIKE %:district% AND p.isDeleted = false")
+    // 판매자 상품 최신 N개 (마이페이지 미리보기)
+    List<Product> findBySellerAndIsDeletedFalseOrderByCreatedDateDesc(User seller, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.seller.address LIKE %:district% AND p.isDeleted = false AND p.quarantinedAt IS NULL")
     Page<Product> findByDistrictAndIsDeletedFalse(@Param("district") String district, Pageable pageable);
 
-    @Query("SELECT p FROM Product p WHERE p.seller.address LIKE %:district% AND p.category.categoryId = :categoryId AND p.isDeleted = false")
+    @Query("SELECT p FROM Product p WHERE p.seller.address LIKE %:district% AND p.category.categoryId = :categoryId AND p.isDeleted = false AND p.quarantinedAt IS NULL")
     Page<Product> findByDistrictAndCategoryAndIsDeletedFalse(@Param("district") String district, @Param("categoryId") Long categoryId, Pageable pageable);
 
-    @Query("SELECT p FROM Product p WHERE p.seller.address LIKE %:district% AND p.title LIKE %:keyword% AND p.isDeleted = false")
+    @Query("SELECT p FROM Product p WHERE p.seller.address LIKE %:district% AND p.title LIKE %:keyword% AND p.isDeleted = false AND p.quarantinedAt IS NULL")
     Page<Product> findByDistrictAndKeywordAndIsDeletedFalse(@Param("district") String district, @Param("keyword") String keyword, Pageable pageable);
 
-    @Query("SELECT p FROM Product p WHERE p.seller.address LIKE %:district% AND p.category.categoryId = :categoryId AND p.title LIKE %:keyword% AND p.isDeleted = false")
+    @Query("SELECT p FROM Product p WHERE p.seller.address LIKE %:district% AND p.category.categoryId = :categoryId AND p.title LIKE %:keyword% AND p.isDeleted = false AND p.quarantinedAt IS NULL")
     Page<Product> findByDistrictAndCategoryAndKeywordAndIsDeletedFalse(@Param("district") String district, @Param("categoryId") Long categoryId, @Param("keyword") String keyword, Pageable pageable);
 
     @Query("SELECT DISTINCT CASE WHEN u.address LIKE '%구 %' THEN SUBSTRING(u.address, LOCATE('구', u.address) - LOCATE(' ', REVERSE(SUBSTRING(u.address, 1, LOCATE('구', u.address)))) + 1, LOCATE('구', u.address) - LOCATE(' ', REVERSE(SUBSTRING(u.address, 1, LOCATE('구', u.address)))) + 1) ELSE NULL END FROM User u WHERE u.address IS NOT NULL AND u.address LIKE '%구%' ORDER BY 1")
     List<String> findDistinctDistricts();
 
-    @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL ORDER BY p.createdDate DESC")
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND p.quarantinedAt IS NULL AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL ORDER BY p.createdDate DESC")
     List<Product> findAllWithCoordinates();
 
-    @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND p.latitude BETWEEN :minLat AND :maxLat AND p.longitude BETWEEN :minLng AND :maxLng ORDER BY p.createdDate DESC")
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND p.quarantinedAt IS NULL AND p.latitude BETWEEN :minLat AND :maxLat AND p.longitude BETWEEN :minLng AND :maxLng ORDER BY p.createdDate DESC")
     List<Product> findProductsInBounds(@Param("minLat") Double minLat, @Param("maxLat") Double maxLat, @Param("minLng") Double minLng, @Param("maxLng") Double maxLng);
 
     @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND (p.latitude IS NULL OR p.longitude IS NULL)")
@@ -82,9 +99,209 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     @Query("SELECT p FROM Product p " +
             "WHERE p.isDeleted = false " +
+            "AND p.quarantinedAt IS NULL " +
             "AND p.latitude IS NOT NULL " +
             "AND p.longitude IS NOT NULL " +
             "AND p.price <= :maxPrice " +
             "ORDER BY p.createdDate DESC")
     List<Product> findAllWithCoordinatesAndMaxPrice(@Param("maxPrice") Integer maxPrice);
-}
\ No newline at end of file
+
+    // ========== 🛒 구매 예약 ==========
+
+    /**
+     * 판매중인 상품을 예약중으로 원자적 변경 (조건부 UPDATE)
+     * 동시에 여러 구매 요청이 와도 DB가 한 건만 반영하므로 영향받은 행 수로 승자를 결정
+     * (비관적 락 / 재시도 없음, 상태가 없는 기존 데이터는 판매중으로 간주)
+     *
+     * @return 1이면 예약 성공, 0이면 이미 예약/판매됐거나 구매할 수 없는 상품 (삭제/신고 누적 격리 포함)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.status = com.project.gugumarket.ProductStatus.RESERVED " +
+            "WHERE p.productId = :productId " +
+            "AND (p.status = com.project.gugumarket.ProductStatus.SALE OR p.status IS NULL) " +
+            "AND p.isDeleted = false " +
+            "AND p.quarantinedAt IS NULL " +
+            "AND p.seller.userId <> :buyerId")
+    int reserveIfOnSale(@Param("productId") Long productId, @Param("buyerId") Long buyerId);
+
+    /**
+     * 예약 해제: 예약중인 상품만 판매중으로 되돌림 (만료 작업용 일괄 처리)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.status = com.project.gugumarket.ProductStatus.SALE " +
+            "WHERE p.productId IN :productIds " +
+            "AND p.status = com.project.gugumarket.ProductStatus.RESERVED")
+    int releaseReservations(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 예약중인 상품을 판매완료로 변경 (결제 완료 시, 예약이 그대로일 때만)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.status = com.project.gugumarket.ProductStatus.SOLD_OUT " +
+            "WHERE p.productId = :productId " +
+            "AND p.status = com.project.gugumarket.ProductStatus.RESERVED")
+    int markSoldIfReserved(@Param("productId") Long productId);
+
+    // ========== 🖼️ 이미지 축소본 ==========
+
+    /**
+     * 대표 이미지 축소본 URL 기록 (백그라운드 썸네일 생성 완료 시 호출)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.mainImageCard = :cardUrl, p.mainImageDetail = :detailUrl, p.mainImageMarker = :markerUrl " +
+            "WHERE p.mainImage = :mainImage")
+    int updateMainImageVariants(@Param("mainImage") String mainImage,
+                                @Param("cardUrl") String cardUrl,
+                                @Param("detailUrl") String detailUrl,
+                                @Param("markerUrl") String markerUrl);
+
+    // ========== 🧹 저장소 GC ==========
+
+    /**
+     * 사용 중인 대표 이미지 URL (삭제된 상품은 보관 기간이 지나지 않은 것만)
+     */
+    @Query("SELECT p.mainImage FROM Product p WHERE p.mainImage LIKE '/uploads/%' " +
+            "AND (p.isDeleted = false OR p.updatedDate > :deletedAfter)")
+    List<String> findReferencedMainImages(@Param("deletedAfter") LocalDateTime deletedAfter);
+
+    // ========== 🗑️ 관리자 일괄 삭제 ==========
+
+    /**
+     * 판매자 상품 전체 삭제 처리 (회원 삭제 시, 한 문장으로)
+     * @return 새로 삭제 처리된 상품 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.isDeleted = true, p.updatedDate = :now " +
+            "WHERE p.seller.userId = :sellerId AND (p.isDeleted = false OR p.isDeleted IS NULL)")
+    int softDeleteBySeller(@Param("sellerId") Long sellerId, @Param("now") LocalDateTime now);
+
+    /**
+     * 일괄 삭제 대상 상품 ID (필터 조건, 상품 ID 순으로 afterId 다음부터)
+     * 조건 값이 null이면 해당 조건은 무시
+     */
+    @Query("SELECT p.productId FROM Product p " +
+            "WHERE p.productId > :afterId AND p.isDeleted = false " +
+            "AND (:sellerId IS NULL OR p.seller.userId = :sellerId) " +
+            "AND (:keyword IS NULL OR p.title LIKE CONCAT('%', :keyword, '%')) " +
+            "AND (:createdFrom IS NULL OR p.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR p.createdDate < :createdTo) " +
+            "ORDER BY p.productId")
+    List<Long> findBulkTargetIds(@Param("afterId") Long afterId,
+                                 @Param("sellerId") Long sellerId,
+                                 @Param("keyword") String keyword,
+                                 @Param("createdFrom") LocalDateTime createdFrom,
+                                 @Param("createdTo") LocalDateTime createdTo,
+                                 Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM Product p " +
+            "WHERE p.isDeleted = false " +
+            "AND (:sellerId IS NULL OR p.seller.userId = :sellerId) " +
+            "AND (:keyword IS NULL OR p.title LIKE CONCAT('%', :keyword, '%')) " +
+            "AND (:createdFrom IS NULL OR p.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR p.createdDate < :createdTo)")
+    long countBulkTargets(@Param("sellerId") Long sellerId,
+                          @Param("keyword") String keyword,
+                          @Param("createdFrom") LocalDateTime createdFrom,
+                          @Param("createdTo") LocalDateTime createdTo);
+
+    /**
+     * 아직 삭제되지 않은 상품의 판매자 ID (마이페이지 캐시 제거 대상)
+     */
+    @Query("SELECT DISTINCT p.seller.userId FROM Product p " +
+            "WHERE p.productId IN :productIds AND (p.isDeleted = false OR p.isDeleted IS NULL)")
+    List<Long> findActiveSellerIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품 ID 묶음 삭제 처리 (이미 삭제된 상품은 건드리지 않음)
+     * @return 새로 삭제 처리된 상품 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.isDeleted = true, p.updatedDate = :now " +
+            "WHERE p.productId IN :productIds AND (p.isDeleted = false OR p.isDeleted IS NULL)")
+    int softDeleteByIds(@Param("productIds") Collection<Long> productIds, @Param("now") LocalDateTime now);
+
+    // ========== 📤 관리자 내보내기 ==========
+
+    /**
+     * 상품 내보내기 (ExportDataset.PRODUCTS 컬럼 순서, 삭제된 상품 포함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.productId, p.title, p.price, p.status, c.name, p.seller.userId, " +
+            "p.viewCount, p.isDeleted, p.createdDate, p.updatedDate " +
+            "FROM Product p LEFT JOIN p.category c " +
+            "WHERE (:createdFrom IS NULL OR p.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR p.createdDate < :createdTo) " +
+            "ORDER BY p.productId")
+    Stream<Object[]> streamForExport(@Param("createdFrom") LocalDateTime createdFrom,
+                                     @Param("createdTo") LocalDateTime createdTo);
+
+    // ========== 🚨 신고 누적 격리 ==========
+
+    /**
+     * 상품 격리 (이미 격리됐거나 삭제된 상품은 제외)
+     * 신고 커밋 후(AFTER_COMMIT) 호출되므로 자체 트랜잭션에서 바로 커밋
+     * @return 1이면 새로 격리됨
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE Product p SET p.quarantinedAt = :now, p.quarantineReason = :reason " +
+            "WHERE p.productId = :productId AND p.quarantinedAt IS NULL AND p.isDeleted = false")
+    int quarantine(@Param("productId") Long productId,
+                   @Param("reason") String reason,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 판매자의 판매 중인 상품 전체 격리 (자체 트랜잭션)
+     * @return 새로 격리된 상품 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE Product p SET p.quarantinedAt = :now, p.quarantineReason = :reason " +
+            "WHERE p.seller.userId = :sellerId AND p.quarantinedAt IS NULL AND p.isDeleted = false")
+    int quarantineBySeller(@Param("sellerId") Long sellerId,
+                           @Param("reason") String reason,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * 격리 해제 (관리자 검토 후)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.quarantinedAt = NULL, p.quarantineReason = NULL " +
+            "WHERE p.productId = :productId AND p.quarantinedAt IS NOT NULL")
+    int releaseQuarantine(@Param("productId") Long productId);
+
+    /**
+     * 관심 검색어 / 가격 인하 알림용 상품 정보 (판매 중이고 삭제/격리되지 않은 상품만)
+     */
+    @Query("SELECT new com.project.gugumarket.dto.ProductMatchRow(" +
+            "p.productId, p.seller.userId, p.title, p.category.categoryId, p.seller.address, p.price) " +
+            "FROM Product p " +
+            "WHERE p.productId = :productId AND p.isDeleted = false AND p.quarantinedAt IS NULL " +
+            "AND p.status = com.project.gugumarket.ProductStatus.SALE")
+    Optional<ProductMatchRow> findMatchRow(@Param("productId") Long productId);
+
+    /**
+     * 팔로우 피드 - 읽을 때 합치는 판매자들의 상품 ID (cursor보다 작은 것부터 최신순)
+     */
+    @Query("SELECT p.productId FROM Product p " +
+            "WHERE p.seller.userId IN :sellerIds AND p.productId < :cursor AND p.createdDate >= :since " +
+            "AND p.isDeleted = false AND p.quarantinedAt IS NULL " +
+            "ORDER BY p.productId DESC")
+    List<Long> findFeedIdsBySellers(@Param("sellerIds") Collection<Long> sellerIds,
+                                    @Param("cursor") Long cursor,
+                                    @Param("since") LocalDateTime since,
+                                    Pageable pageable);
+
+    /**
+     * 팔로우 피드 카드용 상품 (판매자/카테고리 함께)
+     */
+    @EntityGraph(attributePaths = {"seller", "category"})
+    @Query("SELECT p FROM Product p WHERE p.productId IN :productIds " +
+            "AND p.isDeleted = false AND p.quarantinedAt IS NULL")
+    List<Product> findFeedProducts(@Param("productIds") Collection<Long> productIds);
+}
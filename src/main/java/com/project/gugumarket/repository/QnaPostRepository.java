@@ -1,6 +1,8 @@
 package com.project.gugumarket.repository;
 
 import com.project.gugumarket.entity.QnaPost;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,19 +12,14 @@ import java.util.List;
 public interface QnaPostRepository extends JpaRepository<QnaPost, Long> {
 
     /**
-     * 전체 Q&A 조회 (최신순)
+     * 전체 Q&A 조회 (미답변 우선, 최신순) - 관리자 목록 페이지
      */
-    List<QnaPost> findAllByOrderByCreatedDateDesc();
+    Slice<QnaPost> findAllByOrderByIsAnsweredAscCreatedDateDesc(Pageable pageable);
 
     /**
-     * 전체 Q&A 조회 (미답변 우선, 최신순)
+     * 답변 상태별 Q&A 조회 (최신순) - 관리자 목록 페이지
      */
-    List<QnaPost> findAllByOrderByIsAnsweredAscCreatedDateDesc();
-
-    /**
-     * 답변 상태별 Q&A 조회
-     */
-    List<QnaPost> findByIsAnsweredOrderByCreatedDateDesc(Boolean isAnswered);
+    Slice<QnaPost> findByIsAnsweredOrderByCreatedDateDesc(Boolean isAnswered, Pageable pageable);
 
     /**
      * 미답변 Q&A 수 조회
@@ -33,9 +30,4 @@ public interface QnaPostRepository extends JpaRepository<QnaPost, Long> {
      * 특정 회원의 Q&A 조회 (최신순)
      */
     List<QnaPost> findByUserUserIdOrderByCreatedDateDesc(Long userId);
-
-    /**
-     * 제목 또는 내용으로 검색
-     */
-    List<QnaPost> findByTitleContainingOrContentContaining(String title, String content);
 }
\ No newline at end of file
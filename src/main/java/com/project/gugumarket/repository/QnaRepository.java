@@ -1,45 +1,60 @@
 package com.project.gugumarket.repository;
 
+import com.project.gugumarket.dto.QnaIndexEntry;
 import com.project.gugumarket.entity.QnaPost;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface QnaRepository extends JpaRepository<QnaPost, Long> {
 
     /**
-     * 전체 목록 조회 (최신순, 페이징)
+     * 게시판 목록 한 페이지의 글 ID (최신순)
+     * 글 본문/답변은 findWithAnswersByQnaIdIn으로 한 번에 읽음 (페이지 + 컬렉션 fetch join을 같이 쓰지 않기 위해)
      */
-    Page<QnaPost> findAllByOrderByCreatedDateDesc(Pageable pageable);
+    @Query("SELECT q.qnaId FROM QnaPost q ORDER BY q.createdDate DESC, q.qnaId DESC")
+    Slice<Long> findListIds(Pageable pageable);
 
     /**
-     * 제목 또는 내용으로 검색 (제목 + 내용 둘 다 검색)
+     * 목록/검색 결과 표시용 (작성자, 답변, 답변 관리자까지 한 번에)
      */
-    @Query("SELECT q FROM QnaPost q WHERE " +
-            "q.title LIKE %:keyword% OR q.content LIKE %:keyword% " +
-            "ORDER BY q.createdDate DESC")
-    Page<QnaPost> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "qnaAnswers", "qnaAnswers.admin"})
+    List<QnaPost> findWithAnswersByQnaIdIn(Collection<Long> qnaIds);
 
     /**
-     * 답변 상태별 조회
+     * 검색 인덱스 항목 (글 ID 순, afterId 다음부터)
      */
-    Page<QnaPost> findByIsAnsweredOrderByCreatedDateDesc(Boolean isAnswered, Pageable pageable);
+    @Query("SELECT new com.project.gugumarket.dto.QnaIndexEntry(q.qnaId, q.title, q.content) " +
+            "FROM QnaPost q WHERE q.qnaId > :afterId ORDER BY q.qnaId")
+    List<QnaIndexEntry> findIndexEntries(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.project.gugumarket.dto.QnaIndexEntry(q.qnaId, q.title, q.content) " +
+            "FROM QnaPost q WHERE q.qnaId IN :qnaIds")
+    List<QnaIndexEntry> findIndexEntriesByIds(@Param("qnaIds") Collection<Long> qnaIds);
+
+    /**
+     * 제목/내용 LIKE 검색 (글 ID 내림차순)
+     * 검색 인덱스를 처음 만드는 동안만 대신 사용 (전체 스캔이므로 평소에는 QnaSearchIndex)
+     */
+    @Query("SELECT q.qnaId FROM QnaPost q " +
+            "WHERE q.title LIKE CONCAT('%', :keyword, '%') OR q.content LIKE CONCAT('%', :keyword, '%') " +
+            "ORDER BY q.qnaId DESC")
+    Slice<Long> searchIdsByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     /**
-     * 답변 상태 + 검색
+     * 답변 상태별 조회
      */
-    @Query("SELECT q FROM QnaPost q WHERE " +
-            "(q.title LIKE %:keyword% OR q.content LIKE %:keyword%) " +
-            "AND q.isAnswered = :isAnswered " +
-            "ORDER BY q.createdDate DESC")
-    Page<QnaPost> searchByKeywordAndAnswerStatus(
-            @Param("keyword") String keyword,
-            @Param("isAnswered") Boolean isAnswered,
-            Pageable pageable);
+    Page<QnaPost> findByIsAnsweredOrderByCreatedDateDesc(Boolean isAnswered, Pageable pageable);
+
     /**
      * 미답변 Q&A 개수
      */
@@ -1,9 +1,19 @@
 package com.project.gugumarket.repository;
 
 import com.project.gugumarket.entity.Report;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
@@ -16,4 +26,67 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     // 🎯 User별 신고 목록 조회 추가
     List<Report> findByReporter_UserIdOrderByCreatedDateDesc(Long userId);
 
-}
\ No newline at end of file
+    // ========== ✅ 관리자 일괄 처리 ==========
+
+    /**
+     * 일괄 처리 대상 신고 ID (처리 대기 중인 신고, 신고 ID 순으로 afterId 다음부터)
+     */
+    @Query("SELECT r.reportId FROM Report r " +
+            "WHERE r.reportId > :afterId " +
+            "AND r.status = com.project.gugumarket.entity.Report.ReportStatus.PENDING " +
+            "AND (:productId IS NULL OR r.product.productId = :productId) " +
+            "AND (:createdFrom IS NULL OR r.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR r.createdDate < :createdTo) " +
+            "ORDER BY r.reportId")
+    List<Long> findBulkTargetIds(@Param("afterId") Long afterId,
+                                 @Param("productId") Long productId,
+                                 @Param("createdFrom") LocalDateTime createdFrom,
+                                 @Param("createdTo") LocalDateTime createdTo,
+                                 Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM Report r " +
+            "WHERE r.status = com.project.gugumarket.entity.Report.ReportStatus.PENDING " +
+            "AND (:productId IS NULL OR r.product.productId = :productId) " +
+            "AND (:createdFrom IS NULL OR r.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR r.createdDate < :createdTo)")
+    long countBulkTargets(@Param("productId") Long productId,
+                          @Param("createdFrom") LocalDateTime createdFrom,
+                          @Param("createdTo") LocalDateTime createdTo);
+
+    /**
+     * 신고 ID 묶음 중 처리 대기 신고의 상품별 수 (신고 카운터 갱신용)
+     * @return [상품 ID, 신고 수]
+     */
+    @Query("SELECT r.product.productId, COUNT(r) FROM Report r " +
+            "WHERE r.reportId IN :reportIds " +
+            "AND r.status = com.project.gugumarket.entity.Report.ReportStatus.PENDING " +
+            "GROUP BY r.product.productId")
+    List<Object[]> countPendingByProduct(@Param("reportIds") Collection<Long> reportIds);
+
+    /**
+     * 신고 ID 묶음 처리 완료 (처리 대기 중인 신고만)
+     * @return 새로 처리된 신고 수
+     */
+    @Modifying
+    @Query("UPDATE Report r SET r.status = com.project.gugumarket.entity.Report.ReportStatus.RESOLVED " +
+            "WHERE r.reportId IN :reportIds " +
+            "AND r.status = com.project.gugumarket.entity.Report.ReportStatus.PENDING")
+    int resolveByIds(@Param("reportIds") Collection<Long> reportIds);
+
+    // ========== 📤 관리자 내보내기 ==========
+
+    /**
+     * 신고 내보내기 (ExportDataset.REPORTS 컬럼 순서)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.reportId, r.product.productId, r.reporter.userId, r.reason, r.status, r.createdDate " +
+            "FROM Report r " +
+            "WHERE (:createdFrom IS NULL OR r.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR r.createdDate < :createdTo) " +
+            "ORDER BY r.reportId")
+    Stream<Object[]> streamForExport(@Param("createdFrom") LocalDateTime createdFrom,
+                                     @Param("createdTo") LocalDateTime createdTo);
+}
@@ -0,0 +1,37 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.dto.SavedSearchEntry;
+import com.project.gugumarket.entity.SavedSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    /**
+     * 사용자의 관심 검색어 (최신순)
+     */
+    @Query("SELECT s FROM SavedSearch s WHERE s.user.userId = :userId ORDER BY s.searchId DESC")
+    List<SavedSearch> findByUserId(@Param("userId") Long userId);
+
+    long countByUser_UserId(Long userId);
+
+    /**
+     * 매칭 인덱스 항목 (검색어 ID 순, afterId 다음부터)
+     */
+    @Query("SELECT new com.project.gugumarket.dto.SavedSearchEntry(" +
+            "s.searchId, s.user.userId, s.keyword, s.categoryId, s.district, s.maxPrice) " +
+            "FROM SavedSearch s WHERE s.searchId > :afterId ORDER BY s.searchId")
+    List<SavedSearchEntry> findIndexEntries(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.project.gugumarket.dto.SavedSearchEntry(" +
+            "s.searchId, s.user.userId, s.keyword, s.categoryId, s.district, s.maxPrice) " +
+            "FROM SavedSearch s WHERE s.searchId IN :searchIds")
+    List<SavedSearchEntry> findIndexEntriesByIds(@Param("searchIds") Collection<Long> searchIds);
+}
@@ -0,0 +1,52 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.entity.SellerFollowStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매자별 팔로워 수 Repository
+ * 갱신은 FollowService의 팔로우/언팔로우 트랜잭션 안에서
+ */
+public interface SellerFollowStatRepository extends JpaRepository<SellerFollowStat, Long> {
+
+    /**
+     * 팔로워 1 증가 (행이 없으면 생성), pullThreshold에 닿으면 PULL_MODE 켜기
+     * PULL_MODE는 갱신 전 FOLLOWER_COUNT 기준으로 계산하므로 FOLLOWER_COUNT보다 먼저 할당
+     */
+    @Modifying
+    @Query(value = "INSERT INTO SELLER_FOLLOW_STATS (SELLER_ID, FOLLOWER_COUNT, PULL_MODE, UPDATED_DATE) " +
+            "VALUES (:sellerId, 1, :pullThreshold <= 1, :now) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "PULL_MODE = PULL_MODE OR FOLLOWER_COUNT + 1 >= :pullThreshold, " +
+            "FOLLOWER_COUNT = FOLLOWER_COUNT + 1, " +
+            "UPDATED_DATE = :now",
+            nativeQuery = true)
+    int increment(@Param("sellerId") Long sellerId,
+                  @Param("pullThreshold") long pullThreshold,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 팔로워 1 감소 (PULL_MODE는 leavePullMode에서)
+     */
+    @Modifying
+    @Query("UPDATE SellerFollowStat s SET s.followerCount = s.followerCount - 1, s.updatedDate = :now " +
+            "WHERE s.sellerId = :sellerId AND s.followerCount > 0")
+    int decrement(@Param("sellerId") Long sellerId, @Param("now") LocalDateTime now);
+
+    /**
+     * 팔로워가 pushThreshold 미만이면 PULL_MODE 끄기
+     * pull-threshold보다 낮은 기준을 써서 경계 근처에서 팔로우/언팔로우가 반복돼도 방식이 계속 바뀌지 않도록
+     * @return 꺼졌으면 1 (이 트랜잭션에서 끈 경우만)
+     */
+    @Modifying
+    @Query("UPDATE SellerFollowStat s SET s.pullMode = false, s.updatedDate = :now " +
+            "WHERE s.sellerId = :sellerId AND s.pullMode = true AND s.followerCount < :pushThreshold")
+    int leavePullMode(@Param("sellerId") Long sellerId,
+                      @Param("pushThreshold") long pushThreshold,
+                      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,33 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.SettlementBatchStatus;
+import com.project.gugumarket.entity.SettlementBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SettlementBatchRepository extends JpaRepository<SettlementBatch, Long> {
+
+    // 이어서 처리할 배치 (가장 오래된 것부터)
+    Optional<SettlementBatch> findFirstByStatusOrderByBatchIdAsc(SettlementBatchStatus status);
+
+    // 최근 배치 목록 (관리자)
+    List<SettlementBatch> findTop20ByOrderByBatchIdDesc();
+
+    /**
+     * 체크포인트 이동 (구간 선점)
+     * 체크포인트가 예상 위치일 때만 성공 → 같은 구간을 두 번 처리하지 않음
+     * 구간 트랜잭션의 첫 쿼리로 호출해서 커밋까지 배치 행을 잠가둠
+     */
+    @Modifying
+    @Query("UPDATE SettlementBatch b SET b.checkpointTransactionId = :to " +
+            "WHERE b.batchId = :batchId AND b.checkpointTransactionId = :expected " +
+            "AND b.status = com.project.gugumarket.SettlementBatchStatus.RUNNING")
+    int advanceCheckpoint(@Param("batchId") Long batchId,
+                          @Param("expected") Long expected,
+                          @Param("to") Long to);
+}
@@ -0,0 +1,54 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.entity.Settlement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 정산 원장 Repository
+ * 변경 쿼리는 SettlementService의 구간 트랜잭션 안에서만 호출
+ */
+public interface SettlementRepository extends JpaRepository<Settlement, Long> {
+
+    /**
+     * 거래 ID 구간 하나의 미정산 완료 거래를 판매자별로 합산해서 원장에 누적
+     * (배치 × 판매자 행이 없으면 생성, 있으면 더함)
+     *
+     * @return 영향받은 원장 행 수 (MySQL 기준: 새 행 1, 누적된 행 2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO SETTLEMENTS (BATCH_ID, SELLER_ID, TRANSACTION_COUNT, TOTAL_AMOUNT, CREATED_DATE, UPDATED_DATE) " +
+            "SELECT * FROM (" +
+            "  SELECT :batchId AS batch_id, t.seller_id, COUNT(*) AS cnt, " +
+            "         SUM(COALESCE(t.paid_amount, p.PRICE)) AS amount, :now AS created, :now AS updated " +
+            "  FROM transactions t JOIN PRODUCTS p ON p.PRODUCT_ID = t.product_id " +
+            "  WHERE t.transaction_id BETWEEN :fromId AND :toId " +
+            "    AND t.status = 'COMPLETED' " +
+            "    AND (t.settled IS NULL OR t.settled = false) " +
+            "    AND COALESCE(t.completed_at, t.transaction_date) <= :cutoff " +
+            "  GROUP BY t.seller_id" +
+            ") AS s " +
+            "ON DUPLICATE KEY UPDATE TRANSACTION_COUNT = TRANSACTION_COUNT + s.cnt, " +
+            "TOTAL_AMOUNT = TOTAL_AMOUNT + s.amount, UPDATED_DATE = s.updated",
+            nativeQuery = true)
+    int accumulate(@Param("batchId") Long batchId,
+                   @Param("fromId") Long fromId,
+                   @Param("toId") Long toId,
+                   @Param("cutoff") LocalDateTime cutoff,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 배치 합계 [판매자 수, 거래 수, 금액] (한 행)
+     */
+    @Query("SELECT COUNT(s), COALESCE(SUM(s.transactionCount), 0), COALESCE(SUM(s.totalAmount), 0) " +
+            "FROM Settlement s WHERE s.batch.batchId = :batchId")
+    List<Object[]> summarize(@Param("batchId") Long batchId);
+
+    // 판매자 정산 내역 (최신 배치순)
+    List<Settlement> findBySeller_UserIdOrderByBatch_BatchIdDesc(Long sellerId);
+}
@@ -0,0 +1,45 @@
+package com.project.gugumarket.repository;
+
+import com.project.gugumarket.entity.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 저장 파일 참조 카운트 Repository
+ * 파일 시스템 작업과 짝을 맞춰야 하므로 모든 변경은 호출자 트랜잭션과 무관하게 즉시 커밋
+ */
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    /**
+     * 참조 추가 (없으면 1로 생성, 있으면 +1)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO STORED_FILES (FILE_NAME, FILE_SIZE, REF_COUNT, CREATED_DATE) " +
+            "VALUES (:fileName, :fileSize, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE REF_COUNT = REF_COUNT + 1",
+            nativeQuery = true)
+    int increaseRefCount(@Param("fileName") String fileName, @Param("fileSize") long fileSize);
+
+    /**
+     * 참조 해제 (0 미만으로 내려가지 않음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE StoredFile s SET s.refCount = s.refCount - 1 " +
+            "WHERE s.fileName = :fileName AND s.refCount > 0")
+    int decreaseRefCount(@Param("fileName") String fileName);
+
+    /**
+     * 참조가 0인 기록 삭제
+     * @return 1이면 삭제됨 (실제 파일도 지워도 됨), 0이면 아직 참조 중
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("DELETE FROM StoredFile s WHERE s.fileName = :fileName AND s.refCount = 0")
+    int deleteIfUnreferenced(@Param("fileName") String fileName);
+}
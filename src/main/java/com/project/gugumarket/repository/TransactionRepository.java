@@ -1,33 +1,236 @@
 package com.project.gugumarket.repository;
 
+import com.project.gugumarket.PaymentStatus;
+import com.project.gugumarket.TransactionStatus;
+import com.project.gugumarket.dto.TransactionSummaryDto;
 import com.project.gugumarket.entity.Transaction;
-import com.project.gugumarket.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    // 구매 내역 조회
-    List<Transaction> findByBuyerOrderByTransactionDateDesc(User buyer);
-
-    // 판매 내역 조회
-    List<Transaction> findBySellerOrderByTransactionDateDesc(User seller);
+    // 거래 내역 목록 프로젝션 (표시 컬럼만, 조인 한 번)
+    String SUMMARY_SELECT = "SELECT new com.project.gugumarket.dto.TransactionSummaryDto(" +
+            "t.transactionId, p.productId, p.title, p.price, COALESCE(p.mainImageCard, p.mainImage), " +
+            "b.userId, b.nickname, s.userId, s.nickname, t.depositorName, t.status, " +
+            "t.paymentMethod, t.paidAmount, t.transactionDate, t.createdDate) " +
+            "FROM Transaction t JOIN t.product p JOIN t.buyer b JOIN t.seller s ";
 
     // 특정 상품의 거래 내역
     List<Transaction> findByProduct_ProductId(Long productId);
 
-    // ========== 기존 메서드 (유지) ==========
-    List<Transaction> findBySeller(User seller);
-    List<Transaction> findByBuyer(User buyer);  // ⭐ 추가
-
     // ========== 카카오페이용 메서드 (새로 추가) ==========
 
-    // 구매자의 거래 목록 (최신순)
-    List<Transaction> findByBuyer_UserIdOrderByCreatedDateDesc(Long buyerId);
-
-    // 판매자의 거래 목록 (최신순)
-    List<Transaction> findBySeller_UserIdOrderByCreatedDateDesc(Long sellerId);
-
     // 특정 상품의 거래 목록
     List<Transaction> findByProduct_ProductIdOrderByCreatedDateDesc(Long productId);
-}
\ No newline at end of file
+
+    // 구매/판매 건수 (마이페이지 요약)
+    long countByBuyer_UserId(Long buyerId);
+
+    long countBySeller_UserId(Long sellerId);
+
+    // ========== 💳 결제 상태 전환 (조건부 UPDATE → 영향받은 행 수로 중복 처리 방지) ==========
+
+    /**
+     * 승인 콜백 수신: READY → APPROVING (멱등 키가 일치하는 첫 콜백만 성공)
+     * 키가 없던 기존 결제 / 상태가 없던 기존 거래는 그대로 허용
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Transaction t SET t.paymentStatus = com.project.gugumarket.PaymentStatus.APPROVING, " +
+            "t.pgToken = :pgToken, t.paymentUpdatedAt = :now " +
+            "WHERE t.transactionId = :transactionId " +
+            "AND (t.paymentKey IS NULL OR t.paymentKey = :paymentKey) " +
+            "AND (t.paymentStatus IS NULL OR t.paymentStatus = com.project.gugumarket.PaymentStatus.READY) " +
+            "AND t.status = com.project.gugumarket.TransactionStatus.PENDING")
+    int markApproving(@Param("transactionId") Long transactionId,
+                      @Param("paymentKey") String paymentKey,
+                      @Param("pgToken") String pgToken,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 상태 전환 (현재 상태가 from 중 하나일 때만)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Transaction t SET t.paymentStatus = :to, t.paymentUpdatedAt = :now " +
+            "WHERE t.transactionId = :transactionId " +
+            "AND (t.paymentStatus IN :from OR t.paymentStatus IS NULL)")
+    int transitionPayment(@Param("transactionId") Long transactionId,
+                          @Param("from") Collection<PaymentStatus> from,
+                          @Param("to") PaymentStatus to,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 카카오페이 승인 완료: PENDING 거래만 COMPLETED로 변경 (상품이 아직 예약중일 때만)
+     * 예약은 상품당 PENDING 거래 하나에만 걸리므로, 그 사이 취소/만료된 거래는 0건
+     *
+     * @return 1이면 완료 처리, 0이면 이미 취소/만료/완료된 거래
+     */
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = com.project.gugumarket.TransactionStatus.COMPLETED, " +
+            "t.kakaoPayAid = :aid, t.paymentMethodType = :paymentMethodType, " +
+            "t.approvedAt = :now, t.completedAt = :now " +
+            "WHERE t.transactionId = :transactionId " +
+            "AND t.status = com.project.gugumarket.TransactionStatus.PENDING " +
+            "AND t.product.productId IN (SELECT p.productId FROM Product p " +
+            "WHERE p.status = com.project.gugumarket.ProductStatus.RESERVED)")
+    int completeIfPending(@Param("transactionId") Long transactionId,
+                          @Param("aid") String aid,
+                          @Param("paymentMethodType") String paymentMethodType,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 대사 확인 시각 갱신 (같은 거래를 연달아 조회하지 않도록)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Transaction t SET t.paymentUpdatedAt = :now WHERE t.transactionId = :transactionId")
+    int touchPayment(@Param("transactionId") Long transactionId, @Param("now") LocalDateTime now);
+
+    /**
+     * 결과가 정해지지 않은 채 오래된 카카오페이 결제 (오래된 순)
+     */
+    @Query("SELECT t.transactionId FROM Transaction t " +
+            "WHERE t.paymentMethod = 'KAKAOPAY' " +
+            "AND t.status = com.project.gugumarket.TransactionStatus.PENDING " +
+            "AND t.tid IS NOT NULL " +
+            "AND t.paymentStatus IN (com.project.gugumarket.PaymentStatus.READY, com.project.gugumarket.PaymentStatus.APPROVING) " +
+            "AND t.paymentUpdatedAt < :before " +
+            "ORDER BY t.paymentUpdatedAt ASC")
+    List<Long> findPaymentsToReconcile(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // ========== 💰 정산 배치 ==========
+
+    /**
+     * 정산 대상(미정산 완료 거래) 거래 ID 범위 [최소, 최대] (한 행, 대상이 없으면 null)
+     */
+    @Query("SELECT MIN(t.transactionId), MAX(t.transactionId) FROM Transaction t " +
+            "WHERE t.status = com.project.gugumarket.TransactionStatus.COMPLETED " +
+            "AND (t.settled IS NULL OR t.settled = false) " +
+            "AND COALESCE(t.completedAt, t.transactionDate) <= :cutoff")
+    List<Object[]> findSettleableIdRange(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 거래 ID 구간 하나의 미정산 완료 거래를 한 번에 정산 완료 처리
+     * 조건은 SettlementRepository.accumulate()와 같아야 함 (같은 트랜잭션에서 연달아 호출)
+     */
+    @Modifying
+    @Query(value = "UPDATE transactions t JOIN PRODUCTS p ON p.PRODUCT_ID = t.product_id " +
+            "SET t.settled = true, t.settled_at = :now, " +
+            "t.settlement_amount = COALESCE(t.paid_amount, p.PRICE), t.settlement_batch_id = :batchId " +
+            "WHERE t.transaction_id BETWEEN :fromId AND :toId " +
+            "AND t.status = 'COMPLETED' " +
+            "AND (t.settled IS NULL OR t.settled = false) " +
+            "AND COALESCE(t.completed_at, t.transaction_date) <= :cutoff",
+            nativeQuery = true)
+    int markSettled(@Param("batchId") Long batchId,
+                    @Param("fromId") Long fromId,
+                    @Param("toId") Long toId,
+                    @Param("cutoff") LocalDateTime cutoff,
+                    @Param("now") LocalDateTime now);
+
+    // ========== ⏰ 예약 만료 ==========
+
+    /**
+     * 결제 없이 오래된 PENDING 거래 ID (오래된 순, (status, created_date) 인덱스 범위 스캔)
+     * 호출한 트랜잭션이 끝날 때까지 행을 잠그고, 다른 서버가 잠근 행은 건너뜀
+     * 카카오페이 승인이 진행 중(APPROVING)인 거래는 제외
+     */
+    @Query(value = "SELECT transaction_id FROM transactions " +
+            "WHERE status = 'PENDING' AND created_date < :cutoff " +
+            "AND (payment_status IS NULL OR payment_status = 'READY') " +
+            "ORDER BY created_date ASC LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockExpiredPendingIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 만료 알림용 조회 (상품/구매자/판매자 함께 로딩)
+     */
+    @Query("SELECT t FROM Transaction t " +
+            "JOIN FETCH t.product JOIN FETCH t.buyer JOIN FETCH t.seller " +
+            "WHERE t.transactionId IN :ids")
+    List<Transaction> findAllWithPartiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 만료 거래 일괄 취소 (카카오페이 결제 준비 상태였다면 결제도 실패 처리 → 이후 승인 콜백 무시)
+     */
+    @Modifying
+    @Query(value = "UPDATE transactions SET status = 'CANCELLED', cancelled_at = :now, cancel_reason = :reason, " +
+            "payment_status = IF(payment_status IS NULL, NULL, 'FAILED'), " +
+            "payment_updated_at = IF(payment_status IS NULL, payment_updated_at, :now) " +
+            "WHERE transaction_id IN (:ids) AND status = 'PENDING'",
+            nativeQuery = true)
+    int expirePending(@Param("ids") Collection<Long> ids,
+                      @Param("now") LocalDateTime now,
+                      @Param("reason") String reason);
+
+    // ========== 📜 거래 내역 (커서 페이지) ==========
+    // (seller_id, status) / (buyer_id, status) 인덱스 + 거래 ID 역순 → 내역이 아무리 많아도 커서 위치부터 size건만 읽음
+
+    @Query(SUMMARY_SELECT + "WHERE s.userId = :userId AND t.transactionId < :cursor ORDER BY t.transactionId DESC")
+    List<TransactionSummaryDto> findSalesPage(@Param("userId") Long userId,
+                                              @Param("cursor") Long cursor,
+                                              Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE s.userId = :userId AND t.status = :status AND t.transactionId < :cursor " +
+            "ORDER BY t.transactionId DESC")
+    List<TransactionSummaryDto> findSalesPageByStatus(@Param("userId") Long userId,
+                                                      @Param("status") TransactionStatus status,
+                                                      @Param("cursor") Long cursor,
+                                                      Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE b.userId = :userId AND t.transactionId < :cursor ORDER BY t.transactionId DESC")
+    List<TransactionSummaryDto> findPurchasesPage(@Param("userId") Long userId,
+                                                  @Param("cursor") Long cursor,
+                                                  Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE b.userId = :userId AND t.status = :status AND t.transactionId < :cursor " +
+            "ORDER BY t.transactionId DESC")
+    List<TransactionSummaryDto> findPurchasesPageByStatus(@Param("userId") Long userId,
+                                                          @Param("status") TransactionStatus status,
+                                                          @Param("cursor") Long cursor,
+                                                          Pageable pageable);
+
+    // ========== 📊 관리자 통계 ==========
+
+    /**
+     * 전체 완료 거래 [거래 수, 거래액] (한 행, 누적 지표 보정용)
+     */
+    @Query(value = "SELECT COUNT(*), COALESCE(SUM(COALESCE(t.paid_amount, p.PRICE)), 0) " +
+            "FROM transactions t JOIN PRODUCTS p ON p.PRODUCT_ID = t.product_id " +
+            "WHERE t.status = 'COMPLETED'",
+            nativeQuery = true)
+    List<Object[]> summarizeCompleted();
+
+    // ========== 📤 관리자 내보내기 ==========
+
+    /**
+     * 거래 내보내기 (ExportDataset.TRANSACTIONS 컬럼 순서, 거래 요청 시각 기준)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.transactionId, t.product.productId, t.seller.userId, t.buyer.userId, t.status, " +
+            "t.paymentMethod, t.paidAmount, t.transactionDate, t.completedAt, t.cancelledAt, t.settled " +
+            "FROM Transaction t " +
+            "WHERE (:createdFrom IS NULL OR t.transactionDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR t.transactionDate < :createdTo) " +
+            "ORDER BY t.transactionId")
+    Stream<Object[]> streamForExport(@Param("createdFrom") LocalDateTime createdFrom,
+                                     @Param("createdTo") LocalDateTime createdTo);
+}
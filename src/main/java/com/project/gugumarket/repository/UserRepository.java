@@ -1,12 +1,26 @@
 package com.project.gugumarket.repository;
 
+import com.project.gugumarket.dto.UserIndexEntry;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.entity.UserLevel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -23,17 +37,136 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // userName으로 조회 ✅
     Optional<User> findByUserName(String userName);
 
-    /**
-     * 전체 회원 조회 (최신순)
-     */
-    List<User> findAllByOrderByCreatedDateDesc();
+    // ========== 🛠️ 관리자 회원 목록 ==========
+    // Slice: 다음 페이지 여부만 확인 (전체 건수는 AdminUserIndex에서, COUNT 쿼리 X)
+
+    Slice<User> findAllBy(Pageable pageable);
+
+    Slice<User> findByIsActive(Boolean isActive, Pageable pageable);
+
+    Slice<User> findByUserLevel(UserLevel userLevel, Pageable pageable);
+
+    Slice<User> findByIsActiveAndUserLevel(Boolean isActive, UserLevel userLevel, Pageable pageable);
 
     /**
-     * 회원 검색 (아이디, 닉네임, 이메일)
+     * 관리자 검색 인덱스 항목 (회원 ID 순, afterId 다음부터)
      */
-    List<User> findByUserNameContainingOrNicknameContainingOrEmailContaining(
-            String userName, String nickname, String email);
+    @Query("SELECT new com.project.gugumarket.dto.UserIndexEntry(" +
+            "u.userId, u.userName, u.nickname, u.email, u.isActive, u.userLevel) " +
+            "FROM User u WHERE u.userId > :afterId ORDER BY u.userId")
+    List<UserIndexEntry> findIndexEntries(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.project.gugumarket.dto.UserIndexEntry(" +
+            "u.userId, u.userName, u.nickname, u.email, u.isActive, u.userLevel) " +
+            "FROM User u WHERE u.userId IN :userIds")
+    List<UserIndexEntry> findIndexEntriesByIds(@Param("userIds") Collection<Long> userIds);
     // ❌ findByUsername() 는 삭제!
     // email로 조회
     Optional<User> findByEmail(String email);
+
+    // 업로드 저장소를 쓰는 프로필 이미지 URL (저장소 GC)
+    @Query("SELECT u.profileImage FROM User u WHERE u.profileImage LIKE '/uploads/%'")
+    List<String> findUploadedProfileImages();
+
+    // ========== 🐣 회원 등급 ==========
+
+    /**
+     * 거래 횟수 +1 및 등급 갱신 (원자적 UPDATE, 동시에 거래가 끝나도 증가분이 사라지지 않음)
+     * MySQL은 SET을 왼쪽부터 적용하므로 등급을 먼저 계산하고 횟수를 나중에 증가
+     *
+     * @param adult / teen / baby 각 등급의 최소 거래 횟수 (UserLevel 기준)
+     */
+    @Modifying
+    @Query("UPDATE User u SET " +
+            "u.userLevel = CASE " +
+            "WHEN COALESCE(u.transactionCount, 0) + 1 >= :adult THEN com.project.gugumarket.entity.UserLevel.ADULT_BIRD " +
+            "WHEN COALESCE(u.transactionCount, 0) + 1 >= :teen THEN com.project.gugumarket.entity.UserLevel.TEEN_BIRD " +
+            "WHEN COALESCE(u.transactionCount, 0) + 1 >= :baby THEN com.project.gugumarket.entity.UserLevel.BABY_BIRD " +
+            "ELSE com.project.gugumarket.entity.UserLevel.EGG END, " +
+            "u.transactionCount = COALESCE(u.transactionCount, 0) + 1 " +
+            "WHERE u.userId IN :userIds")
+    int incrementTransactionCount(@Param("userIds") Collection<Long> userIds,
+                                  @Param("adult") int adult,
+                                  @Param("teen") int teen,
+                                  @Param("baby") int baby);
+
+    /**
+     * 회원 ID 구간 하나의 거래 횟수/등급을 완료 거래 기준으로 다시 계산 (구간마다 즉시 커밋)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE USERS u LEFT JOIN (" +
+            "  SELECT x.user_id, COUNT(*) AS cnt FROM (" +
+            "    SELECT seller_id AS user_id FROM transactions " +
+            "    WHERE status = 'COMPLETED' AND seller_id BETWEEN :fromId AND :toId " +
+            "    UNION ALL " +
+            "    SELECT buyer_id AS user_id FROM transactions " +
+            "    WHERE status = 'COMPLETED' AND buyer_id BETWEEN :fromId AND :toId" +
+            "  ) x GROUP BY x.user_id" +
+            ") c ON c.user_id = u.USER_ID " +
+            "SET u.USER_LEVEL = CASE " +
+            "WHEN COALESCE(c.cnt, 0) >= :adult THEN 'ADULT_BIRD' " +
+            "WHEN COALESCE(c.cnt, 0) >= :teen THEN 'TEEN_BIRD' " +
+            "WHEN COALESCE(c.cnt, 0) >= :baby THEN 'BABY_BIRD' " +
+            "ELSE 'EGG' END, " +
+            "u.TRANSACTION_COUNT = COALESCE(c.cnt, 0) " +
+            "WHERE u.USER_ID BETWEEN :fromId AND :toId",
+            nativeQuery = true)
+    int recalculateLevels(@Param("fromId") Long fromId,
+                          @Param("toId") Long toId,
+                          @Param("adult") int adult,
+                          @Param("teen") int teen,
+                          @Param("baby") int baby);
+
+    @Query("SELECT COALESCE(MAX(u.userId), 0) FROM User u")
+    Long findMaxUserId();
+
+    // ========== 🚫 관리자 일괄 정지 ==========
+
+    /**
+     * 일괄 정지 대상 회원 ID (가입 시각 조건, 회원 ID 순으로 afterId 다음부터, 관리자 제외)
+     */
+    @Query("SELECT u.userId FROM User u " +
+            "WHERE u.userId > :afterId AND u.isActive = true AND u.role <> 'ADMIN' " +
+            "AND (:createdFrom IS NULL OR u.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR u.createdDate < :createdTo) " +
+            "ORDER BY u.userId")
+    List<Long> findBulkSuspendTargetIds(@Param("afterId") Long afterId,
+                                        @Param("createdFrom") LocalDateTime createdFrom,
+                                        @Param("createdTo") LocalDateTime createdTo,
+                                        Pageable pageable);
+
+    @Query("SELECT COUNT(u) FROM User u " +
+            "WHERE u.isActive = true AND u.role <> 'ADMIN' " +
+            "AND (:createdFrom IS NULL OR u.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR u.createdDate < :createdTo)")
+    long countBulkSuspendTargets(@Param("createdFrom") LocalDateTime createdFrom,
+                                 @Param("createdTo") LocalDateTime createdTo);
+
+    /**
+     * 회원 ID 묶음 정지 (관리자 계정과 이미 정지된 회원은 제외)
+     * @return 새로 정지된 회원 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.isActive = false " +
+            "WHERE u.userId IN :userIds AND u.isActive = true AND u.role <> 'ADMIN'")
+    int suspendByIds(@Param("userIds") Collection<Long> userIds);
+
+    // ========== 📤 관리자 내보내기 ==========
+
+    /**
+     * 회원 내보내기 (ExportDataset.USERS 컬럼 순서, 가입 시각 조건은 null이면 무시)
+     * 엔티티가 아닌 값 배열로 한 행씩 읽음 → 영속성 컨텍스트에 쌓이지 않음 (읽기 전용 트랜잭션 안에서 사용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.userId, u.userName, u.nickname, u.email, u.role, u.isActive, " +
+            "u.userLevel, u.transactionCount, u.createdDate FROM User u " +
+            "WHERE (:createdFrom IS NULL OR u.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR u.createdDate < :createdTo) " +
+            "ORDER BY u.userId")
+    Stream<Object[]> streamForExport(@Param("createdFrom") LocalDateTime createdFrom,
+                                     @Param("createdTo") LocalDateTime createdTo);
 }
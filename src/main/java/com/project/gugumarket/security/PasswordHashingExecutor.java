@@ -0,0 +1,98 @@
+package com.project.gugumarket.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱(BCrypt) 전용 실행기
+ * - BCrypt 매칭은 CPU를 많이 쓰므로 Tomcat 요청 스레드가 아닌 별도 스레드 풀에서 실행
+ * - 큐가 가득 차면 즉시 거절(RejectedExecutionException)하여 나머지 API가 굶지 않도록 보호
+ * - 로그인 폭주 시에도 해싱에 쓰이는 스레드 수는 pool-size를 넘지 않음
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public PasswordHashingExecutor(
+            @Value("${security.login.hash-pool-size:2}") int poolSize,
+            @Value("${security.login.hash-queue-capacity:50}") int queueCapacity,
+            @Value("${security.login.hash-timeout-ms:5000}") long timeoutMillis) {
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),   // 대기열 상한 = 부하 차단 기준
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()       // 가득 차면 바로 거절
+        );
+        this.timeoutMillis = timeoutMillis;
+
+        log.info("✅ 비밀번호 해싱 실행기 초기화 - 스레드: {}, 대기열: {}, 타임아웃: {}ms",
+                poolSize, queueCapacity, timeoutMillis);
+    }
+
+    /**
+     * 해싱 작업을 전용 풀에서 실행하고 결과를 기다림
+     *
+     * @param task 실행할 작업 (예: AuthenticationManager.authenticate)
+     * @return 작업 결과
+     * @throws RejectedExecutionException 대기열이 가득 찼거나 제한 시간 내에 끝나지 않은 경우
+     * @throws RuntimeException 작업 내부에서 발생한 런타임 예외는 그대로 다시 던짐
+     */
+    public <T> T execute(Callable<T> task) {
+        Future<T> future = executor.submit(task);   // 대기열 초과 시 RejectedExecutionException
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("⚠️ 비밀번호 해싱 대기 시간 초과 - 대기열: {}", executor.getQueue().size());
+            throw new RejectedExecutionException("비밀번호 검증 대기 시간이 초과되었습니다.", e);
+
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("비밀번호 검증이 중단되었습니다.", e);
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;     // AuthenticationException 등은 호출자가 처리
+            }
+            throw new IllegalStateException("비밀번호 검증 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    /**
+     * 현재 대기 중인 해싱 작업 수
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,288 @@
+package com.project.gugumarket.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.gugumarket.ExportDataset;
+import com.project.gugumarket.ExportFormat;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.ReportRepository;
+import com.project.gugumarket.repository.TransactionRepository;
+import com.project.gugumarket.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 데이터 내보내기 (회원 / 상품 / 거래 / 신고 → CSV 또는 NDJSON)
+ *
+ * - Repository의 Stream 조회로 한 행씩 읽어서 바로 응답에 씀 → 전체 목록을 메모리에 올리지 않음
+ *   (MySQL은 fetch size Integer.MIN_VALUE일 때 행 단위 스트리밍)
+ * - 조회는 읽기 전용 트랜잭션 하나 안에서 (Stream이 열려 있는 동안 연결 유지)
+ * - 응답 쓰기는 내보내기 전용 스레드 풀에서 ResponseBodyEmitter로 (MVC 전체 비동기 설정은 건드리지 않음)
+ *   → 요청 처리 스레드를 오래 잡지 않고, 동시 내보내기 수는 max-concurrent로 제한
+ * - 내보내기 슬롯은 요청을 받을 때 잡고, 전용 스레드의 작업이 끝날 때 (정상/오류/연결 끊김 모두) 반납
+ *   작업을 스레드 풀에 넣지 못하면 바로 반납
+ */
+@Slf4j
+@Service
+public class AdminExportService {
+
+    private static final char UTF8_BOM = '\uFEFF';   // 엑셀에서 한글이 깨지지 않도록
+    private static final int SEND_CHUNK_BYTES = 64 * 1024;
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final TransactionRepository transactionRepository;
+    private final ReportRepository reportRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore permits;
+    private final int flushEvery;
+    private final long timeoutMillis;
+
+    public AdminExportService(UserRepository userRepository,
+                              ProductRepository productRepository,
+                              TransactionRepository transactionRepository,
+                              ReportRepository reportRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${admin.export.max-concurrent:2}") int maxConcurrent,
+                              @Value("${admin.export.timeout-seconds:600}") int timeoutSeconds,
+                              @Value("${admin.export.flush-every:1000}") int flushEvery) {
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.transactionRepository = transactionRepository;
+        this.reportRepository = reportRepository;
+        this.objectMapper = objectMapper;
+        this.flushEvery = Math.max(1, flushEvery);
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout(timeoutSeconds);
+
+        int threads = Math.max(1, maxConcurrent);
+        this.permits = new Semaphore(threads);
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(threads);
+        this.executor.setThreadNamePrefix("admin-export-");
+        this.executor.setDaemon(true);
+        this.executor.initialize();
+    }
+
+    /**
+     * 내보내기 시작 (조회/쓰기는 전용 스레드에서, 반환된 emitter로 응답에 씀)
+     *
+     * @param createdFrom 생성 시각 시작 (포함, 선택)
+     * @param createdTo 생성 시각 끝 (미포함, 선택)
+     * @throws IllegalArgumentException 기간이 잘못된 경우
+     * @throws IllegalStateException 동시 내보내기 수를 넘은 경우
+     */
+    public ResponseBodyEmitter export(ExportDataset dataset, ExportFormat format,
+                                      LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("기간 시작이 끝보다 빨라야 합니다.");
+        }
+        if (!permits.tryAcquire()) {
+            throw new IllegalStateException("진행 중인 내보내기가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        try {
+            executor.execute(() -> {
+                try {
+                    run(dataset, format, createdFrom, createdTo, emitter);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            permits.release();
+            throw new IllegalStateException("진행 중인 내보내기가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return emitter;
+    }
+
+    private void run(ExportDataset dataset, ExportFormat format,
+                     LocalDateTime createdFrom, LocalDateTime createdTo, ResponseBodyEmitter emitter) {
+        long start = System.currentTimeMillis();
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(new EmitterOutputStream(emitter), StandardCharsets.UTF_8));
+            long rows = readOnlyTransaction.execute(status -> {
+                try (Stream<Object[]> stream = open(dataset, createdFrom, createdTo)) {
+                    return write(dataset, format, stream, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            emitter.complete();
+            log.info("📤 {} 내보내기 완료 - {}건, {}, {}ms",
+                    dataset.getDescription(), rows, format, System.currentTimeMillis() - start);
+
+        } catch (UncheckedIOException | IOException e) {
+            // 대부분 다운로드 중 연결이 끊긴 경우 (제한 시간 초과 후 쓰기 포함)
+            Throwable cause = e instanceof UncheckedIOException unchecked ? unchecked.getCause() : e;
+            log.warn("⚠️ {} 내보내기 중단: {}", dataset.getDescription(), cause.getMessage());
+            emitter.completeWithError(cause);
+        } catch (Exception e) {
+            log.error("❌ {} 내보내기 실패: {}", dataset.getDescription(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 쓴 내용을 SEND_CHUNK_BYTES씩 (또는 flush 때) 묶어서 emitter로 보냄
+     */
+    private static final class EmitterOutputStream extends OutputStream {
+        private final ResponseBodyEmitter emitter;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(SEND_CHUNK_BYTES);
+
+        EmitterOutputStream(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            buffer.write(b);
+            if (buffer.size() >= SEND_CHUNK_BYTES) {
+                flush();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            buffer.write(b, off, len);
+            if (buffer.size() >= SEND_CHUNK_BYTES) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer.size() == 0) {
+                return;
+            }
+            byte[] chunk = buffer.toByteArray();
+            buffer.reset();
+            try {
+                emitter.send(chunk);
+            } catch (IllegalStateException e) {
+                // 제한 시간 초과 등으로 응답이 이미 끝남
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    private Stream<Object[]> open(ExportDataset dataset, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        return switch (dataset) {
+            case USERS -> userRepository.streamForExport(createdFrom, createdTo);
+            case PRODUCTS -> productRepository.streamForExport(createdFrom, createdTo);
+            case TRANSACTIONS -> transactionRepository.streamForExport(createdFrom, createdTo);
+            case REPORTS -> reportRepository.streamForExport(createdFrom, createdTo);
+        };
+    }
+
+    private long write(ExportDataset dataset, ExportFormat format, Stream<Object[]> stream, Writer writer)
+            throws IOException {
+        List<String> columns = dataset.getColumns();
+        long count = 0;
+
+        if (format == ExportFormat.CSV) {
+            writer.write(UTF8_BOM);
+            writeCsvLine(writer, columns.toArray());
+            for (Object[] row : (Iterable<Object[]>) stream::iterator) {
+                writeCsvLine(writer, row);
+                if (++count % flushEvery == 0) {
+                    writer.flush();
+                }
+            }
+            return count;
+        }
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);      // 객체 사이 구분은 줄바꿈만
+        for (Object[] row : (Iterable<Object[]>) stream::iterator) {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeFieldName(columns.get(i));
+                generator.writeObject(toJsonValue(row[i]));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (++count % flushEvery == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvCell(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 칸 하나 (쉼표/따옴표/줄바꿈은 따옴표로 감싸고, 수식으로 읽힐 수 있는 값은 앞에 ' 추가)
+     */
+    private static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value instanceof Enum<?> e ? e.name() : value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static Object toJsonValue(Object value) {
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        if (value instanceof TemporalAccessor) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,21 +1,40 @@
 package com.project.gugumarket.service;
 
+import com.project.gugumarket.AdminMetricType;
+import com.project.gugumarket.dto.AdminPageDto;
+import com.project.gugumarket.dto.ProductSimpleDto;
+import com.project.gugumarket.dto.QnaSimpleDto;
+import com.project.gugumarket.dto.UserListDto;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.QnaAnswer;
 import com.project.gugumarket.entity.QnaPost;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.entity.UserLevel;
+import com.project.gugumarket.event.AdminMetricEvent;
+import com.project.gugumarket.event.QnaChangedEvent;
+import com.project.gugumarket.event.UserChangedEvent;
 import com.project.gugumarket.repository.ProductRepository;
 import com.project.gugumarket.repository.QnaAnswerRepository;
 import com.project.gugumarket.repository.QnaPostRepository;
 import com.project.gugumarket.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,46 +46,60 @@ public class AdminService {
     private final ProductRepository productRepository;
     private final QnaPostRepository qnaPostRepository;
     private final QnaAnswerRepository qnaAnswerRepository;
+    private final ApplicationEventPublisher eventPublisher;  // 관리자 지표 / 회원 검색 인덱스 갱신
+    private final AdminStatsService adminStatsService;
+    private final AdminUserIndex adminUserIndex;
 
-    // ===== 통계 관련 =====
-
-    /**
-     * 전체 회원 수 조회
-     */
-    public long getTotalUsersCount() {
-        return userRepository.count();
-    }
-
-    /**
-     * 전체 상품 수 조회
-     */
-    public long getTotalProductsCount() {
-        return productRepository.count();
-    }
-
-    /**
-     * 미답변 Q&A 수 조회
-     */
-    public long getUnansweredQnaCount() {
-        return qnaPostRepository.countByIsAnswered(Boolean.FALSE);
-    }
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> USER_SORT_FIELDS = Set.of("createdDate", "userName", "nickname");
+    private static final Set<String> PRODUCT_SORT_FIELDS = Set.of("createdDate", "price", "viewCount");
 
     // ===== 회원 관리 =====
 
     /**
-     * 전체 회원 목록 조회
+     * 회원 목록 페이지
+     * - 검색어가 있으면 메모리 인덱스에서 아이디/닉네임/이메일 접두사 검색 후 해당 회원만 조회
+     * - 없으면 필터 + 정렬로 한 페이지만 조회, 전체 건수/필터별 건수는 인덱스에서
+     *
+     * @param search 검색어 (접두사, 선택)
+     * @param active 활성 여부 (선택)
+     * @param level 등급 (선택)
+     * @param sort "필드,방향" (createdDate / userName / nickname, 기본: createdDate,desc)
      */
-    public List<User> getAllUsers() {
-        return userRepository.findAllByOrderByCreatedDateDesc();
-    }
+    public AdminPageDto<UserListDto> getUsersPage(String search, Boolean active, UserLevel level,
+                                                  String sort, int page, int size) {
+        int safePage = Math.max(0, page);
+        int safeSize = pageSize(size);
+
+        if (search != null && !search.isBlank()) {
+            AdminUserIndex.SearchResult result = adminUserIndex.search(search, active, level, safePage, safeSize);
+
+            Map<Long, User> found = userRepository.findAllById(result.userIds()).stream()
+                    .collect(Collectors.toMap(User::getUserId, user -> user));
+            List<UserListDto> items = result.userIds().stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .map(UserListDto::fromEntity)
+                    .toList();
+
+            return new AdminPageDto<>(items, safePage, safeSize, result.totalMatches(), result.hasNext(),
+                    adminUserIndex.facets());
+        }
 
-    /**
-     * 회원 검색
-     */
-    public List<User> searchUsers(String keyword) {
-        return userRepository.findByUserNameContainingOrNicknameContainingOrEmailContaining(
-                keyword, keyword, keyword
-        );
+        Pageable pageable = PageRequest.of(safePage, safeSize, toSort(sort, USER_SORT_FIELDS));
+        Slice<User> users;
+        if (active != null && level != null) {
+            users = userRepository.findByIsActiveAndUserLevel(active, level, pageable);
+        } else if (active != null) {
+            users = userRepository.findByIsActive(active, pageable);
+        } else if (level != null) {
+            users = userRepository.findByUserLevel(level, pageable);
+        } else {
+            users = userRepository.findAllBy(pageable);
+        }
+
+        return new AdminPageDto<>(users.map(UserListDto::fromEntity).getContent(), safePage, safeSize,
+                adminUserIndex.count(active, level), users.hasNext(), adminUserIndex.facets());
     }
 
     /**
@@ -86,6 +119,7 @@ public class AdminService {
         boolean currentStatus = Boolean.TRUE.equals(user.getIsActive());
         user.setIsActive(!currentStatus);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(userId));
         log.info("회원 상태 변경: userId={}, isActive={}", userId, user.getIsActive());
         return Boolean.TRUE.equals(user.getIsActive());
     }
@@ -97,39 +131,59 @@ public class AdminService {
     public void deleteUser(Long userId) {
         User user = getUserById(userId);
 
-        // 해당 회원의 상품들을 삭제 처리
-        List<Product> products = productRepository.findBySellerUserId(userId);
-        products.forEach(product -> {
-            product.setIsDeleted(true);
-            productRepository.save(product);
-        });
+        // 해당 회원의 상품들을 한 문장으로 삭제 처리 (상품마다 조회/저장 X)
+        int deleted = productRepository.softDeleteBySeller(userId, LocalDateTime.now());
+        if (deleted > 0) {
+            eventPublisher.publishEvent(new AdminMetricEvent(AdminMetricType.DELETED_PRODUCTS, deleted));
+        }
 
         // 회원 삭제
         userRepository.delete(user);
+        eventPublisher.publishEvent(AdminMetricEvent.decrement(AdminMetricType.TOTAL_USERS));
+        eventPublisher.publishEvent(UserChangedEvent.of(userId));
         log.info("회원 삭제 완료: userId={}", userId);
     }
 
     // ===== 상품 관리 =====
 
     /**
-     * 전체 상품 목록 조회
-     */
-    public List<Product> getAllProducts() {
-        return productRepository.findAllByOrderByCreatedDateDesc();
-    }
-
-    /**
-     * 상품 검색
+     * 상품 목록 페이지
+     * 전체 건수/삭제 여부별 건수는 관리자 누적 지표에서 (검색 결과는 건수 없이 다음 페이지 여부만)
+     *
+     * @param search 제목/내용 검색어 (선택)
+     * @param isDeleted 삭제 상태 필터 (선택, 검색어가 있으면 무시)
+     * @param sort "필드,방향" (createdDate / price / viewCount, 기본: createdDate,desc)
      */
-    public List<Product> searchProducts(String keyword) {
-        return productRepository.findByTitleContainingOrContentContaining(keyword, keyword);
-    }
+    public AdminPageDto<ProductSimpleDto> getProductsPage(String search, Boolean isDeleted,
+                                                          String sort, int page, int size) {
+        int safePage = Math.max(0, page);
+        int safeSize = pageSize(size);
+        Pageable pageable = PageRequest.of(safePage, safeSize, toSort(sort, PRODUCT_SORT_FIELDS));
+
+        Map<AdminMetricType, Long> metrics = adminStatsService.getMetrics();
+        long total = metrics.get(AdminMetricType.TOTAL_PRODUCTS);
+        long deleted = metrics.get(AdminMetricType.DELETED_PRODUCTS);
+
+        Map<String, Long> facets = new LinkedHashMap<>();
+        facets.put("total", total);
+        facets.put("active", total - deleted);
+        facets.put("deleted", deleted);
+
+        Slice<Product> products;
+        Long totalElements;
+        if (search != null && !search.isBlank()) {
+            products = productRepository.findByTitleContainingOrContentContaining(search.trim(), search.trim(), pageable);
+            totalElements = null;
+        } else if (isDeleted != null) {
+            products = productRepository.findByIsDeleted(isDeleted, pageable);
+            totalElements = isDeleted ? deleted : total - deleted;
+        } else {
+            products = productRepository.findAllBy(pageable);
+            totalElements = total;
+        }
 
-    /**
-     * 삭제 상태별 상품 조회
-     */
-    public List<Product> getProductsByDeletedStatus(Boolean isDeleted) {
-        return productRepository.findByIsDeletedOrderByCreatedDateDesc(isDeleted);
+        return new AdminPageDto<>(products.map(ProductSimpleDto::fromEntity).getContent(),
+                safePage, safeSize, totalElements, products.hasNext(), facets);
     }
 
     /**
@@ -147,6 +201,9 @@ public class AdminService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
 
+        if (!Boolean.TRUE.equals(product.getIsDeleted())) {
+            eventPublisher.publishEvent(AdminMetricEvent.increment(AdminMetricType.DELETED_PRODUCTS));
+        }
         product.setIsDeleted(true);
         productRepository.save(product);
         log.info("상품 삭제 완료: productId={}", productId);
@@ -155,10 +212,31 @@ public class AdminService {
     // ===== Q&A 관리 =====
 
     /**
-     * 전체 Q&A 목록 조회 (미답변 우선)
+     * Q&A 목록 페이지 (필터 없으면 미답변 우선, 최신순)
+     *
+     * @param answered 답변 상태 필터 (선택)
      */
-    public List<QnaPost> getAllQnaPostsSortedByAnswered() {
-        return qnaPostRepository.findAllByOrderByIsAnsweredAscCreatedDateDesc();
+    public AdminPageDto<QnaSimpleDto> getQnaPage(Boolean answered, int page, int size) {
+        int safePage = Math.max(0, page);
+        int safeSize = pageSize(size);
+        Pageable pageable = PageRequest.of(safePage, safeSize);
+
+        Map<AdminMetricType, Long> metrics = adminStatsService.getMetrics();
+        long total = metrics.get(AdminMetricType.TOTAL_QNA);
+        long unanswered = metrics.get(AdminMetricType.UNANSWERED_QNA);
+
+        Map<String, Long> facets = new LinkedHashMap<>();
+        facets.put("total", total);
+        facets.put("answered", total - unanswered);
+        facets.put("unanswered", unanswered);
+
+        Slice<QnaPost> qnaPosts = answered == null
+                ? qnaPostRepository.findAllByOrderByIsAnsweredAscCreatedDateDesc(pageable)
+                : qnaPostRepository.findByIsAnsweredOrderByCreatedDateDesc(answered, pageable);
+        Long totalElements = answered == null ? total : (answered ? total - unanswered : unanswered);
+
+        return new AdminPageDto<>(qnaPosts.map(QnaSimpleDto::fromEntity).getContent(),
+                safePage, safeSize, totalElements, qnaPosts.hasNext(), facets);
     }
 
     /**
@@ -198,7 +276,30 @@ public class AdminService {
         // Q&A 답변 완료 상태로 변경
         qnaPost.setIsAnswered(true);  // ✅ setIsAnswered 사용
         qnaPostRepository.save(qnaPost);
+        eventPublisher.publishEvent(AdminMetricEvent.decrement(AdminMetricType.UNANSWERED_QNA));
+        eventPublisher.publishEvent(new QnaChangedEvent(qnaId));
 
         log.info("Q&A 답변 등록 완료: qnaId={}, adminId={}", qnaId, admin.getUserId());
     }
-}
\ No newline at end of file
+
+    // ===== 목록 공통 =====
+
+    private int pageSize(int size) {
+        return Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * "필드,방향" → Sort (허용된 필드만, 아니면 최신순)
+     */
+    private Sort toSort(String sort, Set<String> allowedFields) {
+        if (sort != null) {
+            String[] parts = sort.split(",");
+            String property = parts[0].trim();
+            if (allowedFields.contains(property)) {
+                boolean asc = parts.length > 1 && parts[1].trim().equalsIgnoreCase("asc");
+                return Sort.by(asc ? Sort.Order.asc(property) : Sort.Order.desc(property));
+            }
+        }
+        return Sort.by(Sort.Order.desc("createdDate"));
+    }
+}
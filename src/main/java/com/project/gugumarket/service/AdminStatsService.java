@@ -0,0 +1,304 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.AdminMetricType;
+import com.project.gugumarket.RollupGranularity;
+import com.project.gugumarket.dto.AdminDashboardDto;
+import com.project.gugumarket.dto.MetricRollupDto;
+import com.project.gugumarket.entity.AdminMetric;
+import com.project.gugumarket.event.AdminMetricEvent;
+import com.project.gugumarket.event.TransactionCompletedEvent;
+import com.project.gugumarket.repository.AdminMetricRepository;
+import com.project.gugumarket.repository.MetricRollupRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.QnaPostRepository;
+import com.project.gugumarket.repository.ReportRepository;
+import com.project.gugumarket.repository.TransactionRepository;
+import com.project.gugumarket.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 통계 (미리 계산해 둔 값만 읽음)
+ *
+ * 1. 누적 지표 (ADMIN_METRICS)
+ *    - 가입/상품 등록·삭제/Q&A 작성·답변/신고/거래 완료 이벤트마다 커밋 후 원자적 UPSERT로 증감
+ *    - 커밋 후 반영이라 서버가 그 사이에 내려가면 빠질 수 있음 → 매일 실제 COUNT로 덮어써서 보정
+ * 2. 시간별/일별 추이 (METRIC_ROLLUPS)
+ *    - 주기적으로 최근 몇 시간/며칠 구간을 원본 테이블에서 다시 집계해서 덮어씀 (늦게 커밋된 데이터도 반영)
+ *    - 백필: 지정한 일수만큼 과거부터 하루씩 트랜잭션을 나눠서 채움
+ *
+ * 대시보드는 지표 몇 행 + 최근 구간 몇 행만 읽으므로 데이터 양과 무관하게 일정한 비용
+ */
+@Slf4j
+@Service
+public class AdminStatsService {
+
+    static final String JOB_NAME = "admin-stats-rollup";
+    private static final int MAX_SERIES_SIZE = 500;
+
+    private final AdminMetricRepository metricRepository;
+    private final MetricRollupRepository rollupRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final QnaPostRepository qnaPostRepository;
+    private final ReportRepository reportRepository;
+    private final TransactionRepository transactionRepository;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final int recentHours;
+    private final int recentDays;
+    private final int maxBackfillDays;
+    private final int dashboardHours;
+    private final int dashboardDays;
+    private final Duration leaseTime;
+
+    public AdminStatsService(AdminMetricRepository metricRepository,
+                             MetricRollupRepository rollupRepository,
+                             UserRepository userRepository,
+                             ProductRepository productRepository,
+                             QnaPostRepository qnaPostRepository,
+                             ReportRepository reportRepository,
+                             TransactionRepository transactionRepository,
+                             JobLeaseService jobLeaseService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${admin.stats.rollup.recent-hours:3}") int recentHours,
+                             @Value("${admin.stats.rollup.recent-days:2}") int recentDays,
+                             @Value("${admin.stats.backfill.max-days:365}") int maxBackfillDays,
+                             @Value("${admin.stats.dashboard.hours:24}") int dashboardHours,
+                             @Value("${admin.stats.dashboard.days:30}") int dashboardDays,
+                             @Value("${admin.stats.lease-seconds:600}") long leaseSeconds) {
+        this.metricRepository = metricRepository;
+        this.rollupRepository = rollupRepository;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.qnaPostRepository = qnaPostRepository;
+        this.reportRepository = reportRepository;
+        this.transactionRepository = transactionRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recentHours = Math.max(1, recentHours);
+        this.recentDays = Math.max(1, recentDays);
+        this.maxBackfillDays = Math.max(1, maxBackfillDays);
+        this.dashboardHours = Math.max(1, dashboardHours);
+        this.dashboardDays = Math.max(1, dashboardDays);
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    // ===== 누적 지표 증감 =====
+
+    /**
+     * 원본 커밋 후 지표 증감 (트랜잭션 밖에서 발행된 경우 바로 반영)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMetricChanged(AdminMetricEvent event) {
+        increment(event.type(), event.delta());
+    }
+
+    /**
+     * 거래 완료 커밋 후 완료 거래 수 / 거래액 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        increment(AdminMetricType.COMPLETED_TRADES, 1);
+        if (event.amount() != null) {
+            increment(AdminMetricType.TOTAL_GMV, event.amount());
+        }
+    }
+
+    private void increment(AdminMetricType type, long delta) {
+        try {
+            metricRepository.increment(type.name(), delta, LocalDateTime.now());
+        } catch (Exception e) {
+            // 원본은 이미 커밋됨 → 지표 누락은 다음 보정 때 맞춰짐
+            log.warn("⚠️ 관리자 지표 반영 실패 - {} {}: {}", type, delta, e.getMessage());
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 관리자 대시보드 (누적 지표 + 최근 시간별/일별 추이)
+     */
+    public AdminDashboardDto getDashboard() {
+        Map<AdminMetricType, Long> metrics = getMetrics();
+
+        return AdminDashboardDto.builder()
+                .totalUsers(metrics.get(AdminMetricType.TOTAL_USERS))
+                .totalProducts(metrics.get(AdminMetricType.TOTAL_PRODUCTS))
+                .unansweredQna(metrics.get(AdminMetricType.UNANSWERED_QNA))
+                .completedTrades(metrics.get(AdminMetricType.COMPLETED_TRADES))
+                .totalGmv(metrics.get(AdminMetricType.TOTAL_GMV))
+                .totalReports(metrics.get(AdminMetricType.TOTAL_REPORTS))
+                .hourly(getSeries(RollupGranularity.HOUR, dashboardHours))
+                .daily(getSeries(RollupGranularity.DAY, dashboardDays))
+                .build();
+    }
+
+    /**
+     * 누적 지표 전체 (아직 행이 없는 지표는 0)
+     */
+    public Map<AdminMetricType, Long> getMetrics() {
+        Map<AdminMetricType, Long> metrics = new EnumMap<>(AdminMetricType.class);
+        for (AdminMetricType type : AdminMetricType.values()) {
+            metrics.put(type, 0L);
+        }
+        for (AdminMetric metric : metricRepository.findAll()) {
+            try {
+                metrics.put(AdminMetricType.valueOf(metric.getMetricName()), metric.getMetricValue());
+            } catch (IllegalArgumentException ignored) {
+                // 더 이상 쓰지 않는 지표 행
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * 최근 구간 추이 (오래된 구간 → 최근 구간 순)
+     * 집계 작업이 아직 안 돈 구간이나 데이터가 없던 구간은 행이 없음
+     */
+    public List<MetricRollupDto> getSeries(RollupGranularity granularity, int size) {
+        int limit = Math.min(Math.max(1, size), MAX_SERIES_SIZE);
+
+        List<MetricRollupDto> series = new ArrayList<>(rollupRepository
+                .findByGranularityOrderByBucketStartDesc(granularity, PageRequest.of(0, limit))
+                .stream()
+                .map(MetricRollupDto::fromEntity)
+                .toList());
+        Collections.reverse(series);
+        return series;
+    }
+
+    // ===== 집계 작업 =====
+
+    /**
+     * 최근 구간 다시 집계 (아직 행이 없는 누적 지표가 있으면 실제 값으로 채움)
+     */
+    @Scheduled(fixedDelayString = "${admin.stats.rollup.interval-ms:300000}",
+            initialDelayString = "${admin.stats.rollup.initial-delay-ms:60000}")
+    public void rollUpRecent() {
+        if (!jobLeaseService.tryAcquire(JOB_NAME, leaseTime)) {
+            return;
+        }
+
+        try {
+            if (metricRepository.count() < AdminMetricType.values().length) {
+                recountMetrics();
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime nextHour = RollupGranularity.HOUR.bucketOf(now).plusHours(1);
+            LocalDateTime tomorrow = RollupGranularity.DAY.bucketOf(now).plusDays(1);
+
+            recomputeRange(RollupGranularity.HOUR, nextHour.minusHours(recentHours), nextHour);
+            recomputeRange(RollupGranularity.DAY, tomorrow.minusDays(recentDays), tomorrow);
+
+        } catch (Exception e) {
+            log.error("❌ 관리자 통계 집계 실패 (다음 주기에 다시 집계): {}", e.getMessage());
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * 누적 지표 보정 (매일, 실제 COUNT 값으로 덮어씀)
+     */
+    @Scheduled(cron = "${admin.stats.recount-cron:0 10 4 * * *}")
+    public void recountScheduled() {
+        if (!jobLeaseService.tryAcquire(JOB_NAME, leaseTime)) {
+            log.info("📊 관리자 지표 보정 건너뜀: 다른 곳에서 집계 중");
+            return;
+        }
+
+        try {
+            recountMetrics();
+        } catch (Exception e) {
+            log.error("❌ 관리자 지표 보정 실패: {}", e.getMessage());
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * 과거 통계 백필 (오늘 포함 최근 days일, 하루씩 커밋) + 누적 지표 보정
+     * @return 처리한 일수
+     * @throws IllegalArgumentException days가 범위를 벗어난 경우
+     * @throws IllegalStateException 다른 곳에서 집계 중인 경우
+     */
+    public int backfill(int days) {
+        if (days < 1 || days > maxBackfillDays) {
+            throw new IllegalArgumentException("백필 일수는 1 ~ " + maxBackfillDays + "일만 가능합니다.");
+        }
+        if (!jobLeaseService.tryAcquire(JOB_NAME, leaseTime)) {
+            throw new IllegalStateException("다른 곳에서 통계 집계가 진행 중입니다.");
+        }
+
+        try {
+            LocalDate today = LocalDate.now();
+            for (LocalDate day = today.minusDays(days - 1); !day.isAfter(today); day = day.plusDays(1)) {
+                LocalDateTime from = day.atStartOfDay();
+                LocalDateTime to = from.plusDays(1);
+                recomputeRange(RollupGranularity.HOUR, from, to);
+                recomputeRange(RollupGranularity.DAY, from, to);
+
+                // 긴 백필 중에 리스가 만료되지 않도록 연장
+                jobLeaseService.tryAcquire(JOB_NAME, leaseTime);
+            }
+
+            recountMetrics();
+            log.info("✅ 관리자 통계 백필 완료 - 최근 {}일", days);
+            return days;
+
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * [from, to) 구간을 비우고 다시 집계 (한 트랜잭션)
+     */
+    private void recomputeRange(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            rollupRepository.resetRange(granularity, from, to, now);
+            rollupRepository.recompute(granularity.name(), granularity.getBucketFormat(), from, to, now);
+        });
+    }
+
+    /**
+     * 누적 지표를 실제 값으로 덮어쓰기
+     * (COUNT와 덮어쓰기 사이에 들어온 증감은 다음 보정 때 맞춰짐)
+     */
+    private void recountMetrics() {
+        LocalDateTime now = LocalDateTime.now();
+        Object[] completed = transactionRepository.summarizeCompleted().get(0);
+
+        metricRepository.overwrite(AdminMetricType.TOTAL_USERS.name(), userRepository.count(), now);
+        metricRepository.overwrite(AdminMetricType.TOTAL_PRODUCTS.name(), productRepository.count(), now);
+        metricRepository.overwrite(AdminMetricType.DELETED_PRODUCTS.name(),
+                productRepository.count() - productRepository.countActiveProducts(), now);
+        metricRepository.overwrite(AdminMetricType.TOTAL_QNA.name(), qnaPostRepository.count(), now);
+        metricRepository.overwrite(AdminMetricType.UNANSWERED_QNA.name(),
+                qnaPostRepository.countByIsAnswered(Boolean.FALSE), now);
+        metricRepository.overwrite(AdminMetricType.COMPLETED_TRADES.name(), ((Number) completed[0]).longValue(), now);
+        metricRepository.overwrite(AdminMetricType.TOTAL_GMV.name(), ((Number) completed[1]).longValue(), now);
+        metricRepository.overwrite(AdminMetricType.TOTAL_REPORTS.name(), reportRepository.count(), now);
+
+        log.info("📊 관리자 누적 지표 보정 완료");
+    }
+}
@@ -0,0 +1,237 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.UserIndexEntry;
+import com.project.gugumarket.entity.UserLevel;
+import com.project.gugumarket.event.TransactionCompletedEvent;
+import com.project.gugumarket.event.UserChangedEvent;
+import com.project.gugumarket.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 관리자 회원 검색용 메모리 인덱스
+ *
+ * - 아이디/닉네임/이메일을 소문자로 바꿔 "값 + 구분자 + 회원 ID" 형태로 정렬 집합에 보관
+ *   → 접두사 검색은 정렬 집합의 구간 조회 (LIKE '%kw%' 전체 스캔 X)
+ * - 활성/정지 × 등급별 회원 수를 같이 관리 → 필터별 건수(facets)를 COUNT 쿼리 없이 응답
+ *
+ * 갱신 (SnapshotIndex):
+ * - 이 서버에서 일어난 가입/수정/정지/삭제, 거래 완료(등급 변경)는 커밋 후 해당 회원만 다시 읽음
+ * - 다른 서버에서 일어난 변경은 주기적인 전체 재구성으로 반영 (refresh-ms 안에 맞춰짐)
+ * - 처음 만드는 것은 애플리케이션 시작 직후 백그라운드에서, 그 전에 들어온 관리자 조회는 완료까지 기다림
+ *
+ * 회원 한 명당 문자열 3개 정도만 들고 있으므로 수십만 명 규모까지는 수십 MB 이내
+ */
+@Slf4j
+@Service
+public class AdminUserIndex extends SnapshotIndex<AdminUserIndex.Snapshot, UserIndexEntry> {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final char MAX_CHAR = '\uffff';
+    private static final int LEVEL_COUNT = UserLevel.values().length;
+
+    private final UserRepository userRepository;
+    private final int maxMatches;
+
+    public AdminUserIndex(UserRepository userRepository,
+                          @Value("${admin.user-index.chunk-size:5000}") int chunkSize,
+                          @Value("${admin.user-index.max-matches:1000}") int maxMatches) {
+        super("회원 검색 인덱스", chunkSize);
+        this.userRepository = userRepository;
+        this.maxMatches = Math.max(1, maxMatches);
+    }
+
+    /**
+     * 검색 결과
+     * @param userIds 이번 페이지 회원 ID (일치한 값의 사전순)
+     * @param totalMatches 전체 일치 수 (maxMatches에서 잘림)
+     * @param hasNext 다음 페이지 존재 여부
+     */
+    public record SearchResult(List<Long> userIds, long totalMatches, boolean hasNext) {
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 아이디/닉네임/이메일 접두사 검색
+     *
+     * @param prefix 검색어 (대소문자 무시)
+     * @param active 활성 여부 필터 (null이면 전체)
+     * @param level 등급 필터 (null이면 전체)
+     */
+    public SearchResult search(String prefix, Boolean active, UserLevel level, int page, int size) {
+        Snapshot current = awaitLoaded();
+        String from = normalize(prefix);
+
+        // 한 회원이 여러 값으로 일치해도 한 번만 (처음 일치한 순서 유지)
+        Set<Long> matched = new LinkedHashSet<>();
+        for (String key : current.keys.subSet(from, true, from + MAX_CHAR, false)) {
+            Long userId = Long.valueOf(key.substring(key.lastIndexOf(SEPARATOR) + 1));
+            UserIndexEntry entry = current.entries.get(userId);
+            if (entry != null && matches(entry, active, level)) {
+                matched.add(userId);
+                if (matched.size() >= maxMatches) {
+                    break;
+                }
+            }
+        }
+
+        List<Long> all = new ArrayList<>(matched);
+        int fromIndex = Math.min(page * size, all.size());
+        int toIndex = Math.min(fromIndex + size, all.size());
+        return new SearchResult(List.copyOf(all.subList(fromIndex, toIndex)), all.size(), toIndex < all.size());
+    }
+
+    /**
+     * 필터 조건에 맞는 회원 수
+     */
+    public long count(Boolean active, UserLevel level) {
+        Snapshot current = awaitLoaded();
+        long total = 0;
+        for (int a = 0; a < 2; a++) {
+            if (active != null && active != (a == 1)) {
+                continue;
+            }
+            for (UserLevel l : UserLevel.values()) {
+                if (level == null || level == l) {
+                    total += current.counts.get(slot(a == 1, l));
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 필터 값별 회원 수 (active, inactive, 등급 이름별)
+     */
+    public Map<String, Long> facets() {
+        Map<String, Long> facets = new LinkedHashMap<>();
+        facets.put("total", count(null, null));
+        facets.put("active", count(true, null));
+        facets.put("inactive", count(false, null));
+        for (UserLevel level : UserLevel.values()) {
+            facets.put(level.name(), count(null, level));
+        }
+        return facets;
+    }
+
+    private boolean matches(UserIndexEntry entry, Boolean active, UserLevel level) {
+        return (active == null || active == entry.active())
+                && (level == null || level == entry.level());
+    }
+
+    // ===== 갱신 =====
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        refresh(event.userIds());
+    }
+
+    /**
+     * 거래 완료 → 판매자/구매자 등급이 바뀌었을 수 있음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        refresh(List.of(event.sellerId(), event.buyerId()));
+    }
+
+    @Scheduled(fixedDelayString = "${admin.user-index.refresh-ms:600000}",
+            initialDelayString = "${admin.user-index.initial-delay-ms:30000}")
+    public void rebuildScheduled() {
+        rebuildSafely();
+    }
+
+    @Override
+    protected Snapshot newSnapshot() {
+        return new Snapshot();
+    }
+
+    @Override
+    protected List<UserIndexEntry> findChunk(long afterId, int size) {
+        return userRepository.findIndexEntries(afterId, PageRequest.of(0, size));
+    }
+
+    @Override
+    protected List<UserIndexEntry> findByIds(Collection<Long> ids) {
+        return userRepository.findIndexEntriesByIds(ids);
+    }
+
+    @Override
+    protected Long idOf(UserIndexEntry entry) {
+        return entry.userId();
+    }
+
+    @Override
+    protected void put(Snapshot target, UserIndexEntry entry) {
+        target.put(entry);
+    }
+
+    @Override
+    protected void remove(Snapshot target, Long userId) {
+        target.remove(userId);
+    }
+
+    @Override
+    protected void onRebuilt(Snapshot fresh) {
+        log.info("🔎 회원 검색 인덱스 재구성 완료 - {}명", fresh.entries.size());
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int slot(boolean active, UserLevel level) {
+        return (active ? LEVEL_COUNT : 0) + level.ordinal();
+    }
+
+    /**
+     * 인덱스 한 벌 (읽기는 잠금 없이, 쓰기는 회원 단위로 직렬화)
+     */
+    static final class Snapshot {
+        private final Map<Long, UserIndexEntry> entries = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<String> keys = new ConcurrentSkipListSet<>();
+        private final AtomicLongArray counts = new AtomicLongArray(LEVEL_COUNT * 2);
+
+        synchronized void put(UserIndexEntry entry) {
+            remove(entry.userId());
+            entries.put(entry.userId(), entry);
+            keysOf(entry).forEach(keys::add);
+            counts.incrementAndGet(slot(entry.active(), entry.level()));
+        }
+
+        synchronized void remove(Long userId) {
+            UserIndexEntry previous = entries.remove(userId);
+            if (previous != null) {
+                keysOf(previous).forEach(keys::remove);
+                counts.decrementAndGet(slot(previous.active(), previous.level()));
+            }
+        }
+
+        private static List<String> keysOf(UserIndexEntry entry) {
+            List<String> result = new ArrayList<>(3);
+            for (String value : new String[]{entry.userName(), entry.nickname(), entry.email()}) {
+                if (value != null && !value.isBlank()) {
+                    result.add(normalize(value) + SEPARATOR + entry.userId());
+                }
+            }
+            return result;
+        }
+    }
+}
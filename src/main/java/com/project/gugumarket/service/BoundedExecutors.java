@@ -0,0 +1,36 @@
+package com.project.gugumarket.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋 후 후속 작업(파일 해제, 알림 발송 등)용 전용 스레드
+ *
+ * - 스레드 하나 + 크기 제한 대기열, 가득 차면 바로 RejectedExecutionException (AbortPolicy)
+ *   → 호출하는 쪽은 거절되면 로그만 남기고 요청 처리는 계속
+ * - 데몬 스레드이므로 종료를 막지 않음 (사용하는 쪽에서 @PreDestroy로 shutdown)
+ */
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * @param threadName 스레드 이름 (스레드 덤프/로그에서 구분용)
+     * @param queueCapacity 대기열 크기
+     */
+    public static ThreadPoolExecutor singleThread(String threadName, int queueCapacity) {
+        return new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, threadName);
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
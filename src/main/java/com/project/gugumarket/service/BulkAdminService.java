@@ -0,0 +1,380 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.AdminMetricType;
+import com.project.gugumarket.BulkJobStatus;
+import com.project.gugumarket.BulkJobType;
+import com.project.gugumarket.dto.BulkActionRequest;
+import com.project.gugumarket.dto.BulkJobDto;
+import com.project.gugumarket.entity.BulkJob;
+import com.project.gugumarket.event.AdminMetricEvent;
+import com.project.gugumarket.event.MypageChangedEvent;
+import com.project.gugumarket.event.ReportsResolvedEvent;
+import com.project.gugumarket.event.UserChangedEvent;
+import com.project.gugumarket.repository.BulkJobRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.ReportRepository;
+import com.project.gugumarket.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관리자 일괄 작업 (상품 삭제 / 회원 정지 / 신고 처리)
+ *
+ * - 대상은 선택한 ID 목록 또는 필터 조건 (필터는 ID 순 keyset으로 chunk-size개씩 잘라 읽음)
+ * - 묶음마다 "WHERE ID IN (...)" UPDATE 한 문장 + 진행 수 갱신을 한 트랜잭션으로 커밋
+ *   → 엔티티를 하나씩 읽고 저장하지 않고, 긴 트랜잭션으로 테이블을 오래 잡지 않음
+ * - 캐시/지표/검색 인덱스 갱신 이벤트도 묶음 단위로 한 번씩 발행
+ * - 취소 요청은 다음 묶음 시작 전에 확인 (이미 커밋된 묶음은 그대로 유지)
+ *
+ * 실행은 요청 스레드가 아닌 전용 스레드에서, 진행 상황은 BULK_JOBS 행으로 조회
+ */
+@Slf4j
+@Service
+public class BulkAdminService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final BulkJobRepository bulkJobRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final ReportRepository reportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    private final int maxSelection;
+    private final long staleMinutes;
+
+    public BulkAdminService(BulkJobRepository bulkJobRepository,
+                            ProductRepository productRepository,
+                            UserRepository userRepository,
+                            ReportRepository reportRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${admin.bulk.chunk-size:500}") int chunkSize,
+                            @Value("${admin.bulk.max-selection:10000}") int maxSelection,
+                            @Value("${admin.bulk.max-running:2}") int maxRunning,
+                            @Value("${admin.bulk.stale-minutes:10}") long staleMinutes) {
+        this.bulkJobRepository = bulkJobRepository;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.reportRepository = reportRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxSelection = Math.max(1, maxSelection);
+        this.staleMinutes = staleMinutes;
+
+        int threads = Math.max(1, maxRunning);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads),
+                r -> {
+                    Thread t = new Thread(r, "bulk-admin-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // ===== 시작 / 취소 / 조회 =====
+
+    /**
+     * 일괄 작업 시작 (대상 수만 세고 바로 반환, 실제 처리는 백그라운드)
+     *
+     * @return 생성된 작업 (진행 상황은 get()으로 조회)
+     * @throws IllegalArgumentException 대상 지정이 잘못된 경우
+     * @throws IllegalStateException 동시에 실행 중인 작업이 너무 많은 경우
+     */
+    public BulkJobDto start(BulkJobType type, BulkActionRequest request, String requestedBy) {
+        if (type == null || request == null) {
+            throw new IllegalArgumentException("작업 종류와 대상을 지정해주세요.");
+        }
+
+        List<Long> ids = selectedIds(request);
+        String target;
+        long total;
+        if (ids != null) {
+            target = "선택 " + ids.size() + "건";
+            total = ids.size();
+        } else {
+            validateFilter(type, request);
+            target = describeFilter(request);
+            total = countTargets(type, request);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkJob job = bulkJobRepository.save(BulkJob.builder()
+                .jobType(type)
+                .status(BulkJobStatus.RUNNING)
+                .target(target)
+                .totalCount(total)
+                .processedCount(0L)
+                .affectedCount(0L)
+                .cancelRequested(false)
+                .requestedBy(requestedBy)
+                .createdDate(now)
+                .updatedDate(now)
+                .build());
+
+        Long jobId = job.getJobId();
+        try {
+            executor.execute(() -> run(jobId, type, request, ids));
+        } catch (RejectedExecutionException e) {
+            bulkJobRepository.finish(jobId, BulkJobStatus.FAILED, "실행 대기열 초과", LocalDateTime.now());
+            throw new IllegalStateException("진행 중인 일괄 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("📦 일괄 작업 시작 - jobId: {}, {} ({}), 대상: {}건, 요청자: {}",
+                jobId, type.getDescription(), target, total, requestedBy);
+        return BulkJobDto.fromEntity(job);
+    }
+
+    /**
+     * 취소 요청 (진행 중인 묶음까지 처리하고 멈춤)
+     */
+    public BulkJobDto cancel(Long jobId) {
+        BulkJob job = getJob(jobId);
+        if (bulkJobRepository.requestCancel(jobId) == 0) {
+            throw new IllegalStateException("이미 끝난 작업입니다. (" + job.getStatus().getDescription() + ")");
+        }
+        log.info("⏹️ 일괄 작업 취소 요청 - jobId: {}", jobId);
+        return BulkJobDto.fromEntity(getJob(jobId));
+    }
+
+    public BulkJobDto get(Long jobId) {
+        return BulkJobDto.fromEntity(getJob(jobId));
+    }
+
+    /**
+     * 최근 작업 20건
+     */
+    public List<BulkJobDto> getRecent() {
+        return bulkJobRepository.findTop20ByOrderByJobIdDesc().stream()
+                .map(BulkJobDto::fromEntity)
+                .toList();
+    }
+
+    private BulkJob getJob(Long jobId) {
+        return bulkJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("일괄 작업을 찾을 수 없습니다."));
+    }
+
+    // ===== 실행 =====
+
+    private void run(Long jobId, BulkJobType type, BulkActionRequest request, List<Long> ids) {
+        try {
+            long afterId = 0;
+            int offset = 0;
+
+            while (true) {
+                if (Boolean.TRUE.equals(bulkJobRepository.isCancelRequested(jobId))) {
+                    bulkJobRepository.finish(jobId, BulkJobStatus.CANCELLED, null, LocalDateTime.now());
+                    log.info("⏹️ 일괄 작업 취소됨 - jobId: {}", jobId);
+                    return;
+                }
+
+                List<Long> chunk;
+                if (ids != null) {
+                    chunk = ids.subList(offset, Math.min(offset + chunkSize, ids.size()));
+                    offset += chunk.size();
+                } else {
+                    chunk = nextTargets(type, request, afterId);
+                }
+
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1);
+
+                List<Long> current = List.copyOf(chunk);
+                transactionTemplate.executeWithoutResult(status -> {
+                    int affected = apply(type, current);
+                    bulkJobRepository.addProgress(jobId, current.size(), affected, LocalDateTime.now());
+                });
+            }
+
+            bulkJobRepository.finish(jobId, BulkJobStatus.COMPLETED, null, LocalDateTime.now());
+            log.info("✅ 일괄 작업 완료 - jobId: {}", jobId);
+
+        } catch (Exception e) {
+            String message = Objects.toString(e.getMessage(), e.getClass().getSimpleName());
+            bulkJobRepository.finish(jobId, BulkJobStatus.FAILED,
+                    message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message,
+                    LocalDateTime.now());
+            log.error("❌ 일괄 작업 실패 - jobId: {}, {}", jobId, message);
+        }
+    }
+
+    /**
+     * 묶음 하나 반영 (트랜잭션 안에서 호출, 이벤트는 커밋 후 처리됨)
+     * @return 실제로 바뀐 행 수
+     */
+    private int apply(BulkJobType type, List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+
+        switch (type) {
+            case DELETE_PRODUCTS -> {
+                // 삭제 전에 판매자를 읽어둬야 마이페이지 캐시를 지울 수 있음
+                List<Long> sellerIds = productRepository.findActiveSellerIds(ids);
+                int deleted = productRepository.softDeleteByIds(ids, now);
+                if (deleted > 0) {
+                    eventPublisher.publishEvent(new AdminMetricEvent(AdminMetricType.DELETED_PRODUCTS, deleted));
+                    eventPublisher.publishEvent(new MypageChangedEvent(Set.copyOf(sellerIds)));
+                }
+                return deleted;
+            }
+            case SUSPEND_USERS -> {
+                int suspended = userRepository.suspendByIds(ids);
+                if (suspended > 0) {
+                    eventPublisher.publishEvent(UserChangedEvent.of(ids));
+                }
+                return suspended;
+            }
+            case RESOLVE_REPORTS -> {
+                // 신고자별 처리 알림은 보내지 않음 (단건 처리 화면에서만)
+                Map<Long, Long> pendingByProduct = new HashMap<>();
+                for (Object[] row : reportRepository.countPendingByProduct(ids)) {
+                    pendingByProduct.put((Long) row[0], ((Number) row[1]).longValue());
+                }
+                int resolved = reportRepository.resolveByIds(ids);
+                if (resolved > 0) {
+                    eventPublisher.publishEvent(new ReportsResolvedEvent(pendingByProduct));
+                }
+                return resolved;
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 작업입니다: " + type);
+        }
+    }
+
+    private List<Long> nextTargets(BulkJobType type, BulkActionRequest request, long afterId) {
+        PageRequest limit = PageRequest.of(0, chunkSize);
+        return switch (type) {
+            case DELETE_PRODUCTS -> productRepository.findBulkTargetIds(afterId, request.getSellerId(),
+                    keyword(request), request.getCreatedFrom(), request.getCreatedTo(), limit);
+            case SUSPEND_USERS -> userRepository.findBulkSuspendTargetIds(afterId,
+                    request.getCreatedFrom(), request.getCreatedTo(), limit);
+            case RESOLVE_REPORTS -> reportRepository.findBulkTargetIds(afterId, request.getProductId(),
+                    request.getCreatedFrom(), request.getCreatedTo(), limit);
+        };
+    }
+
+    private long countTargets(BulkJobType type, BulkActionRequest request) {
+        return switch (type) {
+            case DELETE_PRODUCTS -> productRepository.countBulkTargets(request.getSellerId(),
+                    keyword(request), request.getCreatedFrom(), request.getCreatedTo());
+            case SUSPEND_USERS -> userRepository.countBulkSuspendTargets(
+                    request.getCreatedFrom(), request.getCreatedTo());
+            case RESOLVE_REPORTS -> reportRepository.countBulkTargets(request.getProductId(),
+                    request.getCreatedFrom(), request.getCreatedTo());
+        };
+    }
+
+    // ===== 대상 검증 =====
+
+    /**
+     * 선택 모드면 중복을 뺀 ID 목록 (오름차순), 필터 모드면 null
+     */
+    private List<Long> selectedIds(BulkActionRequest request) {
+        if (request.getIds() == null || request.getIds().isEmpty()) {
+            return null;
+        }
+
+        List<Long> ids = request.getIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("선택한 대상이 없습니다.");
+        }
+        if (ids.size() > maxSelection) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxSelection + "건까지 선택할 수 있습니다. 필터 조건을 사용해주세요.");
+        }
+        return ids;
+    }
+
+    /**
+     * 필터 모드는 조건이 하나 이상 있어야 함 (실수로 전체를 처리하지 않도록)
+     */
+    private void validateFilter(BulkJobType type, BulkActionRequest request) {
+        boolean hasDateRange = request.getCreatedFrom() != null || request.getCreatedTo() != null;
+        boolean hasCondition = switch (type) {
+            case DELETE_PRODUCTS -> hasDateRange || request.getSellerId() != null || keyword(request) != null;
+            case SUSPEND_USERS -> hasDateRange;
+            case RESOLVE_REPORTS -> hasDateRange || request.getProductId() != null;
+        };
+
+        if (!hasCondition) {
+            throw new IllegalArgumentException("대상 ID를 선택하거나 필터 조건을 하나 이상 지정해주세요.");
+        }
+        if (request.getCreatedFrom() != null && request.getCreatedTo() != null
+                && !request.getCreatedFrom().isBefore(request.getCreatedTo())) {
+            throw new IllegalArgumentException("기간 시작이 끝보다 빨라야 합니다.");
+        }
+    }
+
+    private String describeFilter(BulkActionRequest request) {
+        StringBuilder sb = new StringBuilder("필터");
+        if (request.getSellerId() != null) sb.append(" sellerId=").append(request.getSellerId());
+        if (request.getProductId() != null) sb.append(" productId=").append(request.getProductId());
+        if (keyword(request) != null) sb.append(" keyword=").append(keyword(request));
+        if (request.getCreatedFrom() != null) sb.append(" from=").append(request.getCreatedFrom());
+        if (request.getCreatedTo() != null) sb.append(" to=").append(request.getCreatedTo());
+        String target = sb.toString();
+        return target.length() > MAX_ERROR_LENGTH ? target.substring(0, MAX_ERROR_LENGTH) : target;
+    }
+
+    private static String keyword(BulkActionRequest request) {
+        String keyword = request.getKeyword();
+        return keyword == null || keyword.isBlank() ? null : keyword.trim();
+    }
+
+    // ===== 정리 =====
+
+    /**
+     * 오래 진행이 없는 작업 실패 처리 (실행하던 서버가 재시작/종료된 경우)
+     * 묶음마다 UPDATED_DATE가 갱신되므로 정상 실행 중인 작업은 해당되지 않음
+     */
+    @Scheduled(fixedDelayString = "${admin.bulk.sweep-interval-ms:300000}",
+            initialDelayString = "${admin.bulk.sweep-initial-delay-ms:60000}")
+    public void failStaleJobs() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int failed = bulkJobRepository.failStale(now.minusMinutes(staleMinutes), "진행 없음 (서버 중단)", now);
+            if (failed > 0) {
+                log.warn("⚠️ 멈춘 일괄 작업 실패 처리 - {}건", failed);
+            }
+        } catch (Exception e) {
+            log.error("❌ 멈춘 일괄 작업 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -2,37 +2,159 @@
 package com.project.gugumarket.service;
 
 import com.project.gugumarket.dto.CommentDto;
+import com.project.gugumarket.dto.CommentRow;
+import com.project.gugumarket.dto.CursorPageDto;
 import com.project.gugumarket.entity.Comment;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.ProductLiveEvent;
 import com.project.gugumarket.repository.CommentRepository;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 @Slf4j
 public class CommentService {
 
+    private static final int MAX_BACKFILL_PASSES = 32;     // 답글 깊이 한도 (한 번에 한 단계씩 채움)
+
     private final CommentRepository commentRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;  // 상품 실시간 채널
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int replyPreviewSize;
+
+    public CommentService(CommentRepository commentRepository,
+                          NotificationService notificationService,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${comment.thread.page-size:20}") int defaultPageSize,
+                          @Value("${comment.thread.max-page-size:50}") int maxPageSize,
+                          @Value("${comment.thread.reply-preview-size:3}") int replyPreviewSize) {
+        this.commentRepository = commentRepository;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.maxPageSize = Math.max(1, maxPageSize);
+        this.defaultPageSize = Math.min(Math.max(1, defaultPageSize), this.maxPageSize);
+        this.replyPreviewSize = Math.max(0, replyPreviewSize);
+    }
+
+    /**
+     * 상품 댓글 스레드 한 페이지
+     * 최상위 댓글 size개 + 스레드마다 앞쪽 답글 replyPreviewSize개를 쿼리 한 번으로 읽어서
+     * 최상위 댓글 다음에 그 답글이 오는 평면 목록으로 반환 (parentId/rootId로 트리 구성)
+     *
+     * @param cursor 이전 페이지의 nextCursor (없으면 처음부터)
+     * @param size 최상위 댓글 수 (null이면 기본값)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<CommentDto> list(Long productId, Long currentUserId, Long cursor, Integer size) {
+        int limit = pageSize(size);
+        List<Object[]> rows = commentRepository.findThreadRows(
+                productId, cursor == null ? 0L : cursor, limit + 1, replyPreviewSize + 1);
+
+        List<CommentDto> items = new ArrayList<>();
+        CommentDto root = null;
+        int roots = 0;
+        int replies = 0;
+        Long lastRootId = null;
+        boolean hasNext = false;
+
+        for (Object[] row : rows) {
+            Long rootId = toLong(row[0]);
+            if (root == null || !rootId.equals(root.getId())) {
+                if (roots == limit) {
+                    hasNext = true;     // limit + 1번째 최상위 댓글 → 다음 페이지 있음
+                    break;
+                }
+                root = CommentDto.from(new CommentRow(rootId, null, null, toLong(row[1]), (String) row[2],
+                        (String) row[3], (String) row[4], toDateTime(row[5])), currentUserId);
+                items.add(root);
+                roots++;
+                replies = 0;
+                lastRootId = rootId;
+            }
+
+            if (row[6] == null) {
+                continue;
+            }
+            if (replies == replyPreviewSize) {
+                // replyPreviewSize + 1번째 답글 → 나머지는 "답글 더 보기"로
+                root.setRepliesNextCursor(items.get(items.size() - 1).getId());
+                continue;
+            }
+            items.add(CommentDto.from(new CommentRow(toLong(row[6]), toLong(row[7]), rootId, toLong(row[8]),
+                    (String) row[9], (String) row[10], (String) row[11], toDateTime(row[12])), currentUserId));
+            replies++;
+        }
 
+        return new CursorPageDto<>(items, hasNext ? lastRootId : null, hasNext);
+    }
+
+    /**
+     * 스레드 답글 더 보기
+     *
+     * @param rootId 최상위 댓글 ID
+     * @param cursor 이전 응답의 커서 (없으면 처음부터)
+     */
     @Transactional(readOnly = true)
-    public List<CommentDto> list(Product product, Long currentUserId) {
-        return commentRepository
-                .findByProduct_ProductIdAndIsDeletedFalseOrderByCreatedDateAsc(product.getProductId())
+    public CursorPageDto<CommentDto> replies(Long rootId, Long currentUserId, Long cursor, Integer size) {
+        int limit = pageSize(size);
+        List<CommentDto> fetched = commentRepository
+                .findReplies(rootId, cursor == null ? 0L : cursor, PageRequest.of(0, limit + 1))
                 .stream()
-                .map(c -> CommentDto.from(c, currentUserId))
+                .map(row -> CommentDto.from(row, currentUserId))
                 .toList();
+        return CursorPageDto.of(fetched, limit, CommentDto::getId);
+    }
+
+    /**
+     * 기존 답글의 ROOT_ID 채우기 (컬럼 추가 전에 작성된 답글, 이미 채워졌으면 0건으로 바로 끝남)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRootIds() {
+        int total = 0;
+        for (int pass = 0; pass < MAX_BACKFILL_PASSES; pass++) {
+            int updated = commentRepository.fillMissingRootIds();
+            if (updated == 0) {
+                break;
+            }
+            total += updated;
+        }
+        if (total > 0) {
+            log.info("🧵 댓글 스레드 ROOT_ID 채움 - {}건", total);
+        }
+    }
+
+    private int pageSize(Integer size) {
+        return size == null ? defaultPageSize : Math.min(Math.max(1, size), maxPageSize);
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
     }
-    
+
+    private static LocalDateTime toDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
     /** ✅ 댓글 작성 + 알림 전송 */
     public CommentDto create(Product product, User user, String content, Long parentId) {
         Comment parent = null;
@@ -51,6 +173,7 @@ public class CommentService {
                 .content(content)
                 .isDeleted(false)
                 .parent(parent)
+                .rootId(rootIdOf(parent))
                 .build();
         
         Comment saved = commentRepository.save(c);
@@ -58,10 +181,25 @@ public class CommentService {
 
         // ✅ 알림 전송
         sendCommentNotification(saved, product, parent);
+        eventPublisher.publishEvent(ProductLiveEvent.commentAdded(product.getProductId(), saved.getCommentId()));
 
         return CommentDto.from(saved, user.getUserId());
     }
 
+    /**
+     * 새 답글의 스레드 최상위 댓글 ID (부모가 최상위면 부모, 아니면 부모의 ROOT_ID)
+     */
+    private Long rootIdOf(Comment parent) {
+        if (parent == null) {
+            return null;
+        }
+        Comment root = parent;
+        while (root.getRootId() == null && root.getParent() != null) {
+            root = root.getParent();    // ROOT_ID를 채우기 전의 답글이면 부모를 따라 올라감
+        }
+        return root.getRootId() != null ? root.getRootId() : root.getCommentId();
+    }
+
     public CommentDto create(Product product, User user, String content) {
         return create(product, user, content, null);
     }
@@ -157,6 +295,7 @@ public class CommentService {
         
         Product product = c.getProduct();
         commentRepository.delete(c);
+        eventPublisher.publishEvent(ProductLiveEvent.commentDeleted(product.getProductId(), commentId));
         
         log.info("✅ 댓글 삭제 완료: commentId={}", commentId);
         
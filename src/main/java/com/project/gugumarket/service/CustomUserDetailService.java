@@ -4,19 +4,23 @@ import com.project.gugumarket.entity.User;
 import com.project.gugumarket.repository.UserRepository;
 import com.project.gugumarket.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailService implements UserDetailsService {
+public class CustomUserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -59,4 +63,32 @@ public class CustomUserDetailService implements UserDetailsService {
 
         return userDetails;
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그인 성공 후 비밀번호 해시 업그레이드
+     * DaoAuthenticationProvider가 BCrypt 강도 변경을 감지하면 새 해시로 호출함
+     * 사용자는 별도 조치 없이 다음 로그인 때 새 강도로 재해싱됨
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUserName(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userDetails.getUsername()));
+
+        user.setPassword(newPassword);  // 이미 인코딩된 값
+        userRepository.save(user);
+
+        log.info("🔁 비밀번호 해시 업그레이드 완료 - 사용자: {}", user.getUserName());
+
+        return new CustomUserDetails(
+                user.getUserId(),
+                user.getUserName(),
+                newPassword,
+                userDetails.isEnabled(),
+                userDetails.isAccountNonExpired(),
+                userDetails.isCredentialsNonExpired(),
+                userDetails.isAccountNonLocked(),
+                userDetails.getAuthorities()
+        );
+    }
+}
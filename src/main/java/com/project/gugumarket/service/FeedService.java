@@ -0,0 +1,302 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.CursorPageDto;
+import com.project.gugumarket.dto.ProductDto;
+import com.project.gugumarket.dto.ProductMatchRow;
+import com.project.gugumarket.entity.Product;
+import com.project.gugumarket.entity.SellerFollowStat;
+import com.project.gugumarket.event.FollowChangedEvent;
+import com.project.gugumarket.event.ProductCreatedEvent;
+import com.project.gugumarket.event.PullModeEndedEvent;
+import com.project.gugumarket.repository.FeedEntryRepository;
+import com.project.gugumarket.repository.FollowRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.SellerFollowStatRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 피드 ("내가 팔로우한 판매자의 새 상품")
+ *
+ * 판매자 팔로워 수에 따라 두 방식을 섞음
+ * - 팔로워가 pull-threshold 미만인 판매자: 새 상품 등록이 커밋되면 전용 스레드에서
+ *   팔로워마다 FEED_ENTRIES 행을 INSERT ... SELECT 한 번으로 복사 (쓰기 시점 전달)
+ * - 팔로워가 많은 판매자(PULL_MODE): 복사하지 않고, 피드를 읽을 때 그 판매자들의 상품을 직접 조회해서 합침 (읽기 시점 전달)
+ *   → 한 번에 복사하는 행 수는 pull-threshold를 넘지 않음 (팔로워가 가장 많은 판매자와 상관없음)
+ * - 팔로워가 push-threshold 미만으로 줄어 PULL_MODE가 꺼지면 보관 기간 안의 상품을 팔로워 피드에 다시 복사
+ *
+ * 읽기
+ * - 두 출처 모두 상품 ID 내림차순으로 size + 1개씩 읽어 합침 → 상품 ID가 커서 (OFFSET 없음)
+ * - 첫 페이지는 사용자별로 캐시, 팔로우 변경 / 피드 복사 시 해당 사용자 캐시를 비움
+ *   (PULL_MODE 판매자의 새 상품은 cache-ttl-ms 안에 반영)
+ * - 보관 기간(retention-days)이 지난 항목은 매일 정리
+ */
+@Slf4j
+@Service
+public class FeedService {
+
+    static final String JOB_NAME = "feed-prune";
+    private static final int PRUNE_BATCH_SIZE = 5_000;
+    private static final int REFILL_CHUNK_SIZE = 100;
+
+    private final FeedEntryRepository feedEntryRepository;
+    private final FollowRepository followRepository;
+    private final SellerFollowStatRepository sellerFollowStatRepository;
+    private final ProductRepository productRepository;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int retentionDays;
+    private final Duration leaseTime;
+
+    // 사용자 ID → 첫 페이지 (비우기 전에 읽기 시작한 페이지는 넣지 않음)
+    private final TtlCache<Long, CachedFeed> cache;
+
+    private record CachedFeed(int size, CursorPageDto<ProductDto> page) {
+    }
+
+    public FeedService(FeedEntryRepository feedEntryRepository,
+                       FollowRepository followRepository,
+                       SellerFollowStatRepository sellerFollowStatRepository,
+                       ProductRepository productRepository,
+                       JobLeaseService jobLeaseService,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${feed.page-size:20}") int defaultPageSize,
+                       @Value("${feed.max-page-size:50}") int maxPageSize,
+                       @Value("${feed.retention-days:30}") int retentionDays,
+                       @Value("${feed.cache-ttl-ms:30000}") long cacheTtlMillis,
+                       @Value("${feed.queue-capacity:1000}") int queueCapacity,
+                       @Value("${feed.prune-lease-seconds:1800}") long leaseSeconds) {
+        this.feedEntryRepository = feedEntryRepository;
+        this.followRepository = followRepository;
+        this.sellerFollowStatRepository = sellerFollowStatRepository;
+        this.productRepository = productRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxPageSize = Math.max(1, maxPageSize);
+        this.defaultPageSize = Math.min(Math.max(1, defaultPageSize), this.maxPageSize);
+        this.retentionDays = Math.max(1, retentionDays);
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+        this.cache = new TtlCache<>(cacheTtlMillis);
+        this.executor = BoundedExecutors.singleThread("feed-fanout", queueCapacity);
+    }
+
+    // ===== 읽기 =====
+
+    /**
+     * 팔로우 피드 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (null이면 기본값)
+     */
+    public CursorPageDto<ProductDto> getFeed(Long userId, Long cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.min(Math.max(1, size), maxPageSize);
+        if (cursor != null) {
+            return load(userId, cursor, pageSize);
+        }
+
+        CachedFeed cached = cache.get(userId);
+        if (cached != null && cached.size() == pageSize) {
+            return cached.page();
+        }
+
+        long versionAtStart = cache.version();
+        CursorPageDto<ProductDto> loaded = load(userId, null, pageSize);
+        cache.putIfVersion(userId, new CachedFeed(pageSize, loaded), versionAtStart);
+        return loaded;
+    }
+
+    private CursorPageDto<ProductDto> load(Long userId, Long cursor, int size) {
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        return readOnlyTransaction.execute(status -> {
+            // 두 출처를 상품 ID 내림차순으로 합침 (같은 상품은 한 번)
+            TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+            merged.addAll(feedEntryRepository.findProductIds(userId, before, limit));
+
+            List<Long> pullSellerIds = followRepository.findPullSellerIds(userId);
+            if (!pullSellerIds.isEmpty()) {
+                LocalDateTime since = LocalDateTime.now().minusDays(retentionDays);
+                merged.addAll(productRepository.findFeedIdsBySellers(pullSellerIds, before, since, limit));
+            }
+
+            CursorPageDto<Long> ids = CursorPageDto.of(
+                    merged.stream().limit(size + 1L).toList(), size, Function.identity());
+            if (ids.items().isEmpty()) {
+                return new CursorPageDto<>(List.of(), null, false);
+            }
+
+            Map<Long, Product> products = productRepository.findFeedProducts(ids.items()).stream()
+                    .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+            List<ProductDto> items = ids.items().stream()
+                    .map(products::get)
+                    .filter(Objects::nonNull)       // 그 사이 삭제/격리된 상품은 빠짐
+                    .map(ProductDto::fromEntity)
+                    .toList();
+            return new CursorPageDto<>(items, ids.nextCursor(), ids.hasNext());
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFollowChanged(FollowChangedEvent event) {
+        evict(List.of(event.followerId()));
+    }
+
+    private void evict(List<Long> userIds) {
+        cache.invalidateAll(userIds);
+    }
+
+    // ===== 쓰기 시점 전달 =====
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductCreated(ProductCreatedEvent event) {
+        try {
+            executor.execute(() -> fanOut(event.productId()));
+        } catch (RejectedExecutionException e) {
+            // 복사되지 않은 상품은 피드에 나오지 않음 (상품 목록/판매자 페이지에서는 보임)
+            log.warn("⚠️ 피드 전달 대기열 초과 - 상품 {} 피드 생략", event.productId());
+        }
+    }
+
+    private void fanOut(Long productId) {
+        try {
+            ProductMatchRow product = productRepository.findMatchRow(productId).orElse(null);
+            if (product == null) {
+                return;
+            }
+
+            SellerFollowStat stat = sellerFollowStatRepository.findById(product.sellerId()).orElse(null);
+            if (stat == null || stat.getFollowerCount() == 0 || Boolean.TRUE.equals(stat.getPullMode())) {
+                return;     // 팔로워 없음, 또는 읽을 때 합치는 판매자
+            }
+
+            Integer copied = transactionTemplate.execute(status ->
+                    feedEntryRepository.fanOut(productId, product.sellerId(), LocalDateTime.now()));
+            evict(followRepository.findFollowerIds(product.sellerId()));
+
+            log.info("📰 피드 전달 - 상품: {}, 판매자: {}, 팔로워 {}명", productId, product.sellerId(), copied);
+        } catch (Exception e) {
+            log.error("❌ 피드 전달 실패 - 상품: {}, {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * PULL_MODE가 꺼진 판매자 → 읽을 때 합치던 상품을 팔로워 피드에 다시 복사
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPullModeEnded(PullModeEndedEvent event) {
+        try {
+            executor.execute(() -> refill(event.sellerId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 피드 전달 대기열 초과 - 판매자 {} 피드 다시 채우기 생략", event.sellerId());
+        }
+    }
+
+    /**
+     * 보관 기간 안의 판매자 상품을 최신순으로 REFILL_CHUNK_SIZE개씩, 상품마다 INSERT ... SELECT 한 번
+     * 팔로워가 push-threshold 미만이므로 한 번에 복사하는 행 수도 그 이하
+     * (다 채울 때까지 잠깐 그 판매자의 이전 상품이 피드에서 빠질 수 있음)
+     */
+    private void refill(Long sellerId) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime since = now.minusDays(retentionDays);
+            long cursor = Long.MAX_VALUE;
+            int copied = 0;
+
+            while (true) {
+                SellerFollowStat stat = sellerFollowStatRepository.findById(sellerId).orElse(null);
+                if (stat == null || Boolean.TRUE.equals(stat.getPullMode())) {
+                    break;      // 그 사이 다시 PULL_MODE로 전환됨
+                }
+
+                List<Long> productIds = productRepository.findFeedIdsBySellers(
+                        List.of(sellerId), cursor, since, PageRequest.of(0, REFILL_CHUNK_SIZE));
+                for (Long productId : productIds) {
+                    Integer rows = transactionTemplate.execute(status ->
+                            feedEntryRepository.fanOut(productId, sellerId, now));
+                    copied += rows == null ? 0 : rows;
+                }
+                if (productIds.size() < REFILL_CHUNK_SIZE) {
+                    break;
+                }
+                cursor = productIds.get(productIds.size() - 1);
+            }
+
+            evict(followRepository.findFollowerIds(sellerId));
+            log.info("📰 피드 다시 채우기 - 판매자: {}, {}건", sellerId, copied);
+        } catch (Exception e) {
+            log.error("❌ 피드 다시 채우기 실패 - 판매자: {}, {}", sellerId, e.getMessage());
+        }
+    }
+
+    // ===== 정리 =====
+
+    /**
+     * 보관 기간이 지난 피드 항목 삭제 (PRUNE_BATCH_SIZE개씩 나눠서, 배치마다 트랜잭션 하나)
+     * 여러 서버 중 임대를 얻은 한 곳에서만 실행
+     */
+    @Scheduled(cron = "${feed.prune-cron:0 50 4 * * *}")
+    public void prune() {
+        if (!jobLeaseService.tryAcquire(JOB_NAME, leaseTime)) {
+            log.info("🧹 피드 항목 정리 건너뜀 - 다른 곳에서 진행 중");
+            return;
+        }
+
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long deleted = 0;
+        try {
+            while (true) {
+                Integer batch = transactionTemplate.execute(status ->
+                        feedEntryRepository.deleteOlderThan(before, PRUNE_BATCH_SIZE));
+                deleted += batch == null ? 0 : batch;
+                if (batch == null || batch < PRUNE_BATCH_SIZE) {
+                    break;
+                }
+            }
+            log.info("🧹 피드 항목 정리 완료 - {}건", deleted);
+        } catch (Exception e) {
+            log.error("❌ 피드 항목 정리 실패 ({}건 삭제 후): {}", deleted, e.getMessage());
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * 대기 중인 피드 전달 작업 수 (모니터링용)
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
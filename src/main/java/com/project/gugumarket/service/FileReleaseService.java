@@ -0,0 +1,97 @@
+package com.project.gugumarket.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 교체된 이미지 파일 비동기 해제 큐
+ *
+ * 상품 수정 시 빠진 이미지를 요청 트랜잭션 안에서 바로 지우면
+ * - 파일 I/O와 참조 카운트 갱신만큼 요청이 느려지고
+ * - 트랜잭션이 롤백돼도 파일은 이미 사라짐
+ * 그래서 커밋이 끝난 뒤 전용 스레드에서 FileService.deleteFile()을 호출
+ *
+ * 대기열이 가득 차서 버려진 해제 요청은 StorageGcService가 나중에 미참조 파일로 정리
+ */
+@Slf4j
+@Service
+public class FileReleaseService {
+
+    private final FileService fileService;
+    private final ThreadPoolExecutor executor;
+
+    public FileReleaseService(FileService fileService,
+                              @Value("${storage.release.queue-capacity:1000}") int queueCapacity) {
+        this.fileService = fileService;
+        this.executor = BoundedExecutors.singleThread("file-release", queueCapacity);
+    }
+
+    /**
+     * 이미지 URL 참조 해제 예약
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 대기열에 등록 (롤백되면 아무것도 지우지 않음)
+     *
+     * @param imageUrls 더 이상 쓰지 않는 이미지 URL (업로드 저장소 URL이 아니면 무시)
+     */
+    public void releaseAfterCommit(Collection<String> imageUrls) {
+        List<String> fileNames = imageUrls.stream()
+                .filter(url -> url != null && url.startsWith(FileService.URL_PREFIX))
+                .map(fileService::extractFileName)
+                .toList();
+
+        if (fileNames.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(fileNames);
+                }
+            });
+        } else {
+            enqueue(fileNames);
+        }
+    }
+
+    private void enqueue(List<String> fileNames) {
+        for (String fileName : fileNames) {
+            try {
+                executor.execute(() -> release(fileName));
+            } catch (RejectedExecutionException e) {
+                log.warn("⚠️ 파일 해제 대기열 초과 - 저장소 GC에서 정리 예정: {}", fileName);
+            }
+        }
+    }
+
+    private void release(String fileName) {
+        try {
+            fileService.deleteFile(fileName);
+            log.info("🗑️ 파일 참조 해제: {}", fileName);
+        } catch (IOException | RuntimeException e) {
+            log.error("⚠️ 파일 해제 실패: {} - {}", fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 중인 해제 작업 수 (모니터링용)
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
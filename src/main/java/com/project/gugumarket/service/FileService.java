@@ -1,32 +1,79 @@
 package com.project.gugumarket.service;
 
+import com.project.gugumarket.ImageVariant;
+import com.project.gugumarket.repository.StoredFileRepository;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
 
+/**
+ * 업로드 파일 저장소 (내용 기반 주소 + 중복 제거)
+ *
+ * 저장 방식:
+ * - 파일명 = 내용의 SHA-256 해시 + 확장자 → 같은 사진은 한 번만 저장
+ * - 해시 앞 4글자로 2단계 하위 디렉토리 분산 (예: 9f/86/9f86d0...jpg)
+ *   → 한 디렉토리에 수십만 개 파일이 쌓이지 않음
+ * - 업로드 스트림을 임시 파일로 쓰면서 동시에 해시 계산 (메모리에 전체를 올리지 않음)
+ * - 형식은 매직 바이트로 판별 (확장자를 바꾼 비이미지 파일 차단)
+ * - 참조 카운트(STORED_FILES)가 0이 될 때만 실제 파일과 축소본 삭제
+ *
+ * 기존 UUID 파일명(평면 디렉토리)도 그대로 조회/삭제 가능
+ */
 @Service
+@RequiredArgsConstructor
 public class FileService {
 
     @Value("${file.upload-dir:uploads/products}")
     private String uploadDir;
 
+    private final StoredFileRepository storedFileRepository;  // 참조 카운트
+
     // 허용된 이미지 확장자
     private static final List<String> ALLOWED_EXTENSIONS =
             Arrays.asList(".jpg", ".jpeg", ".png", ".gif", ".webp");
 
+    // 상품 이미지 URL 접두사 (WebConfig의 리소스 핸들러 경로와 동일)
+    public static final String URL_PREFIX = "/uploads/products/";
+
     // 최대 파일 크기 (10MB)
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
+    // 내용 기반 파일명 (64자리 hex 해시로 시작, 축소본 "_card.jpg" 등 포함)
+    private static final Pattern HASH_NAME = Pattern.compile("^[0-9a-f]{64}");
+
+    // 업로드 중인 임시 파일 디렉토리 (같은 파일시스템이어야 원자적 이동 가능)
+    private static final String TEMP_DIR = ".tmp";
+
+    // 매직 바이트 확인에 필요한 앞부분 길이 (WEBP: "RIFF....WEBP")
+    private static final int MAGIC_LENGTH = 12;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // 같은 해시에 대한 저장/삭제 경합 방지용 락 (파일명 해시로 분산)
+    private final Lock[] locks = createLocks(64);
+
     /**
      * 절대 경로 가져오기
      */
@@ -34,23 +81,11 @@ public class FileService {
         return new File(uploadDir).getAbsolutePath();
     }
 
-    /**
-     * 업로드 디렉토리 생성
-     */
-    private void createUploadDirectory() {
-        String absolutePath = getAbsolutePath();
-        File uploadPath = new File(absolutePath);
-
-        if (!uploadPath.exists()) {
-            boolean created = uploadPath.mkdirs();
-            System.out.println("📁 업로드 디렉토리 생성: " + absolutePath + " (성공: " + created + ")");
-        }
-    }
-
     /**
      * 파일 업로드
+     * 같은 내용의 파일이 이미 있으면 새로 저장하지 않고 참조 카운트만 증가
      * @param file 업로드할 파일
-     * @return 저장된 파일명
+     * @return 저장된 파일명 (해시 + 확장자)
      */
     public String uploadFile(MultipartFile file) throws IOException {
         // 파일이 비어있는지 확인
@@ -69,47 +104,120 @@ public class FileService {
             throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
         }
 
-        // 원본 파일명과 확장자 추출
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null || !originalFilename.contains(".")) {
-            throw new IllegalArgumentException("유효하지 않은 파일명입니다.");
+        extractExtension(file.getOriginalFilename());   // 파일명/확장자 검증
+
+        System.out.println("💾 파일 저장 시작: " + file.getOriginalFilename());
+
+        try (InputStream in = file.getInputStream()) {
+            return commit(writeTemp(in));
         }
+    }
 
-        String extension = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
+    /**
+     * 1단계: 스트림을 임시 파일로 저장
+     * - 앞부분 매직 바이트로 실제 이미지 형식 확인 (확장자/Content-Type은 신뢰하지 않음)
+     * - 디스크에 쓰면서 SHA-256 계산 (한 번만 읽고, 메모리에 전체를 올리지 않음)
+     * - 10MB를 넘는 순간 중단
+     * @param in 업로드 데이터 스트림
+     * @return 임시 저장 결과 (commit 또는 discard 해야 함)
+     */
+    public PendingFile writeTemp(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, COPY_BUFFER_SIZE);
 
-        // 파일 확장자 검증
-        if (!ALLOWED_EXTENSIONS.contains(extension)) {
-            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다. (jpg, jpeg, png, gif, webp만 가능)");
+        // 매직 바이트 확인 후 되돌리기
+        buffered.mark(MAGIC_LENGTH);
+        byte[] header = buffered.readNBytes(MAGIC_LENGTH);
+        buffered.reset();
+
+        String extension = detectImageExtension(header);
+        if (extension == null) {
+            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다. (jpg, png, gif, webp)");
         }
 
-        // 🔥 업로드 디렉토리 생성 (절대 경로)
-        createUploadDirectory();
+        Path tempDir = getTempPath();
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            MessageDigest digest = sha256();
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long size = 0;
+            int read;
 
-        // UUID로 고유한 파일명 생성
-        String savedFileName = UUID.randomUUID().toString() + extension;
+            while ((read = buffered.read(buffer)) != -1) {
+                size += read;
+                if (size > MAX_FILE_SIZE) {
+                    throw new IllegalArgumentException("파일 크기는 10MB를 초과할 수 없습니다.");
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
 
-        // 🔥 절대 경로로 파일 저장
-        String absolutePath = getAbsolutePath();
-        String filePath = absolutePath + File.separator + savedFileName;
+            if (size == 0) {
+                throw new IllegalArgumentException("파일이 비어있습니다.");
+            }
 
-        System.out.println("💾 파일 저장 시작: " + originalFilename);
-        System.out.println("📂 저장 경로: " + filePath);
+            return new PendingFile(temp, HexFormat.of().formatHex(digest.digest()), extension, size);
 
-        // 파일 저장
-        File dest = new File(filePath);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            if (e instanceof IOException) {
+                System.err.println("❌ 파일 저장 실패: " + e.getMessage());
+                throw new IOException("파일 저장 중 오류가 발생했습니다.", e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 2단계: 임시 파일을 내용 기반 파일로 확정
+     * 이미 같은 파일이 있으면 임시 파일은 버리고 참조만 추가, 없으면 원자적으로 이동
+     * @param pending writeTemp() 결과
+     * @return 저장된 파일명 (해시 + 확장자)
+     */
+    public String commit(PendingFile pending) throws IOException {
+        String savedFileName = pending.hash() + pending.extension();
+        Path target = resolvePath(savedFileName);
+
+        Lock lock = lockFor(savedFileName);
+        lock.lock();
         try {
-            file.transferTo(dest);
-            System.out.println("✅ 파일 저장 성공: " + savedFileName);
+            if (Files.exists(target)) {
+                // 수정 시각 갱신 → 저장소 GC의 유예 기간이 다시 시작됨 (상품 등록 전에 지워지지 않도록)
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                System.out.println("♻️ 동일 파일 존재 - 중복 저장 생략: " + savedFileName);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(pending.temp(), target, StandardCopyOption.ATOMIC_MOVE);
+                System.out.println("✅ 파일 저장 성공: " + savedFileName);
+            }
+            storedFileRepository.increaseRefCount(savedFileName, pending.size());
+
+            return savedFileName;
+
         } catch (IOException e) {
             System.err.println("❌ 파일 저장 실패: " + e.getMessage());
             throw new IOException("파일 저장 중 오류가 발생했습니다.", e);
+        } finally {
+            lock.unlock();
+            discard(pending);   // 이동했으면 이미 없음
         }
+    }
 
-        return savedFileName;
+    /**
+     * 임시 파일 폐기 (검증 실패 등)
+     */
+    public void discard(PendingFile pending) {
+        try {
+            Files.deleteIfExists(pending.temp());
+        } catch (IOException e) {
+            System.err.println("⚠️ 임시 파일 삭제 실패: " + pending.temp());
+        }
     }
 
     /**
-     * 파일 삭제
+     * 파일 삭제 (참조 해제)
+     * 내용 기반 파일은 참조 카운트가 0이 될 때만 원본과 축소본을 실제로 삭제
      * @param fileName 삭제할 파일명
      */
     public void deleteFile(String fileName) throws IOException {
@@ -118,16 +226,26 @@ public class FileService {
         }
 
         try {
-            // 🔥 절대 경로 사용
-            String absolutePath = getAbsolutePath();
-            Path filePath = Paths.get(absolutePath, fileName);
+            if (!isContentAddressed(fileName)) {
+                // 기존 UUID 파일은 공유되지 않으므로 바로 삭제
+                deletePhysically(fileName);
+                return;
+            }
 
-            boolean deleted = Files.deleteIfExists(filePath);
+            Lock lock = lockFor(fileName);
+            lock.lock();
+            try {
+                boolean released = storedFileRepository.decreaseRefCount(fileName) > 0;
+                boolean unreferenced = storedFileRepository.deleteIfUnreferenced(fileName) > 0
+                        || (!released && !storedFileRepository.existsById(fileName));
 
-            if (deleted) {
-                System.out.println("🗑️ 파일 삭제 완료: " + fileName);
-            } else {
-                System.out.println("⚠️ 파일이 존재하지 않음: " + fileName);
+                if (unreferenced) {
+                    deletePhysically(fileName);
+                } else {
+                    System.out.println("🔗 다른 곳에서 사용 중 - 참조만 해제: " + fileName);
+                }
+            } finally {
+                lock.unlock();
             }
         } catch (IOException e) {
             System.err.println("❌ 파일 삭제 실패: " + e.getMessage());
@@ -135,6 +253,64 @@ public class FileService {
         }
     }
 
+    /**
+     * 오래된 미참조 파일 삭제 (저장소 GC 전용)
+     * GC가 미참조로 판단한 뒤 같은 내용이 다시 업로드되면 수정 시각이 갱신되므로
+     * 락 안에서 수정 시각을 다시 확인하고 지움
+     * @param fileName 삭제할 파일명 (원본이면 축소본과 참조 기록도 함께 삭제)
+     * @param cutoff 이 시각 이후에 수정된 파일은 삭제하지 않음
+     * @return 삭제 여부
+     */
+    public boolean deleteIfStale(String fileName, Instant cutoff) throws IOException {
+        Lock lock = lockFor(fileName);
+        lock.lock();
+        try {
+            Path path = resolvePath(fileName);
+            if (!Files.isRegularFile(path) || Files.getLastModifiedTime(path).toInstant().isAfter(cutoff)) {
+                return false;
+            }
+
+            deletePhysically(fileName);
+            if (isContentAddressed(fileName) && storedFileRepository.existsById(fileName)) {
+                storedFileRepository.deleteById(fileName);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 업로드 루트 디렉토리 (저장소 GC가 순회)
+     */
+    public Path getRootPath() {
+        return Paths.get(getAbsolutePath());
+    }
+
+    /**
+     * 업로드 중 임시 파일 디렉토리
+     */
+    public Path getTempPath() {
+        return getRootPath().resolve(TEMP_DIR);
+    }
+
+    /**
+     * 원본과 축소본 파일 실제 삭제
+     */
+    private void deletePhysically(String fileName) throws IOException {
+        boolean deleted = Files.deleteIfExists(resolvePath(fileName));
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            Files.deleteIfExists(resolvePath(variant.nameFor(fileName)));
+        }
+
+        if (deleted) {
+            System.out.println("🗑️ 파일 삭제 완료: " + fileName);
+        } else {
+            System.out.println("⚠️ 파일이 존재하지 않음: " + fileName);
+        }
+    }
+
     /**
      * 여러 파일 업로드
      * @param files 업로드할 파일들
@@ -154,6 +330,55 @@ public class FileService {
         return savedFileNames;
     }
 
+    /**
+     * 저장된 파일명 → 실제 파일 경로
+     * 내용 기반 파일명은 해시 앞 4글자로 하위 디렉토리를 계산
+     * @param fileName 저장된 파일명 (디렉토리 없이 파일명만 주어도 됨)
+     * @return 업로드 디렉토리 기준 절대 경로
+     */
+    public Path resolvePath(String fileName) {
+        Path root = Paths.get(getAbsolutePath());
+        String name = fileName.substring(fileName.lastIndexOf("/") + 1);
+
+        Path path = isContentAddressed(name)
+                ? root.resolve(shardOf(name)).resolve(name)
+                : root.resolve(fileName).normalize();
+
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("유효하지 않은 파일명입니다.");
+        }
+        return path;
+    }
+
+    /**
+     * 이미지 URL → 저장된 파일명
+     * 예: "/uploads/products/9f/86/9f86...jpg" → "9f86...jpg"
+     * @param imageUrl 이미지 URL
+     * @return 저장된 파일명
+     */
+    public String extractFileName(String imageUrl) {
+        return imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+    }
+
+    /**
+     * 저장된 파일명 → 이미지 URL
+     * @param fileName 저장된 파일명
+     * @return 프론트엔드에서 접근할 URL
+     */
+    public String toUrl(String fileName) {
+        if (isContentAddressed(fileName)) {
+            return URL_PREFIX + shardOf(fileName) + "/" + fileName;
+        }
+        return URL_PREFIX + fileName;
+    }
+
+    /**
+     * 내용 기반 파일명인지 확인
+     */
+    public boolean isContentAddressed(String fileName) {
+        return fileName != null && HASH_NAME.matcher(fileName).find();
+    }
+
     /**
      * 파일 존재 여부 확인
      * @param fileName 확인할 파일명
@@ -164,9 +389,92 @@ public class FileService {
             return false;
         }
 
-        // 🔥 절대 경로 사용
-        String absolutePath = getAbsolutePath();
-        File file = new File(absolutePath + File.separator + fileName);
-        return file.exists();
+        return Files.exists(resolvePath(fileName));
+    }
+
+    /**
+     * 원본 파일명에서 확장자 추출 및 검증
+     * 실제 저장 확장자는 매직 바이트로 판별한 값을 사용
+     */
+    private String extractExtension(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) {
+            throw new IllegalArgumentException("유효하지 않은 파일명입니다.");
+        }
+
+        String extension = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
+
+        // 파일 확장자 검증
+        if (!ALLOWED_EXTENSIONS.contains(extension)) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다. (jpg, jpeg, png, gif, webp만 가능)");
+        }
+
+        return extension;
+    }
+
+    /**
+     * 해시 앞 4글자 → "ab/cd" 형태의 하위 디렉토리
+     */
+    private String shardOf(String fileName) {
+        return fileName.substring(0, 2) + "/" + fileName.substring(2, 4);
+    }
+
+    /**
+     * 매직 바이트로 이미지 형식 판별
+     * @param header 파일 앞부분 (최소 12바이트)
+     * @return 확장자 (".jpg", ".png", ".gif", ".webp"), 이미지가 아니면 null
+     */
+    public static String detectImageExtension(byte[] header) {
+        if (startsWith(header, 0, 0xFF, 0xD8, 0xFF)) {
+            return ".jpg";
+        }
+        if (startsWith(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return ".png";
+        }
+        if (startsWith(header, 0, 'G', 'I', 'F', '8')) {
+            return ".gif";
+        }
+        if (startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'E', 'B', 'P')) {
+            return ".webp";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, int offset, int... expected) {
+        if (data.length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((data[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Lock lockFor(String fileName) {
+        return locks[Math.floorMod(fileName.hashCode(), locks.length)];
+    }
+
+    // synchronized 대신 ReentrantLock 사용 (가상 스레드가 캐리어 스레드를 붙잡지 않도록)
+    private static Lock[] createLocks(int size) {
+        Lock[] locks = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 임시 저장된 업로드 (writeTemp → commit/discard)
+     */
+    public record PendingFile(Path temp, String hash, String extension, long size) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.FollowStatusDto;
+import com.project.gugumarket.entity.Follow;
+import com.project.gugumarket.entity.SellerFollowStat;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.FollowChangedEvent;
+import com.project.gugumarket.event.PullModeEndedEvent;
+import com.project.gugumarket.repository.FeedEntryRepository;
+import com.project.gugumarket.repository.FollowRepository;
+import com.project.gugumarket.repository.SellerFollowStatRepository;
+import com.project.gugumarket.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 팔로우
+ *
+ * - 팔로워 수는 SELLER_FOLLOW_STATS에 누적 (COUNT 쿼리 X), pull-threshold에 닿으면 PULL_MODE로 전환
+ *   push-threshold 미만으로 줄면 다시 복사 방식으로 (커밋 후 FeedService가 팔로워 피드를 다시 채움)
+ * - 복사 방식(PULL_MODE 아님) 판매자를 팔로우하면 최근 상품 몇 개를 바로 피드에 채움
+ * - 언팔로우하면 그 판매자의 상품을 피드에서 제거
+ */
+@Slf4j
+@Service
+public class FollowService {
+
+    private final FollowRepository followRepository;
+    private final SellerFollowStatRepository sellerFollowStatRepository;
+    private final FeedEntryRepository feedEntryRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long pullThreshold;
+    private final long pushThreshold;
+    private final int backfillSize;
+    private final int retentionDays;
+
+    public FollowService(FollowRepository followRepository,
+                         SellerFollowStatRepository sellerFollowStatRepository,
+                         FeedEntryRepository feedEntryRepository,
+                         UserRepository userRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${feed.pull-threshold:1000}") long pullThreshold,
+                         @Value("${feed.push-threshold:500}") long pushThreshold,
+                         @Value("${feed.follow-backfill-size:10}") int backfillSize,
+                         @Value("${feed.retention-days:30}") int retentionDays) {
+        this.followRepository = followRepository;
+        this.sellerFollowStatRepository = sellerFollowStatRepository;
+        this.feedEntryRepository = feedEntryRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.pullThreshold = Math.max(1, pullThreshold);
+        this.pushThreshold = Math.min(Math.max(0, pushThreshold), this.pullThreshold - 1);
+        this.backfillSize = Math.max(0, backfillSize);
+        this.retentionDays = Math.max(1, retentionDays);
+    }
+
+    @Transactional
+    public FollowStatusDto follow(User follower, Long sellerId) {
+        if (follower.getUserId().equals(sellerId)) {
+            throw new IllegalArgumentException("자기 자신은 팔로우할 수 없습니다.");
+        }
+        if (!userRepository.existsById(sellerId)) {
+            throw new IllegalArgumentException("판매자를 찾을 수 없습니다.");
+        }
+        if (followRepository.existsByFollower_UserIdAndSeller_UserId(follower.getUserId(), sellerId)) {
+            throw new IllegalStateException("이미 팔로우한 판매자입니다.");
+        }
+
+        try {
+            followRepository.saveAndFlush(Follow.builder()
+                    .follower(follower)
+                    .seller(userRepository.getReferenceById(sellerId))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 판매자를 동시에 두 번 팔로우 → 유니크 키(uk_follows_follower_seller)에서 걸림
+            throw new IllegalStateException("이미 팔로우한 판매자입니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        sellerFollowStatRepository.increment(sellerId, pullThreshold, now);
+
+        SellerFollowStat stat = sellerFollowStatRepository.findById(sellerId).orElse(null);
+        if (backfillSize > 0 && (stat == null || !Boolean.TRUE.equals(stat.getPullMode()))) {
+            feedEntryRepository.backfill(follower.getUserId(), sellerId,
+                    now.minusDays(retentionDays), now, backfillSize);
+        }
+
+        eventPublisher.publishEvent(new FollowChangedEvent(follower.getUserId(), sellerId));
+        log.info("👥 팔로우 - 사용자: {}, 판매자: {}", follower.getUserId(), sellerId);
+        return new FollowStatusDto(sellerId, true, stat == null ? 1 : stat.getFollowerCount());
+    }
+
+    @Transactional
+    public FollowStatusDto unfollow(User follower, Long sellerId) {
+        Follow follow = followRepository.findByFollower_UserIdAndSeller_UserId(follower.getUserId(), sellerId)
+                .orElseThrow(() -> new IllegalArgumentException("팔로우하지 않은 판매자입니다."));
+
+        LocalDateTime now = LocalDateTime.now();
+        followRepository.delete(follow);
+        sellerFollowStatRepository.decrement(sellerId, now);
+        feedEntryRepository.deleteBySeller(follower.getUserId(), sellerId);
+
+        if (sellerFollowStatRepository.leavePullMode(sellerId, pushThreshold, now) > 0) {
+            eventPublisher.publishEvent(new PullModeEndedEvent(sellerId));
+            log.info("👥 판매자 {} 복사 방식으로 전환 (팔로워 {}명 미만)", sellerId, pushThreshold);
+        }
+
+        eventPublisher.publishEvent(new FollowChangedEvent(follower.getUserId(), sellerId));
+        log.info("👥 언팔로우 - 사용자: {}, 판매자: {}", follower.getUserId(), sellerId);
+        return new FollowStatusDto(sellerId, false, getFollowerCount(sellerId));
+    }
+
+    @Transactional(readOnly = true)
+    public FollowStatusDto getStatus(User follower, Long sellerId) {
+        boolean following = follower != null
+                && followRepository.existsByFollower_UserIdAndSeller_UserId(follower.getUserId(), sellerId);
+        return new FollowStatusDto(sellerId, following, getFollowerCount(sellerId));
+    }
+
+    private long getFollowerCount(Long sellerId) {
+        return sellerFollowStatRepository.findById(sellerId)
+                .map(SellerFollowStat::getFollowerCount)
+                .orElse(0L);
+    }
+}
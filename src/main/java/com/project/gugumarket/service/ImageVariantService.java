@@ -0,0 +1,217 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.ImageVariant;
+import com.project.gugumarket.repository.ProductImageRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 축소본(카드/상세/지도 마커) 생성 서비스
+ *
+ * 처리 흐름:
+ * 1. 업로드 직후 generateAsync()로 작업을 전용 스레드 풀에 등록 (요청 스레드는 바로 반환)
+ * 2. 백그라운드에서 원본을 읽어 ImageVariant별 최대 너비로 축소 후 JPEG로 저장
+ * 3. 이미 이 URL을 쓰는 상품/상품이미지 행이 있으면 축소본 URL을 기록
+ *    (상품 등록이 더 늦게 오면 ProductService가 findExistingVariants()로 기록)
+ *
+ * 축소본이 없거나 생성에 실패해도 DTO는 원본 URL로 대체하므로 기능에는 영향 없음
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final FileService fileService;
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantService(FileService fileService,
+                               ProductRepository productRepository,
+                               ProductImageRepository productImageRepository,
+                               @Value("${image.variant.pool-size:2}") int poolSize,
+                               @Value("${image.variant.queue-capacity:200}") int queueCapacity) {
+        this.fileService = fileService;
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);   // 요청 처리보다 낮은 우선순위
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 축소본 생성 작업 등록
+     * 대기열이 가득 차면 건너뜀 (원본으로 대체 표시되므로 업로드는 실패시키지 않음)
+     *
+     * @param fileName 저장된 원본 파일명
+     */
+    public void generateAsync(String fileName) {
+        try {
+            executor.execute(() -> generate(fileName));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 썸네일 작업 대기열 초과 - 원본만 사용: {}", fileName);
+        }
+    }
+
+    /**
+     * 이미 디스크에 만들어진 축소본 URL 조회
+     * 상품 저장 시점에 호출해서 축소본이 먼저 완성된 경우를 기록
+     *
+     * @param imageUrl 원본 이미지 URL
+     * @return 존재하는 축소본만 담은 Map (없으면 빈 Map)
+     */
+    public Map<ImageVariant, String> findExistingVariants(String imageUrl) {
+        Map<ImageVariant, String> variants = new EnumMap<>(ImageVariant.class);
+        if (imageUrl == null || !imageUrl.startsWith(FileService.URL_PREFIX)) {
+            return variants;
+        }
+
+        String fileName = fileService.extractFileName(imageUrl);
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (Files.exists(fileService.resolvePath(variant.nameFor(fileName)))) {
+                variants.put(variant, variant.nameFor(imageUrl));
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * 실제 축소본 생성 (백그라운드 스레드)
+     */
+    private void generate(String fileName) {
+        long start = System.currentTimeMillis();
+        Path source = fileService.resolvePath(fileName);
+
+        try {
+            String imageUrl = fileService.toUrl(fileName);
+
+            // 같은 내용의 파일이 이미 처리된 경우 (중복 업로드) 다시 만들지 않음
+            if (findExistingVariants(imageUrl).size() < ImageVariant.values().length) {
+                BufferedImage original = ImageIO.read(source.toFile());
+                if (original == null) {
+                    // ImageIO가 읽지 못하는 형식 (예: webp) → 원본 그대로 사용
+                    log.info("ℹ️ 축소본 생성 불가 형식 - 원본 사용: {}", fileName);
+                    return;
+                }
+
+                for (ImageVariant variant : ImageVariant.values()) {
+                    BufferedImage resized = resize(original, variant.getMaxWidth());
+                    writeJpeg(resized, fileService.resolvePath(variant.nameFor(fileName)));
+                }
+            }
+
+            String cardUrl = ImageVariant.CARD.nameFor(imageUrl);
+            String detailUrl = ImageVariant.DETAIL.nameFor(imageUrl);
+            String markerUrl = ImageVariant.MARKER.nameFor(imageUrl);
+
+            int products = productRepository.updateMainImageVariants(imageUrl, cardUrl, detailUrl, markerUrl);
+            int images = productImageRepository.updateVariants(imageUrl, cardUrl, detailUrl, markerUrl);
+
+            log.info("✅ 축소본 생성 완료: {} ({}ms, 상품 {}건 / 이미지 {}건 반영)",
+                    fileName, System.currentTimeMillis() - start, products, images);
+
+        } catch (Exception e) {
+            log.error("❌ 축소본 생성 실패: {} - {}", fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * 최대 너비에 맞춰 비율 유지 축소
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 여러 단계로 축소
+     * 투명 배경(PNG)은 JPEG 저장을 위해 흰색으로 채움
+     */
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round(
+                source.getHeight() * (targetWidth / (double) source.getWidth())));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = step.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = step;
+        } while (width > targetWidth || height > targetHeight);
+
+        return current;
+    }
+
+    /**
+     * JPEG 저장 (임시 파일에 쓴 뒤 이동해서 반쯤 쓰인 파일이 노출되지 않도록 함)
+     */
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
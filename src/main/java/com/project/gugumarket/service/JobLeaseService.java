@@ -0,0 +1,75 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.repository.JobLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 스케줄 작업 리스 (DB 기반 분산 잠금)
+ *
+ * 서버를 여러 대 띄워도 같은 스케줄 작업은 리스를 가진 한 대만 실행
+ * - 리스 시간이 지나면 자동 만료 → 실행 중 서버가 죽어도 다음 주기에 다른 서버가 이어받음
+ * - 리스는 중복 실행을 줄이는 장치이고, 작업 자체도 조건부 UPDATE 등으로 중복 실행에 안전해야 함
+ *
+ * 사용 예:
+ * <pre>
+ * if (!jobLeaseService.tryAcquire("reservation-expiry", Duration.ofMinutes(5))) return;
+ * try { ... } finally { jobLeaseService.release("reservation-expiry"); }
+ * </pre>
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final String owner;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 리스 획득 시도 (기다리지 않음)
+     * @param jobName 작업 이름
+     * @param leaseTime 리스 유지 시간 (작업 최대 소요 시간보다 길게)
+     * @return 획득했으면 true
+     */
+    public boolean tryAcquire(String jobName, Duration leaseTime) {
+        try {
+            jobLeaseRepository.createIfAbsent(jobName);
+            return jobLeaseRepository.tryAcquire(jobName, owner, Math.max(1, leaseTime.toSeconds())) == 1;
+        } catch (Exception e) {
+            log.warn("⚠️ 작업 리스 획득 실패 - {}: {}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 리스 반납 (다음 주기에 어느 서버든 바로 가져갈 수 있도록)
+     */
+    public void release(String jobName) {
+        try {
+            jobLeaseRepository.release(jobName, owner);
+        } catch (Exception e) {
+            log.warn("⚠️ 작업 리스 반납 실패 (만료 후 자동 해제) - {}: {}", jobName, e.getMessage());
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            String name = InetAddress.getLocalHost().getHostName();
+            return name.length() > 80 ? name.substring(0, 80) : name;
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -3,16 +3,22 @@ package com.project.gugumarket.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.gugumarket.AdminMetricType;
+import com.project.gugumarket.client.OutboundApi;
+import com.project.gugumarket.client.OutboundHttpClient;
 import com.project.gugumarket.dto.KakaoTokenResponse;
 import com.project.gugumarket.dto.KakaoUserInfo;
 import com.project.gugumarket.dto.LoginResponse;
 import com.project.gugumarket.dto.UserResponseDto;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.AdminMetricEvent;
+import com.project.gugumarket.event.UserChangedEvent;
 import com.project.gugumarket.repository.UserRepository;
 import com.project.gugumarket.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -23,7 +29,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -38,6 +43,8 @@ public class KakaoAuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final BCryptPasswordEncoder passwordEncoder;
     private final CustomUserDetailService customUserDetailService;
+    private final OutboundHttpClient outboundHttpClient;   // 공용 외부 API 클라이언트 (연결 재사용)
+    private final ApplicationEventPublisher eventPublisher;  // 관리자 지표 (가입 수) / 회원 검색 인덱스
 
     @Value("${kakao.client-id}")
     private String kakaoClientId;
@@ -45,8 +52,9 @@ public class KakaoAuthService {
     @Value("${kakao.redirect-uri}")
     private String kakaoRedirectUri;
 
-    private static final String KAKAO_TOKEN_URL = "https://kauth.kakao.com/oauth/token";
-    private static final String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+    // outbound.kakao-auth / outbound.kakao-user 의 base-url 기준 경로
+    private static final String KAKAO_TOKEN_URL = "/oauth/token";
+    private static final String KAKAO_USER_INFO_URL = "/v2/user/me";
 
     /**
      * 카카오 Authorization Code로 Access Token 받기
@@ -54,8 +62,6 @@ public class KakaoAuthService {
     public KakaoTokenResponse getKakaoAccessToken(String code) {
         log.info("🔑 카카오 토큰 요청 시작 - code: {}", code);
 
-        RestTemplate restTemplate = new RestTemplate();
-
         // 요청 헤더 설정
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
@@ -70,11 +76,12 @@ public class KakaoAuthService {
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
         try {
-            ResponseEntity<KakaoTokenResponse> response = restTemplate.postForEntity(
-                    KAKAO_TOKEN_URL,
-                    request,
-                    KakaoTokenResponse.class
-            );
+            ResponseEntity<KakaoTokenResponse> response = outboundHttpClient.execute(OutboundApi.KAKAO_AUTH,
+                    rest -> rest.postForEntity(
+                            KAKAO_TOKEN_URL,
+                            request,
+                            KakaoTokenResponse.class
+                    ));
 
             log.info("✅ 카카오 토큰 받기 성공");
             return response.getBody();
@@ -91,8 +98,6 @@ public class KakaoAuthService {
     public KakaoUserInfo getKakaoUserInfo(String accessToken) {
         log.info("👤 카카오 사용자 정보 요청 시작");
 
-        RestTemplate restTemplate = new RestTemplate();
-
         // 요청 헤더 설정
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(accessToken);
@@ -101,12 +106,13 @@ public class KakaoAuthService {
         HttpEntity<String> request = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    KAKAO_USER_INFO_URL,
-                    HttpMethod.GET,
-                    request,
-                    String.class
-            );
+            ResponseEntity<String> response = outboundHttpClient.execute(OutboundApi.KAKAO_USER,
+                    rest -> rest.exchange(
+                            KAKAO_USER_INFO_URL,
+                            HttpMethod.GET,
+                            request,
+                            String.class
+                    ));
 
             // JSON 파싱
             ObjectMapper objectMapper = new ObjectMapper();
@@ -235,6 +241,8 @@ public class KakaoAuthService {
                 .build();
 
         User savedUser = userRepository.save(newUser);
+        eventPublisher.publishEvent(AdminMetricEvent.increment(AdminMetricType.TOTAL_USERS));
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser.getUserId()));
         log.info("✅ 카카오 신규 회원 생성 완료 - username: {}", savedUser.getUserName());
 
         return savedUser;
@@ -1,10 +1,12 @@
 package com.project.gugumarket.service;
 
+import com.project.gugumarket.client.OutboundApi;
+import com.project.gugumarket.client.OutboundHttpClient;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -16,12 +18,16 @@ import java.util.Map;
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class KakaoMapService {
 
+    // outbound.kakao-map.base-url (기본 https://dapi.kakao.com) 기준 경로, 주소는 URI 변수로 인코딩
+    private static final String ADDRESS_SEARCH_URL = "/v2/local/search/address.json?query={query}";
+
     @Value("${kakao.api.key:d5c8e66d1c468fb8de8e17433a8bc6f2}")
     private String kakaoApiKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OutboundHttpClient outboundHttpClient;   // 타임아웃/재시도/서킷 브레이커 포함
 
     /**
      * 주소를 위도/경도로 변환
@@ -35,19 +41,19 @@ public class KakaoMapService {
         }
 
         try {
-            String url = "https://dapi.kakao.com/v2/local/search/address.json?query=" + address;
-
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", "KakaoAK " + kakaoApiKey);
 
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
+            ResponseEntity<String> response = outboundHttpClient.execute(OutboundApi.KAKAO_MAP,
+                    rest -> rest.exchange(
+                            ADDRESS_SEARCH_URL,
+                            HttpMethod.GET,
+                            entity,
+                            String.class,
+                            address
+                    ));
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 JSONObject jsonObject = new JSONObject(response.getBody());
@@ -1,9 +1,14 @@
 package com.project.gugumarket.service;
 
+import com.project.gugumarket.PaymentStatus;
+import com.project.gugumarket.client.OutboundApi;
+import com.project.gugumarket.client.OutboundHttpClient;
 import com.project.gugumarket.dto.*;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.Transaction;
 import com.project.gugumarket.repository.TransactionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,10 +18,24 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 카카오페이 결제 서비스
+ *
+ * 승인 처리 흐름:
+ * 1. 결제 준비 시 거래마다 멱등 키(paymentKey)를 발급해서 승인 콜백 URL에 포함
+ * 2. 승인 콜백은 READY → APPROVING 조건부 전환만 하고 바로 응답 (중복 콜백은 전환에 실패해서 무시됨)
+ * 3. 실제 승인 API 호출과 정산 처리는 전용 스레드에서 진행
+ * 4. 승인 응답을 잃어버리거나 실패하면 APPROVING으로 남고, PaymentReconciler가 결제 상태를 조회해서 마무리
  */
 @Slf4j
 @Service
@@ -29,12 +48,43 @@ public class KakaoPayService {
     @Value("${kakaopay.cid}")
     private String cid;
 
+    @Value("${kakaopay.approve.pool-size:4}")
+    private int approvePoolSize;
+
+    @Value("${kakaopay.approve.queue-capacity:200}")
+    private int approveQueueCapacity;
+
     private final TransactionRepository transactionRepository;
     private final TransactionService transactionService;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OutboundHttpClient outboundHttpClient;   // 연결 풀 + 타임아웃 + 서킷 브레이커
+
+    // 승인 API 호출 전용 스레드 풀 (콜백 요청 스레드를 붙잡지 않도록)
+    private ThreadPoolExecutor approveExecutor;
+
+    // outbound.kakao-pay.base-url (기본 https://open-api.kakaopay.com) 기준 경로
+    private static final String READY_URL = "/online/v1/payment/ready";
+    private static final String APPROVE_URL = "/online/v1/payment/approve";
+    private static final String ORDER_URL = "/online/v1/payment/order";
 
-    private static final String READY_URL = "https://open-api.kakaopay.com/online/v1/payment/ready";
-    private static final String APPROVE_URL = "https://open-api.kakaopay.com/online/v1/payment/approve";
+    // 카카오페이 주문 상태 중 결제가 끝내 이뤄지지 않은 상태
+    private static final Set<String> FAILED_ORDER_STATUSES =
+            Set.of("CANCEL_PAYMENT", "FAIL_AUTH_PASSWORD", "QUIT_PAYMENT", "FAIL_PAYMENT");
+
+    @PostConstruct
+    void initApproveExecutor() {
+        AtomicInteger seq = new AtomicInteger();
+        approveExecutor = new ThreadPoolExecutor(
+                approvePoolSize, approvePoolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(approveQueueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "kakaopay-approve-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
 
     /**
      * 카카오페이 결제 준비
@@ -48,8 +98,17 @@ public class KakaoPayService {
             throw new IllegalArgumentException("구매자만 결제할 수 있습니다.");
         }
 
+        // 승인이 진행 중이거나 끝난 결제는 다시 준비하지 않음 (이중 결제 방지)
+        if (transaction.getPaymentStatus() == PaymentStatus.APPROVING
+                || transaction.getPaymentStatus() == PaymentStatus.APPROVED) {
+            throw new IllegalStateException("이미 결제 승인이 진행 중이거나 완료된 거래입니다.");
+        }
+
         Product product = transaction.getProduct();
 
+        // 승인 멱등 키 (승인 콜백 URL에 포함 → 키가 맞는 첫 콜백만 승인 처리)
+        String paymentKey = UUID.randomUUID().toString();
+
         // 파라미터 설정
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("cid", cid);
@@ -59,29 +118,28 @@ public class KakaoPayService {
         params.add("quantity", "1");
         params.add("total_amount", product.getPrice().toString());
         params.add("tax_free_amount", "0");
-        params.add("approval_url", "http://localhost:8080/api/payment/kakaopay/success?transaction_id=" + transactionId);
-        params.add("cancel_url", "http://localhost:8080/api/payment/kakaopay/cancel?transaction_id=" + transactionId);
-        params.add("fail_url", "http://localhost:8080/api/payment/kakaopay/fail?transaction_id=" + transactionId);
-
-        // ⭐ 헤더 수정 (SECRET_KEY + application/x-www-form-urlencoded)
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "DEV_SECRET_KEY " + adminKey);  // ⭐ DEV_ 제거!
-        headers.add("Content-Type", "application/x-www-form-urlencoded");  // ⭐ 변경!
+        params.add("approval_url", "http://localhost:8080/api/payment/kakaopay/success?transaction_id=" + transactionId
+                + "&payment_key=" + paymentKey);
+        params.add("cancel_url", "http://localhost:8080/api/payment/kakaopay/cancel?transaction_id=" + transactionId
+                + "&payment_key=" + paymentKey);
+        params.add("fail_url", "http://localhost:8080/api/payment/kakaopay/fail?transaction_id=" + transactionId
+                + "&payment_key=" + paymentKey);
 
-        HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(params, headers);
+        HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(params, kakaoPayHeaders());
 
         try {
-            KakaoPayReadyResponse response = restTemplate.postForObject(
-                    READY_URL,
-                    requestEntity,
-                    KakaoPayReadyResponse.class
-            );
+            KakaoPayReadyResponse response = outboundHttpClient.execute(OutboundApi.KAKAO_PAY,
+                    rest -> rest.postForObject(
+                            READY_URL,
+                            requestEntity,
+                            KakaoPayReadyResponse.class
+                    ));
 
             if (response == null || response.getTid() == null) {
                 throw new RuntimeException("카카오페이 결제 준비 응답이 올바르지 않습니다.");
             }
 
-            transactionService.updateKakaoPayTid(transactionId, response.getTid());
+            transactionService.updateKakaoPayTid(transactionId, response.getTid(), paymentKey);
 
             log.info("카카오페이 결제 준비 성공 - transactionId: {}, tid: {}", transactionId, response.getTid());
             return response;
@@ -93,56 +151,178 @@ public class KakaoPayService {
     }
 
     /**
-     * 카카오페이 결제 승인
+     * 카카오페이 승인 콜백 접수 (바로 반환)
+     * 첫 콜백만 승인 작업을 등록하고, 중복 콜백은 현재 결제 상태만 돌려줌
+     *
+     * @param transactionId 거래 ID
+     * @param paymentKey 결제 준비 시 발급한 멱등 키
+     * @param pgToken 카카오페이 pg_token
+     * @return 접수 후 결제 상태
      */
-    @Transactional
-    public KakaoPayApproveResponse kakaoPayApprove(Long transactionId, String pgToken) {
+    public PaymentStatus requestApproval(Long transactionId, String paymentKey, String pgToken) {
+        int accepted = transactionRepository.markApproving(transactionId, paymentKey, pgToken, LocalDateTime.now());
+
+        if (accepted == 0) {
+            Transaction transaction = transactionRepository.findById(transactionId)
+                    .orElseThrow(() -> new IllegalArgumentException("거래를 찾을 수 없습니다."));
+
+            if (transaction.getPaymentKey() != null && !transaction.getPaymentKey().equals(paymentKey)) {
+                throw new IllegalArgumentException("유효하지 않은 결제 승인 요청입니다.");
+            }
+            if (transaction.getTid() == null || transaction.getTid().isEmpty()) {
+                throw new IllegalStateException("결제 준비가 완료되지 않았습니다.");
+            }
+
+            log.info("중복 승인 콜백 무시 - transactionId: {}, 현재 상태: {}",
+                    transactionId, transaction.getPaymentStatus());
+            return transaction.getPaymentStatus();
+        }
+
+        try {
+            approveExecutor.execute(() -> processApproval(transactionId));
+        } catch (RejectedExecutionException e) {
+            // APPROVING으로 기록돼 있으므로 대사 작업이 이어서 승인
+            log.warn("⚠️ 승인 작업 대기열 초과 - 대사 작업에서 처리 예정: transactionId={}", transactionId);
+        }
+
+        return PaymentStatus.APPROVING;
+    }
+
+    /**
+     * 카카오페이 취소/실패 콜백 처리 (사용자가 결제창에서 취소했거나 결제 실패)
+     * 결제 준비 시 발급한 멱등 키가 맞을 때만 거래를 취소하고 상품 예약을 풀어줌
+     *
+     * @param transactionId 거래 ID (partner_order_id)
+     * @param paymentKey 결제 준비 시 발급한 멱등 키
+     * @param reason 취소 사유
+     * @return 이번 호출로 실패 처리했으면 true, 이미 결과가 정해진 결제면 false
+     */
+    public boolean failByCallback(Long transactionId, String paymentKey, String reason) {
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("거래를 찾을 수 없습니다."));
 
-        String tid = transaction.getTid();
-        if (tid == null || tid.isEmpty()) {
-            throw new IllegalStateException("결제 준비가 완료되지 않았습니다.");
+        if (transaction.getPaymentKey() != null && !transaction.getPaymentKey().equals(paymentKey)) {
+            throw new IllegalArgumentException("유효하지 않은 결제 취소 요청입니다.");
+        }
+
+        return transactionService.failKakaoPayment(transactionId, reason);
+    }
+
+    /**
+     * 카카오페이 결제 승인 API 호출 + 거래 완료 처리 (백그라운드)
+     * 실패해도 상태는 APPROVING으로 남겨서 대사 작업이 실제 결제 상태를 확인하게 함
+     *
+     * @return 이번 호출로 승인까지 끝났으면 true
+     */
+    public boolean processApproval(Long transactionId) {
+        Transaction transaction = transactionRepository.findById(transactionId)
+                .orElseThrow(() -> new IllegalArgumentException("거래를 찾을 수 없습니다."));
+
+        if (transaction.getPaymentStatus() != PaymentStatus.APPROVING || transaction.getPgToken() == null) {
+            return false;   // 이미 다른 경로에서 처리됨
         }
 
         // 파라미터 설정
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("cid", cid);
-        params.add("tid", tid);
+        params.add("tid", transaction.getTid());
         params.add("partner_order_id", transactionId.toString());
         params.add("partner_user_id", transaction.getBuyer().getUserId().toString());
-        params.add("pg_token", pgToken);
+        params.add("pg_token", transaction.getPgToken());
 
-        // ⭐ 헤더 수정 (SECRET_KEY + application/x-www-form-urlencoded)
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "DEV_SECRET_KEY " + adminKey);  // ⭐ DEV_ 제거!
-        headers.add("Content-Type", "application/x-www-form-urlencoded");  // ⭐ 변경!
-
-        HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(params, headers);
+        HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(params, kakaoPayHeaders());
 
         try {
-            KakaoPayApproveResponse response = restTemplate.postForObject(
-                    APPROVE_URL,
-                    requestEntity,
-                    KakaoPayApproveResponse.class
-            );
+            KakaoPayApproveResponse response = outboundHttpClient.execute(OutboundApi.KAKAO_PAY,
+                    rest -> rest.postForObject(
+                            APPROVE_URL,
+                            requestEntity,
+                            KakaoPayApproveResponse.class
+                    ));
 
             if (response == null || response.getAid() == null) {
-                throw new RuntimeException("카카오페이 결제 승인 응답이 올바르지 않습니다.");
+                throw new IllegalStateException("카카오페이 결제 승인 응답이 올바르지 않습니다.");
             }
 
-            transactionService.completeKakaoPayment(
+            boolean completed = transactionService.completeKakaoPayment(
                     transactionId,
                     response.getAid(),
                     response.getPaymentMethodType()
             );
 
             log.info("카카오페이 결제 승인 성공 - transactionId: {}, aid: {}", transactionId, response.getAid());
-            return response;
+            return completed;
 
         } catch (Exception e) {
-            log.error("카카오페이 결제 승인 실패", e);
-            throw new RuntimeException("카카오페이 결제 승인 중 오류가 발생했습니다: " + e.getMessage());
+            // 응답 유실 / 이미 승인됨 / 거절 등은 주문 조회로만 확정할 수 있음
+            log.warn("⚠️ 카카오페이 결제 승인 결과 미확정 - transactionId: {}, 대사 작업에서 확인 예정: {}",
+                    transactionId, e.getMessage());
+            transactionRepository.touchPayment(transactionId, LocalDateTime.now());
+            return false;
+        }
+    }
+
+    /**
+     * 결과가 정해지지 않은 결제를 카카오페이 주문 조회로 확정 (PaymentReconciler에서 호출)
+     * - 결제 완료 → 거래 완료 처리
+     * - 취소/실패/만료 → 거래 취소 + 상품 판매중 복구
+     * - 승인 콜백은 받았지만 아직 승인 전 → 승인 재시도
+     *
+     * @param transactionId 거래 ID
+     * @return 확인 후 결제 상태
+     */
+    public PaymentStatus reconcile(Long transactionId) {
+        Transaction transaction = transactionRepository.findById(transactionId)
+                .orElseThrow(() -> new IllegalArgumentException("거래를 찾을 수 없습니다."));
+
+        if (transaction.getPaymentStatus() == null || !transaction.getPaymentStatus().isInProgress()) {
+            return transaction.getPaymentStatus();
+        }
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("cid", cid);
+        params.add("tid", transaction.getTid());
+
+        HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(params, kakaoPayHeaders());
+
+        KakaoPayOrderResponse order = outboundHttpClient.execute(OutboundApi.KAKAO_PAY_STATUS,
+                rest -> rest.postForObject(ORDER_URL, requestEntity, KakaoPayOrderResponse.class));
+
+        String orderStatus = order != null ? order.getStatus() : null;
+        log.info("카카오페이 결제 대사 - transactionId: {}, 결제 상태: {}, 주문 상태: {}",
+                transactionId, transaction.getPaymentStatus(), orderStatus);
+
+        if ("SUCCESS_PAYMENT".equals(orderStatus)) {
+            transactionService.completeKakaoPayment(transactionId, order.findPaymentAid(), order.getPaymentMethodType());
+            return PaymentStatus.APPROVED;
+        }
+
+        if (orderStatus != null && FAILED_ORDER_STATUSES.contains(orderStatus)) {
+            transactionService.failKakaoPayment(transactionId, "카카오페이 결제 미완료 (" + orderStatus + ")");
+            return PaymentStatus.FAILED;
+        }
+
+        // 사용자가 아직 결제 중이거나, 콜백은 받았지만 승인 전
+        if (transaction.getPaymentStatus() == PaymentStatus.APPROVING && processApproval(transactionId)) {
+            return PaymentStatus.APPROVED;
         }
+
+        transactionRepository.touchPayment(transactionId, LocalDateTime.now());
+        return transaction.getPaymentStatus();
+    }
+
+    /**
+     * 카카오페이 공통 헤더 (SECRET_KEY + application/x-www-form-urlencoded)
+     */
+    private HttpHeaders kakaoPayHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Authorization", "DEV_SECRET_KEY " + adminKey);
+        headers.add("Content-Type", "application/x-www-form-urlencoded");
+        return headers;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        approveExecutor.shutdown();
     }
-}
\ No newline at end of file
+}
@@ -3,9 +3,12 @@ package com.project.gugumarket.service;
 import com.project.gugumarket.entity.Like;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.MypageChangedEvent;
+import com.project.gugumarket.event.ProductLiveEvent;
 import com.project.gugumarket.repository.LikeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +24,7 @@ public class LikeService {
     private final LikeRepository likeRepository;
     @Lazy
     private final NotificationService notificationService;  // 🔥 알림 서비스 추가
+    private final ApplicationEventPublisher eventPublisher;  // 마이페이지 캐시 갱신, 상품 실시간 채널
 
     /**
      * 좋아요 추가
@@ -38,6 +42,8 @@ public class LikeService {
                 .build();
 
         likeRepository.save(like);
+        eventPublisher.publishEvent(MypageChangedEvent.of(user.getUserId()));
+        eventPublisher.publishEvent(ProductLiveEvent.likeChanged(product.getProductId()));
 
         // 🔥 찜 알림 생성
         try {
@@ -60,6 +66,8 @@ public class LikeService {
                 .orElseThrow(() -> new IllegalStateException("좋아요하지 않은 상품입니다."));
 
         likeRepository.delete(like);
+        eventPublisher.publishEvent(MypageChangedEvent.of(user.getUserId()));
+        eventPublisher.publishEvent(ProductLiveEvent.likeChanged(product.getProductId()));
         log.info("찜 취소 완료 - 사용자: {}, 상품: {}", user.getNickname(), product.getTitle());
     }
 
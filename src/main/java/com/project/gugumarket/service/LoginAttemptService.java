@@ -0,0 +1,111 @@
+package com.project.gugumarket.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+
+/**
+ * 로그인 실패 횟수 추적 및 점진적 지연(무차별 대입 방어) 서비스
+ *
+ * 동작 방식:
+ * 1. 실패할 때마다 계정 키와 IP 키의 실패 횟수를 각각 증가
+ * 2. 실패 횟수가 기준치를 넘으면 기준치 초과분만큼 지연 시간을 2배씩 늘림 (최대값 제한)
+ * 3. 지연 시간이 지나기 전의 로그인 시도는 비밀번호 검증 없이 바로 거절
+ * 4. 로그인 성공 시 계정 키는 초기화 (IP 키는 여러 계정이 공유하므로 유지)
+ *
+ * 메모리 기반이므로 서버 재시작 시 초기화됨 (resetTokenStore와 동일한 방식)
+ */
+@Slf4j
+@Service
+public class LoginAttemptService {
+
+    private static final String ACCOUNT_PREFIX = "account:";
+    private static final String IP_PREFIX = "ip:";
+
+    @Value("${security.login.free-attempts:3}")
+    private int freeAttempts;               // 지연 없이 허용할 실패 횟수
+
+    @Value("${security.login.ip-free-attempts:20}")
+    private int ipFreeAttempts;             // IP 단위 허용 실패 횟수 (NAT 환경 고려해 더 크게)
+
+    @Value("${security.login.base-delay-ms:1000}")
+    private long baseDelayMillis;
+
+    @Value("${security.login.max-delay-ms:300000}")
+    private long maxDelayMillis;
+
+    @Value("${security.login.reset-after-ms:900000}")
+    private long resetAfterMillis;          // 마지막 실패 이후 이 시간이 지나면 기록 초기화
+
+    // 마지막 실패 후 resetAfterMillis, 지연이 더 길면 지연이 끝날 때까지 유지
+    private final TtlCache<String, Attempt> attempts = new TtlCache<>(
+            attempt -> Math.max(resetAfterMillis, attempt.blockedUntil() - attempt.lastFailureAt()));
+
+    /**
+     * 로그인 시도 전 남은 대기 시간 조회
+     *
+     * @return 0이면 시도 가능, 양수면 그만큼(ms) 더 기다려야 함
+     */
+    public long getRemainingDelayMillis(String userName, String clientIp) {
+        long now = System.currentTimeMillis();
+        return Math.max(
+                remaining(ACCOUNT_PREFIX + normalize(userName), now),
+                remaining(IP_PREFIX + clientIp, now)
+        );
+    }
+
+    /**
+     * 로그인 실패 기록
+     */
+    public void loginFailed(String userName, String clientIp) {
+        long now = System.currentTimeMillis();
+        int accountFailures = record(ACCOUNT_PREFIX + normalize(userName), freeAttempts, now);
+        int ipFailures = record(IP_PREFIX + clientIp, ipFreeAttempts, now);
+
+        log.warn("⚠️ 로그인 실패 기록 - 계정: {} ({}회), IP: {} ({}회)",
+                userName, accountFailures, clientIp, ipFailures);
+    }
+
+    /**
+     * 로그인 성공 시 계정 실패 기록 초기화
+     */
+    public void loginSucceeded(String userName) {
+        attempts.invalidate(ACCOUNT_PREFIX + normalize(userName));
+    }
+
+    private long remaining(String key, long now) {
+        Attempt attempt = attempts.get(key);     // 만료된 기록은 null
+        return attempt == null ? 0 : Math.max(0, attempt.blockedUntil() - now);
+    }
+
+    private int record(String key, int allowed, long now) {
+        Attempt updated = attempts.compute(key, prev -> {
+            int failures = prev == null ? 1 : prev.failures() + 1;
+            return new Attempt(failures, now, now + delayFor(failures, allowed));
+        });
+        return updated.failures();
+    }
+
+    /**
+     * 허용 횟수 초과분에 대해 base * 2^(초과분-1) 만큼 지연 (최대 maxDelayMillis)
+     */
+    private long delayFor(int failures, int allowed) {
+        int over = failures - allowed;
+        if (over <= 0) {
+            return 0;
+        }
+        int shift = Math.min(over - 1, 30);     // 오버플로 방지
+        return Math.min(maxDelayMillis, baseDelayMillis << shift);
+    }
+
+    private String normalize(String userName) {
+        return userName == null ? "" : userName.trim().toLowerCase();
+    }
+
+    /**
+     * 키별 실패 기록 (불변 객체로 compute 시 통째로 교체)
+     */
+    private record Attempt(int failures, long lastFailureAt, long blockedUntil) {
+    }
+}
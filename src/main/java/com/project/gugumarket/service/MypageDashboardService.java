@@ -0,0 +1,250 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.CursorPageDto;
+import com.project.gugumarket.dto.LikeResponseDto;
+import com.project.gugumarket.dto.MypageDashboardDto;
+import com.project.gugumarket.dto.NotificationResponseDto;
+import com.project.gugumarket.dto.ProductDetailResponse;
+import com.project.gugumarket.dto.TransactionSummaryDto;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.MypageChangedEvent;
+import com.project.gugumarket.event.TransactionCompletedEvent;
+import com.project.gugumarket.repository.LikeRepository;
+import com.project.gugumarket.repository.NotificationRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.TransactionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 마이페이지 메인 요약 조립
+ *
+ * 찜 / 구매 / 판매 / 알림 / 등록 상품 섹션은 서로 독립적이므로
+ * 가상 스레드에서 동시에 조회 (섹션마다 별도 읽기 전용 트랜잭션, 최신 N개 + 개수만)
+ * → 응답 시간이 섹션 조회 시간의 합이 아니라 가장 느린 섹션 시간에 가까워짐
+ *
+ * - 동시에 실행되는 섹션 조회 수는 서버 전체에서 제한 (DB 연결 풀의 절반 이하, 나머지 요청이 쓸 연결을 남겨둠)
+ * - 제한 시간이 지나면 남은 섹션은 취소하고, 끝난 섹션만 채운 부분 결과를 돌려줌 (이전 캐시가 있으면 그것을)
+ * - 조립 결과는 사용자별로 캐시, 찜/거래/알림/상품 변경 이벤트가 오면 커밋 후 제거
+ */
+@Slf4j
+@Service
+public class MypageDashboardService {
+
+    private final LikeRepository likeRepository;
+    private final ProductRepository productRepository;
+    private final NotificationRepository notificationRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionService transactionService;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final int previewSize;
+    private final int notificationPreviewSize;
+    private final long timeoutMillis;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore querySlots;
+    private final TtlCache<Long, MypageDashboardDto> cache;
+
+    public MypageDashboardService(LikeRepository likeRepository,
+                                  ProductRepository productRepository,
+                                  NotificationRepository notificationRepository,
+                                  TransactionRepository transactionRepository,
+                                  TransactionService transactionService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${mypage.dashboard.preview-size:20}") int previewSize,
+                                  @Value("${mypage.dashboard.notification-preview-size:5}") int notificationPreviewSize,
+                                  @Value("${mypage.dashboard.cache-ttl-ms:30000}") long cacheTtlMillis,
+                                  @Value("${mypage.dashboard.timeout-ms:5000}") long timeoutMillis,
+                                  @Value("${mypage.dashboard.max-concurrent-queries:4}") int maxConcurrentQueries,
+                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.likeRepository = likeRepository;
+        this.productRepository = productRepository;
+        this.notificationRepository = notificationRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionService = transactionService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 섹션 쿼리도 제한 시간 안에 끝나도록 (초과 시 DB 쪽에서 쿼리 취소)
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999)));
+        this.previewSize = previewSize;
+        this.notificationPreviewSize = notificationPreviewSize;
+        this.cache = new TtlCache<>(cacheTtlMillis);
+        this.timeoutMillis = timeoutMillis;
+        this.querySlots = new Semaphore(Math.max(1, Math.min(maxConcurrentQueries, connectionPoolSize / 2)));
+    }
+
+    /**
+     * 마이페이지 요약 조회 (캐시)
+     * 제한 시간 안에 끝나지 않으면 이전 캐시 또는 부분 결과 (partial = true, 캐시하지 않음)
+     * @param user 로그인 사용자
+     */
+    public MypageDashboardDto getDashboard(User user) {
+        Long userId = user.getUserId();
+
+        MypageDashboardDto cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long versionAtStart = cache.version();
+        MypageDashboardDto dashboard = assemble(user);
+        if (dashboard.isPartial()) {
+            MypageDashboardDto stale = cache.getStale(userId);
+            return stale != null ? stale : dashboard;
+        }
+
+        cache.putIfVersion(userId, dashboard, versionAtStart);
+        return dashboard;
+    }
+
+    /**
+     * 섹션 동시 조회 후 조립
+     */
+    private MypageDashboardDto assemble(User user) {
+        Long userId = user.getUserId();
+        PageRequest preview = PageRequest.of(0, previewSize);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        CompletableFuture<List<LikeResponseDto>> likes = section(tasks, () ->
+                likeRepository.findByUserOrderByCreatedDateDesc(user, preview).stream()
+                        .map(LikeResponseDto::fromEntity)
+                        .toList());
+        CompletableFuture<Long> likeCount = section(tasks, () -> likeRepository.countByUser(user));
+
+        CompletableFuture<CursorPageDto<TransactionSummaryDto>> purchases = section(tasks, () ->
+                transactionService.getTransactionHistory(userId, "BUYER", null, null, previewSize));
+        CompletableFuture<Long> purchaseCount = section(tasks, () -> transactionRepository.countByBuyer_UserId(userId));
+
+        CompletableFuture<CursorPageDto<TransactionSummaryDto>> sales = section(tasks, () ->
+                transactionService.getTransactionHistory(userId, "SELLER", null, null, previewSize));
+        CompletableFuture<Long> saleCount = section(tasks, () -> transactionRepository.countBySeller_UserId(userId));
+
+        CompletableFuture<List<NotificationResponseDto>> notifications = section(tasks, () ->
+                notificationRepository.findByReceiverOrderByCreatedDateDesc(user, PageRequest.of(0, notificationPreviewSize))
+                        .stream()
+                        .map(NotificationResponseDto::fromEntity)
+                        .toList());
+        CompletableFuture<Long> unreadCount = section(tasks, () -> notificationRepository.countByReceiverAndIsRead(user, false));
+
+        CompletableFuture<List<ProductDetailResponse>> products = section(tasks, () ->
+                productRepository.findBySellerAndIsDeletedFalseOrderByCreatedDateDesc(user, preview).stream()
+                        .map(ProductDetailResponse::from)
+                        .toList());
+        CompletableFuture<Long> productCount = section(tasks, () -> (long) productRepository.countBySellerUserId(userId));
+
+        boolean partial = false;
+        try {
+            CompletableFuture.allOf(likes, likeCount, purchases, purchaseCount, sales, saleCount,
+                            notifications, unreadCount, products, productCount)
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException e) {
+            // 남은 섹션 취소 (슬롯 대기 중이면 바로 빠지고, 실행 중이면 인터럽트)
+            tasks.forEach(task -> task.cancel(true));
+            partial = true;
+            log.warn("⚠️ 마이페이지 조회 시간 초과 - 사용자: {}, 끝난 섹션만 반환", userId);
+        } catch (InterruptedException e) {
+            tasks.forEach(task -> task.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("마이페이지 조회가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            tasks.forEach(task -> task.cancel(true));
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("마이페이지 조회에 실패했습니다.", cause);
+        }
+
+        CursorPageDto<TransactionSummaryDto> emptyPage = new CursorPageDto<>(List.of(), null, false);
+        CursorPageDto<TransactionSummaryDto> purchasePage = doneOr(purchases, emptyPage);
+        CursorPageDto<TransactionSummaryDto> salePage = doneOr(sales, emptyPage);
+
+        return MypageDashboardDto.builder()
+                .likes(doneOr(likes, List.of()))
+                .likeCount(doneOr(likeCount, 0L))
+                .purchases(purchasePage.items())
+                .purchasesNextCursor(purchasePage.nextCursor())
+                .purchaseCount(doneOr(purchaseCount, 0L))
+                .sales(salePage.items())
+                .salesNextCursor(salePage.nextCursor())
+                .saleCount(doneOr(saleCount, 0L))
+                .recentNotifications(doneOr(notifications, List.of()))
+                .unreadCount(doneOr(unreadCount, 0L))
+                .products(doneOr(products, List.of()))
+                .productCount(doneOr(productCount, 0L))
+                .partial(partial)
+                .build();
+    }
+
+    /**
+     * 끝난 섹션은 결과, 끝나지 않은 섹션은 빈 값
+     */
+    private static <T> T doneOr(CompletableFuture<T> section, T fallback) {
+        return section.isDone() && !section.isCompletedExceptionally() ? section.join() : fallback;
+    }
+
+    /**
+     * 섹션 하나를 가상 스레드 + 자체 읽기 전용 트랜잭션에서 실행
+     * (엔티티 → DTO 변환까지 트랜잭션 안에서 끝내서 지연 로딩이 섹션 밖으로 새지 않게)
+     * 작업은 tasks에 모아서 제한 시간이 지나면 한꺼번에 취소
+     */
+    private <T> CompletableFuture<T> section(List<Future<?>> tasks, Supplier<T> query) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        tasks.add(executor.submit(() -> {
+            try {
+                querySlots.acquire();
+            } catch (InterruptedException e) {
+                result.cancel(false);   // 슬롯을 기다리다 취소됨 → 연결을 잡지 않음
+                return;
+            }
+            try {
+                result.complete(readOnlyTransaction.execute(status -> query.get()));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                querySlots.release();
+            }
+        }));
+        return result;
+    }
+
+    /**
+     * 찜/거래/알림/상품 변경 → 커밋 후 캐시 제거 (트랜잭션 밖에서 발행돼도 바로 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMypageChanged(MypageChangedEvent event) {
+        cache.invalidateAll(event.userIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        cache.invalidateAll(List.of(event.sellerId(), event.buyerId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -2,18 +2,17 @@ package com.project.gugumarket.service;
 
 import com.project.gugumarket.dto.UserDto;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.UserChangedEvent;
 import com.project.gugumarket.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.List;
 
 /**
  * 마이페이지 관련 비즈니스 로직을 처리하는 서비스
@@ -22,20 +21,21 @@ import java.nio.file.StandardCopyOption;
 @Service
 public class MypageService {
 
-    /**
-     * 파일 업로드 경로
-     * application.properties에서 file.upload.path 값을 읽어옴
-     * 설정이 없으면 기본값 "uploads/" 사용
-     */
-    @Value("${file.upload.path:uploads/}")
-    private String uploadPath;
-
     @Autowired
     private UserRepository userRepository;  // 사용자 데이터베이스 접근
 
     @Autowired
     private PasswordEncoder passwordEncoder;  // 비밀번호 암호화/검증
 
+    @Autowired
+    private FileService fileService;  // 내용 기반 파일 저장소 (중복 제거)
+
+    @Autowired
+    private FileReleaseService fileReleaseService;  // 🗑️ 교체된 이미지는 커밋 후 비동기 해제
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;  // 관리자 회원 검색 인덱스 갱신
+
     /**
      * 사용자 이름으로 사용자 엔티티 조회
      * @param userName 조회할 사용자 이름
@@ -90,6 +90,7 @@ public class MypageService {
 
         // 데이터베이스에 저장
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getUserId()));
         System.out.println("✅ 기본 정보 저장 완료");
     }
 
@@ -120,10 +121,10 @@ public class MypageService {
 
     /**
      * 프로필 이미지 업로드 처리
-     * 파일을 서버에 저장하고 웹에서 접근 가능한 URL 반환
+     * 상품 이미지와 같은 내용 기반 저장소에 저장 (같은 사진은 한 번만 저장됨)
      * @param profileImage 업로드할 이미지 파일
-     * @param userName 사용자 이름 (파일명 생성에 사용)
-     * @return 웹에서 접근 가능한 이미지 URL (예: "/uploads/user1_1234567890.jpg")
+     * @param userName 사용자 이름 (로그용)
+     * @return 웹에서 접근 가능한 이미지 URL (예: "/uploads/products/9f/86/9f86...jpg")
      * @throws IOException 파일 저장 중 오류 발생 시
      */
     public String uploadProfileImage(MultipartFile profileImage, String userName) throws IOException {
@@ -132,45 +133,38 @@ public class MypageService {
             return null;
         }
 
-        // 업로드 디렉토리 설정 (application.properties에서 읽어온 경로)
-        String uploadDir = uploadPath;
+        // 업로드 스트림을 해시 계산과 동시에 디스크로 저장
+        String fileName = fileService.uploadFile(profileImage);
 
-        // 파일명 생성 (중복 방지를 위해 타임스탬프 추가)
-        String originalFilename = profileImage.getOriginalFilename();
-        String extension = "";  // 파일 확장자
-        // 원본 파일명에서 확장자 추출 (예: .jpg, .png)
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        }
-        // 최종 파일명: "사용자명_타임스탬프.확장자" (예: user1_1234567890.jpg)
-        String fileName = userName + "_" + System.currentTimeMillis() + extension;
-
-        // 업로드 디렉토리가 없으면 생성
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-            System.out.println("디렉토리 생성: " + uploadPath.toAbsolutePath());
-        }
-
-        // 파일을 디스크에 저장
-        Path filePath = uploadPath.resolve(fileName);
-        // 파일이 이미 존재하면 덮어쓰기
-        Files.copy(profileImage.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-        System.out.println("파일 저장 성공: " + filePath.toAbsolutePath());
+        System.out.println("프로필 이미지 저장 성공 - 사용자: " + userName + ", 파일: " + fileName);
 
         // 웹에서 접근 가능한 URL 반환 (정적 리소스 경로)
-        return "/uploads/" + fileName;
+        return fileService.toUrl(fileName);
+    }
+
+    /**
+     * 이전 프로필 이미지 참조 해제 (회원 정보가 커밋된 뒤에 해제)
+     * 내용 기반 저장소의 파일만 대상 (다른 사용자가 같은 사진을 쓰면 파일은 유지됨)
+     * @param oldImageUrl 교체/삭제되는 이미지 URL
+     * @param newImageUrl 새 이미지 URL (같으면 해제하지 않음)
+     */
+    private void releaseProfileImage(String oldImageUrl, String newImageUrl) {
+        if (oldImageUrl == null || oldImageUrl.equals(newImageUrl)) {
+            return;
+        }
+        fileReleaseService.releaseAfterCommit(List.of(oldImageUrl));
     }
 
     /**
      * 프로필 이미지 삭제
      * 사용자의 프로필 이미지 URL을 null로 설정 (기본 이미지 사용)
-     * 주의: 실제 파일은 삭제하지 않고 DB의 참조만 제거
+     * 파일은 참조만 해제하고, 마지막 참조일 때만 실제로 삭제됨
      * @param userName 사용자 이름
      */
+    @Transactional
     public void deleteProfileImage(String userName) {
         User user = getUserByUserName(userName);
+        releaseProfileImage(user.getProfileImage(), null);
         user.setProfileImage(null);  // 이미지 URL 제거
         userRepository.save(user);
     }
@@ -181,8 +175,10 @@ public class MypageService {
      * @param userName 사용자 이름
      * @param imageUrl 저장할 이미지 URL
      */
+    @Transactional
     public void updateProfileImage(String userName, String imageUrl) {
         User user = getUserByUserName(userName);
+        releaseProfileImage(user.getProfileImage(), imageUrl);
         user.setProfileImage(imageUrl);
         userRepository.save(user);
     }
@@ -194,6 +190,7 @@ public class MypageService {
      * @param profileImage 업로드할 프로필 이미지 (선택)
      * @throws IOException 파일 업로드 중 오류 발생 시
      */
+    @Transactional
     public void updateUserProfile(UserDto userDto, MultipartFile profileImage) throws IOException {
         // 사용자 조회
         User user = getUserByUserName(userDto.getUserName());
@@ -202,6 +199,7 @@ public class MypageService {
         if (profileImage != null && !profileImage.isEmpty()) {
             // 이미지 업로드 후 URL 받아오기
             String imageUrl = uploadProfileImage(profileImage, user.getUserName());
+            releaseProfileImage(user.getProfileImage(), imageUrl);
             user.setProfileImage(imageUrl);
         }
 
@@ -215,5 +213,6 @@ public class MypageService {
 
         // 모든 정보를 한 번에 저장
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getUserId()));
     }
 }
\ No newline at end of file
@@ -3,15 +3,23 @@ package com.project.gugumarket.service;
 import com.project.gugumarket.NotificationType;
 import com.project.gugumarket.dto.NotificationDto;
 import com.project.gugumarket.entity.*;
+import com.project.gugumarket.event.MypageChangedEvent;
 import com.project.gugumarket.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +28,7 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final SimpMessagingTemplate messagingTemplate;  // ✅ 추가
+    private final ApplicationEventPublisher eventPublisher;  // 마이페이지 캐시 갱신
 
     /**
      * 찜 알림 생성
@@ -125,6 +134,122 @@ public class NotificationService {
         return saved;
     }
 
+    /**
+     * 예약 만료 알림 일괄 생성
+     * - 결제 기한이 지나 자동 취소된 거래마다 구매자와 판매자에게 알림
+     * - 거래는 상품/구매자/판매자가 로딩된 상태로 전달해야 함
+     */
+    @Transactional
+    public List<Notification> createTransactionExpiredNotifications(List<Transaction> transactions) {
+        List<Notification> notifications = new ArrayList<>(transactions.size() * 2);
+
+        for (Transaction transaction : transactions) {
+            Product product = transaction.getProduct();
+            String url = "/transactions/" + transaction.getTransactionId();
+
+            notifications.add(Notification.builder()
+                    .receiver(transaction.getBuyer())
+                    .product(product)
+                    .transaction(transaction)
+                    .type(NotificationType.TRANSACTION_EXPIRED)
+                    .message(String.format("결제 기한이 지나 '%s' 상품 구매가 자동 취소되었습니다.", product.getTitle()))
+                    .url(url)
+                    .isRead(false)
+                    .build());
+
+            notifications.add(Notification.builder()
+                    .receiver(transaction.getSeller())
+                    .sender(transaction.getBuyer())
+                    .product(product)
+                    .transaction(transaction)
+                    .type(NotificationType.TRANSACTION_EXPIRED)
+                    .message(String.format("%s님의 결제 기한이 지나 '%s' 상품이 다시 판매중으로 변경되었습니다.",
+                            transaction.getBuyer().getNickname(), product.getTitle()))
+                    .url(url)
+                    .isRead(false)
+                    .build());
+        }
+
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        log.info("예약 만료 알림 생성 완료 - 거래 {}건, 알림 {}건", transactions.size(), saved.size());
+
+        saved.forEach(this::sendRealtimeNotification);
+        return saved;
+    }
+
+    /**
+     * 관심 검색어 알림 일괄 생성
+     * - 새 상품이 저장해 둔 검색 조건에 맞는 사용자들에게 알림
+     */
+    @Transactional
+    public List<Notification> createSavedSearchNotifications(Product product, List<User> receivers) {
+        if (receivers.isEmpty()) {
+            return List.of();
+        }
+
+        String message = String.format("관심 검색어에 맞는 '%s' 상품이 등록되었습니다.", product.getTitle());
+        List<Notification> notifications = new ArrayList<>(receivers.size());
+        for (User receiver : receivers) {
+            notifications.add(Notification.builder()
+                    .receiver(receiver)
+                    .product(product)
+                    .type(NotificationType.SAVED_SEARCH)
+                    .message(message.length() > 255 ? message.substring(0, 255) : message)
+                    .url("/products/" + product.getProductId())
+                    .isRead(false)
+                    .build());
+        }
+
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        log.info("관심 검색어 알림 생성 완료 - 상품: {}, 알림 {}건", product.getProductId(), saved.size());
+
+        saved.forEach(this::sendRealtimeNotification);
+        return saved;
+    }
+
+    /**
+     * 같은 상품 알림 일괄 생성 (가격 인하 등 한 상품을 여러 사용자에게 알릴 때)
+     * - INSERT ... SELECT 한 번으로 저장하고, 만든 알림을 다시 읽어 실시간 전송
+     * - 뱃지용 읽지 않은 개수도 GROUP BY 한 번으로 조회
+     *
+     * @return 생성된 알림 수
+     */
+    @Transactional
+    public int createProductNotifications(Long productId, NotificationType type, String message,
+                                          Collection<Long> receiverIds) {
+        if (receiverIds.isEmpty()) {
+            return 0;
+        }
+
+        // 다시 읽을 때 기준 시각 (초 단위로 잘라 컬럼 정밀도와 상관없이 >= 비교가 맞도록)
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        int inserted = notificationRepository.insertForReceivers(productId, type.name(),
+                message.length() > 255 ? message.substring(0, 255) : message,
+                "/products/" + productId, now, receiverIds);
+
+        List<Notification> created = notificationRepository.findCreatedForReceivers(productId, type, now, receiverIds);
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadByReceiverIds(receiverIds)) {
+            unreadCounts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        for (Notification notification : created) {
+            Long receiverId = notification.getReceiver().getUserId();
+            eventPublisher.publishEvent(MypageChangedEvent.of(receiverId));
+            try {
+                messagingTemplate.convertAndSend("/topic/notifications/" + receiverId,
+                        NotificationDto.fromEntity(notification));
+                messagingTemplate.convertAndSend("/topic/notifications-count/" + receiverId,
+                        unreadCounts.getOrDefault(receiverId, 0L));
+            } catch (Exception e) {
+                log.error("❌ 실시간 알림 전송 실패: {}", e.getMessage());
+            }
+        }
+
+        log.info("🔔 상품 알림 일괄 생성 - 상품: {}, 타입: {}, 알림 {}건", productId, type, inserted);
+        return inserted;
+    }
+
     /**
      * 댓글 알림 생성
      */
@@ -193,6 +318,7 @@ public class NotificationService {
 
         if (!notification.getIsRead()) {
             notification.markAsRead();
+            eventPublisher.publishEvent(MypageChangedEvent.of(user.getUserId()));
             log.info("알림 읽음 처리 완료 - ID: {}", notificationId);
         }
     }
@@ -206,6 +332,7 @@ public class NotificationService {
                 .findByReceiverAndIsRead(user, false);
 
         unreadNotifications.forEach(Notification::markAsRead);
+        eventPublisher.publishEvent(MypageChangedEvent.of(user.getUserId()));
         log.info("모든 알림 읽음 처리 완료 - 사용자: {}, 개수: {}",
                 user.getNickname(), unreadNotifications.size());
     }
@@ -224,6 +351,7 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+        eventPublisher.publishEvent(MypageChangedEvent.of(user.getUserId()));
         log.info("알림 삭제 완료 - ID: {}", notificationId);
     }
 
@@ -233,6 +361,7 @@ public class NotificationService {
     @Transactional
     public void deleteAllNotifications(User user) {
         notificationRepository.deleteByReceiver(user);
+        eventPublisher.publishEvent(MypageChangedEvent.of(user.getUserId()));
         log.info("모든 알림 삭제 완료 - 사용자: {}", user.getNickname());
     }
     public List<Notification> getNotifications(User user) {
@@ -247,14 +376,8 @@ public class NotificationService {
      */
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션 (성능 최적화)
     public List<Notification> getRecentNotifications(User user, int limit) {
-        // 해당 사용자의 모든 알림을 생성일 기준 내림차순으로 조회
-        List<Notification> allNotifications = notificationRepository
-                .findByReceiverOrderByCreatedDateDesc(user);
-
-        // 스트림을 사용하여 지정된 개수만큼만 반환
-        return allNotifications.stream()
-                .limit(limit) // 상위 limit개만 선택
-                .collect(Collectors.toList()); // 리스트로 수집하여 반환
+        // 해당 사용자의 알림을 생성일 기준 내림차순으로 limit개만 조회 (DB에서 잘라서 가져옴)
+        return notificationRepository.findByReceiverOrderByCreatedDateDesc(user, PageRequest.of(0, limit));
     }
 
     // 🎯🔥✨💫⭐🌟 [추가] 신고 처리 완료 알림 생성 🌟⭐💫✨🔥🎯
@@ -290,6 +413,8 @@ public class NotificationService {
 
     // ✅ 실시간 알림 전용 메서드 (topic + userId 방식)
     private void sendRealtimeNotification(Notification notification) {
+        eventPublisher.publishEvent(MypageChangedEvent.of(notification.getReceiver().getUserId()));
+
         try {
             NotificationDto dto = NotificationDto.fromEntity(notification);
 
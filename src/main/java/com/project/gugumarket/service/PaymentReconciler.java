@@ -0,0 +1,87 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.client.OutboundUnavailableException;
+import com.project.gugumarket.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카카오페이 결제 대사 작업
+ *
+ * tid가 있는데 결과가 정해지지 않은(READY / APPROVING) 채 일정 시간이 지난 거래를 주기적으로 골라
+ * 카카오페이 주문 조회로 실제 결제 상태를 확인하고 거래를 완료/취소 처리
+ *
+ * - 승인 응답이 유실되거나 서버가 재시작돼도 결제가 PENDING으로 방치되지 않음
+ * - 한 번에 batch-size건만 처리하고, 확인한 거래는 시각을 갱신해서 다음 순서로 밀림
+ */
+@Slf4j
+@Service
+public class PaymentReconciler {
+
+    private static final String JOB_NAME = "payment-reconcile";
+    private static final Duration LEASE_TIME = Duration.ofSeconds(50);
+
+    private final TransactionRepository transactionRepository;
+    private final KakaoPayService kakaoPayService;
+    private final JobLeaseService jobLeaseService;
+    private final long staleAfterSeconds;
+    private final int batchSize;
+
+    public PaymentReconciler(TransactionRepository transactionRepository,
+                             KakaoPayService kakaoPayService,
+                             JobLeaseService jobLeaseService,
+                             @Value("${kakaopay.reconcile.stale-after-seconds:60}") long staleAfterSeconds,
+                             @Value("${kakaopay.reconcile.batch-size:50}") int batchSize) {
+        this.transactionRepository = transactionRepository;
+        this.kakaoPayService = kakaoPayService;
+        this.jobLeaseService = jobLeaseService;
+        this.staleAfterSeconds = staleAfterSeconds;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${kakaopay.reconcile.interval-ms:60000}",
+            initialDelayString = "${kakaopay.reconcile.initial-delay-ms:60000}")
+    public void reconcilePendingPayments() {
+        // 여러 서버 중 한 대만 조회 (다음 주기 전에 만료되도록 짧게)
+        if (!jobLeaseService.tryAcquire(JOB_NAME, LEASE_TIME)) {
+            return;
+        }
+
+        try {
+            reconcileBatch();
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+
+    private void reconcileBatch() {
+        List<Long> transactionIds = transactionRepository.findPaymentsToReconcile(
+                LocalDateTime.now().minusSeconds(staleAfterSeconds), PageRequest.of(0, batchSize));
+
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+
+        log.info("🔄 카카오페이 결제 대사 시작 - {}건", transactionIds.size());
+
+        for (Long transactionId : transactionIds) {
+            try {
+                kakaoPayService.reconcile(transactionId);
+            } catch (OutboundUnavailableException e) {
+                // 카카오페이 쪽 장애 → 이번 회차는 중단하고 다음 주기에 다시 시도
+                log.warn("⚠️ 카카오페이 결제 대사 중단: {}", e.getMessage());
+                return;
+            } catch (Exception e) {
+                log.error("❌ 카카오페이 결제 대사 실패 - transactionId: {}, {}", transactionId, e.getMessage());
+                transactionRepository.touchPayment(transactionId, LocalDateTime.now());
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.NotificationType;
+import com.project.gugumarket.dto.ProductMatchRow;
+import com.project.gugumarket.event.ProductPriceDroppedEvent;
+import com.project.gugumarket.repository.LikeRepository;
+import com.project.gugumarket.repository.NotificationRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 찜한 상품 가격 인하 알림
+ *
+ * 상품 수정에서 가격이 내려가면 커밋 후 전용 스레드에서 찜한 사용자 전체에게 알림
+ * - 찜 ID 순으로 chunkSize명씩 나눠서 처리, 조각마다 짧은 트랜잭션 하나
+ *   (찜이 수만 개인 상품도 판매자 수정 요청이나 긴 트랜잭션 하나에 묶이지 않음)
+ * - 조각마다 발송 제외 대상을 GROUP BY 조회로 한 번에 거르고, 알림은 INSERT ... SELECT 한 번으로 저장
+ *   · 같은 상품으로 window-hours 안에 이미 가격 인하 알림을 받은 사용자 (연속 인하 시 한 번만)
+ *   · window-hours 안에 가격 인하 알림을 max-per-user개 이상 받은 사용자 (사용자별 상한)
+ *   · 판매자 본인
+ * - 발송 직전에 현재 가격을 다시 확인 → 그 사이 가격을 되돌렸거나 판매중이 아니면 보내지 않음
+ */
+@Slf4j
+@Service
+public class PriceDropAlertService {
+
+    private final LikeRepository likeRepository;
+    private final ProductRepository productRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    private final int maxPerUser;
+    private final long windowHours;
+
+    public PriceDropAlertService(LikeRepository likeRepository,
+                                 ProductRepository productRepository,
+                                 NotificationRepository notificationRepository,
+                                 NotificationService notificationService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${price-drop.chunk-size:500}") int chunkSize,
+                                 @Value("${price-drop.max-per-user:5}") int maxPerUser,
+                                 @Value("${price-drop.window-hours:24}") long windowHours,
+                                 @Value("${price-drop.queue-capacity:200}") int queueCapacity) {
+        this.likeRepository = likeRepository;
+        this.productRepository = productRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxPerUser = Math.max(1, maxPerUser);
+        this.windowHours = Math.max(1, windowHours);
+        this.executor = BoundedExecutors.singleThread("price-drop", queueCapacity);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPriceDropped(ProductPriceDroppedEvent event) {
+        try {
+            executor.execute(() -> fanOut(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 가격 인하 알림 대기열 초과 - 상품 {} 알림 생략", event.productId());
+        }
+    }
+
+    private void fanOut(ProductPriceDroppedEvent event) {
+        try {
+            ProductMatchRow product = productRepository.findMatchRow(event.productId()).orElse(null);
+            if (product == null || product.price() == null || product.price() >= event.oldPrice()) {
+                return;     // 판매중이 아니거나 그 사이 가격이 다시 올라감
+            }
+
+            String message = String.format("찜하신 '%s' 상품 가격이 %,d원에서 %,d원으로 내려갔습니다.",
+                    shorten(product.title()), event.oldPrice(), product.price());
+            LocalDateTime since = LocalDateTime.now().minusHours(windowHours);
+
+            long afterLikeId = 0;
+            int notified = 0;
+            int likers = 0;
+            while (true) {
+                List<Object[]> chunk = likeRepository.findLikerChunk(
+                        event.productId(), afterLikeId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                likers += chunk.size();
+                afterLikeId = ((Number) chunk.get(chunk.size() - 1)[0]).longValue();
+
+                List<Long> userIds = new ArrayList<>(chunk.size());
+                for (Object[] row : chunk) {
+                    Long userId = ((Number) row[1]).longValue();
+                    if (!Objects.equals(userId, product.sellerId())) {
+                        userIds.add(userId);
+                    }
+                }
+
+                Integer sent = transactionTemplate.execute(status ->
+                        sendChunk(event.productId(), message, since, userIds));
+                notified += sent == null ? 0 : sent;
+
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            log.info("💸 가격 인하 알림 - 상품: {}, {}원 → {}원, 찜 {}명 중 {}명 발송",
+                    event.productId(), event.oldPrice(), product.price(), likers, notified);
+        } catch (Exception e) {
+            log.error("❌ 가격 인하 알림 실패 - 상품: {}, {}", event.productId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 찜한 사용자 한 조각 발송 (제외 대상 거르기 → 일괄 저장)
+     */
+    private int sendChunk(Long productId, String message, LocalDateTime since, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> excluded = new HashSet<>(notificationRepository.findRecentReceiverIdsForProduct(
+                productId, NotificationType.PRICE_DROP, since, userIds));
+        for (Object[] row : notificationRepository.countRecentByReceiverIds(userIds, NotificationType.PRICE_DROP, since)) {
+            if (((Number) row[1]).longValue() >= maxPerUser) {
+                excluded.add(((Number) row[0]).longValue());
+            }
+        }
+
+        List<Long> receivers = userIds.stream()
+                .filter(userId -> !excluded.contains(userId))
+                .toList();
+        return notificationService.createProductNotifications(productId, NotificationType.PRICE_DROP, message, receivers);
+    }
+
+    private static String shorten(String title) {
+        if (title == null) {
+            return "";
+        }
+        return title.length() > 30 ? title.substring(0, 30) + "..." : title;
+    }
+
+    /**
+     * 대기 중인 발송 작업 수 (모니터링용)
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
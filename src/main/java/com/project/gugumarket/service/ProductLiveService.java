@@ -0,0 +1,254 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.ProductStatus;
+import com.project.gugumarket.dto.CommentDto;
+import com.project.gugumarket.dto.CommentRow;
+import com.project.gugumarket.dto.ProductLiveDto;
+import com.project.gugumarket.event.ProductLiveEvent;
+import com.project.gugumarket.repository.CommentRepository;
+import com.project.gugumarket.repository.LikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 상세 실시간 채널 (/topic/product/live/{productId})
+ *
+ * - 댓글 작성/삭제, 판매 상태 변경, 찜 수 변경을 커밋 후 상품별로 모아 두었다가 flush-ms마다 한 번에 발행
+ *   → 짧은 시간에 찜이 여러 번 눌려도 메시지는 한 번, 찜/댓글 수는 상품 여러 개를 GROUP BY 한 번으로 조회
+ * - 이 서버에 구독자가 있는 상품만 모음 (구독 / 구독 해제 / 연결 끊김 이벤트로 상품별 구독 수 관리)
+ *   → 아무도 보고 있지 않은 상품은 조회도 발행도 하지 않음
+ * - 메시지에는 바뀐 항목만 (새 댓글 내용, 삭제된 댓글 ID, 상태, 현재 찜/댓글 수)
+ *   → 상세 화면이 /api/products/{id}를 다시 부르지 않고 그대로 반영
+ *
+ * 브로커가 서버 메모리(SimpleBroker)이므로 구독과 발행은 서버 단위
+ */
+@Slf4j
+@Service
+public class ProductLiveService {
+
+    public static final String TOPIC_PREFIX = "/topic/product/live/";
+
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int maxCommentsPerMessage;
+
+    // 상품 ID → 이 서버의 구독 수
+    private final Map<Long, Integer> subscribers = new ConcurrentHashMap<>();
+    // 세션 ID → (구독 ID → 상품 ID) : 구독 해제/연결 끊김 때 어느 상품을 줄일지
+    private final Map<String, Map<String, Long>> sessions = new ConcurrentHashMap<>();
+    // 상품 ID → 아직 발행하지 않은 변경
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    public ProductLiveService(CommentRepository commentRepository,
+                              LikeRepository likeRepository,
+                              SimpMessagingTemplate messagingTemplate,
+                              @Value("${product.live.max-comments-per-message:20}") int maxCommentsPerMessage) {
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.maxCommentsPerMessage = Math.max(1, maxCommentsPerMessage);
+    }
+
+    /**
+     * 한 주기 동안 모인 상품 하나의 변경 (pending.compute 안에서만 수정)
+     */
+    private static final class Pending {
+        private ProductStatus status;
+        private boolean likeChanged;
+        private boolean commentsChanged;
+        private boolean overflow;
+        private final Set<Long> added = new LinkedHashSet<>();
+        private final Set<Long> deleted = new LinkedHashSet<>();
+    }
+
+    // ===== 구독 관리 =====
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long productId = productIdOf(accessor.getDestination());
+        if (productId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        sessions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), productId);
+        subscribers.merge(productId, 1, Integer::sum);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Map<String, Long> subscriptions = sessions.get(accessor.getSessionId());
+        Long productId = subscriptions == null ? null : subscriptions.remove(accessor.getSubscriptionId());
+        if (productId != null) {
+            release(productId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(Long productId) {
+        subscribers.computeIfPresent(productId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * 이 서버에서 상품 채널을 구독 중인 수
+     */
+    public int getSubscriberCount(Long productId) {
+        return subscribers.getOrDefault(productId, 0);
+    }
+
+    private static Long productIdOf(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ===== 변경 수집 / 발행 =====
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductLiveEvent event) {
+        if (event.productId() == null || !subscribers.containsKey(event.productId())) {
+            return;     // 보고 있는 사람이 없으면 버림
+        }
+
+        pending.compute(event.productId(), (id, p) -> {
+            Pending target = p != null ? p : new Pending();
+            switch (event.change()) {
+                case COMMENT_ADDED -> addComment(target, target.added, event.commentId());
+                case COMMENT_DELETED -> {
+                    // 같은 주기에 작성 후 삭제됐으면 작성 알림만 취소
+                    if (!target.added.remove(event.commentId())) {
+                        addComment(target, target.deleted, event.commentId());
+                    }
+                }
+                case STATUS_CHANGED -> target.status = event.status();
+                case LIKE_CHANGED -> target.likeChanged = true;
+            }
+            return target;
+        });
+    }
+
+    private void addComment(Pending target, Set<Long> ids, Long commentId) {
+        target.commentsChanged = true;
+        if (target.overflow || commentId == null) {
+            return;
+        }
+        ids.add(commentId);
+        if (target.added.size() + target.deleted.size() > maxCommentsPerMessage) {
+            target.overflow = true;     // 너무 많으면 목록을 다시 불러오라고만 알림
+            target.added.clear();
+            target.deleted.clear();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.live.flush-ms:1000}",
+            initialDelayString = "${product.live.flush-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Pending> batch = new HashMap<>();
+        for (Long productId : List.copyOf(pending.keySet())) {
+            Pending p = pending.remove(productId);
+            if (p != null && subscribers.containsKey(productId)) {
+                batch.put(productId, p);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            publish(batch);
+        } catch (Exception e) {
+            log.warn("⚠️ 상품 실시간 채널 발행 실패 - {}개 상품, {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void publish(Map<Long, Pending> batch) {
+        List<Long> likeProducts = new ArrayList<>();
+        List<Long> commentProducts = new ArrayList<>();
+        Map<Long, Long> productOfComment = new HashMap<>();
+        batch.forEach((productId, p) -> {
+            if (p.likeChanged) {
+                likeProducts.add(productId);
+            }
+            if (p.commentsChanged) {
+                commentProducts.add(productId);
+            }
+            p.added.forEach(commentId -> productOfComment.put(commentId, productId));
+        });
+
+        Map<Long, Long> likeCounts = likeProducts.isEmpty()
+                ? Map.of() : counts(likeRepository.countByProductIds(likeProducts));
+        Map<Long, Long> commentCounts = commentProducts.isEmpty()
+                ? Map.of() : counts(commentRepository.countByProductIds(commentProducts));
+
+        Map<Long, List<CommentDto>> addedComments = new HashMap<>();
+        if (!productOfComment.isEmpty()) {
+            for (CommentRow row : commentRepository.findRowsByIds(productOfComment.keySet())) {
+                addedComments.computeIfAbsent(productOfComment.get(row.commentId()), id -> new ArrayList<>())
+                        .add(CommentDto.from(row, null));
+            }
+        }
+
+        batch.forEach((productId, p) -> {
+            ProductLiveDto message = new ProductLiveDto(
+                    productId,
+                    p.status,
+                    p.likeChanged ? likeCounts.getOrDefault(productId, 0L) : null,
+                    p.commentsChanged ? commentCounts.getOrDefault(productId, 0L) : null,
+                    p.added.isEmpty() ? null : addedComments.getOrDefault(productId, List.of()),
+                    p.deleted.isEmpty() ? null : List.copyOf(p.deleted),
+                    p.overflow ? Boolean.TRUE : null);
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + productId, message);
+        });
+
+        log.debug("📡 상품 실시간 채널 발행 - {}개 상품", batch.size());
+    }
+
+    private static Map<Long, Long> counts(List<Object[]> rows) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.gugumarket.service;
 
+import com.project.gugumarket.AdminMetricType;
 import com.project.gugumarket.DataNotFoundException;
+import com.project.gugumarket.ImageVariant;
 import com.project.gugumarket.ProductStatus;
 import com.project.gugumarket.dto.ProductDto;
 import com.project.gugumarket.dto.ProductForm;
@@ -8,10 +10,16 @@ import com.project.gugumarket.entity.Category;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.ProductImage;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.AdminMetricEvent;
+import com.project.gugumarket.event.MypageChangedEvent;
+import com.project.gugumarket.event.ProductCreatedEvent;
+import com.project.gugumarket.event.ProductLiveEvent;
+import com.project.gugumarket.event.ProductPriceDroppedEvent;
 import com.project.gugumarket.repository.ProductImageRepository;
 import com.project.gugumarket.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -19,7 +27,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -38,8 +45,10 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final ProductImageRepository productImageRepository;
     private final CategoryService categoryService;
-    private final FileService fileService;
+    private final FileReleaseService fileReleaseService;  // 🗑️ 교체된 이미지 비동기 해제
+    private final ImageVariantService imageVariantService;  // 🖼️ 축소본 조회
     private final KakaoMapService kakaoMapService;  // 🗺️ 추가
+    private final ApplicationEventPublisher eventPublisher;  // 마이페이지 캐시 갱신
 
     /**
      * 상품 ID로 상품 조회
@@ -64,6 +73,9 @@ public class ProductService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "수정권한이 없습니다.");
         }
 
+        eventPublisher.publishEvent(MypageChangedEvent.of(currentUser.getUserId()));
+
+        Integer oldPrice = product.getPrice();
         product.setTitle(productDto.getTitle());
         product.setPrice(productDto.getPrice());
         product.setContent(productDto.getContent());
@@ -77,15 +89,11 @@ public class ProductService {
         if (productDto.getMainImage() != null && !productDto.getMainImage().isEmpty()) {
             if (!productDto.getMainImage().equals(product.getMainImage())) {
                 if (product.getMainImage() != null) {
-                    try {
-                        String oldFileName = product.getMainImage().substring(
-                                product.getMainImage().lastIndexOf("/") + 1);
-                        fileService.deleteFile(oldFileName);
-                    } catch (IOException e) {
-                        log.error("⚠️ 기존 메인 이미지 삭제 실패: {}", e.getMessage());
-                    }
+                    // 커밋 후 백그라운드에서 참조 해제 (요청 처리 시간에 포함되지 않음)
+                    fileReleaseService.releaseAfterCommit(List.of(product.getMainImage()));
                 }
                 product.setMainImage(productDto.getMainImage());
+                applyMainImageVariants(product);
             }
         }
 
@@ -109,16 +117,7 @@ public class ProductService {
             log.info("🗑️ 삭제할 이미지: {}", urlsToDelete.size());
 
             if (!urlsToDelete.isEmpty()) {
-                for (String urlToDelete : urlsToDelete) {
-                    try {
-                        String fileName = urlToDelete.substring(
-                                urlToDelete.lastIndexOf("/") + 1);
-                        fileService.deleteFile(fileName);
-                        log.info("🗑️ 파일 삭제: {}", fileName);
-                    } catch (IOException e) {
-                        log.error("⚠️ 파일 삭제 실패: {}", e.getMessage());
-                    }
-                }
+                fileReleaseService.releaseAfterCommit(urlsToDelete);
             }
 
             if (!existingImages.isEmpty()) {
@@ -137,6 +136,7 @@ public class ProductService {
                             .imageUrl(imageUrl)
                             .imageOrder(i + 1)
                             .build();
+                    applyVariants(productImage);
 
                     newImages.add(productImage);
                 }
@@ -148,6 +148,34 @@ public class ProductService {
 
         productRepository.save(product);
         log.info("✅ 상품 수정 완료: {}", product.getTitle());
+
+        // 가격을 내렸으면 찜한 사용자에게 알림 (커밋 후 별도 스레드에서 발송)
+        if (oldPrice != null && product.getPrice() != null && product.getPrice() < oldPrice) {
+            eventPublisher.publishEvent(new ProductPriceDroppedEvent(productId, oldPrice, product.getPrice()));
+        }
+    }
+
+    /**
+     * 대표 이미지의 축소본이 이미 생성되어 있으면 상품에 기록
+     * 아직 생성 중이면 null로 두고, 생성 완료 시 ImageVariantService가 채움
+     */
+    private void applyMainImageVariants(Product product) {
+        Map<ImageVariant, String> variants = imageVariantService.findExistingVariants(product.getMainImage());
+        product.updateMainImageVariants(
+                variants.get(ImageVariant.CARD),
+                variants.get(ImageVariant.DETAIL),
+                variants.get(ImageVariant.MARKER));
+    }
+
+    /**
+     * 추가 이미지의 축소본이 이미 생성되어 있으면 기록
+     */
+    private void applyVariants(ProductImage productImage) {
+        Map<ImageVariant, String> variants = imageVariantService.findExistingVariants(productImage.getImageUrl());
+        productImage.updateVariants(
+                variants.get(ImageVariant.CARD),
+                variants.get(ImageVariant.DETAIL),
+                variants.get(ImageVariant.MARKER));
     }
 
     /**
@@ -165,8 +193,12 @@ public class ProductService {
      */
     @Transactional
     public void delete(Product product) {
+        if (!Boolean.TRUE.equals(product.getIsDeleted())) {
+            eventPublisher.publishEvent(AdminMetricEvent.increment(AdminMetricType.DELETED_PRODUCTS));
+        }
         product.setIsDeleted(true);
         productRepository.save(product);
+        eventPublisher.publishEvent(MypageChangedEvent.of(product.getSeller().getUserId()));
     }
 
     /**
@@ -177,6 +209,8 @@ public class ProductService {
         Product product = getProduct(productId);
         product.setStatus(ProductStatus.valueOf(status));
         productRepository.save(product);
+        eventPublisher.publishEvent(MypageChangedEvent.of(product.getSeller().getUserId()));
+        eventPublisher.publishEvent(ProductLiveEvent.statusChanged(productId, product.getStatus()));
     }
 
     /**
@@ -223,8 +257,13 @@ public class ProductService {
                 .status(ProductStatus.SALE)
                 .build();
 
+        applyMainImageVariants(product);   // 축소본이 이미 만들어져 있으면 바로 기록
+
         Product savedProduct = productRepository.save(product);
         log.info("✅ 상품 등록 완료: {}", savedProduct.getTitle());
+        eventPublisher.publishEvent(MypageChangedEvent.of(seller.getUserId()));
+        eventPublisher.publishEvent(AdminMetricEvent.increment(AdminMetricType.TOTAL_PRODUCTS));
+        eventPublisher.publishEvent(new ProductCreatedEvent(savedProduct.getProductId()));  // 관심 검색어 매칭 (커밋 후 비동기)
 
         if (productForm.getAdditionalImages() != null && !productForm.getAdditionalImages().isEmpty()) {
             List<ProductImage> productImages = new ArrayList<>();
@@ -237,6 +276,7 @@ public class ProductService {
                         .imageUrl(imageUrl)
                         .imageOrder(i + 1)
                         .build();
+                applyVariants(productImage);
 
                 productImages.add(productImage);
             }
@@ -255,10 +295,10 @@ public class ProductService {
         Page<Product> products;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
-            products = productRepository.findByTitleContainingAndIsDeletedFalse(keyword, pageable);
+            products = productRepository.findByTitleContainingAndIsDeletedFalseAndQuarantinedAtIsNull(keyword, pageable);
             log.info("🔍 검색어: '{}' - {}개 검색됨", keyword, products.getTotalElements());
         } else {
-            products = productRepository.findByIsDeletedFalse(pageable);
+            products = productRepository.findByIsDeletedFalseAndQuarantinedAtIsNull(pageable);
             log.info("📦 전체 상품 조회 - {}개", products.getTotalElements());
         }
 
@@ -272,11 +312,11 @@ public class ProductService {
         Page<Product> products;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
-            products = productRepository.findByTitleContainingAndCategory_CategoryIdAndIsDeletedFalse(
+            products = productRepository.findByTitleContainingAndCategory_CategoryIdAndIsDeletedFalseAndQuarantinedAtIsNull(
                     keyword, categoryId, pageable);
             log.info("🔍 카테고리 {} + 검색어 '{}' - {}개 검색됨", categoryId, keyword, products.getTotalElements());
         } else {
-            products = productRepository.findByCategory_CategoryIdAndIsDeletedFalse(categoryId, pageable);
+            products = productRepository.findByCategory_CategoryIdAndIsDeletedFalseAndQuarantinedAtIsNull(categoryId, pageable);
             log.info("📂 카테고리 {} - {}개", categoryId, products.getTotalElements());
         }
 
@@ -291,13 +331,13 @@ public class ProductService {
         Page<Product> products;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
-            products = productRepository.findByTitleContainingAndIsDeletedFalse(keyword, pageable);
+            products = productRepository.findByTitleContainingAndIsDeletedFalseAndQuarantinedAtIsNull(keyword, pageable);
             log.info("🔍 검색어: '{}' - {}개 검색됨", keyword, products.getTotalElements());
         } else if(keyword == null){
-            products = productRepository.findByIsDeletedFalse(pageable);
+            products = productRepository.findByIsDeletedFalseAndQuarantinedAtIsNull(pageable);
             log.info("📦 전체 상품 조회 - {}개", products.getTotalElements());
         } else {
-            products = productRepository.findByIsDeletedFalse(pageable);
+            products = productRepository.findByIsDeletedFalseAndQuarantinedAtIsNull(pageable);
             log.info("📦 전체 상품 조회 - {}개", products.getTotalElements());
         }
 
@@ -313,11 +353,11 @@ public class ProductService {
         Page<Product> products;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
-            products = productRepository.findByTitleContainingAndCategory_CategoryIdAndIsDeletedFalse(
+            products = productRepository.findByTitleContainingAndCategory_CategoryIdAndIsDeletedFalseAndQuarantinedAtIsNull(
                     keyword, categoryId, pageable);
             log.info("🔍 카테고리 {} + 검색어 '{}' - {}개 검색됨", categoryId, keyword, products.getTotalElements());
         } else {
-            products = productRepository.findByCategory_CategoryIdAndIsDeletedFalse(categoryId, pageable);
+            products = productRepository.findByCategory_CategoryIdAndIsDeletedFalseAndQuarantinedAtIsNull(categoryId, pageable);
             log.info("📂 카테고리 {} - {}개", categoryId, products.getTotalElements());
         }
 
@@ -387,24 +427,24 @@ public class ProductService {
             log.info("🔍 필터: 구={} - {}개", district, products.getTotalElements());
 
         } else if (categoryId != null && keyword != null && !keyword.trim().isEmpty()) {
-            products = productRepository.findByTitleContainingAndCategory_CategoryIdAndIsDeletedFalse(
+            products = productRepository.findByTitleContainingAndCategory_CategoryIdAndIsDeletedFalseAndQuarantinedAtIsNull(
                     keyword, categoryId, pageable);
             log.info("🔍 필터: 카테고리={}, 검색어={} - {}개",
                     categoryId, keyword, products.getTotalElements());
 
         } else if (categoryId != null) {
-            products = productRepository.findByCategory_CategoryIdAndIsDeletedFalse(categoryId, pageable);
+            products = productRepository.findByCategory_CategoryIdAndIsDeletedFalseAndQuarantinedAtIsNull(categoryId, pageable);
             log.info("🔍 필터: 카테고리={} - {}개", categoryId, products.getTotalElements());
 
         } else if (keyword != null && !keyword.trim().isEmpty()) {
-            products = productRepository.findByTitleContainingAndIsDeletedFalse(keyword, pageable);
+            products = productRepository.findByTitleContainingAndIsDeletedFalseAndQuarantinedAtIsNull(keyword, pageable);
             log.info("🔍 필터: 검색어={} - {}개", keyword, products.getTotalElements());
 
         } else if (keyword == null){
-            products = productRepository.findByIsDeletedFalse(pageable);
+            products = productRepository.findByIsDeletedFalseAndQuarantinedAtIsNull(pageable);
             log.info("📦 전체 상품 조회 - {}개", products.getTotalElements());
         } else {
-            products = productRepository.findByIsDeletedFalse(pageable);
+            products = productRepository.findByIsDeletedFalseAndQuarantinedAtIsNull(pageable);
             log.info("📦 전체 상품 조회 - {}개", products.getTotalElements());
         }
 
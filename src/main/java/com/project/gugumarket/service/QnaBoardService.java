@@ -0,0 +1,131 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.AdminMetricType;
+import com.project.gugumarket.dto.QnaResponseDto;
+import com.project.gugumarket.entity.QnaPost;
+import com.project.gugumarket.event.QnaChangedEvent;
+import com.project.gugumarket.repository.QnaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Q&A 게시판 목록 읽기 모델
+ *
+ * - 목록: 글 ID만 페이지로 읽고, 글/작성자/답변은 ID IN 조회 한 번으로 채움 → 답변 여부와 답변까지 담긴 DTO 페이지
+ *   앞쪽 cachedPages 페이지는 메모리에 캐시 (게시판 방문 대부분이 첫 몇 페이지)
+ * - 검색: QnaSearchIndex가 관련도 순으로 고른 글 ID → 같은 방식으로 채움 (LIKE 전체 스캔 X)
+ * - 전체 건수는 관리자 누적 지표(TOTAL_QNA)에서 → COUNT 쿼리 없음
+ *
+ * 글 작성/답변 이벤트가 오면 커밋 후 목록 캐시를 통째로 비움 (새 글이 모든 페이지를 한 칸씩 밀기 때문)
+ * 다른 서버의 변경은 cache-ttl-ms 안에 반영
+ */
+@Slf4j
+@Service
+public class QnaBoardService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final QnaRepository qnaRepository;
+    private final QnaSearchIndex qnaSearchIndex;
+    private final AdminStatsService adminStatsService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int cachedPages;
+
+    // "페이지:크기" → 목록 페이지 (비우기 전에 읽기 시작한 페이지는 넣지 않음)
+    private final TtlCache<String, Page<QnaResponseDto>> cache;
+
+    public QnaBoardService(QnaRepository qnaRepository,
+                           QnaSearchIndex qnaSearchIndex,
+                           AdminStatsService adminStatsService,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${qna.board.cached-pages:5}") int cachedPages,
+                           @Value("${qna.board.cache-ttl-ms:30000}") long cacheTtlMillis) {
+        this.qnaRepository = qnaRepository;
+        this.qnaSearchIndex = qnaSearchIndex;
+        this.adminStatsService = adminStatsService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cachedPages = Math.max(0, cachedPages);
+        this.cache = new TtlCache<>(cacheTtlMillis);
+    }
+
+    /**
+     * 게시판 목록 (최신순, 앞쪽 페이지는 캐시)
+     */
+    public Page<QnaResponseDto> getPage(int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(0, page), pageSize(size));
+        if (pageable.getPageNumber() >= cachedPages) {
+            return loadPage(pageable);
+        }
+
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize();
+        return cache.getOrLoad(key, k -> loadPage(pageable));
+    }
+
+    /**
+     * 제목/내용 검색 (관련도 순)
+     */
+    public Page<QnaResponseDto> search(String keyword, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(0, page), pageSize(size));
+        QnaSearchIndex.SearchResult result =
+                qnaSearchIndex.search(keyword, pageable.getPageNumber(), pageable.getPageSize());
+
+        List<QnaResponseDto> content = readOnlyTransaction.execute(status -> fetch(result.qnaIds()));
+        return new PageImpl<>(content, pageable, result.totalMatches());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onQnaChanged(QnaChangedEvent event) {
+        cache.clear();
+    }
+
+    private Page<QnaResponseDto> loadPage(Pageable pageable) {
+        List<QnaResponseDto> content = readOnlyTransaction.execute(status -> {
+            Slice<Long> ids = qnaRepository.findListIds(pageable);
+            return fetch(ids.getContent());
+        });
+
+        long total = adminStatsService.getMetrics().getOrDefault(AdminMetricType.TOTAL_QNA, 0L);
+        // 지표가 아직 따라오지 못한 경우에도 지금 보이는 글 수보다 작게 나오지 않도록
+        total = Math.max(total, pageable.getOffset() + content.size());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 글 ID 순서 그대로 DTO 채우기 (그 사이 지워진 글은 빠짐)
+     */
+    private List<QnaResponseDto> fetch(Collection<Long> qnaIds) {
+        if (qnaIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, QnaPost> posts = qnaRepository.findWithAnswersByQnaIdIn(qnaIds).stream()
+                .collect(Collectors.toMap(QnaPost::getQnaId, Function.identity(), (a, b) -> a));
+        return qnaIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(QnaResponseDto::fromEntity)
+                .toList();
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,245 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.QnaIndexEntry;
+import com.project.gugumarket.event.QnaChangedEvent;
+import com.project.gugumarket.repository.QnaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Q&A 제목/내용 검색용 메모리 역색인
+ *
+ * 토큰화는 SearchTokenizer (한글 구간은 바이그램, 영문/숫자는 단어)
+ *
+ * 순위:
+ * - 검색어의 모든 토큰을 포함한 글만 결과 (AND)
+ * - 점수 = Σ (제목 등장 수 × titleWeight + 내용 등장 수(상한 있음)) × idf
+ *   → 제목에 있는 글, 드문 단어가 들어간 글이 먼저. 같은 점수면 최신 글(ID 큰 순) 먼저
+ *
+ * 갱신 (SnapshotIndex):
+ * - 이 서버에서 작성/답변된 글은 커밋 후 그 글만 다시 색인
+ * - 다른 서버의 변경은 주기적인 전체 재구성으로 반영
+ * - 처음 만드는 동안(애플리케이션 시작 직후)은 DB LIKE 검색으로 대신 응답
+ */
+@Slf4j
+@Service
+public class QnaSearchIndex extends SnapshotIndex<QnaSearchIndex.Snapshot, QnaIndexEntry> {
+
+    private static final int MAX_CONTENT_OCCURRENCES = 5;   // 같은 단어 반복으로 점수를 올리지 못하도록
+
+    private final QnaRepository qnaRepository;
+    private final int maxMatches;
+    private final int maxContentChars;
+    private final int titleWeight;
+
+    public QnaSearchIndex(QnaRepository qnaRepository,
+                          @Value("${qna.search.chunk-size:2000}") int chunkSize,
+                          @Value("${qna.search.max-matches:1000}") int maxMatches,
+                          @Value("${qna.search.max-content-chars:2000}") int maxContentChars,
+                          @Value("${qna.search.title-weight:3}") int titleWeight) {
+        super("Q&A 검색 인덱스", chunkSize);
+        this.qnaRepository = qnaRepository;
+        this.maxMatches = Math.max(1, maxMatches);
+        this.maxContentChars = Math.max(0, maxContentChars);
+        this.titleWeight = Math.max(1, titleWeight);
+    }
+
+    /**
+     * 검색 결과
+     * @param qnaIds 이번 페이지 Q&A 글 ID (관련도 순)
+     * @param totalMatches 전체 일치 수 (maxMatches에서 잘림)
+     */
+    public record SearchResult(List<Long> qnaIds, long totalMatches) {
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 제목/내용 검색
+     *
+     * @param keyword 검색어 (토큰이 하나도 없으면 빈 결과)
+     */
+    public SearchResult search(String keyword, int page, int size) {
+        if (!isLoaded()) {
+            return searchWithoutIndex(keyword, page, size);
+        }
+
+        Snapshot current = current();
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(keyword));
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        // 문서 수가 가장 적은 토큰부터 교집합
+        List<Map<Long, Integer>> postings = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> posting = current.postings.get(term);
+            if (posting == null || posting.isEmpty()) {
+                return new SearchResult(List.of(), 0);
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Map::size));
+
+        double documents = Math.max(1, current.documentTerms.size());
+        Map<Long, Double> scores = new HashMap<>();
+        for (Long qnaId : postings.get(0).keySet()) {
+            double score = 0;
+            for (Map<Long, Integer> posting : postings) {
+                Integer weight = posting.get(qnaId);
+                if (weight == null) {
+                    score = -1;
+                    break;
+                }
+                score += weight * Math.log(1 + documents / posting.size());
+            }
+            if (score >= 0) {
+                scores.put(qnaId, score);
+            }
+        }
+
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(maxMatches)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        int fromIndex = Math.min(page * size, ranked.size());
+        int toIndex = Math.min(fromIndex + size, ranked.size());
+        return new SearchResult(List.copyOf(ranked.subList(fromIndex, toIndex)), ranked.size());
+    }
+
+    /**
+     * 인덱스를 처음 만드는 동안의 대체 검색 (DB LIKE, 최신 글 순)
+     * 전체 일치 수는 세지 않고 "지금까지 + 다음 페이지가 있으면 1"로 응답
+     */
+    private SearchResult searchWithoutIndex(String keyword, int page, int size) {
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (trimmed.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        Slice<Long> ids = qnaRepository.searchIdsByKeyword(trimmed, PageRequest.of(page, size));
+        long seen = ids.getPageable().getOffset() + ids.getNumberOfElements();
+        return new SearchResult(ids.getContent(), ids.hasNext() ? seen + 1 : seen);
+    }
+
+    // ===== 갱신 =====
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onQnaChanged(QnaChangedEvent event) {
+        refresh(List.of(event.qnaId()));
+    }
+
+    @Scheduled(fixedDelayString = "${qna.search.refresh-ms:600000}",
+            initialDelayString = "${qna.search.initial-delay-ms:40000}")
+    public void rebuildScheduled() {
+        rebuildSafely();
+    }
+
+    @Override
+    protected Snapshot newSnapshot() {
+        return new Snapshot();
+    }
+
+    @Override
+    protected List<QnaIndexEntry> findChunk(long afterId, int size) {
+        return qnaRepository.findIndexEntries(afterId, PageRequest.of(0, size));
+    }
+
+    @Override
+    protected List<QnaIndexEntry> findByIds(Collection<Long> ids) {
+        return qnaRepository.findIndexEntriesByIds(ids);
+    }
+
+    @Override
+    protected Long idOf(QnaIndexEntry entry) {
+        return entry.qnaId();
+    }
+
+    @Override
+    protected void put(Snapshot target, QnaIndexEntry entry) {
+        target.put(entry.qnaId(), weigh(entry));
+    }
+
+    @Override
+    protected void remove(Snapshot target, Long qnaId) {
+        target.remove(qnaId);
+    }
+
+    @Override
+    protected void onRebuilt(Snapshot fresh) {
+        log.info("🔎 Q&A 검색 인덱스 재구성 완료 - {}건, 토큰 {}개",
+                fresh.documentTerms.size(), fresh.postings.size());
+    }
+
+    /**
+     * 글 하나의 토큰별 가중치 (제목 등장 × titleWeight + 내용 등장, 내용은 앞부분 maxContentChars자만)
+     */
+    private Map<String, Integer> weigh(QnaIndexEntry entry) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : SearchTokenizer.tokenize(entry.title())) {
+            weights.merge(term, titleWeight, Integer::sum);
+        }
+
+        String content = entry.content() == null ? "" : entry.content();
+        Map<String, Integer> contentCounts = new HashMap<>();
+        String head = content.substring(0, Math.min(content.length(), maxContentChars));
+        for (String term : SearchTokenizer.tokenize(head)) {
+            contentCounts.merge(term, 1, Integer::sum);
+        }
+        contentCounts.forEach((term, count) ->
+                weights.merge(term, Math.min(count, MAX_CONTENT_OCCURRENCES), Integer::sum));
+        return weights;
+    }
+
+    /**
+     * 인덱스 한 벌 (읽기는 잠금 없이, 쓰기는 글 단위로 직렬화)
+     */
+    static final class Snapshot {
+        // 토큰 → (글 ID → 가중치)
+        private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+        // 글 ID → 색인된 토큰 (다시 색인하거나 지울 때 사용)
+        private final Map<Long, Set<String>> documentTerms = new ConcurrentHashMap<>();
+
+        synchronized void put(Long qnaId, Map<String, Integer> weights) {
+            remove(qnaId);
+            weights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(qnaId, weight));
+            documentTerms.put(qnaId, Set.copyOf(weights.keySet()));
+        }
+
+        synchronized void remove(Long qnaId) {
+            Set<String> previous = documentTerms.remove(qnaId);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(qnaId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,22 +1,24 @@
 package com.project.gugumarket.service;
 
+import com.project.gugumarket.AdminMetricType;
 import com.project.gugumarket.DataNotFoundException;
 import com.project.gugumarket.dto.QnaDto;
+import com.project.gugumarket.dto.QnaResponseDto;
 import com.project.gugumarket.entity.QnaPost;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.AdminMetricEvent;
+import com.project.gugumarket.event.QnaChangedEvent;
 import com.project.gugumarket.repository.QnaRepository;
 import com.project.gugumarket.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,6 +27,8 @@ public class QnaService {
 
     private final QnaRepository qnaRepository;
     private final UserRepository userRepository;
+    private final QnaBoardService qnaBoardService;
+    private final ApplicationEventPublisher eventPublisher;  // 관리자 지표 (Q&A 수), 검색 인덱스/목록 캐시
 
     /**
      * Q&A 작성
@@ -46,47 +50,33 @@ public class QnaService {
         qnaPost.setIsAnswered(false);
 
         QnaPost savedQna = qnaRepository.save(qnaPost);
+        eventPublisher.publishEvent(AdminMetricEvent.increment(AdminMetricType.TOTAL_QNA));
+        eventPublisher.publishEvent(AdminMetricEvent.increment(AdminMetricType.UNANSWERED_QNA));
+        eventPublisher.publishEvent(new QnaChangedEvent(savedQna.getQnaId()));
 
         log.info("Q&A 작성 완료 - ID: {}", savedQna.getQnaId());
 
         return savedQna;
     }
 
-    /**
-     * 전체 Q&A 목록 조회
-     */
-    public List<QnaDto> findAllDtos() {
-        log.info("전체 Q&A 목록 조회");
-
-        List<QnaPost> qnaList = qnaRepository.findAll();
-
-        log.info("Q&A {}개 조회 완료", qnaList.size());
-
-        return qnaList.stream()
-                .map(QnaDto::fromEntity)
-                .toList();
-    }
-    // ==================== 검색 기능 ==================== //
+    // ==================== 목록 / 검색 기능 ==================== //
 
     /**
-     * QnA 검색 (제목 + 내용, 페이징)
+     * QnA 목록 / 검색 (페이징)
+     * 검색어가 있으면 제목 + 내용 검색 인덱스(관련도 순), 없으면 캐시된 최신순 목록
      */
-    public Page<QnaPost> searchQna(String keyword, Pageable pageable) {
+    public Page<QnaResponseDto> searchQna(String keyword, Pageable pageable) {
         if (keyword != null && !keyword.trim().isEmpty()) {
-            System.out.println("🔍 QnA 검색: '" + keyword + "'");
-            return qnaRepository.searchByKeyword(keyword, pageable);
-        } else {
-            System.out.println("📋 QnA 전체 조회");
-            return qnaRepository.findAllByOrderByCreatedDateDesc(pageable);
+            log.info("🔍 QnA 검색: '{}'", keyword);
+            return qnaBoardService.search(keyword, pageable.getPageNumber(), pageable.getPageSize());
         }
+        return getQnaList(pageable);
     }
 
     /**
-     * 전체 목록 조회 (페이징)
+     * 전체 목록 조회 (페이징, 최신순)
      */
-    public Page<QnaPost> getQnaList(Pageable pageable) {
-        return qnaRepository.findAllByOrderByCreatedDateDesc(pageable);
+    public Page<QnaResponseDto> getQnaList(Pageable pageable) {
+        return qnaBoardService.getPage(pageable.getPageNumber(), pageable.getPageSize());
     }
-
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,426 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.AdminPageDto;
+import com.project.gugumarket.dto.ReportQueueItemDto;
+import com.project.gugumarket.event.ReportCreatedEvent;
+import com.project.gugumarket.event.ReportsResolvedEvent;
+import com.project.gugumarket.repository.ProductReportStatRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품/판매자 신고 카운터 + 자동 격리
+ *
+ * - 신고가 커밋되면 상품별, 판매자별 슬라이딩 윈도우(bucket-seconds 단위 버킷)에 1씩 더함
+ * - 짧은 구간 / 긴 구간 신고 수가 기준을 넘으면 상품(또는 판매자의 판매 중인 상품 전체)을 격리
+ *   → 공개 목록/검색/지도 조회에서 제외 (quarantinedAt IS NULL 조건)
+ * - 전체/처리 대기 신고 수와 심각도는 flush-ms마다 PRODUCT_REPORT_STATS에 모아서 반영
+ *   → 신고 등록/상세 조회 때 REPORTS COUNT를 하지 않고, 관리자 큐는 심각도 인덱스로 조회
+ *
+ * 윈도우는 서버별 메모리 값이므로 여러 서버일 때 격리 기준은 서버 단위로 판단됨
+ * (전체/처리 대기 수는 DB에 증감으로 반영되므로 서버 수와 무관, 매일 REPORTS 기준으로 보정)
+ */
+@Slf4j
+@Service
+public class ReportCounterService {
+
+    private static final String JOB_NAME = "report-stats-recount";
+    private static final long SHORT_WEIGHT = 5;            // 짧은 구간 신고 1건당 심각도
+    private static final long LONG_WEIGHT = 2;             // 긴 구간 신고 1건당 심각도
+
+    private final ProductReportStatRepository statRepository;
+    private final ProductRepository productRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long bucketMillis;
+    private final int longBuckets;
+    private final int shortBuckets;
+    private final long productShortThreshold;
+    private final long productLongThreshold;
+    private final long sellerLongThreshold;
+    private final Duration leaseTime;
+
+    private final Map<Long, Window> productWindows = new ConcurrentHashMap<>();
+    private final Map<Long, Window> sellerWindows = new ConcurrentHashMap<>();
+    private final Map<Long, Delta> unflushed = new ConcurrentHashMap<>();
+    private final TtlCache<Long, Long> totals;
+    private final ReentrantLock flushing = new ReentrantLock();
+    private volatile boolean initialChecked = false;
+
+    /**
+     * 아직 DB에 반영하지 않은 상품별 변화량
+     */
+    private record Delta(Long sellerId, long total, long pending, LocalDateTime lastReportedAt) {
+
+        Delta plus(Delta other) {
+            LocalDateTime last = lastReportedAt == null ? other.lastReportedAt
+                    : other.lastReportedAt == null || lastReportedAt.isAfter(other.lastReportedAt) ? lastReportedAt
+                    : other.lastReportedAt;
+            return new Delta(sellerId != null ? sellerId : other.sellerId,
+                    total + other.total, pending + other.pending, last);
+        }
+    }
+
+    public ReportCounterService(ProductReportStatRepository statRepository,
+                                ProductRepository productRepository,
+                                SimpMessagingTemplate messagingTemplate,
+                                JobLeaseService jobLeaseService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${report.counter.bucket-seconds:300}") long bucketSeconds,
+                                @Value("${report.counter.long-window-minutes:1440}") long longWindowMinutes,
+                                @Value("${report.counter.short-window-minutes:60}") long shortWindowMinutes,
+                                @Value("${report.quarantine.product-short-threshold:5}") long productShortThreshold,
+                                @Value("${report.quarantine.product-long-threshold:10}") long productLongThreshold,
+                                @Value("${report.quarantine.seller-long-threshold:20}") long sellerLongThreshold,
+                                @Value("${report.counter.total-cache-ttl-ms:60000}") long totalCacheTtlMillis,
+                                @Value("${report.counter.lease-seconds:600}") long leaseSeconds) {
+        this.statRepository = statRepository;
+        this.productRepository = productRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.bucketMillis = Math.max(1, bucketSeconds) * 1000;
+        this.longBuckets = (int) Math.max(1, longWindowMinutes * 60_000 / bucketMillis);
+        this.shortBuckets = (int) Math.min(longBuckets, Math.max(1, shortWindowMinutes * 60_000 / bucketMillis));
+        this.productShortThreshold = productShortThreshold;
+        this.productLongThreshold = productLongThreshold;
+        this.sellerLongThreshold = sellerLongThreshold;
+        this.totals = new TtlCache<>(totalCacheTtlMillis);
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 상품 전체 신고 수 (DB 누적 + 아직 반영 전 증가분, 짧게 캐시)
+     */
+    public long getTotalCount(Long productId) {
+        Long cached = totals.get(productId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long stored = statRepository.findTotalCount(productId);
+        Delta delta = unflushed.get(productId);
+        long count = (stored == null ? 0 : stored) + (delta == null ? 0 : delta.total());
+
+        totals.put(productId, count);
+        return count;
+    }
+
+    /**
+     * 관리자 신고 큐 (처리 대기 신고가 있는 상품, 심각도 순)
+     */
+    public AdminPageDto<ReportQueueItemDto> getQueue(int page, int size) {
+        int safePage = Math.max(0, page);
+        int safeSize = Math.min(Math.max(1, size), 100);
+        Slice<ReportQueueItemDto> slice = statRepository.findQueue(PageRequest.of(safePage, safeSize));
+        return new AdminPageDto<>(slice.getContent(), safePage, safeSize, null, slice.hasNext(), Map.of());
+    }
+
+    // ===== 카운터 갱신 =====
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportCreated(ReportCreatedEvent event) {
+        Long productId = event.productId();
+        long bucket = currentBucket();
+
+        Window product = productWindows.compute(productId, (id, w) -> {
+            Window window = w != null ? w : new Window(longBuckets);
+            window.add(bucket);
+            return window;
+        });
+        Window seller = event.sellerId() == null ? null : sellerWindows.compute(event.sellerId(), (id, w) -> {
+            Window window = w != null ? w : new Window(longBuckets);
+            window.add(bucket);
+            return window;
+        });
+
+        unflushed.merge(productId, new Delta(event.sellerId(), 1, 1, LocalDateTime.now()), Delta::plus);
+        totals.computeIfPresent(productId, count -> count + 1);
+
+        // 상세 화면의 신고 수 실시간 갱신
+        long reportCount = getTotalCount(productId);
+        messagingTemplate.convertAndSend("/topic/product/report-count/" + productId, reportCount);
+        log.info("🚨 신고 카운트 발행 - productId: {}, count: {}", productId, reportCount);
+
+        checkProduct(productId, product, bucket);
+        if (seller != null) {
+            checkSeller(event.sellerId(), seller, bucket);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportsResolved(ReportsResolvedEvent event) {
+        event.resolvedByProduct().forEach((productId, count) ->
+                unflushed.merge(productId, new Delta(null, 0, -count, null), Delta::plus));
+    }
+
+    // ===== 격리 =====
+
+    private void checkProduct(Long productId, Window window, long bucket) {
+        if (window.quarantined) {
+            return;
+        }
+
+        long shortCount = window.sum(bucket, shortBuckets);
+        long longCount = window.sum(bucket, longBuckets);
+        boolean overShort = productShortThreshold > 0 && shortCount >= productShortThreshold;
+        boolean overLong = productLongThreshold > 0 && longCount >= productLongThreshold;
+        if (!overShort && !overLong) {
+            return;
+        }
+
+        window.quarantined = true;
+        String reason = overShort
+                ? "짧은 시간 신고 " + shortCount + "건"
+                : "최근 신고 " + longCount + "건";
+        try {
+            if (productRepository.quarantine(productId, reason, LocalDateTime.now()) > 0) {
+                log.warn("🚧 상품 자동 격리 - productId: {}, {}", productId, reason);
+            }
+        } catch (Exception e) {
+            window.quarantined = false;     // 다음 신고 때 다시 시도
+            log.error("❌ 상품 격리 실패 - productId: {}, {}", productId, e.getMessage());
+        }
+    }
+
+    private void checkSeller(Long sellerId, Window window, long bucket) {
+        if (window.quarantined || sellerLongThreshold <= 0) {
+            return;
+        }
+
+        long longCount = window.sum(bucket, longBuckets);
+        if (longCount < sellerLongThreshold) {
+            return;
+        }
+
+        window.quarantined = true;
+        String reason = "판매자 최근 신고 " + longCount + "건";
+        try {
+            int quarantined = productRepository.quarantineBySeller(sellerId, reason, LocalDateTime.now());
+            log.warn("🚧 판매자 상품 자동 격리 - sellerId: {}, {}, 상품 {}개", sellerId, reason, quarantined);
+        } catch (Exception e) {
+            window.quarantined = false;
+            log.error("❌ 판매자 상품 격리 실패 - sellerId: {}, {}", sellerId, e.getMessage());
+        }
+    }
+
+    /**
+     * 격리 해제 (관리자 검토 후, 해당 상품의 최근 신고 윈도우도 비움 → 바로 다시 격리되지 않음)
+     * @throws IllegalStateException 격리된 상품이 아닌 경우
+     */
+    public void releaseQuarantine(Long productId) {
+        if (productRepository.releaseQuarantine(productId) == 0) {
+            throw new IllegalStateException("격리된 상품이 아닙니다.");
+        }
+        productWindows.computeIfPresent(productId, (id, w) -> {
+            w.clear();
+            return w;
+        });
+        log.info("✅ 상품 격리 해제 - productId: {}", productId);
+    }
+
+    // ===== DB 반영 =====
+
+    /**
+     * 변화량 + 최근 구간 심각도 반영 (한 트랜잭션)
+     * 윈도우가 있는 상품은 시간이 지나면서 심각도가 줄어드므로 값이 바뀐 경우 함께 반영
+     */
+    @Scheduled(fixedDelayString = "${report.counter.flush-ms:10000}",
+            initialDelayString = "${report.counter.flush-initial-delay-ms:30000}")
+    public void flushScheduled() {
+        try {
+            if (!initialChecked) {
+                initialChecked = true;
+                if (statRepository.count() == 0) {
+                    recount();      // 처음 배포 시 기존 신고로 채움
+                }
+            }
+            flush();
+        } catch (Exception e) {
+            log.error("❌ 신고 카운터 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    public void flush() {
+        if (!flushing.tryLock()) {
+            return;
+        }
+
+        try {
+            long bucket = currentBucket();
+            Set<Long> productIds = new HashSet<>(unflushed.keySet());
+            productIds.addAll(productWindows.keySet());
+
+            List<Long> ids = new ArrayList<>();
+            List<Delta> deltas = new ArrayList<>();
+            List<long[]> scores = new ArrayList<>();    // [긴 구간 수, 윈도우 심각도]
+
+            for (Long productId : productIds) {
+                Window window = productWindows.get(productId);
+                long recent = window == null ? 0 : window.sum(bucket, longBuckets);
+                long score = window == null ? 0 : windowScore(window, bucket);
+
+                Delta delta = unflushed.remove(productId);
+                if (delta == null && (window == null || window.lastFlushedScore == score)) {
+                    continue;
+                }
+                ids.add(productId);
+                deltas.add(delta);
+                scores.add(new long[]{recent, score});
+            }
+
+            if (!ids.isEmpty()) {
+                try {
+                    LocalDateTime now = LocalDateTime.now();
+                    transactionTemplate.executeWithoutResult(status -> {
+                        for (int i = 0; i < ids.size(); i++) {
+                            Delta delta = deltas.get(i);
+                            statRepository.applyDelta(ids.get(i),
+                                    delta == null ? null : delta.sellerId(),
+                                    delta == null ? 0 : delta.total(),
+                                    delta == null ? 0 : delta.pending(),
+                                    scores.get(i)[0], scores.get(i)[1],
+                                    delta == null ? null : delta.lastReportedAt(), now);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    // 실패한 변화량은 다음 주기에 다시 반영
+                    for (int i = 0; i < ids.size(); i++) {
+                        if (deltas.get(i) != null) {
+                            unflushed.merge(ids.get(i), deltas.get(i), Delta::plus);
+                        }
+                    }
+                    throw e;
+                }
+
+                for (int i = 0; i < ids.size(); i++) {
+                    Window window = productWindows.get(ids.get(i));
+                    if (window != null) {
+                        window.lastFlushedScore = scores.get(i)[1];
+                    }
+                }
+            }
+
+            // 긴 구간 동안 신고가 없고 0으로 반영까지 끝난 윈도우 정리
+            productWindows.keySet().forEach(id -> productWindows.computeIfPresent(id,
+                    (k, w) -> w.isEmpty(bucket, longBuckets) && w.lastFlushedScore == 0 ? null : w));
+            sellerWindows.keySet().forEach(id -> sellerWindows.computeIfPresent(id,
+                    (k, w) -> w.isEmpty(bucket, longBuckets) ? null : w));
+
+        } finally {
+            flushing.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${report.counter.recount-cron:0 40 4 * * *}")
+    public void recountScheduled() {
+        try {
+            recount();
+        } catch (Exception e) {
+            log.error("❌ 신고 누적 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * REPORTS 기준으로 전체/처리 대기 수 보정 (먼저 메모리 변화량을 반영해서 중복 반영을 막음)
+     * @return 갱신된 상품 행 수
+     * @throws IllegalStateException 다른 곳에서 보정 중인 경우
+     */
+    public int recount() {
+        if (!jobLeaseService.tryAcquire(JOB_NAME, leaseTime)) {
+            throw new IllegalStateException("다른 곳에서 신고 누적 보정이 진행 중입니다.");
+        }
+
+        try {
+            flush();
+            int updated = statRepository.recount(LocalDateTime.now());
+            totals.clear();
+            log.info("✅ 신고 누적 보정 완료 - 상품 {}개", updated);
+            return updated;
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+
+    private long windowScore(Window window, long bucket) {
+        return window.sum(bucket, shortBuckets) * SHORT_WEIGHT + window.sum(bucket, longBuckets) * LONG_WEIGHT;
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    /**
+     * 슬라이딩 윈도우 (원형 버킷 배열, 버킷 번호가 바뀌면 해당 칸을 새로 시작)
+     */
+    private static final class Window {
+        private final long[] bucketIds;
+        private final int[] counts;
+        private volatile boolean quarantined = false;
+        private volatile long lastFlushedScore = -1;
+
+        private Window(int size) {
+            this.bucketIds = new long[size];
+            this.counts = new int[size];
+            Arrays.fill(bucketIds, -1);
+        }
+
+        synchronized void add(long bucket) {
+            int i = (int) (bucket % bucketIds.length);
+            if (bucketIds[i] != bucket) {
+                bucketIds[i] = bucket;
+                counts[i] = 0;
+            }
+            counts[i]++;
+        }
+
+        /**
+         * 현재 버킷 포함 최근 buckets개 버킷의 합
+         */
+        synchronized long sum(long bucket, int buckets) {
+            long total = 0;
+            for (int i = 0; i < bucketIds.length; i++) {
+                if (bucketIds[i] > bucket - buckets && bucketIds[i] <= bucket) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+
+        boolean isEmpty(long bucket, int buckets) {
+            return sum(bucket, buckets) == 0;
+        }
+
+        synchronized void clear() {
+            Arrays.fill(bucketIds, -1);
+            Arrays.fill(counts, 0);
+            quarantined = false;
+        }
+    }
+}
@@ -74,9 +74,13 @@
 
 package com.project.gugumarket.service;
 
+import com.project.gugumarket.AdminMetricType;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.Report;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.AdminMetricEvent;
+import com.project.gugumarket.event.ReportCreatedEvent;
+import com.project.gugumarket.event.ReportsResolvedEvent;
 import com.project.gugumarket.repository.ProductRepository;
 import com.project.gugumarket.repository.ReportRepository;
 import com.project.gugumarket.repository.UserRepository;
@@ -84,7 +88,7 @@ import lombok.RequiredArgsConstructor;
 // 🎯🔥✨ [추가 2 시작] Slf4j import 추가 ✨🔥🎯
 import lombok.extern.slf4j.Slf4j;
 // 🎯🔥✨ [추가 2 끝] ✨🔥🎯
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -101,7 +105,8 @@ public class ReportService {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;  // 관리자 지표 (신고 수) / 신고 카운터
+    private final ReportCounterService reportCounterService;
 
     @Transactional
     public void createReport(Long productId, String username, String reason) {
@@ -121,14 +126,11 @@ public class ReportService {
                 .reason(reason)
                 .build();
         reportRepository.save(report);
+        eventPublisher.publishEvent(AdminMetricEvent.increment(AdminMetricType.TOTAL_REPORTS));
 
-        // ✅ 신고 카운트 조회 후 WebSocket 발행 (수정됨)
-        long reportCount = reportRepository.countByProduct_ProductId(productId);
-
-        String destination = "/topic/product/report-count/" + productId;
-        messagingTemplate.convertAndSend(destination, reportCount);
-
-        log.info("🚨 신고 카운트 발행 - productId: {}, count: {}", productId, reportCount);
+        // ✅ 신고 카운트 갱신 + WebSocket 발행 + 격리 기준 확인은 커밋 후 ReportCounterService에서 (COUNT 쿼리 X)
+        eventPublisher.publishEvent(new ReportCreatedEvent(
+                report.getReportId(), productId, product.getSeller().getUserId()));
     }
 
     @Transactional(readOnly = true)
@@ -150,9 +152,14 @@ public class ReportService {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new RuntimeException("신고 내역을 찾을 수 없습니다."));
 
+        Report.ReportStatus previous = report.getStatus();
         report.setStatus(status);
         reportRepository.save(report);
 
+        if (previous == Report.ReportStatus.PENDING && status == Report.ReportStatus.RESOLVED) {
+            eventPublisher.publishEvent(ReportsResolvedEvent.of(report.getProduct().getProductId()));
+        }
+
         // 🎯 처리 완료 시 신고자에게 알림 전송
         if (status == Report.ReportStatus.RESOLVED) {
             try {
@@ -167,8 +174,10 @@ public class ReportService {
     }
     // 🎯🔥✨💫⭐🌟 [수정 2 끝] 🌟⭐💫✨🔥🎯
 
-    @Transactional(readOnly = true)
+    /**
+     * 상품 신고 수 (메모리 카운터 + 누적 테이블, REPORTS COUNT X)
+     */
     public long getReportCountByProduct(Long productId) {
-        return reportRepository.countByProduct_ProductId(productId);
+        return reportCounterService.getTotalCount(productId);
     }
 }
\ No newline at end of file
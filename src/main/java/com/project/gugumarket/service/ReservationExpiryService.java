@@ -0,0 +1,149 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.ProductStatus;
+import com.project.gugumarket.entity.Transaction;
+import com.project.gugumarket.event.MypageChangedEvent;
+import com.project.gugumarket.event.ProductLiveEvent;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 미결제 예약 만료 작업
+ *
+ * 구매 요청(createTransaction) 후 결제/입금 없이 timeout이 지난 PENDING 거래를 취소하고
+ * 예약중이던 상품을 다시 판매중으로 돌림
+ *
+ * 처리 방식 (batch-size건씩 한 트랜잭션):
+ * 1. 만료 거래 ID를 오래된 순으로 잠금 (FOR UPDATE SKIP LOCKED)
+ * 2. UPDATE 한 번으로 거래 취소, UPDATE 한 번으로 상품 예약 해제
+ * 3. 커밋 후 구매자/판매자 알림
+ *
+ * 여러 서버에서 돌려도 리스를 가진 한 대만 실행 (리스가 만료돼 겹쳐도 잠긴 행은 건너뜀)
+ * 카카오페이 승인이 진행 중인 거래는 PaymentReconciler가 처리하므로 건드리지 않음
+ */
+@Slf4j
+@Service
+public class ReservationExpiryService {
+
+    static final String JOB_NAME = "reservation-expiry";
+    static final String EXPIRED_REASON = "결제 기한 만료로 자동 취소";
+
+    private final TransactionRepository transactionRepository;
+    private final ProductRepository productRepository;
+    private final NotificationService notificationService;
+    private final JobLeaseService jobLeaseService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration timeout;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration leaseTime;
+
+    public ReservationExpiryService(TransactionRepository transactionRepository,
+                                    ProductRepository productRepository,
+                                    NotificationService notificationService,
+                                    JobLeaseService jobLeaseService,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${transaction.expiry.timeout-minutes:1440}") long timeoutMinutes,
+                                    @Value("${transaction.expiry.batch-size:200}") int batchSize,
+                                    @Value("${transaction.expiry.max-batches-per-run:50}") int maxBatchesPerRun,
+                                    @Value("${transaction.expiry.lease-seconds:300}") long leaseSeconds) {
+        this.transactionRepository = transactionRepository;
+        this.productRepository = productRepository;
+        this.notificationService = notificationService;
+        this.jobLeaseService = jobLeaseService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.expiry.interval-ms:60000}",
+            initialDelayString = "${transaction.expiry.initial-delay-ms:30000}")
+    public void expireStaleReservations() {
+        if (!jobLeaseService.tryAcquire(JOB_NAME, leaseTime)) {
+            return;
+        }
+
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(timeout);
+            int total = 0;
+
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                List<Transaction> expired = transactionTemplate.execute(status -> expireBatch(cutoff));
+                if (expired == null || expired.isEmpty()) {
+                    break;
+                }
+
+                total += expired.size();
+                notifyExpired(expired);
+
+                if (expired.size() < batchSize) {
+                    break;
+                }
+            }
+
+            if (total > 0) {
+                log.info("⏰ 미결제 예약 만료 처리 - {}건", total);
+            }
+
+        } catch (Exception e) {
+            log.error("❌ 미결제 예약 만료 처리 실패: {}", e.getMessage());
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * 만료 거래 한 묶음 취소 (트랜잭션 안에서 호출)
+     * @return 취소한 거래 (상품/구매자/판매자 로딩됨)
+     */
+    private List<Transaction> expireBatch(LocalDateTime cutoff) {
+        List<Long> ids = transactionRepository.lockExpiredPendingIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Transaction> transactions = transactionRepository.findAllWithPartiesByIdIn(ids);
+        List<Long> productIds = transactions.stream()
+                .map(t -> t.getProduct().getProductId())
+                .distinct()
+                .toList();
+
+        transactionRepository.expirePending(ids, LocalDateTime.now(), EXPIRED_REASON);
+        int released = productRepository.releaseReservations(productIds);
+        productIds.forEach(productId ->
+                eventPublisher.publishEvent(ProductLiveEvent.statusChanged(productId, ProductStatus.SALE)));
+
+        log.info("⏰ 예약 만료 - 거래 {}건 취소, 상품 {}건 판매중 복귀", ids.size(), released);
+        return transactions;
+    }
+
+    private void notifyExpired(List<Transaction> expired) {
+        eventPublisher.publishEvent(MypageChangedEvent.of(expired.stream()
+                .flatMap(t -> Stream.of(t.getBuyer().getUserId(), t.getSeller().getUserId()))
+                .toArray(Long[]::new)));
+
+        try {
+            notificationService.createTransactionExpiredNotifications(expired);
+        } catch (Exception e) {
+            log.error("예약 만료 알림 생성 실패 - {}건, 오류: {}", expired.size(), e.getMessage());
+        }
+    }
+}
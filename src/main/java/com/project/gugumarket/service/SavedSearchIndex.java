@@ -0,0 +1,92 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.SavedSearchEntry;
+import com.project.gugumarket.event.SavedSearchChangedEvent;
+import com.project.gugumarket.repository.SavedSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 관심 검색어 역색인 (SavedSearchMatcher)
+ *
+ * 갱신 (SnapshotIndex):
+ * - 이 서버에서 등록/삭제된 검색어는 커밋 후 그 검색어만 다시 색인
+ * - 다른 서버의 변경은 주기적인 전체 재구성으로 반영
+ * - 처음 만드는 동안 들어온 매칭은 완료까지 기다림 (매칭은 전용 스레드에서만 실행)
+ */
+@Slf4j
+@Service
+public class SavedSearchIndex extends SnapshotIndex<SavedSearchMatcher, SavedSearchEntry> {
+
+    private final SavedSearchRepository savedSearchRepository;
+
+    public SavedSearchIndex(SavedSearchRepository savedSearchRepository,
+                            @Value("${saved-search.chunk-size:5000}") int chunkSize) {
+        super("관심 검색어 인덱스", chunkSize);
+        this.savedSearchRepository = savedSearchRepository;
+    }
+
+    /**
+     * 매칭용 인덱스 (아직 만들지 않았으면 만들 때까지 기다림)
+     */
+    SavedSearchMatcher matcher() {
+        return awaitLoaded();
+    }
+
+    // ===== 갱신 =====
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        refresh(List.of(event.searchId()));
+    }
+
+    @Scheduled(fixedDelayString = "${saved-search.refresh-ms:600000}",
+            initialDelayString = "${saved-search.initial-delay-ms:45000}")
+    public void rebuildScheduled() {
+        rebuildSafely();
+    }
+
+    @Override
+    protected SavedSearchMatcher newSnapshot() {
+        return new SavedSearchMatcher();
+    }
+
+    @Override
+    protected List<SavedSearchEntry> findChunk(long afterId, int size) {
+        return savedSearchRepository.findIndexEntries(afterId, PageRequest.of(0, size));
+    }
+
+    @Override
+    protected List<SavedSearchEntry> findByIds(Collection<Long> ids) {
+        return savedSearchRepository.findIndexEntriesByIds(ids);
+    }
+
+    @Override
+    protected Long idOf(SavedSearchEntry entry) {
+        return entry.searchId();
+    }
+
+    @Override
+    protected void put(SavedSearchMatcher target, SavedSearchEntry entry) {
+        target.put(SavedSearchMatcher.Query.of(entry.searchId(), entry.userId(), entry.keyword(),
+                entry.categoryId(), entry.district(), entry.maxPrice()));
+    }
+
+    @Override
+    protected void remove(SavedSearchMatcher target, Long searchId) {
+        target.remove(searchId);
+    }
+
+    @Override
+    protected void onRebuilt(SavedSearchMatcher fresh) {
+        log.info("🔖 관심 검색어 인덱스 재구성 완료 - {}건, 색인 키 {}개", fresh.size(), fresh.keyCount());
+    }
+}
@@ -0,0 +1,203 @@
+package com.project.gugumarket.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관심 검색어 역색인 (검색어를 색인해 두고 새 상품 하나로 조회하는 방향)
+ *
+ * 검색어마다 가장 드문 조건 하나로만 색인
+ * - 키워드가 있으면 키워드 토큰 중 현재 목록이 가장 짧은 토큰 ("t:배송")
+ * - 없으면 카테고리 ("c:3"), 그것도 없으면 지역 ("d:강남구"), 조건이 하나도 없으면 "*"
+ *
+ * 새 상품은 자기 제목 토큰(바이그램 + 한 글자) / 카테고리 / 판매자 주소의 각 단어 / "*" 목록만 읽고
+ * 후보마다 나머지 조건(모든 토큰 포함, 카테고리, 지역, 최대 가격)을 확인
+ * → 저장된 검색어 전체가 아니라 상품과 조건 하나라도 겹치는 검색어만 검사
+ *
+ * 스프링에 의존하지 않음 (SavedSearchService가 감싸서 사용)
+ */
+final class SavedSearchMatcher {
+
+    static final String ANY_KEY = "*";
+
+    /**
+     * 색인된 관심 검색어
+     * @param tokens 키워드 토큰 (비어 있으면 키워드 조건 없음)
+     * @param district 정규화된 지역 (null이면 조건 없음)
+     */
+    record Query(Long searchId, Long userId, Set<String> tokens, Long categoryId, String district, Integer maxPrice) {
+
+        static Query of(Long searchId, Long userId, String keyword, Long categoryId, String district, Integer maxPrice) {
+            String normalizedDistrict = district == null || district.isBlank()
+                    ? null : SearchTokenizer.normalize(district.trim());
+            return new Query(searchId, userId, Set.copyOf(SearchTokenizer.tokenize(keyword)),
+                    categoryId, normalizedDistrict, maxPrice);
+        }
+    }
+
+    /**
+     * 매칭할 새 상품
+     */
+    record Document(Long productId, Long sellerId, String title, Long categoryId, String sellerAddress, Integer price) {
+    }
+
+    /**
+     * @param matches 조건을 모두 만족한 검색어
+     * @param candidates 확인한 후보 검색어 수
+     */
+    record MatchResult(List<Query> matches, int candidates) {
+    }
+
+    // 색인 키 → 검색어 ID
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    // 검색어 ID → 검색어
+    private final Map<Long, Query> queries = new ConcurrentHashMap<>();
+    // 검색어 ID → 색인 키 (다시 색인하거나 지울 때 사용)
+    private final Map<Long, String> keys = new ConcurrentHashMap<>();
+
+    synchronized void put(Query query) {
+        remove(query.searchId());
+        String key = keyOf(query);
+        postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(query.searchId());
+        queries.put(query.searchId(), query);
+        keys.put(query.searchId(), key);
+    }
+
+    synchronized void remove(Long searchId) {
+        String key = keys.remove(searchId);
+        queries.remove(searchId);
+        if (key == null) {
+            return;
+        }
+        Set<Long> posting = postings.get(key);
+        if (posting != null) {
+            posting.remove(searchId);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    int size() {
+        return queries.size();
+    }
+
+    int keyCount() {
+        return postings.size();
+    }
+
+    MatchResult match(Document document) {
+        Set<String> titleTokens = titleTokens(document.title());
+        int candidates = 0;
+        List<Query> matches = new ArrayList<>();
+
+        // 검색어는 키 하나에만 색인되므로 키끼리 후보가 겹치지 않음
+        for (String key : probeKeys(document, titleTokens)) {
+            Set<Long> posting = postings.get(key);
+            if (posting == null) {
+                continue;
+            }
+            for (Long searchId : posting) {
+                Query query = queries.get(searchId);
+                if (query == null) {
+                    continue;
+                }
+                candidates++;
+                if (matches(query, document, titleTokens)) {
+                    matches.add(query);
+                }
+            }
+        }
+        return new MatchResult(matches, candidates);
+    }
+
+    /**
+     * 후보를 모두 확인 (색인 키로 고르지 않은 나머지 조건 포함)
+     */
+    static boolean matches(Query query, Document document, Set<String> titleTokens) {
+        if (query.userId() != null && query.userId().equals(document.sellerId())) {
+            return false;   // 자기 상품은 알리지 않음
+        }
+        if (query.categoryId() != null && !query.categoryId().equals(document.categoryId())) {
+            return false;
+        }
+        if (query.maxPrice() != null && (document.price() == null || document.price() > query.maxPrice())) {
+            return false;
+        }
+        if (query.district() != null) {
+            String address = document.sellerAddress() == null ? "" : SearchTokenizer.normalize(document.sellerAddress());
+            if (!address.contains(query.district())) {
+                return false;
+            }
+        }
+        return titleTokens.containsAll(query.tokens());
+    }
+
+    /**
+     * 가장 드문 조건 하나 (같은 길이면 긴 토큰 → 더 구체적)
+     */
+    private String keyOf(Query query) {
+        if (!query.tokens().isEmpty()) {
+            String rarest = query.tokens().stream()
+                    .min(Comparator.<String>comparingInt(token -> postingSize("t:" + token))
+                            .thenComparing(Comparator.comparingInt(String::length).reversed())
+                            .thenComparing(Comparator.naturalOrder()))
+                    .orElseThrow();
+            return "t:" + rarest;
+        }
+        if (query.categoryId() != null) {
+            return "c:" + query.categoryId();
+        }
+        if (query.district() != null) {
+            return "d:" + query.district();
+        }
+        return ANY_KEY;
+    }
+
+    private int postingSize(String key) {
+        Set<Long> posting = postings.get(key);
+        return posting == null ? 0 : posting.size();
+    }
+
+    /**
+     * 상품 하나가 읽을 색인 키
+     */
+    private static Set<String> probeKeys(Document document, Set<String> titleTokens) {
+        Set<String> probe = new LinkedHashSet<>();
+        titleTokens.forEach(token -> probe.add("t:" + token));
+        if (document.categoryId() != null) {
+            probe.add("c:" + document.categoryId());
+        }
+        if (document.sellerAddress() != null) {
+            for (String part : SearchTokenizer.normalize(document.sellerAddress()).split("\\s+")) {
+                if (!part.isEmpty()) {
+                    probe.add("d:" + part);
+                }
+            }
+        }
+        probe.add(ANY_KEY);
+        return probe;
+    }
+
+    /**
+     * 제목 토큰 + 한글 한 글자 토큰 (한 글자 키워드 "폰" 같은 검색어도 찾을 수 있도록)
+     */
+    static Set<String> titleTokens(String title) {
+        Set<String> tokens = new LinkedHashSet<>(SearchTokenizer.tokenize(title));
+        if (title != null) {
+            String normalized = SearchTokenizer.normalize(title);
+            for (int i = 0; i < normalized.length(); i++) {
+                char c = normalized.charAt(i);
+                if (SearchTokenizer.isHangul(c) && Character.isLetter(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            }
+        }
+        return tokens;
+    }
+}
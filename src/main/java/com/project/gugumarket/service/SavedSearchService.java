@@ -0,0 +1,194 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.ProductMatchRow;
+import com.project.gugumarket.dto.SavedSearchDto;
+import com.project.gugumarket.entity.SavedSearch;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.ProductCreatedEvent;
+import com.project.gugumarket.event.SavedSearchChangedEvent;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.SavedSearchRepository;
+import com.project.gugumarket.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 관심 검색어 (저장한 검색 조건에 맞는 새 상품이 올라오면 알림)
+ *
+ * - 상품 목록을 계속 새로고침하지 않아도 되도록 키워드 / 카테고리 / 지역 / 최대 가격 조건을 저장
+ * - 새 상품 등록이 커밋되면 전용 스레드에서 SavedSearchMatcher(검색어 역색인)로 후보 검색어만 확인
+ *   → 상품 등록 요청은 매칭/알림 저장을 기다리지 않음
+ * - 같은 사용자의 검색어 여러 개가 맞아도 알림은 한 번, 상품 하나당 알림 수 상한 있음
+ *
+ * 인덱스와 그 갱신은 SavedSearchIndex
+ */
+@Slf4j
+@Service
+public class SavedSearchService {
+
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SavedSearchIndex savedSearchIndex;
+    private final ThreadPoolExecutor executor;
+    private final int maxPerUser;
+    private final int maxNotificationsPerProduct;
+
+    public SavedSearchService(SavedSearchRepository savedSearchRepository,
+                              ProductRepository productRepository,
+                              UserRepository userRepository,
+                              NotificationService notificationService,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              SavedSearchIndex savedSearchIndex,
+                              @Value("${saved-search.max-per-user:20}") int maxPerUser,
+                              @Value("${saved-search.max-notifications-per-product:500}") int maxNotificationsPerProduct,
+                              @Value("${saved-search.queue-capacity:1000}") int queueCapacity) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.savedSearchIndex = savedSearchIndex;
+        this.maxPerUser = Math.max(1, maxPerUser);
+        this.maxNotificationsPerProduct = Math.max(1, maxNotificationsPerProduct);
+        this.executor = BoundedExecutors.singleThread("saved-search", queueCapacity);
+    }
+
+    // ===== 등록 / 조회 / 삭제 =====
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchDto> getSavedSearches(User user) {
+        return savedSearchRepository.findByUserId(user.getUserId()).stream()
+                .map(SavedSearchDto::fromEntity)
+                .toList();
+    }
+
+    @Transactional
+    public SavedSearchDto create(User user, SavedSearchDto request) {
+        String keyword = request.keyword() == null || request.keyword().isBlank() ? null : request.keyword().trim();
+        String district = request.district() == null || request.district().isBlank() ? null : request.district().trim();
+
+        // 가격 조건만 있으면 거의 모든 새 상품이 일치 → 검색어/카테고리/지역 중 하나는 필수
+        if (keyword == null && request.categoryId() == null && district == null) {
+            throw new IllegalArgumentException("검색어, 카테고리, 지역 중 하나 이상 입력해주세요.");
+        }
+        if (keyword != null && keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_KEYWORD_LENGTH + "자 이하로 입력해주세요.");
+        }
+        if (keyword != null && SearchTokenizer.tokenize(keyword).isEmpty()) {
+            throw new IllegalArgumentException("검색어에 글자나 숫자가 포함되어야 합니다.");
+        }
+        if (request.maxPrice() != null && request.maxPrice() < 0) {
+            throw new IllegalArgumentException("최대 가격은 0원 이상이어야 합니다.");
+        }
+        if (savedSearchRepository.countByUser_UserId(user.getUserId()) >= maxPerUser) {
+            throw new IllegalStateException("관심 검색어는 최대 " + maxPerUser + "개까지 저장할 수 있습니다.");
+        }
+
+        SavedSearch saved = savedSearchRepository.save(SavedSearch.builder()
+                .user(user)
+                .keyword(keyword)
+                .categoryId(request.categoryId())
+                .district(district)
+                .maxPrice(request.maxPrice())
+                .build());
+
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(saved.getSearchId()));
+        log.info("🔖 관심 검색어 등록 - 사용자: {}, ID: {}", user.getUserId(), saved.getSearchId());
+        return SavedSearchDto.fromEntity(saved);
+    }
+
+    @Transactional
+    public void delete(Long searchId, User user) {
+        SavedSearch search = savedSearchRepository.findById(searchId)
+                .orElseThrow(() -> new IllegalArgumentException("관심 검색어를 찾을 수 없습니다."));
+
+        if (!search.getUser().getUserId().equals(user.getUserId())) {
+            throw new IllegalArgumentException("권한이 없습니다.");
+        }
+
+        savedSearchRepository.delete(search);
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(searchId));
+    }
+
+    // ===== 새 상품 매칭 =====
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductCreated(ProductCreatedEvent event) {
+        try {
+            executor.execute(() -> matchProduct(event.productId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 관심 검색어 매칭 대기열 초과 - 상품 {} 알림 생략", event.productId());
+        }
+    }
+
+    private void matchProduct(Long productId) {
+        try {
+            ProductMatchRow product = productRepository.findMatchRow(productId).orElse(null);
+            if (product == null) {
+                return;     // 그 사이 삭제/격리/예약된 상품
+            }
+
+            SavedSearchMatcher current = savedSearchIndex.matcher();
+            long startedAt = System.nanoTime();
+            SavedSearchMatcher.MatchResult result = current.match(new SavedSearchMatcher.Document(
+                    product.productId(), product.sellerId(), product.title(),
+                    product.categoryId(), product.sellerAddress(), product.price()));
+
+            // 같은 사용자의 검색어가 여러 개 맞아도 알림은 한 번
+            Set<Long> userIds = new LinkedHashSet<>();
+            for (SavedSearchMatcher.Query query : result.matches()) {
+                if (userIds.size() >= maxNotificationsPerProduct) {
+                    break;
+                }
+                userIds.add(query.userId());
+            }
+
+            log.info("🔖 관심 검색어 매칭 - 상품: {}, 후보 {}개 / 전체 {}개, 알림 대상 {}명, {}ms",
+                    productId, result.candidates(), current.size(), userIds.size(),
+                    (System.nanoTime() - startedAt) / 1_000_000);
+
+            if (!userIds.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        notificationService.createSavedSearchNotifications(
+                                productRepository.getReferenceById(productId),
+                                userIds.stream().map(userRepository::getReferenceById).toList()));
+            }
+        } catch (Exception e) {
+            log.error("❌ 관심 검색어 매칭 실패 - 상품: {}, {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 중인 매칭 작업 수 (모니터링용)
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
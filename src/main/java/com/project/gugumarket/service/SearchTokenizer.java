@@ -0,0 +1,68 @@
+package com.project.gugumarket.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색/색인 공통 토큰화 (Q&A 검색 인덱스, 관심 검색어 매칭)
+ *
+ * - NFKC 정규화 + 소문자 → 글자/숫자가 아닌 문자에서 자르고, 한글과 그 외 문자가 바뀌는 곳에서도 자름
+ * - 한글 구간은 두 글자씩 겹쳐 자른 토큰(바이그램)으로 ("배송이" → 배송, 송이)
+ *   → 조사가 붙어 있어도 "배송"으로 찾을 수 있음 (형태소 분석기 없이 LIKE '%kw%'와 비슷한 재현율)
+ * - 영문/숫자 구간은 단어 그대로
+ */
+final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = normalize(text);
+        int start = -1;
+        boolean hangulRun = false;
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            boolean letter = Character.isLetterOrDigit(c);
+            boolean hangul = letter && isHangul(c);
+
+            if (start >= 0 && (!letter || hangul != hangulRun)) {
+                addRun(tokens, normalized.substring(start, i), hangulRun);
+                start = -1;
+            }
+            if (letter && start < 0) {
+                start = i;
+                hangulRun = hangul;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 토큰화 전 정규화 (전각 문자 → 반각, 대문자 → 소문자)
+     */
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    private static void addRun(List<String> tokens, String run, boolean hangul) {
+        if (!hangul || run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+}
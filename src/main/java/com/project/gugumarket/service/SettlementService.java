@@ -0,0 +1,217 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.SettlementBatchStatus;
+import com.project.gugumarket.dto.SettlementBatchDto;
+import com.project.gugumarket.entity.SettlementBatch;
+import com.project.gugumarket.repository.SettlementBatchRepository;
+import com.project.gugumarket.repository.SettlementRepository;
+import com.project.gugumarket.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 배치 정산
+ *
+ * 결제 완료 시점에 한 건씩 정산하지 않고, 주기적으로 완료 거래를 모아 판매자별로 정산
+ *
+ * 처리 방식:
+ * 1. 배치 시작: 지금까지 완료된 미정산 거래의 ID 범위를 잡아 SettlementBatch 생성 (RUNNING)
+ * 2. 거래 ID 구간(chunk-size)마다 한 트랜잭션으로
+ *    - 체크포인트 선점 (조건부 UPDATE, 다른 실행과 겹치면 0건 → 구간 건너뜀)
+ *    - INSERT ... SELECT ... GROUP BY 판매자 로 원장(SETTLEMENTS)에 금액 누적
+ *    - UPDATE 한 번으로 구간의 거래를 정산 완료 처리
+ * 3. 마지막 구간까지 끝나면 원장 합계를 배치에 기록하고 COMPLETED
+ *
+ * 구간 트랜잭션이 실패하면 해당 구간 전체가 롤백되고 체크포인트도 그대로이므로
+ * 다음 실행 때 RUNNING 배치를 찾아 같은 구간부터 다시 처리
+ */
+@Slf4j
+@Service
+public class SettlementService {
+
+    private final SettlementBatchRepository batchRepository;
+    private final SettlementRepository settlementRepository;
+    private final TransactionRepository transactionRepository;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration leaseTime;
+
+    static final String JOB_NAME = "settlement";
+
+    // 스케줄 실행과 관리자 수동 실행이 겹치지 않도록 (서버 간에는 작업 리스로)
+    private final ReentrantLock running = new ReentrantLock();
+
+    public SettlementService(SettlementBatchRepository batchRepository,
+                             SettlementRepository settlementRepository,
+                             TransactionRepository transactionRepository,
+                             JobLeaseService jobLeaseService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${settlement.chunk-size:1000}") int chunkSize,
+                             @Value("${settlement.lease-seconds:3600}") long leaseSeconds) {
+        this.batchRepository = batchRepository;
+        this.settlementRepository = settlementRepository;
+        this.transactionRepository = transactionRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(cron = "${settlement.cron:0 0 * * * *}")
+    public void runScheduled() {
+        try {
+            runBatch();
+        } catch (IllegalStateException e) {
+            log.info("💰 정산 배치 건너뜀: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("❌ 정산 배치 실패 (다음 실행 때 이어서 처리): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정산 배치 실행
+     * 이어서 처리할 RUNNING 배치가 있으면 그것부터, 없으면 새 배치 시작
+     *
+     * @return 처리한 배치 (정산할 거래가 없으면 null)
+     * @throws IllegalStateException 이미 정산이 진행 중인 경우
+     */
+    public SettlementBatchDto runBatch() {
+        if (!running.tryLock()) {
+            throw new IllegalStateException("이미 정산이 진행 중입니다.");
+        }
+        if (!jobLeaseService.tryAcquire(JOB_NAME, leaseTime)) {
+            running.unlock();
+            throw new IllegalStateException("다른 서버에서 정산이 진행 중입니다.");
+        }
+
+        try {
+            SettlementBatch batch = batchRepository
+                    .findFirstByStatusOrderByBatchIdAsc(SettlementBatchStatus.RUNNING)
+                    .orElseGet(this::startBatch);
+
+            if (batch == null) {
+                log.info("💰 정산할 거래가 없습니다.");
+                return null;
+            }
+
+            process(batch);
+            return SettlementBatchDto.fromEntity(finish(batch.getBatchId()));
+
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+            running.unlock();
+        }
+    }
+
+    /**
+     * 새 배치 생성 (대상 거래가 없으면 null)
+     */
+    private SettlementBatch startBatch() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        Object[] range = transactionRepository.findSettleableIdRange(cutoff).get(0);
+
+        if (range[0] == null) {
+            return null;
+        }
+
+        long minId = ((Number) range[0]).longValue();
+        long maxId = ((Number) range[1]).longValue();
+
+        SettlementBatch batch = batchRepository.save(SettlementBatch.builder()
+                .status(SettlementBatchStatus.RUNNING)
+                .cutoffAt(cutoff)
+                .lastTransactionId(maxId)
+                .checkpointTransactionId(minId - 1)
+                .startedAt(cutoff)
+                .build());
+
+        log.info("💰 정산 배치 시작 - batchId: {}, 거래 ID {} ~ {}", batch.getBatchId(), minId, maxId);
+        return batch;
+    }
+
+    /**
+     * 체크포인트부터 마지막 거래 ID까지 구간별 처리
+     */
+    private void process(SettlementBatch batch) {
+        Long batchId = batch.getBatchId();
+        long checkpoint = batch.getCheckpointTransactionId();
+        long lastId = batch.getLastTransactionId();
+        int chunks = 0;
+
+        while (checkpoint < lastId) {
+            long fromId = checkpoint + 1;
+            long toId = Math.min(lastId, checkpoint + chunkSize);
+            long expected = checkpoint;
+
+            Integer settled = transactionTemplate.execute(status -> {
+                // 1. 구간 선점 (배치 행 잠금은 커밋까지 유지)
+                if (batchRepository.advanceCheckpoint(batchId, expected, toId) == 0) {
+                    return null;
+                }
+
+                // 2. 판매자별 합산 → 원장 누적, 3. 거래 정산 완료 표시
+                LocalDateTime now = LocalDateTime.now();
+                settlementRepository.accumulate(batchId, fromId, toId, batch.getCutoffAt(), now);
+                return transactionRepository.markSettled(batchId, fromId, toId, batch.getCutoffAt(), now);
+            });
+
+            if (settled == null) {
+                log.warn("⚠️ 정산 구간을 다른 실행이 처리함 - batchId: {}, 거래 ID {} ~ {}", batchId, fromId, toId);
+                return;
+            }
+
+            checkpoint = toId;
+            chunks++;
+
+            if (settled > 0) {
+                log.info("💰 정산 구간 처리 - batchId: {}, 거래 ID {} ~ {}, {}건", batchId, fromId, toId, settled);
+            }
+        }
+
+        log.info("💰 정산 배치 구간 처리 완료 - batchId: {}, 이번 실행 {}개 구간", batchId, chunks);
+    }
+
+    /**
+     * 모든 구간이 끝났으면 원장 합계를 기록하고 완료 처리
+     */
+    private SettlementBatch finish(Long batchId) {
+        return transactionTemplate.execute(status -> {
+            SettlementBatch batch = batchRepository.findById(batchId)
+                    .orElseThrow(() -> new IllegalStateException("정산 배치를 찾을 수 없습니다."));
+
+            if (batch.getStatus() == SettlementBatchStatus.RUNNING
+                    && batch.getCheckpointTransactionId() >= batch.getLastTransactionId()) {
+                Object[] summary = settlementRepository.summarize(batchId).get(0);
+
+                batch.setSellerCount(((Number) summary[0]).intValue());
+                batch.setSettledCount(((Number) summary[1]).longValue());
+                batch.setSettledAmount(((Number) summary[2]).longValue());
+                batch.setStatus(SettlementBatchStatus.COMPLETED);
+                batch.setFinishedAt(LocalDateTime.now());
+
+                log.info("✅ 정산 배치 완료 - batchId: {}, 판매자 {}명, {}건, {}원",
+                        batchId, batch.getSellerCount(), batch.getSettledCount(), batch.getSettledAmount());
+            }
+            return batch;
+        });
+    }
+
+    /**
+     * 최근 정산 배치 목록
+     */
+    public List<SettlementBatchDto> getRecentBatches() {
+        return batchRepository.findTop20ByOrderByBatchIdDesc().stream()
+                .map(SettlementBatchDto::fromEntity)
+                .toList();
+    }
+}
@@ -0,0 +1,198 @@
+package com.project.gugumarket.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 인덱스 공통 뼈대 (DB 테이블을 ID 순으로 읽어 만들고, 바뀐 항목만 다시 읽어 갱신)
+ *
+ * - 인덱스 한 벌(S)을 들고 있다가, 전체 재구성 때는 ID 순으로 chunkSize개씩 읽어 새로 만든 뒤 한 번에 교체
+ * - 이 서버의 변경은 refresh(ids)로 그 항목만 다시 읽어서 반영
+ * - 재구성 중에 들어온 변경은 기록해 뒀다가 새 인덱스로 교체한 뒤 다시 반영
+ * - 첫 구성은 애플리케이션 준비 완료 후 백그라운드에서 (첫 요청 스레드가 전체 재구성을 떠안지 않음)
+ *   그 전까지 isLoaded()는 false → 하위 클래스가 DB 조회로 대신하거나 awaitLoaded()로 기다림
+ *
+ * @param <S> 인덱스 한 벌 (읽기는 잠금 없이, 쓰기는 항목 단위로 직렬화되는 구조)
+ * @param <E> DB에서 읽은 항목 (ID 하나에 한 행)
+ */
+@Slf4j
+public abstract class SnapshotIndex<S, E> {
+
+    private final String name;
+    private final int chunkSize;
+
+    private volatile S snapshot;
+    private volatile boolean loaded = false;
+
+    // 재구성 중에 들어온 개별 변경 (새 인덱스로 교체한 뒤 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock rebuilding = new ReentrantLock();
+
+    /**
+     * @param name 로그에 쓰는 인덱스 이름
+     * @param chunkSize 재구성 때 한 번에 읽는 항목 수
+     */
+    protected SnapshotIndex(String name, int chunkSize) {
+        this.name = name;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // ===== 하위 클래스 구현 =====
+
+    /** 빈 인덱스 한 벌 */
+    protected abstract S newSnapshot();
+
+    /** afterId 다음부터 ID 순으로 size개 */
+    protected abstract List<E> findChunk(long afterId, int size);
+
+    /** 지정한 ID의 항목 (없어진 ID는 빠짐) */
+    protected abstract List<E> findByIds(Collection<Long> ids);
+
+    protected abstract Long idOf(E entry);
+
+    protected abstract void put(S target, E entry);
+
+    protected abstract void remove(S target, Long id);
+
+    /** 재구성 완료 로그 등 (잠금 안에서 호출) */
+    protected void onRebuilt(S fresh) {
+    }
+
+    // ===== 조회 =====
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 현재 인덱스 (아직 만들지 않았으면 빈 인덱스)
+     */
+    protected S current() {
+        S current = snapshot;
+        return current != null ? current : newSnapshot();
+    }
+
+    /**
+     * 현재 인덱스, 아직 만들지 않았으면 만들거나 다른 스레드가 다 만들 때까지 기다림
+     * (백그라운드 작업처럼 기다려도 되는 곳에서만 사용)
+     */
+    protected S awaitLoaded() {
+        if (!loaded) {
+            rebuild();
+            if (!loaded) {
+                // 다른 스레드가 만드는 중 → 끝날 때까지 기다림
+                rebuilding.lock();
+                rebuilding.unlock();
+            }
+        }
+        return current();
+    }
+
+    // ===== 갱신 =====
+
+    /**
+     * 항목 여러 개를 다시 읽기 (없어진 항목은 인덱스에서 제거)
+     */
+    public void refresh(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 재구성 중이면 교체 후 다시 반영하도록 먼저 기록 (기록 → 현재 인덱스 읽기 순서)
+            if (rebuilding.isLocked()) {
+                changedDuringRebuild.addAll(ids);
+            }
+            if (!loaded) {
+                return;     // 아직 한 번도 만들지 않았으면 처음 만들 때 반영됨
+            }
+            reload(snapshot, ids);
+        } catch (Exception e) {
+            log.warn("⚠️ {} 갱신 실패 - {}건, {}", name, ids.size(), e.getMessage());
+        }
+    }
+
+    private void reload(S target, Collection<Long> ids) {
+        Set<Long> missing = new HashSet<>(ids);
+        for (E entry : findByIds(ids)) {
+            put(target, entry);
+            missing.remove(idOf(entry));
+        }
+        missing.forEach(id -> remove(target, id));
+    }
+
+    /**
+     * 전체 재구성 (ID 순으로 chunkSize개씩 읽어서 새 인덱스를 만든 뒤 한 번에 교체)
+     * 이미 다른 스레드가 재구성 중이면 바로 반환
+     */
+    public void rebuild() {
+        if (!rebuilding.tryLock()) {
+            return;
+        }
+
+        try {
+            S fresh = newSnapshot();
+            long afterId = 0;
+
+            while (true) {
+                List<E> chunk = findChunk(afterId, chunkSize);
+                chunk.forEach(entry -> put(fresh, entry));
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+                afterId = idOf(chunk.get(chunk.size() - 1));
+            }
+
+            snapshot = fresh;
+            loaded = true;
+
+            // 읽는 동안 바뀐 항목은 교체된 인덱스에 다시 반영
+            // 교체 뒤에 꺼내므로 꺼내는 도중 들어온 변경도 빠짐없이 반영 (교체 뒤 변경은 refresh가 새 인덱스에 직접 반영)
+            drainChanged(fresh);
+            onRebuilt(fresh);
+
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    private void drainChanged(S target) {
+        while (!changedDuringRebuild.isEmpty()) {
+            List<Long> changed = new ArrayList<>();
+            for (Iterator<Long> it = changedDuringRebuild.iterator(); it.hasNext(); ) {
+                changed.add(it.next());
+                it.remove();
+            }
+            reload(target, changed);
+        }
+    }
+
+    /**
+     * 주기적 재구성 / 첫 구성용 (실패해도 예외를 밖으로 던지지 않음)
+     */
+    protected void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ {} 재구성 실패: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 준비 완료 → 백그라운드에서 첫 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread.startVirtualThread(this::rebuildSafely);
+    }
+}
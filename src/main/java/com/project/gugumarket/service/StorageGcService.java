@@ -0,0 +1,286 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.ImageVariant;
+import com.project.gugumarket.repository.ProductImageRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 저장소 GC (미참조 파일 정리)
+ *
+ * 정리 대상:
+ * - 업로드만 하고 상품 등록을 하지 않은 이미지
+ * - 교체된 프로필 이미지 / 해제 대기열에서 버려진 파일
+ * - 삭제(soft delete)된 지 보관 기간이 지난 상품의 이미지
+ * - 중단된 업로드의 임시 파일
+ *
+ * 처리 방식:
+ * 1. 상품 대표/추가 이미지, 프로필 이미지 URL을 읽어 참조 목록을 만듦
+ *    (내용 기반 파일은 해시 앞 64비트만 정렬된 long[]로 보관 → 파일 하나당 8바이트)
+ * 2. 한 번 실행에 해시 디렉토리(00 ~ ff) 몇 개씩만 순회하고 위치를 기억 (디스크 부하 분산)
+ * 3. 참조 목록에 없고 유예 기간보다 오래된 파일만 삭제
+ *    (업로드 직후 상품 등록 전인 파일, 최근 중복 업로드된 파일은 수정 시각이 새로워서 보호됨)
+ *
+ * 해시가 우연히 겹쳐 참조된 것으로 보이는 경우는 지우지 않는 쪽으로만 틀리므로 안전
+ */
+@Slf4j
+@Service
+public class StorageGcService {
+
+    // 첫 단계 해시 디렉토리 수 ("00" ~ "ff"), 마지막 순서는 기존 평면 파일 + 임시 파일
+    private static final int SHARD_COUNT = 256;
+    private static final int LEGACY_POSITION = SHARD_COUNT;
+
+    // ImageVariantService가 축소본을 쓰는 중인 임시 파일 접두사
+    private static final String VARIANT_TEMP_PREFIX = ".variant-";
+
+    private final FileService fileService;
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final UserRepository userRepository;
+
+    private final boolean enabled;
+    private final Duration grace;
+    private final int shardsPerRun;
+    private final Duration deletedProductRetention;
+
+    // 스케줄 실행이 겹치지 않도록 (수동 실행과 동시에 돌 수 있음)
+    private final ReentrantLock running = new ReentrantLock();
+
+    private int cursor = 0;
+    private ReferencedFiles references;
+    private Instant referencesLoadedAt = Instant.EPOCH;
+
+    public StorageGcService(FileService fileService,
+                            ProductRepository productRepository,
+                            ProductImageRepository productImageRepository,
+                            UserRepository userRepository,
+                            @Value("${storage.gc.enabled:true}") boolean enabled,
+                            @Value("${storage.gc.grace-hours:24}") long graceHours,
+                            @Value("${storage.gc.shards-per-run:8}") int shardsPerRun,
+                            @Value("${storage.gc.deleted-product-retention-days:30}") long retentionDays) {
+        this.fileService = fileService;
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.grace = Duration.ofHours(graceHours);
+        this.shardsPerRun = Math.max(1, shardsPerRun);
+        this.deletedProductRetention = Duration.ofDays(retentionDays);
+    }
+
+    /**
+     * 주기적으로 저장소 일부를 순회하며 미참조 파일 삭제
+     */
+    @Scheduled(fixedDelayString = "${storage.gc.interval-ms:60000}",
+            initialDelayString = "${storage.gc.initial-delay-ms:300000}")
+    public void collectIncrementally() {
+        if (!enabled || !running.tryLock()) {
+            return;
+        }
+
+        try {
+            Instant now = Instant.now();
+
+            // 순회 한 바퀴마다 (또는 오래된 경우) 참조 목록 다시 로드
+            if (cursor == 0 || references == null || referencesLoadedAt.isBefore(now.minus(grace.dividedBy(2)))) {
+                references = loadReferences();
+                referencesLoadedAt = now;
+            }
+
+            Instant cutoff = now.minus(grace);
+            int deleted = 0;
+
+            for (int i = 0; i < shardsPerRun; i++) {
+                deleted += (cursor == LEGACY_POSITION)
+                        ? sweepLegacy(cutoff)
+                        : sweepShard(String.format("%02x", cursor), cutoff);
+
+                cursor = (cursor + 1) % (SHARD_COUNT + 1);
+                if (cursor == 0) {
+                    log.info("🧹 저장소 GC 한 바퀴 완료");
+                    break;
+                }
+            }
+
+            if (deleted > 0) {
+                log.info("🧹 저장소 GC - 미참조 파일 {}개 삭제 (다음 위치: {})", deleted, cursor);
+            }
+
+        } catch (Exception e) {
+            log.error("❌ 저장소 GC 실패: {}", e.getMessage());
+        } finally {
+            running.unlock();
+        }
+    }
+
+    /**
+     * 참조 중인 파일 목록 로드
+     */
+    private ReferencedFiles loadReferences() {
+        LocalDateTime deletedAfter = LocalDateTime.now().minus(deletedProductRetention);
+
+        List<String> mainImages = productRepository.findReferencedMainImages(deletedAfter);
+        List<String> productImages = productImageRepository.findReferencedImageUrls(deletedAfter);
+        List<String> profileImages = userRepository.findUploadedProfileImages();
+
+        ReferencedFiles loaded = ReferencedFiles.of(
+                Stream.of(mainImages, productImages, profileImages)
+                        .flatMap(List::stream)
+                        .map(fileService::extractFileName),
+                fileService);
+
+        log.info("🧹 저장소 GC 참조 목록 로드 - 해시 {}개 / 기존 파일 {}개",
+                loaded.hashCount(), loaded.legacyCount());
+        return loaded;
+    }
+
+    /**
+     * 해시 디렉토리 하나 (예: "9f" → 9f/00 ~ 9f/ff) 정리
+     */
+    private int sweepShard(String shard, Instant cutoff) throws IOException {
+        Path dir = fileService.getRootPath().resolve(shard);
+        if (!Files.isDirectory(dir)) {
+            return 0;
+        }
+
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(dir, 2)) {
+            for (Path path : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String name = path.getFileName().toString();
+
+                if (name.startsWith(VARIANT_TEMP_PREFIX)) {
+                    deleted += deleteStaleTemp(path, cutoff);
+                } else if (fileService.isContentAddressed(name) && !references.contains(name)
+                        && fileService.deleteIfStale(name, cutoff)) {
+                    deleted++;      // 원본이면 축소본도 함께 삭제됨
+                }
+            }
+        } catch (UncheckedIOException e) {
+            // 순회 중 다른 스레드가 디렉토리를 지운 경우 → 다음 바퀴에서 다시 확인
+            log.warn("⚠️ 저장소 GC 순회 중단: {} - {}", shard, e.getMessage());
+        }
+        return deleted;
+    }
+
+    /**
+     * 기존 UUID 파일(루트 평면 디렉토리)과 중단된 업로드 임시 파일 정리
+     */
+    private int sweepLegacy(Instant cutoff) throws IOException {
+        Path root = fileService.getRootPath();
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path path : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String name = path.getFileName().toString();
+                if (!references.contains(name) && fileService.deleteIfStale(name, cutoff)) {
+                    deleted++;
+                }
+            }
+        }
+
+        Path temp = fileService.getTempPath();
+        if (Files.isDirectory(temp)) {
+            try (Stream<Path> files = Files.list(temp)) {
+                for (Path path : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    deleted += deleteStaleTemp(path, cutoff);
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private int deleteStaleTemp(Path path, Instant cutoff) {
+        try {
+            if (Files.getLastModifiedTime(path).toInstant().isBefore(cutoff) && Files.deleteIfExists(path)) {
+                return 1;
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ 임시 파일 삭제 실패: {}", path.getFileName());
+        }
+        return 0;
+    }
+
+    /**
+     * 참조 중인 파일명 집합 (메모리 절약형)
+     * - 내용 기반 파일: 해시 앞 16자리(64비트)를 정렬된 배열에 보관, 원본과 축소본이 같은 키를 공유
+     * - 기존 UUID 파일: 파일명 그대로 (축소본 이름도 함께)
+     */
+    private static final class ReferencedFiles {
+
+        private final long[] hashPrefixes;
+        private final Set<String> legacyNames;
+
+        private ReferencedFiles(long[] hashPrefixes, Set<String> legacyNames) {
+            this.hashPrefixes = hashPrefixes;
+            this.legacyNames = legacyNames;
+        }
+
+        static ReferencedFiles of(Stream<String> fileNames, FileService fileService) {
+            LongStream.Builder hashes = LongStream.builder();
+            Set<String> legacy = new HashSet<>();
+
+            fileNames.forEach(name -> {
+                if (fileService.isContentAddressed(name)) {
+                    hashes.add(prefixOf(name));
+                } else {
+                    legacy.add(name);
+                    for (ImageVariant variant : ImageVariant.values()) {
+                        legacy.add(variant.nameFor(name));
+                    }
+                }
+            });
+
+            return new ReferencedFiles(hashes.build().sorted().distinct().toArray(), legacy);
+        }
+
+        boolean contains(String fileName) {
+            return legacyNames.contains(fileName)
+                    || (fileName.length() >= 16 && isHex(fileName)
+                    && Arrays.binarySearch(hashPrefixes, prefixOf(fileName)) >= 0);
+        }
+
+        int hashCount() {
+            return hashPrefixes.length;
+        }
+
+        int legacyCount() {
+            return legacyNames.size();
+        }
+
+        private static long prefixOf(String fileName) {
+            return Long.parseUnsignedLong(fileName.substring(0, 16), 16);
+        }
+
+        private static boolean isHex(String fileName) {
+            for (int i = 0; i < 16; i++) {
+                if (Character.digit(fileName.charAt(i), 16) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.UploadResultDto;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUpload;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.UploadContext;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 여러 이미지 스트리밍 업로드 서비스
+ *
+ * 기존 /upload-multiple 은 컨테이너가 모든 파트를 임시 파일로 받아둔 뒤에야 처리를 시작하지만,
+ * 여기서는 multipart 본문을 직접 읽으면서 파트가 도착하는 대로 저장소에 씀
+ *
+ * 처리 흐름:
+ * 1. 요청 스레드: 파트를 순서대로 읽어 임시 파일로 저장 (매직 바이트 검증 + 해시 계산을 동시에)
+ * 2. 가상 스레드: 저장소 확정(중복 확인, 참조 카운트) + 축소본 작업 등록을 파트별로 병렬 처리
+ *    → 요청 스레드는 곧바로 다음 파트를 읽음
+ * 3. 모든 파트가 끝나면 파일별 결과(성공/실패 사유)를 순서대로 반환
+ *
+ * spring.servlet.multipart.resolve-lazily=true 여야 요청 본문이 미리 소비되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingUploadService {
+
+    // 한 번에 올릴 수 있는 최대 파일 수
+    public static final int MAX_FILES = 10;
+
+    // 요청 전체 최대 크기 (spring.servlet.multipart.max-request-size 와 동일)
+    private static final long MAX_REQUEST_SIZE = 50L * 1024 * 1024;
+
+    private final FileService fileService;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * multipart 요청 본문을 스트리밍으로 처리
+     * @param request multipart/form-data 요청 (아직 파싱되지 않은 상태)
+     * @return 파일별 결과 (요청 순서대로)
+     */
+    public List<UploadResultDto> upload(HttpServletRequest request) {
+        long start = System.currentTimeMillis();
+
+        FileUpload upload = new FileUpload();
+        upload.setSizeMax(MAX_REQUEST_SIZE);
+
+        List<Future<UploadResultDto>> futures = new ArrayList<>();
+
+        // try-with-resources 종료 시 모든 가상 스레드 작업이 끝날 때까지 대기
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            int index = 0;
+
+            try {
+                FileItemIterator items = upload.getItemIterator(new ServletUploadContext(request));
+
+                while (items.hasNext()) {
+                    FileItemStream item = items.next();
+                    if (item.isFormField()) {
+                        continue;   // 일반 폼 필드는 무시 (다음 파트로 넘어가면 자동으로 건너뜀)
+                    }
+
+                    int fileIndex = index++;
+                    String originalName = item.getName();
+
+                    if (fileIndex >= MAX_FILES) {
+                        futures.add(CompletableFuture.completedFuture(UploadResultDto.fail(
+                                fileIndex, originalName, "최대 " + MAX_FILES + "개의 이미지만 업로드 가능합니다.")));
+                        continue;
+                    }
+
+                    // 파트 본문을 바로 임시 파일로 (도착하는 대로 디스크에 기록)
+                    FileService.PendingFile pending;
+                    try (InputStream in = item.openStream()) {
+                        pending = fileService.writeTemp(in);
+                    } catch (IllegalArgumentException e) {
+                        futures.add(CompletableFuture.completedFuture(
+                                UploadResultDto.fail(fileIndex, originalName, e.getMessage())));
+                        continue;
+                    }
+
+                    // 확정 작업은 가상 스레드로 넘기고 다음 파트를 계속 읽음
+                    futures.add(workers.submit(() -> finish(fileIndex, originalName, pending)));
+                }
+
+            } catch (FileUploadException | IOException e) {
+                // 크기 초과 / 연결 끊김 등: 이미 받은 파일 결과는 그대로 돌려줌
+                log.warn("⚠️ 스트리밍 업로드 중단: {}", e.getMessage());
+                futures.add(CompletableFuture.completedFuture(
+                        UploadResultDto.fail(index, null, "업로드가 중단되었습니다: " + e.getMessage())));
+            }
+        }
+
+        List<UploadResultDto> results = new ArrayList<>();
+        for (Future<UploadResultDto> future : futures) {
+            results.add(resultOf(future));
+        }
+        results.sort(Comparator.comparingInt(UploadResultDto::getIndex));
+
+        log.info("✅ 스트리밍 업로드 완료 - {}개 중 {}개 성공 ({}ms)",
+                results.size(),
+                results.stream().filter(UploadResultDto::isSuccess).count(),
+                System.currentTimeMillis() - start);
+
+        return results;
+    }
+
+    /**
+     * 파일 하나 확정 (가상 스레드)
+     */
+    private UploadResultDto finish(int index, String originalName, FileService.PendingFile pending) {
+        try {
+            String fileName = fileService.commit(pending);
+            imageVariantService.generateAsync(fileName);
+            return UploadResultDto.success(index, originalName, fileName, fileService.toUrl(fileName), pending.size());
+
+        } catch (Exception e) {
+            fileService.discard(pending);
+            log.error("❌ 파일 확정 실패: {} - {}", originalName, e.getMessage());
+            return UploadResultDto.fail(index, originalName, "파일 저장 중 오류가 발생했습니다.");
+        }
+    }
+
+    private UploadResultDto resultOf(Future<UploadResultDto> future) {
+        try {
+            return future.get();    // executor가 이미 닫혔으므로 대기 없음
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("업로드 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * commons-fileupload가 jakarta 서블릿 요청을 읽을 수 있도록 연결
+     * (ServletFileUpload는 javax 서블릿 전용이라 사용할 수 없음)
+     */
+    private record ServletUploadContext(HttpServletRequest request) implements UploadContext {
+
+        @Override
+        public String getCharacterEncoding() {
+            return request.getCharacterEncoding();
+        }
+
+        @Override
+        public String getContentType() {
+            return request.getContentType();
+        }
+
+        @Override
+        @Deprecated
+        public int getContentLength() {
+            return request.getContentLength();
+        }
+
+        @Override
+        public long contentLength() {
+            return request.getContentLengthLong();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return request.getInputStream();
+        }
+    }
+}
@@ -1,20 +1,30 @@
 package com.project.gugumarket.service;
 
+import com.project.gugumarket.PaymentStatus;
 import com.project.gugumarket.ProductStatus;
 import com.project.gugumarket.TransactionStatus;
+import com.project.gugumarket.dto.CursorPageDto;
 import com.project.gugumarket.dto.PurchaseDto;
+import com.project.gugumarket.dto.TransactionSummaryDto;
 import com.project.gugumarket.entity.Product;
 import com.project.gugumarket.entity.Transaction;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.MypageChangedEvent;
+import com.project.gugumarket.event.ProductLiveEvent;
+import com.project.gugumarket.event.TransactionCompletedEvent;
 import com.project.gugumarket.repository.ProductRepository;
 import com.project.gugumarket.repository.TransactionRepository;
 import com.project.gugumarket.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 
 @Service
@@ -22,10 +32,13 @@ import java.util.List;
 @Slf4j  // 🔥 로깅 추가
 public class TransactionService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;  // 🔥 알림 서비스 추가
+    private final ApplicationEventPublisher eventPublisher;  // 거래 완료 이벤트 (회원 등급)
 
     /**
      * 거래 생성 - 통합 버전 (모든 결제 수단)
@@ -33,18 +46,15 @@ public class TransactionService {
      */
     @Transactional
     public Transaction createTransaction(User buyer, PurchaseDto dto) {
-        // 상품 조회
+        // 1. 판매중 → 예약중 원자적 변경 (동시 구매 시 한 명만 성공)
+        int reserved = productRepository.reserveIfOnSale(dto.getProductId(), buyer.getUserId());
+
+        // 상품 조회 (예약 후 조회하므로 최신 상태)
         Product product = productRepository.findById(dto.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
-        // 이미 판매된 상품인지 확인
-        if (product.getStatus() == ProductStatus.SOLD_OUT) {
-            throw new IllegalArgumentException("이미 판매완료된 상품입니다");
-        }
-
-        // 자기 자신의 상품인지 확인
-        if (product.getSeller().getUserId().equals(buyer.getUserId())) {
-            throw new IllegalStateException("자신의 상품은 구매할 수 없습니다.");
+        if (reserved == 0) {
+            throw reservationFailure(product, buyer);
         }
 
         // 결제 수단 결정 (기본값: 무통장 입금)
@@ -64,10 +74,9 @@ public class TransactionService {
                 .transactionDate(LocalDateTime.now())
                 .build();
 
-        product.updateStatus(ProductStatus.RESERVED);
-        productRepository.save(product);
-
         Transaction saved = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(MypageChangedEvent.of(buyer.getUserId(), product.getSeller().getUserId()));
+        eventPublisher.publishEvent(ProductLiveEvent.statusChanged(product.getProductId(), ProductStatus.RESERVED));
 
         try {
             notificationService.createPurchaseNotification(saved);
@@ -83,6 +92,29 @@ public class TransactionService {
         return saved;
     }
 
+    /**
+     * 예약 실패 사유 판단 (조건부 UPDATE가 0건일 때)
+     */
+    private RuntimeException reservationFailure(Product product, User buyer) {
+        // 자기 자신의 상품인지 확인
+        if (product.getSeller().getUserId().equals(buyer.getUserId())) {
+            return new IllegalStateException("자신의 상품은 구매할 수 없습니다.");
+        }
+        // 이미 판매된 상품인지 확인
+        if (product.getStatus() == ProductStatus.SOLD_OUT) {
+            return new IllegalArgumentException("이미 판매완료된 상품입니다");
+        }
+        if (Boolean.TRUE.equals(product.getIsDeleted())) {
+            return new IllegalArgumentException("삭제된 상품입니다.");
+        }
+        if (product.getQuarantinedAt() != null) {
+            return new IllegalArgumentException("신고 누적으로 판매가 중지된 상품입니다.");
+        }
+
+        log.info("구매 예약 경합 패배 - 상품 ID: {}, 구매자: {}", product.getProductId(), buyer.getNickname());
+        return new IllegalStateException("이미 다른 구매자와 거래 중인 상품입니다.");
+    }
+
     /**
      * 거래 조회 (단일)
      */
@@ -121,13 +153,18 @@ public class TransactionService {
 
     /**
      * 카카오페이 TID 저장 (결제 준비 후)
+     * 결제 상태를 READY로 초기화하고 승인 멱등 키를 기록
      */
     @Transactional
-    public void updateKakaoPayTid(Long transactionId, String tid) {
+    public void updateKakaoPayTid(Long transactionId, String tid, String paymentKey) {
         Transaction transaction = getTransaction(transactionId);
 
         transaction.setTid(tid);
         transaction.setStatus(TransactionStatus.PENDING);
+        transaction.setPaymentStatus(PaymentStatus.READY);
+        transaction.setPaymentKey(paymentKey);
+        transaction.setPgToken(null);
+        transaction.setPaymentUpdatedAt(LocalDateTime.now());
         transactionRepository.save(transaction);
 
         log.info("카카오페이 TID 저장 완료 - transactionId: {}, tid: {}", transactionId, tid);
@@ -167,16 +204,30 @@ public class TransactionService {
             throw new IllegalArgumentException("이미 취소된 거래입니다.");
         }
 
-        // 5. 거래 취소
+        // 5. 카카오페이 결제가 준비 상태면 결제도 실패 처리 (이후 승인 콜백 / 대사 작업이 완료 처리하지 않도록)
+        if (transaction.getPaymentStatus() != null && transaction.getPaymentStatus().isInProgress()) {
+            int failed = transactionRepository.transitionPayment(transactionId,
+                    EnumSet.of(PaymentStatus.READY), PaymentStatus.FAILED, LocalDateTime.now());
+            if (failed == 0) {
+                throw new IllegalStateException("결제 승인이 진행 중인 거래는 취소할 수 없습니다.");
+            }
+            transaction.setPaymentStatus(PaymentStatus.FAILED);
+            transaction.setPaymentUpdatedAt(LocalDateTime.now());
+        }
+
+        // 6. 거래 취소
         transaction.setStatus(TransactionStatus.CANCELLED);
         transaction.setCancelledAt(LocalDateTime.now());
         transactionRepository.save(transaction);
 
-        // 6. 상품 상태를 다시 판매중으로 변경
+        // 7. 상품 상태를 다시 판매중으로 변경
         Product product = transaction.getProduct();
         product.setStatus(ProductStatus.SALE);
         productRepository.save(product);
 
+        eventPublisher.publishEvent(MypageChangedEvent.of(buyerId, sellerId));
+        eventPublisher.publishEvent(ProductLiveEvent.statusChanged(product.getProductId(), ProductStatus.SALE));
+
         log.info("거래 취소 완료 - ID: {}, 취소자: {} ({})",
                 transactionId,
                 user.getNickname(),
@@ -185,39 +236,86 @@ public class TransactionService {
     }
 
     /**
-     * 카카오페이 결제 승인 + 가짜 정산 처리
+     * 카카오페이 결제 승인 처리
+     * 정산은 여기서 하지 않고 SettlementService 배치가 모아서 처리
+     * 승인 콜백 처리와 대사 작업이 동시에 호출해도 결제 상태 전환에 성공한 한 번만 반영
+     *
+     * @return 이번 호출로 완료 처리했으면 true, 이미 처리된 결제면 false
      */
     @Transactional
-    public void completeKakaoPayment(Long transactionId, String aid, String paymentMethodType) {
+    public boolean completeKakaoPayment(Long transactionId, String aid, String paymentMethodType) {
+        int changed = transactionRepository.transitionPayment(transactionId,
+                EnumSet.of(PaymentStatus.READY, PaymentStatus.APPROVING), PaymentStatus.APPROVED, LocalDateTime.now());
+        if (changed == 0) {
+            log.info("이미 처리된 카카오페이 결제 - transactionId: {}", transactionId);
+            return false;
+        }
+
+        // 1. 거래 상태 업데이트 (PENDING이고 상품이 아직 예약중일 때만)
+        int completed = transactionRepository.completeIfPending(transactionId, aid, paymentMethodType, LocalDateTime.now());
+        if (completed == 0) {
+            // 승인 전에 거래가 취소/만료됨 → 결제는 승인됐으므로 환불 확인 필요
+            log.warn("⚠️ 취소/만료된 거래의 카카오페이 승인 - transactionId: {}, aid: {} (환불 확인 필요)",
+                    transactionId, aid);
+            return false;
+        }
+
         Transaction transaction = getTransaction(transactionId);
         Product product = transaction.getProduct();
 
-        // 1. 거래 상태 업데이트
-        transaction.setStatus(TransactionStatus.COMPLETED);
-        transaction.setKakaoPayAid(aid);
-        transaction.setPaymentMethodType(paymentMethodType);
-        transaction.setApprovedAt(LocalDateTime.now());
-        transaction.setCompletedAt(LocalDateTime.now());
+        // 2. 상품 상태 업데이트
+        productRepository.markSoldIfReserved(product.getProductId());
+        eventPublisher.publishEvent(ProductLiveEvent.statusChanged(product.getProductId(), ProductStatus.SOLD_OUT));
 
-        // 2. 🎬 가짜 정산 처리
-        transaction.setSettled(true);
-        transaction.setSettledAt(LocalDateTime.now());
-        transaction.setSettlementAmount(product.getPrice());
+        // 회원 등급 반영 (거래 횟수 +1) / 관리자 거래 지표
+        Integer amount = transaction.getPaidAmount() != null ? transaction.getPaidAmount() : product.getPrice();
+        eventPublisher.publishEvent(new TransactionCompletedEvent(transactionId,
+                transaction.getSeller().getUserId(), transaction.getBuyer().getUserId(),
+                amount == null ? null : amount.longValue()));
 
-        // 3. 상품 상태 업데이트
-        product.setStatus(ProductStatus.SOLD_OUT);
+        log.info("카카오페이 결제 완료 - transactionId: {}, 금액: {}원",
+                transactionId, transaction.getPaidAmount());
 
-        transactionRepository.save(transaction);
-        productRepository.save(product);
+        // 3. 거래 완료 알림
+        notificationService.createTransactionCompleteNotification(transaction);
+        return true;
+    }
 
-        log.info("카카오페이 결제 및 정산 완료 (시뮬레이션) - transactionId: {}, 정산금액: {}원",
-                transactionId, product.getPrice());
+    /**
+     * 카카오페이 결제 실패 처리 (사용자 취소 / 결제 실패 / 만료)
+     * 거래를 취소하고 예약된 상품을 다시 판매중으로 돌림
+     *
+     * @return 이번 호출로 실패 처리했으면 true, 이미 결과가 정해진 결제면 false
+     */
+    @Transactional
+    public boolean failKakaoPayment(Long transactionId, String reason) {
+        int changed = transactionRepository.transitionPayment(transactionId,
+                EnumSet.of(PaymentStatus.READY, PaymentStatus.APPROVING), PaymentStatus.FAILED, LocalDateTime.now());
+        if (changed == 0) {
+            return false;
+        }
 
-        // 4. 거래 완료 알림
-        notificationService.createTransactionCompleteNotification(transaction);
+        Transaction transaction = getTransaction(transactionId);
+        if (transaction.getStatus() == TransactionStatus.PENDING) {
+            transaction.setStatus(TransactionStatus.CANCELLED);
+            transaction.setCancelledAt(LocalDateTime.now());
+            transaction.setCancelReason(reason);
+
+            Product product = transaction.getProduct();
+            if (product.getStatus() == ProductStatus.RESERVED) {
+                product.setStatus(ProductStatus.SALE);
+                eventPublisher.publishEvent(ProductLiveEvent.statusChanged(product.getProductId(), ProductStatus.SALE));
+            }
+
+            eventPublisher.publishEvent(MypageChangedEvent.of(
+                    transaction.getBuyer().getUserId(), transaction.getSeller().getUserId()));
+        }
+
+        log.info("카카오페이 결제 실패 처리 - transactionId: {}, 사유: {}", transactionId, reason);
+        return true;
     }
 
-    // 🆕🆕🆕 회원 등급 업데이트 로직 추가 🆕🆕🆕
+    // 🆕🆕🆕 회원 등급 업데이트 로직 추가 (거래 완료 이벤트) 🆕🆕🆕
     @Transactional
     public void completeTransaction(Long transactionId, User seller) {
         Transaction transaction = getTransaction(transactionId);
@@ -246,24 +344,17 @@ public class TransactionService {
         Product product = transaction.getProduct();
         product.updateStatus(ProductStatus.SOLD_OUT);
         productRepository.save(product);
+        eventPublisher.publishEvent(ProductLiveEvent.statusChanged(product.getProductId(), ProductStatus.SOLD_OUT));
 
-        // 🔥🔥🔥 회원 등급 업데이트 (판매자 & 구매자) 🔥🔥🔥
-        User sellerUser = transaction.getSeller();
-        User buyerUser = transaction.getBuyer();
-
-        sellerUser.completeTransaction();  // 거래 횟수 +1, 등급 자동 업데이트
-        buyerUser.completeTransaction();   // 거래 횟수 +1, 등급 자동 업데이트
+        // 🔥🔥🔥 회원 등급 업데이트 (판매자 & 구매자) → UserLevelService가 커밋 직전 원자적으로 +1 🔥🔥🔥
+        eventPublisher.publishEvent(new TransactionCompletedEvent(transactionId,
+                transaction.getSeller().getUserId(), transaction.getBuyer().getUserId(),
+                product.getPrice() == null ? null : product.getPrice().longValue()));
 
-        userRepository.save(sellerUser);
-        userRepository.save(buyerUser);
-
-        log.info("✅ 거래 완료 + 등급 업데이트 - 거래 ID: {}, 판매자: {} ({}), 구매자: {} ({})",
+        log.info("✅ 거래 완료 - 거래 ID: {}, 판매자: {}, 구매자: {}",
                 transactionId,
-                sellerUser.getNickname(),
-                sellerUser.getLevelDisplayName(),
-                buyerUser.getNickname(),
-                buyerUser.getLevelDisplayName());
-        // 🔥🔥🔥 등급 업데이트 끝 🔥🔥🔥
+                transaction.getSeller().getNickname(),
+                transaction.getBuyer().getNickname());
 
         try {
             notificationService.createTransactionCompleteNotification(updatedTransaction);
@@ -273,49 +364,41 @@ public class TransactionService {
         }
     }
 
-    // 🔥 구매 내역 조회 (기존 메서드 추가)
-    public List<Transaction> getBuyerTransactions(User buyer) {
-        return transactionRepository.findByBuyerOrderByTransactionDateDesc(buyer);
-    }
-
-    // 🔥 판매 내역 조회 (기존 메서드 추가)
-    public List<Transaction> getSellerTransactions(User seller) {
-        return transactionRepository.findBySellerOrderByTransactionDateDesc(seller);
-    }
-
     // 🔥 상품별 거래 내역 조회 (기존 메서드 추가)
     public List<Transaction> getProductTransactions(Long productId) {
         return transactionRepository.findByProduct_ProductId(productId);
     }
-    // ✅ 특정 사용자의 구매 내역 조회
-    public List<Transaction> getPurchasesByBuyer(User buyer) {
-        return transactionRepository.findByBuyerOrderByTransactionDateDesc(buyer);
-    }
-    // ✅ 판매자 기준 거래내역 조회
-    public List<Transaction> getSalesBySeller(User seller) {
-        return transactionRepository.findBySellerOrderByTransactionDateDesc(seller);
-    }
-    // ✅ 구매자 기준 거래 내역 조회
-    public List<Transaction> findByBuyer(User buyer) {
-        return transactionRepository.findByBuyer(buyer);
-    }
-
-    // ✅ 판매자 기준 거래 내역 조회
-    public List<Transaction> findBySeller(User seller) {
-        return transactionRepository.findBySeller(seller);
-    }
 
     /**
-     * 사용자의 거래 목록 조회 (카카오페이용 - userId로 조회)
+     * 거래 내역 커서 페이지 조회 (표시 컬럼만 프로젝션으로 조회)
+     *
+     * @param userId 사용자 ID
+     * @param role BUYER(구매 내역) / SELLER(판매 내역)
+     * @param status 거래 상태 필터 (null이면 전체)
+     * @param cursor 이전 페이지의 nextCursor (null이면 처음부터)
+     * @param size 페이지 크기 (1 ~ 100)
      */
     @Transactional(readOnly = true)
-    public List<Transaction> getUserTransactions(Long userId, String role) {
+    public CursorPageDto<TransactionSummaryDto> getTransactionHistory(Long userId, String role,
+                                                                     TransactionStatus status,
+                                                                     Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        long from = cursor != null ? cursor : Long.MAX_VALUE;
+        Pageable limit = PageRequest.of(0, pageSize + 1);     // 1건 더 읽어서 다음 페이지 여부 판단
+
+        List<TransactionSummaryDto> fetched;
         if ("BUYER".equals(role)) {
-            return transactionRepository.findByBuyer_UserIdOrderByCreatedDateDesc(userId);
+            fetched = status == null
+                    ? transactionRepository.findPurchasesPage(userId, from, limit)
+                    : transactionRepository.findPurchasesPageByStatus(userId, status, from, limit);
         } else if ("SELLER".equals(role)) {
-            return transactionRepository.findBySeller_UserIdOrderByCreatedDateDesc(userId);
+            fetched = status == null
+                    ? transactionRepository.findSalesPage(userId, from, limit)
+                    : transactionRepository.findSalesPageByStatus(userId, status, from, limit);
         } else {
             throw new IllegalArgumentException("잘못된 역할입니다. BUYER 또는 SELLER만 가능합니다.");
         }
+
+        return CursorPageDto.of(fetched, pageSize, TransactionSummaryDto::transactionId);
     }
 }
@@ -0,0 +1,181 @@
+package com.project.gugumarket.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 서버 메모리 TTL 캐시 (ConcurrentHashMap + 항목별 만료 시각)
+ *
+ * - 만료된 항목은 조회 시 없는 것으로 취급, 크기가 CLEANUP_THRESHOLD를 넘으면 쓸 때 만료 항목을 한 번에 정리
+ * - 무효화(invalidate / clear)할 때마다 버전 증가
+ *   → 무효화 전에 읽기 시작한 값은 putIfVersion / getOrLoad에서 넣지 않음
+ *     (DB에서 읽는 사이 커밋된 변경이 TTL 동안 가려지지 않도록)
+ *
+ * @param <K> 키
+ * @param <V> 값 (null은 넣지 않음)
+ */
+public final class TtlCache<K, V> {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;   // 이 크기를 넘으면 만료 항목 정리
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final ToLongFunction<? super V> ttlMillisOf;
+
+    private record Entry<V>(V value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    /**
+     * @param ttlMillis 모든 항목에 같은 TTL
+     */
+    public TtlCache(long ttlMillis) {
+        this(value -> ttlMillis);
+    }
+
+    /**
+     * @param ttlMillisOf 값마다 TTL (넣는 시점 기준)
+     */
+    public TtlCache(ToLongFunction<? super V> ttlMillisOf) {
+        this.ttlMillisOf = ttlMillisOf;
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * @return 만료 전 값 (없거나 만료됐으면 null)
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry == null || entry.isExpired(System.currentTimeMillis()) ? null : entry.value();
+    }
+
+    /**
+     * 만료됐어도 아직 정리되지 않은 값 (새 값을 만들지 못했을 때 대신 응답용)
+     */
+    public V getStale(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * 캐시에 없으면 loader로 읽어서 넣음 (읽는 도중 무효화가 있었으면 넣지 않고 반환만)
+     * loader는 잠금 밖에서 실행되므로 같은 키를 동시에 여러 번 읽을 수 있음
+     */
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long versionAtStart = version.get();
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            putIfVersion(key, loaded, versionAtStart);
+        }
+        return loaded;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // ===== 쓰기 =====
+
+    /**
+     * 현재 버전 (putIfVersion에 넘길 값, 읽기 시작 전에 가져옴)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public void put(K key, V value) {
+        long now = System.currentTimeMillis();
+        cleanUp(now);
+        entries.put(key, entryOf(value, now));
+    }
+
+    /**
+     * versionAtStart 이후 무효화가 없었을 때만 넣기
+     *
+     * @return 넣었으면 true
+     */
+    public boolean putIfVersion(K key, V value, long versionAtStart) {
+        if (version.get() != versionAtStart) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        cleanUp(now);
+        Entry<V> entry = entryOf(value, now);
+        entries.put(key, entry);
+
+        // 확인 → 넣기 사이에 무효화가 끼어들었으면 방금 넣은 값을 되돌림
+        if (version.get() != versionAtStart) {
+            entries.remove(key, entry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 키 단위 원자적 갱신 (만료된 값은 null로 전달, null을 반환하면 제거)
+     * 갱신된 값은 TTL을 새로 시작
+     *
+     * @return 갱신된 값
+     */
+    public V compute(K key, UnaryOperator<V> remapping) {
+        long now = System.currentTimeMillis();
+        cleanUp(now);
+        Entry<V> updated = entries.compute(key, (k, previous) -> {
+            V value = remapping.apply(previous == null || previous.isExpired(now) ? null : previous.value());
+            return value == null ? null : entryOf(value, now);
+        });
+        return updated == null ? null : updated.value();
+    }
+
+    /**
+     * 이미 있는 값만 갱신 (만료 시각은 그대로)
+     */
+    public void computeIfPresent(K key, UnaryOperator<V> remapping) {
+        entries.computeIfPresent(key, (k, previous) -> {
+            V value = remapping.apply(previous.value());
+            return value == null ? null : new Entry<>(value, previous.expiresAt());
+        });
+    }
+
+    // ===== 무효화 =====
+
+    public void invalidate(K key) {
+        version.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public void invalidateAll(Collection<? extends K> keys) {
+        version.incrementAndGet();
+        keys.forEach(entries::remove);
+    }
+
+    public void clear() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    private Entry<V> entryOf(V value, long now) {
+        return new Entry<>(value, now + ttlMillisOf.applyAsLong(value));
+    }
+
+    private void cleanUp(long now) {
+        if (entries.size() > CLEANUP_THRESHOLD) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.dto.UserLevelDto;
+import com.project.gugumarket.entity.UserLevel;
+import com.project.gugumarket.event.TransactionCompletedEvent;
+import com.project.gugumarket.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원 등급 관리
+ *
+ * - 거래 완료 이벤트를 받아 판매자/구매자 거래 횟수를 원자적 UPDATE로 +1 하고 등급 갱신
+ *   (거래 완료와 같은 트랜잭션에서 커밋 직전에 실행 → 거래가 롤백되면 횟수도 롤백)
+ * - 공개 등급 조회(/api/users/{id}/level)는 메모리 캐시에서 응답 (변경 시 즉시 제거, TTL로 서버 간 차이 보정)
+ * - 전체 재계산: 완료 거래 기준으로 회원 ID 구간별로 횟수/등급을 다시 계산 (누락/중복 보정)
+ */
+@Slf4j
+@Service
+public class UserLevelService {
+
+    static final String JOB_NAME = "user-level-recalculation";
+
+    private final UserRepository userRepository;
+    private final JobLeaseService jobLeaseService;
+    private final int chunkSize;
+    private final Duration leaseTime;
+
+    private final TtlCache<Long, UserLevelDto> cache;
+
+    public UserLevelService(UserRepository userRepository,
+                            JobLeaseService jobLeaseService,
+                            @Value("${user.level.cache-ttl-ms:60000}") long cacheTtlMillis,
+                            @Value("${user.level.recalculation-chunk-size:1000}") int chunkSize,
+                            @Value("${user.level.recalculation-lease-seconds:1800}") long leaseSeconds) {
+        this.userRepository = userRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.cache = new TtlCache<>(cacheTtlMillis);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 거래 완료 → 판매자/구매자 거래 횟수 +1 (커밋 직전, 같은 트랜잭션)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        int updated = userRepository.incrementTransactionCount(
+                List.of(event.sellerId(), event.buyerId()),
+                UserLevel.ADULT_BIRD.getMinTransactions(),
+                UserLevel.TEEN_BIRD.getMinTransactions(),
+                UserLevel.BABY_BIRD.getMinTransactions());
+
+        log.info("🐣 거래 횟수 증가 - 거래 ID: {}, 회원 {}명", event.transactionId(), updated);
+    }
+
+    /**
+     * 커밋 후 캐시 제거 (다음 조회 때 새 등급으로 다시 로딩)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictAfterCompleted(TransactionCompletedEvent event) {
+        cache.invalidateAll(List.of(event.sellerId(), event.buyerId()));
+    }
+
+    /**
+     * 회원 등급 조회 (캐시)
+     * @throws IllegalArgumentException 사용자가 없는 경우
+     */
+    public UserLevelDto getLevel(Long userId) {
+        return cache.getOrLoad(userId, id -> UserLevelDto.from(userRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."))));
+    }
+
+    @Scheduled(cron = "${user.level.recalculation-cron:0 30 4 * * *}")
+    public void recalculateScheduled() {
+        try {
+            recalculateAll();
+        } catch (IllegalStateException e) {
+            log.info("🐣 등급 재계산 건너뜀: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("❌ 등급 재계산 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 회원 거래 횟수/등급 재계산 (회원 ID 구간별로 커밋)
+     * @return 갱신된 회원 수
+     * @throws IllegalStateException 다른 서버에서 재계산 중인 경우
+     */
+    public int recalculateAll() {
+        if (!jobLeaseService.tryAcquire(JOB_NAME, leaseTime)) {
+            throw new IllegalStateException("다른 곳에서 등급 재계산이 진행 중입니다.");
+        }
+
+        try {
+            long maxUserId = userRepository.findMaxUserId();
+            int updated = 0;
+
+            for (long fromId = 1; fromId <= maxUserId; fromId += chunkSize) {
+                long toId = Math.min(maxUserId, fromId + chunkSize - 1);
+                updated += userRepository.recalculateLevels(fromId, toId,
+                        UserLevel.ADULT_BIRD.getMinTransactions(),
+                        UserLevel.TEEN_BIRD.getMinTransactions(),
+                        UserLevel.BABY_BIRD.getMinTransactions());
+            }
+
+            cache.clear();
+            log.info("✅ 등급 재계산 완료 - 회원 {}명 (최대 ID {})", updated, maxUserId);
+            return updated;
+
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+}
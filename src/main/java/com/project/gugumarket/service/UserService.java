@@ -1,5 +1,6 @@
 package com.project.gugumarket.service;
 
+import com.project.gugumarket.AdminMetricType;
 import com.project.gugumarket.DataNotFoundException;
 import com.project.gugumarket.dto.UserDto;
 import com.project.gugumarket.dto.FindUsernameRequest;
@@ -8,9 +9,12 @@ import com.project.gugumarket.dto.VerifyEmailRequest;
 import com.project.gugumarket.dto.VerifyEmailResponse;
 import com.project.gugumarket.dto.ResetPasswordRequest;
 import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.AdminMetricEvent;
+import com.project.gugumarket.event.UserChangedEvent;
 import com.project.gugumarket.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -38,6 +42,7 @@ public class UserService {
     @Autowired
     private final UserRepository userRepository;  // 사용자 데이터베이스 접근
     private final BCryptPasswordEncoder passwordEncoder;  // 비밀번호 암호화
+    private final ApplicationEventPublisher eventPublisher;  // 관리자 지표 (가입 수) / 회원 검색 인덱스
 
     /**
      * 비밀번호 재설정 토큰 저장소
@@ -137,6 +142,8 @@ public class UserService {
         // 5. 데이터베이스에 저장
         User savedUser=userRepository.save(user);
         System.out.println("DB 저장 완료 - userId: " + savedUser.getUserId());
+        eventPublisher.publishEvent(AdminMetricEvent.increment(AdminMetricType.TOTAL_USERS));
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser.getUserId()));
         return savedUser;
     }
 
@@ -208,6 +215,7 @@ public class UserService {
 
         // 저장 (JPA의 더티 체킹으로 자동 UPDATE 쿼리 실행)
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getUserId()));
     }
 
     /**
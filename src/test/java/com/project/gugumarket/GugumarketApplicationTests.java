@@ -1,9 +1,8 @@
 package com.project.gugumarket;
 
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@IntegrationTest
 class GugumarketApplicationTests {
 
     @Test
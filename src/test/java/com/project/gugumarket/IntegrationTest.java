@@ -0,0 +1,29 @@
+package com.project.gugumarket;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB를 쓰는 통합 테스트
+ * 전용 MySQL 컨테이너(TestcontainersConfiguration)와 테스트 데이터 도우미(TestFixtures)를 함께 등록
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest
+@Import({TestcontainersConfiguration.class, TestFixtures.class})
+public @interface IntegrationTest {
+
+    /**
+     * 테스트에서만 바꿀 설정 값 (예: "settlement.chunk-size=2")
+     */
+    @AliasFor(annotation = SpringBootTest.class, attribute = "properties")
+    String[] properties() default {};
+}
@@ -0,0 +1,139 @@
+package com.project.gugumarket;
+
+import com.project.gugumarket.entity.Product;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 통합 테스트 데이터 준비 / 정리
+ *
+ * - 회원 아이디에 테스트마다 다른 접미사(run)를 붙여 같은 DB에서 여러 번 실행해도 겹치지 않음
+ * - 이 클래스로 저장한 엔티티와 onCleanUp으로 등록한 삭제 작업은 cleanUp()에서 만든 역순으로 정리
+ *   (거래 → 상품 → 회원 순서처럼 참조하는 쪽이 먼저 지워짐)
+ *
+ * 사용하는 테스트는 @AfterEach에서 cleanUp()을 호출
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    public static final int PRICE = 10000;
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Deque<Runnable> cleanUps = new ArrayDeque<>();
+    private String run;
+
+    /**
+     * 이번 테스트의 고유 접미사 (cleanUp 후 새로 만듦)
+     */
+    public String run() {
+        if (run == null) {
+            run = UUID.randomUUID().toString().substring(0, 8);
+        }
+        return run;
+    }
+
+    // ===== 회원 =====
+
+    /**
+     * 회원 저장 (아이디: prefix_run)
+     */
+    public User user(String prefix) {
+        return save(userRepository, newUser(prefix + "_" + run()));
+    }
+
+    /**
+     * 회원 여러 명을 한 번에 저장 (아이디: prefix_run_0, prefix_run_1, ...)
+     */
+    public List<User> users(String prefix, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(newUser(prefix + "_" + run() + "_" + i));
+        }
+        List<User> saved = userRepository.saveAll(users);
+        List<Long> userIds = saved.stream().map(User::getUserId).toList();
+        onCleanUp(() -> userRepository.deleteAllById(userIds));
+        return saved;
+    }
+
+    private User newUser(String userName) {
+        return User.builder()
+                .userName(userName)
+                .password("test-password")
+                .email(userName + "@test.gugumarket")
+                .nickname(userName)
+                .address("서울특별시 강남구")
+                .addressDetail("테스트동 1호")
+                .postalCode("06000")
+                .build();
+    }
+
+    // ===== 상품 =====
+
+    /**
+     * 판매중 상품 저장 (가격 PRICE)
+     */
+    public Product product(User seller) {
+        return save(productRepository, productBuilder(seller).build());
+    }
+
+    /**
+     * 기본값을 채운 상품 빌더 (상태/삭제 여부 등을 바꿔서 save로 저장)
+     */
+    public Product.ProductBuilder productBuilder(User seller) {
+        return Product.builder()
+                .seller(seller)
+                .title("테스트 상품")
+                .content("테스트 상품 설명")
+                .price(PRICE)
+                .viewCount(0)
+                .isDeleted(false)
+                .status(ProductStatus.SALE);
+    }
+
+    // ===== 저장 / 정리 =====
+
+    /**
+     * 엔티티 저장 후 정리 대상으로 등록
+     * 정리할 때는 ID로 다시 읽어서 삭제 (테스트 중 바뀐 값을 분리된 엔티티로 덮어쓰지 않도록)
+     */
+    @SuppressWarnings("unchecked")
+    public <T, ID> T save(JpaRepository<T, ID> repository, T entity) {
+        T saved = repository.save(entity);
+        ID id = (ID) entityManagerFactory.getPersistenceUnitUtil().getIdentifier(saved);
+        onCleanUp(() -> repository.deleteById(id));
+        return saved;
+    }
+
+    /**
+     * 테스트가 직접 만든 데이터(서비스가 생성한 거래 등)의 삭제 작업 등록
+     * 먼저 저장한 엔티티보다 앞서 실행됨
+     */
+    public void onCleanUp(Runnable cleanUp) {
+        cleanUps.push(cleanUp);
+    }
+
+    /**
+     * 등록된 데이터를 만든 역순으로 삭제
+     */
+    public void cleanUp() {
+        while (!cleanUps.isEmpty()) {
+            cleanUps.pop().run();
+        }
+        run = null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.gugumarket;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 통합 테스트용 MySQL (Testcontainers)
+ *
+ * 개발용 로컬 DB(application.properties의 localhost:3306) 대신 테스트 컨텍스트마다 빈 MySQL을 띄워 연결
+ * → 배치/일괄 UPDATE 테스트가 개발 데이터를 건드리지 않고, 남은 데이터에 따라 결과가 달라지지 않음
+ * 네이티브 쿼리(ON DUPLICATE KEY, SKIP LOCKED 등)를 그대로 검증하기 위해 H2가 아닌 MySQL 사용
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mysqlContainer() {
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+    }
+}
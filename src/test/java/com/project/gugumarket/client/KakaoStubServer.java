@@ -0,0 +1,119 @@
+package com.project.gugumarket.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카카오 API 대신 응답하는 로컬 스텁 서버 (테스트 전용)
+ *
+ * 경로별로 응답 상태/본문/지연 시간을 지정하고, 처음 몇 번은 실패하도록 만들 수 있음
+ * OutboundHttpClient의 base-url을 {@link #baseUrl()}로 바꿔서 사용
+ *
+ * 예:
+ * <pre>
+ * stub.respond("/v2/local/search/address.json", 200, "{\"documents\":[]}");
+ * stub.failFirst("/v2/local/search/address.json", 2, 503);
+ * </pre>
+ */
+public class KakaoStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    public KakaoStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 정상 응답 지정
+     */
+    public KakaoStubServer respond(String path, int status, String body) {
+        route(path).status = status;
+        route(path).body = body;
+        return this;
+    }
+
+    /**
+     * 응답 전 지연 (타임아웃 / 벌크헤드 확인용)
+     */
+    public KakaoStubServer delay(String path, long millis) {
+        route(path).delayMillis = millis;
+        return this;
+    }
+
+    /**
+     * 처음 count번은 지정한 상태 코드로 실패 (재시도 확인용)
+     */
+    public KakaoStubServer failFirst(String path, int count, int status) {
+        route(path).failuresLeft.set(count);
+        route(path).failureStatus = status;
+        return this;
+    }
+
+    /**
+     * 경로별 실제 요청 수
+     */
+    public int requestCount(String path) {
+        return route(path).requests.get();
+    }
+
+    private Route route(String path) {
+        return routes.computeIfAbsent(path, p -> new Route());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Route route = route(exchange.getRequestURI().getPath());
+        route.requests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+
+        try {
+            if (route.delayMillis > 0) {
+                Thread.sleep(route.delayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        boolean fail = route.failuresLeft.getAndUpdate(n -> n > 0 ? n - 1 : 0) > 0;
+        int status = fail ? route.failureStatus : route.status;
+        byte[] body = (fail ? "{\"msg\":\"stub failure\"}" : route.body).getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException ignored) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static final class Route {
+        private volatile int status = 404;
+        private volatile String body = "";
+        private volatile long delayMillis;
+        private volatile int failureStatus = 503;
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private final AtomicInteger requests = new AtomicInteger();
+    }
+}
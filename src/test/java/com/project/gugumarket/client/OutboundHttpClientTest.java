@@ -0,0 +1,119 @@
+package com.project.gugumarket.client;
+
+import com.project.gugumarket.dto.OutboundMetricsDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 외부 API 클라이언트 재시도 / 타임아웃 / 서킷 브레이커 / 벌크헤드 테스트 (로컬 스텁 서버 사용)
+ */
+class OutboundHttpClientTest {
+
+    private static final String MAP_PATH = "/v2/local/search/address.json";
+    private static final String PAY_PATH = "/online/v1/payment/ready";
+
+    private KakaoStubServer stub;
+    private OutboundHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new KakaoStubServer();
+        client = new OutboundHttpClient(Map.of(
+                        OutboundApi.KAKAO_MAP, new OutboundHttpClient.Settings(stub.baseUrl(), Duration.ofMillis(300), 1, 3),
+                        OutboundApi.KAKAO_PAY, new OutboundHttpClient.Settings(stub.baseUrl(), Duration.ofMillis(300), 5, 3)),
+                Duration.ofSeconds(1), 3, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        stub.close();
+    }
+
+    @Test
+    void idempotentCallIsRetriedOnServerError() {
+        stub.respond(MAP_PATH, 200, "{\"documents\":[]}").failFirst(MAP_PATH, 2, 503);
+
+        String body = client.execute(OutboundApi.KAKAO_MAP, rest -> rest.getForObject(MAP_PATH, String.class));
+
+        assertEquals("{\"documents\":[]}", body);
+        assertEquals(3, stub.requestCount(MAP_PATH));
+        assertEquals(2, metricsOf(OutboundApi.KAKAO_MAP).getRetries());
+    }
+
+    @Test
+    void nonIdempotentCallIsNotRetried() {
+        stub.respond(PAY_PATH, 200, "{}").failFirst(PAY_PATH, 1, 503);
+
+        assertThrows(HttpServerErrorException.class,
+                () -> client.execute(OutboundApi.KAKAO_PAY, rest -> rest.postForObject(PAY_PATH, "", String.class)));
+        assertEquals(1, stub.requestCount(PAY_PATH));
+    }
+
+    @Test
+    void slowResponseTimesOutInsteadOfHanging() {
+        stub.respond(PAY_PATH, 200, "{}").delay(PAY_PATH, 2000);
+
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class,
+                () -> client.execute(OutboundApi.KAKAO_PAY, rest -> rest.postForObject(PAY_PATH, "", String.class)));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1500);
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        stub.respond(PAY_PATH, 500, "{}");
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HttpServerErrorException.class,
+                    () -> client.execute(OutboundApi.KAKAO_PAY, rest -> rest.postForObject(PAY_PATH, "", String.class)));
+        }
+
+        assertThrows(OutboundUnavailableException.class,
+                () -> client.execute(OutboundApi.KAKAO_PAY, rest -> rest.postForObject(PAY_PATH, "", String.class)));
+        assertEquals(3, stub.requestCount(PAY_PATH));
+        assertEquals("OPEN", metricsOf(OutboundApi.KAKAO_PAY).getCircuitState());
+        assertEquals(1, metricsOf(OutboundApi.KAKAO_PAY).getShortCircuited());
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondLimit() throws Exception {
+        stub.respond(MAP_PATH, 200, "{}").delay(MAP_PATH, 200);
+
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                client.execute(OutboundApi.KAKAO_MAP, rest -> {
+                    inFlight.countDown();
+                    return rest.getForObject(MAP_PATH, String.class);
+                }));
+
+        assertTrue(inFlight.await(1, TimeUnit.SECONDS));
+        assertThrows(OutboundUnavailableException.class,
+                () -> client.execute(OutboundApi.KAKAO_MAP, rest -> rest.getForObject(MAP_PATH, String.class)));
+
+        assertEquals("{}", first.get(2, TimeUnit.SECONDS));
+        assertEquals(1, metricsOf(OutboundApi.KAKAO_MAP).getRejected());
+    }
+
+    private OutboundMetricsDto metricsOf(OutboundApi api) {
+        return client.getMetrics().stream()
+                .filter(m -> m.getApi().equals(api.name()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
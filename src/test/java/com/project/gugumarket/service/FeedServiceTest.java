@@ -0,0 +1,156 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.IntegrationTest;
+import com.project.gugumarket.TestFixtures;
+import com.project.gugumarket.dto.CursorPageDto;
+import com.project.gugumarket.dto.ProductDto;
+import com.project.gugumarket.entity.FeedEntry;
+import com.project.gugumarket.entity.Follow;
+import com.project.gugumarket.entity.Product;
+import com.project.gugumarket.entity.SellerFollowStat;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.repository.FeedEntryRepository;
+import com.project.gugumarket.repository.FollowRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.SellerFollowStatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 팔로우 피드 읽기 테스트
+ * 복사 방식 판매자(FEED_ENTRIES)와 PULL_MODE 판매자(상품 직접 조회)를 합칠 때
+ * 상품 ID 내림차순 / 중복 없음 / 커서로 이어지는 페이지 / 삭제·격리 상품 제외를 확인
+ */
+@IntegrationTest
+class FeedServiceTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private FeedEntryRepository feedEntryRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private SellerFollowStatRepository sellerFollowStatRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private final List<Long> expected = new ArrayList<>();
+    private User viewer;
+    private User pushSeller;
+    private User pullSeller;
+
+    @BeforeEach
+    void setUp() {
+        viewer = fixtures.user("viewer");
+        pushSeller = fixtures.user("push");
+        pullSeller = fixtures.user("pull");
+
+        fixtures.save(followRepository, Follow.builder().follower(viewer).seller(pushSeller).build());
+        fixtures.save(followRepository, Follow.builder().follower(viewer).seller(pullSeller).build());
+
+        LocalDateTime now = LocalDateTime.now();
+        fixtures.save(sellerFollowStatRepository, new SellerFollowStat(pushSeller.getUserId(), 1L, false, now));
+        fixtures.save(sellerFollowStatRepository, new SellerFollowStat(pullSeller.getUserId(), 1L, true, now));
+
+        // 두 판매자의 상품 ID가 번갈아 생기도록 저장
+        for (int i = 0; i < 3; i++) {
+            Product pushed = newProduct(pushSeller, false, null);
+            entry(pushed);
+            expected.add(pushed.getProductId());
+
+            Product pulled = newProduct(pullSeller, false, null);
+            expected.add(pulled.getProductId());
+
+            if (i == 1) {
+                // PULL_MODE로 바뀌기 전에 복사된 항목 → 두 출처에 모두 있지만 한 번만 나와야 함
+                entry(pulled);
+            }
+        }
+
+        // 복사된 뒤 삭제된 상품 / 격리된 PULL_MODE 판매자 상품은 피드에 나오지 않음
+        Product deleted = newProduct(pushSeller, true, null);
+        entry(deleted);
+        newProduct(pullSeller, false, now);
+
+        expected.sort((a, b) -> Long.compare(b, a));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void mergesPushAndPullSellersAcrossPages() {
+        List<Long> seen = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+
+        while (true) {
+            CursorPageDto<ProductDto> page = feedService.getFeed(viewer.getUserId(), cursor, PAGE_SIZE);
+            assertTrue(page.items().size() <= PAGE_SIZE);
+            page.items().forEach(item -> seen.add(item.getProductId()));
+            pages++;
+
+            if (!page.hasNext()) {
+                assertNull(page.nextCursor());
+                break;
+            }
+            cursor = page.nextCursor();
+            assertTrue(pages < 20, "커서가 진행하지 않음");
+        }
+
+        assertEquals(expected, seen, "상품 ID 내림차순, 중복 없이, 삭제/격리 상품 제외");
+        assertTrue(pages >= 3, "여러 페이지에 걸쳐 읽어야 함");
+    }
+
+    @Test
+    void cursorPageStartsAfterCursor() {
+        CursorPageDto<ProductDto> first = feedService.getFeed(viewer.getUserId(), null, PAGE_SIZE);
+        CursorPageDto<ProductDto> second = feedService.getFeed(viewer.getUserId(), first.nextCursor(), PAGE_SIZE);
+
+        // 가장 최근 ID는 삭제된 상품이라 첫 페이지는 PAGE_SIZE보다 적을 수 있음 (커서는 그대로 진행)
+        assertFalse(first.items().isEmpty());
+        assertEquals(expected.subList(0, first.items().size()),
+                first.items().stream().map(ProductDto::getProductId).toList());
+        assertTrue(first.hasNext());
+        assertFalse(second.items().isEmpty());
+        second.items().forEach(item -> assertTrue(item.getProductId() < first.nextCursor()));
+    }
+
+    private void entry(Product product) {
+        fixtures.save(feedEntryRepository, FeedEntry.builder()
+                .user(viewer)
+                .product(product)
+                .createdDate(LocalDateTime.now())
+                .build());
+    }
+
+    private Product newProduct(User seller, boolean deleted, LocalDateTime quarantinedAt) {
+        return fixtures.save(productRepository, fixtures.productBuilder(seller)
+                .isDeleted(deleted)
+                .quarantinedAt(quarantinedAt)
+                .build());
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.IntegrationTest;
+import com.project.gugumarket.TestFixtures;
+import com.project.gugumarket.entity.Product;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.event.ReportCreatedEvent;
+import com.project.gugumarket.repository.ProductReportStatRepository;
+import com.project.gugumarket.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 신고 누적 자동 격리 테스트
+ * 신고 트랜잭션이 커밋된 뒤(AFTER_COMMIT) 기준을 넘으면 격리가 실제로 DB에 커밋되는지 확인
+ */
+@IntegrationTest(properties = {
+        "report.quarantine.product-short-threshold=3",
+        "report.quarantine.seller-long-threshold=0"
+})
+class ReportCounterServiceTest {
+
+    @Autowired
+    private ReportCounterService reportCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductReportStatRepository statRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User seller;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        seller = fixtures.user("seller");
+        product = fixtures.product(seller);
+
+        // 집계 행은 상품보다 먼저 삭제
+        fixtures.onCleanUp(() -> {
+            reportCounterService.flush();
+            statRepository.findById(product.getProductId()).ifPresent(statRepository::delete);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void reportCrossingThresholdQuarantinesProduct() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        for (int i = 0; i < 2; i++) {
+            transaction.executeWithoutResult(status -> eventPublisher.publishEvent(
+                    new ReportCreatedEvent(null, product.getProductId(), seller.getUserId())));
+        }
+        assertNull(productRepository.findById(product.getProductId()).orElseThrow().getQuarantinedAt());
+
+        // 세 번째 신고 커밋 → 기준(3건) 도달
+        transaction.executeWithoutResult(status -> eventPublisher.publishEvent(
+                new ReportCreatedEvent(null, product.getProductId(), seller.getUserId())));
+
+        Product reloaded = productRepository.findById(product.getProductId()).orElseThrow();
+        assertNotNull(reloaded.getQuarantinedAt(), "격리 시각이 커밋되지 않았습니다.");
+        assertNotNull(reloaded.getQuarantineReason());
+    }
+}
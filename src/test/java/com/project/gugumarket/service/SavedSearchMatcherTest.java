@@ -0,0 +1,144 @@
+package com.project.gugumarket.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 관심 검색어 역색인 매칭 테스트 (조건별 일치 + 10만 건 벤치마크)
+ */
+class SavedSearchMatcherTest {
+
+    private static final String ADDRESS = "서울특별시 강남구 역삼동 123";
+
+    @Test
+    void matchesOnlyWhenEveryConditionHolds() {
+        SavedSearchMatcher matcher = new SavedSearchMatcher();
+        matcher.put(SavedSearchMatcher.Query.of(1L, 10L, "아이폰 케이스", null, null, null));
+        matcher.put(SavedSearchMatcher.Query.of(2L, 11L, "아이폰", 3L, "강남구", 50_000));
+        matcher.put(SavedSearchMatcher.Query.of(3L, 12L, "아이폰", 4L, null, null));        // 카테고리 다름
+        matcher.put(SavedSearchMatcher.Query.of(4L, 13L, "아이폰", null, "서초구", null));    // 지역 다름
+        matcher.put(SavedSearchMatcher.Query.of(5L, 14L, "아이폰", null, null, 10_000));      // 가격 초과
+        matcher.put(SavedSearchMatcher.Query.of(6L, 15L, null, 3L, null, null));             // 카테고리만
+        matcher.put(SavedSearchMatcher.Query.of(7L, 16L, null, null, "강남구", null));         // 지역만
+        matcher.put(SavedSearchMatcher.Query.of(8L, 20L, "아이폰", null, null, null));        // 판매자 본인
+
+        Set<Long> matched = matchedIds(matcher.match(
+                new SavedSearchMatcher.Document(100L, 20L, "아이폰15 케이스 팝니다", 3L, ADDRESS, 30_000)));
+
+        assertEquals(Set.of(1L, 2L, 6L, 7L), matched);
+    }
+
+    @Test
+    void matchesSingleHangulKeywordAndMixedCase() {
+        SavedSearchMatcher matcher = new SavedSearchMatcher();
+        matcher.put(SavedSearchMatcher.Query.of(1L, 10L, "폰", null, null, null));
+        matcher.put(SavedSearchMatcher.Query.of(2L, 11L, "MacBook", null, null, null));
+
+        assertEquals(Set.of(1L, 2L), matchedIds(matcher.match(
+                new SavedSearchMatcher.Document(100L, 20L, "macbook 이랑 폰 일괄", null, ADDRESS, 1_000_000))));
+    }
+
+    @Test
+    void removedQueryNoLongerMatches() {
+        SavedSearchMatcher matcher = new SavedSearchMatcher();
+        matcher.put(SavedSearchMatcher.Query.of(1L, 10L, "자전거", null, null, null));
+        matcher.put(SavedSearchMatcher.Query.of(1L, 10L, "킥보드", null, null, null));   // 같은 ID로 다시 색인
+        matcher.remove(2L);
+
+        SavedSearchMatcher.Document bike =
+                new SavedSearchMatcher.Document(100L, 20L, "자전거 팝니다", null, ADDRESS, 100_000);
+        assertTrue(matcher.match(bike).matches().isEmpty());
+
+        matcher.remove(1L);
+        assertEquals(0, matcher.size());
+        assertEquals(0, matcher.keyCount());
+    }
+
+    /**
+     * 10만 건 벤치마크
+     * 전체 검사(브루트포스)와 결과가 같고, 확인하는 후보는 전체의 일부인지
+     * 기본 test 작업에서는 제외 (./gradlew benchmark 로 실행)
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmarkWithHundredThousandSavedSearches() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            words.add(hangulWord(random, 2 + random.nextInt(2)));
+        }
+        List<String> districts = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            districts.add(hangulWord(random, 2) + "구");
+        }
+
+        SavedSearchMatcher matcher = new SavedSearchMatcher();
+        List<SavedSearchMatcher.Query> all = new ArrayList<>();
+        for (long id = 1; id <= 100_000; id++) {
+            int kind = random.nextInt(10);
+            String keyword = kind < 7 ? words.get(random.nextInt(words.size())) : null;
+            Long categoryId = kind == 7 || kind == 8 || random.nextInt(3) == 0 ? (long) (1 + random.nextInt(12)) : null;
+            String district = kind == 9 || random.nextInt(4) == 0 ? districts.get(random.nextInt(districts.size())) : null;
+            Integer maxPrice = random.nextBoolean() ? 10_000 * (1 + random.nextInt(100)) : null;
+
+            SavedSearchMatcher.Query query =
+                    SavedSearchMatcher.Query.of(id, id % 40_000, keyword, categoryId, district, maxPrice);
+            matcher.put(query);
+            all.add(query);
+        }
+
+        int products = 2_000;
+        long totalCandidates = 0;
+        long totalMatches = 0;
+
+        for (int i = 0; i < products; i++) {
+            String title = words.get(random.nextInt(words.size())) + " "
+                    + words.get(random.nextInt(words.size())) + " 팝니다";
+            String address = "서울특별시 " + districts.get(random.nextInt(districts.size())) + " 어딘가로 1";
+            SavedSearchMatcher.Document document = new SavedSearchMatcher.Document(
+                    (long) i, 50_000L + i, title, (long) (1 + random.nextInt(12)), address, 1_000 * random.nextInt(1_000));
+
+            SavedSearchMatcher.MatchResult result = matcher.match(document);
+
+            Set<String> titleTokens = SavedSearchMatcher.titleTokens(title);
+            Set<Long> expected = new HashSet<>();
+            for (SavedSearchMatcher.Query query : all) {
+                if (SavedSearchMatcher.matches(query, document, titleTokens)) {
+                    expected.add(query.searchId());
+                }
+            }
+
+            assertEquals(expected, matchedIds(result));
+            totalCandidates += result.candidates();
+            totalMatches += expected.size();
+        }
+
+        double averageCandidates = (double) totalCandidates / products;
+        assertTrue(totalMatches > 0, "일치한 검색어가 하나도 없음");
+        assertTrue(averageCandidates < 100_000 * 0.05,
+                "후보 검색어가 전체의 5% 이상: " + averageCandidates);
+    }
+
+    private static Set<Long> matchedIds(SavedSearchMatcher.MatchResult result) {
+        Set<Long> ids = new HashSet<>();
+        result.matches().forEach(query -> ids.add(query.searchId()));
+        return ids;
+    }
+
+    private static String hangulWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) (0xAC00 + random.nextInt(11_172)));
+        }
+        return word.toString();
+    }
+}
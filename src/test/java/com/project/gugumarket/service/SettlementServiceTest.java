@@ -0,0 +1,171 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.IntegrationTest;
+import com.project.gugumarket.ProductStatus;
+import com.project.gugumarket.SettlementBatchStatus;
+import com.project.gugumarket.TestFixtures;
+import com.project.gugumarket.TransactionStatus;
+import com.project.gugumarket.dto.SettlementBatchDto;
+import com.project.gugumarket.entity.Product;
+import com.project.gugumarket.entity.Settlement;
+import com.project.gugumarket.entity.SettlementBatch;
+import com.project.gugumarket.entity.Transaction;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.SettlementBatchRepository;
+import com.project.gugumarket.repository.SettlementRepository;
+import com.project.gugumarket.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 배치 정산 테스트
+ * 판매자 두 명의 완료 거래가 여러 구간(chunk-size=2)에 걸쳐 있어도 판매자별 원장 한 행에 정확히 한 번씩 합산되는지 확인
+ *
+ * 배치는 DB의 미정산 완료 거래 전체를 대상으로 하므로 테스트 전용 DB(@IntegrationTest)에서만 실행하고,
+ * 테스트가 만든 배치와 원장 행은 끝날 때 모두 삭제 (남은 RUNNING 배치가 다음 실행에 이어지지 않도록)
+ */
+@IntegrationTest(properties = "settlement.chunk-size=2")
+class SettlementServiceTest {
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private SettlementBatchRepository batchRepository;
+
+    @Autowired
+    private SettlementRepository settlementRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private final List<Transaction> transactions = new ArrayList<>();
+    private User sellerA;
+    private User sellerB;
+    private Transaction pending;
+
+    @BeforeEach
+    void setUp() {
+        assertTrue(batchRepository.findFirstByStatusOrderByBatchIdAsc(SettlementBatchStatus.RUNNING).isEmpty(),
+                "이전 실행이 남긴 RUNNING 배치가 있음");
+        long lastBatchId = batchRepository.findTop20ByOrderByBatchIdDesc().stream()
+                .findFirst().map(SettlementBatch::getBatchId).orElse(0L);
+
+        sellerA = fixtures.user("seller_a");
+        sellerB = fixtures.user("seller_b");
+        User buyer = fixtures.user("buyer");
+
+        Product productA = soldOut(sellerA);
+        Product productB = soldOut(sellerB);
+
+        // 판매자 A: 7000 + 8000 + 결제 금액 없음(상품 가격 10000) = 25000
+        // 판매자 B: 5000 + 6000 = 11000 (거래 ID가 A와 섞이도록 번갈아 저장)
+        transactions.add(fixtures.save(transactionRepository, completed(productA, buyer, 7000)));
+        transactions.add(fixtures.save(transactionRepository, completed(productB, buyer, 5000)));
+        transactions.add(fixtures.save(transactionRepository, completed(productA, buyer, 8000)));
+        transactions.add(fixtures.save(transactionRepository, completed(productB, buyer, 6000)));
+        transactions.add(fixtures.save(transactionRepository, completed(productA, buyer, null)));
+
+        pending = fixtures.save(transactionRepository, Transaction.builder()
+                .product(productA)
+                .buyer(buyer)
+                .seller(sellerA)
+                .paidAmount(9000)
+                .paymentMethod("BANK_TRANSFER")
+                .status(TransactionStatus.PENDING)
+                .transactionDate(LocalDateTime.now())
+                .build());
+        transactions.add(pending);
+
+        // 이 테스트에서 생긴 원장 행 → 배치 순서로 삭제 (거래/회원보다 먼저)
+        fixtures.onCleanUp(() -> {
+            for (User seller : List.of(sellerA, sellerB)) {
+                settlementRepository.deleteAll(settlementRepository.findBySeller_UserIdOrderByBatch_BatchIdDesc(seller.getUserId()));
+            }
+            batchRepository.deleteAll(batchRepository.findTop20ByOrderByBatchIdDesc().stream()
+                    .filter(batch -> batch.getBatchId() > lastBatchId)
+                    .toList());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void settlesCompletedTransactionsOncePerSellerAcrossChunks() {
+        SettlementBatchDto batch = settlementService.runBatch();
+
+        assertNotNull(batch);
+        assertEquals("COMPLETED", batch.getStatus());
+        assertSettlement(sellerA, batch.getBatchId(), 3, 25000L);
+        assertSettlement(sellerB, batch.getBatchId(), 2, 11000L);
+
+        for (Transaction t : transactions) {
+            Transaction reloaded = transactionRepository.findById(t.getTransactionId()).orElseThrow();
+            if (t == pending) {
+                assertTrue(reloaded.getSettled() == null || !reloaded.getSettled(), "진행 중인 거래는 정산하지 않음");
+            } else {
+                assertEquals(true, reloaded.getSettled());
+                assertEquals(batch.getBatchId(), reloaded.getSettlementBatchId());
+            }
+        }
+        assertEquals(TestFixtures.PRICE, transactionRepository.findById(transactions.get(4).getTransactionId())
+                .orElseThrow().getSettlementAmount());
+
+        // 다시 실행해도 이미 정산된 거래는 다시 합산하지 않음 (새 배치도 만들지 않음)
+        assertNull(settlementService.runBatch());
+
+        assertSettlement(sellerA, batch.getBatchId(), 3, 25000L);
+        assertSettlement(sellerB, batch.getBatchId(), 2, 11000L);
+    }
+
+    private void assertSettlement(User seller, Long batchId, int count, long amount) {
+        List<Settlement> settlements = settlementRepository.findBySeller_UserIdOrderByBatch_BatchIdDesc(seller.getUserId());
+        assertEquals(1, settlements.size());
+
+        Settlement settlement = settlements.get(0);
+        assertEquals(batchId, settlement.getBatch().getBatchId());
+        assertEquals(count, settlement.getTransactionCount());
+        assertEquals(amount, settlement.getTotalAmount());
+    }
+
+    private Product soldOut(User seller) {
+        return fixtures.save(productRepository, fixtures.productBuilder(seller)
+                .status(ProductStatus.SOLD_OUT)
+                .build());
+    }
+
+    private Transaction completed(Product product, User buyer, Integer paidAmount) {
+        LocalDateTime completedAt = LocalDateTime.now().minusMinutes(5);
+        return Transaction.builder()
+                .product(product)
+                .buyer(buyer)
+                .seller(product.getSeller())
+                .paidAmount(paidAmount)
+                .paymentMethod("KAKAOPAY")
+                .status(TransactionStatus.COMPLETED)
+                .transactionDate(completedAt)
+                .completedAt(completedAt)
+                .build();
+    }
+}
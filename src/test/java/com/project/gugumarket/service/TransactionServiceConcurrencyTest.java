@@ -0,0 +1,132 @@
+package com.project.gugumarket.service;
+
+import com.project.gugumarket.IntegrationTest;
+import com.project.gugumarket.ProductStatus;
+import com.project.gugumarket.TestFixtures;
+import com.project.gugumarket.TransactionStatus;
+import com.project.gugumarket.dto.PurchaseDto;
+import com.project.gugumarket.entity.Product;
+import com.project.gugumarket.entity.Transaction;
+import com.project.gugumarket.entity.User;
+import com.project.gugumarket.repository.ProductRepository;
+import com.project.gugumarket.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동시 구매 시 상품 예약 원자성 테스트
+ * 같은 상품에 수백 건의 구매 요청을 동시에 보내서 정확히 한 건만 거래가 생성되는지 확인
+ */
+@IntegrationTest
+class TransactionServiceConcurrencyTest {
+
+    private static final int BUYERS = 300;
+    private static final int THREADS = 100;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @MockitoBean
+    private NotificationService notificationService;   // 알림은 검증 대상이 아님
+
+    private List<User> buyers;
+    private User seller;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        seller = fixtures.user("seller");
+        buyers = fixtures.users("buyer", BUYERS);
+        product = fixtures.product(seller);
+
+        // 서비스가 만든 거래는 상품보다 먼저 삭제
+        fixtures.onCleanUp(() -> transactionRepository.deleteAll(
+                transactionRepository.findByProduct_ProductId(product.getProductId())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void onlyOneOfConcurrentPurchasesReservesTheProduct() throws InterruptedException {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(BUYERS);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+        for (User buyer : buyers) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    transactionService.createTransaction(buyer, PurchaseDto.builder()
+                            .productId(product.getProductId())
+                            .depositorName(buyer.getNickname())
+                            .build());
+                    succeeded.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    conflicted.incrementAndGet();   // 다른 구매자가 먼저 예약
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS), "구매 요청이 제한 시간 안에 끝나지 않았습니다.");
+        pool.shutdown();
+
+        assertTrue(unexpected.isEmpty(), () -> "예상하지 못한 오류: " + unexpected.peek());
+        assertEquals(1, succeeded.get());
+        assertEquals(BUYERS - 1, conflicted.get());
+
+        List<Transaction> transactions = transactionRepository.findByProduct_ProductId(product.getProductId());
+        assertEquals(1, transactions.size());
+        assertEquals(TransactionStatus.PENDING, transactions.get(0).getStatus());
+        assertEquals(ProductStatus.RESERVED,
+                productRepository.findById(product.getProductId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void sellerCannotReserveOwnProduct() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> transactionService.createTransaction(seller, PurchaseDto.builder()
+                        .productId(product.getProductId())
+                        .build()));
+
+        assertEquals("자신의 상품은 구매할 수 없습니다.", e.getMessage());
+        assertEquals(ProductStatus.SALE,
+                productRepository.findById(product.getProductId()).orElseThrow().getStatus());
+    }
+}